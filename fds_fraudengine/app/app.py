@@ -70,6 +70,66 @@ def predict():
         return jsonify({"error": str(e)}), 500
 
 
+# 3. 배치 예측 API (스프링 ScoringDispatcher 가 모아서 보내는 요청)
+#    요청: {"items": [{"tx_id", "user_id", "amount", "location", "old_bal", "tx_type"}, ...]}
+#    응답: {"status": "success", "results": [{"tx_id", "probability", "engine"}, ...]} (요청 순서 유지)
+MODEL_B_COLS = ['step', 'amount', 'oldbalanceOrg', 'newbalanceOrig', 'oldbalanceDest',
+                'newbalanceDest', 'errorBalanceOrig', 'errorBalanceDest', 'type_CASH_IN',
+                'type_CASH_OUT', 'type_DEBIT', 'type_PAYMENT', 'type_TRANSFER']
+
+
+@app.route('/api/predict/batch', methods=['POST'])
+def predict_batch():
+    items = (request.json or {}).get('items', [])
+
+    card_idx, card_rows = [], []
+    transfer_idx, transfer_rows = [], []
+
+    for i, item in enumerate(items):
+        amount = item.get('amount', 0) or 0
+        old_bal = item.get('old_bal', 0) or 0
+        if item.get('tx_type', 'TRANSFER') == 'CARD':
+            card_idx.append(i)
+            card_rows.append({
+                'amount': amount,
+                'oldbalanceOrg': old_bal,
+                'type_CASH_OUT': 0, 'type_TRANSFER': 0, 'type_CARD': 1
+            })
+        else:
+            transfer_idx.append(i)
+            transfer_rows.append({
+                'step': 1,
+                'amount': amount,
+                'oldbalanceOrg': old_bal,
+                'newbalanceOrig': old_bal - amount,
+                'oldbalanceDest': 0.0,
+                'newbalanceDest': 0.0,
+                'errorBalanceOrig': 0.0,
+                'errorBalanceDest': 0.0,
+                'type_CASH_IN': 0, 'type_CASH_OUT': 0, 'type_DEBIT': 0, 'type_PAYMENT': 0, 'type_TRANSFER': 1
+            })
+
+    try:
+        results = [None] * len(items)
+
+        # 엔진별로 한 번의 DataFrame / predict_proba 호출로 처리
+        if card_rows:
+            probs = model_a.predict_proba(pd.DataFrame(card_rows))[:, 1]
+            for i, prob in zip(card_idx, probs):
+                results[i] = {"tx_id": items[i].get('tx_id'), "probability": float(prob), "engine": "ENGINE_A_CARD"}
+
+        if transfer_rows:
+            probs = model_b.predict_proba(pd.DataFrame(transfer_rows)[MODEL_B_COLS])[:, 1]
+            for i, prob in zip(transfer_idx, probs):
+                results[i] = {"tx_id": items[i].get('tx_id'), "probability": float(prob), "engine": "ENGINE_B_TRANSFER"}
+
+        return jsonify({"status": "success", "results": results})
+
+    except Exception as e:
+        print(f"❌ 배치 예측 실패: {e}")
+        return jsonify({"error": str(e)}), 500
+
+
 if __name__ == '__main__':
     # 스프링 부트와 겹치지 않게 5000번 포트 유지
     app.run(port=5000, debug=True)
\ No newline at end of file
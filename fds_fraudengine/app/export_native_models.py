@@ -0,0 +1,125 @@
+"""
+AI 엔진(.pkl)을 스프링 NativeScoringEngine 이 읽는 JSON 트리 앙상블 형식으로 내보낸다.
+
+사용: (app 폴더에서) python export_native_models.py
+결과: ../../fds_main/src/main/resources/models/engine_a_card.json, engine_b_transfer.json
+
+JSON 형식
+{
+  "name": "ENGINE_B_TRANSFER",
+  "type": "tree_ensemble",
+  "link": "logistic",               # 확률 = sigmoid(base_margin + sum(leaf))
+  "base_margin": 0.0,
+  "features": ["step", "amount", ...],
+  "trees": [{
+    "feature":    [0, -1, -1],       # -1 이면 리프
+    "threshold":  [1000.0, 0, 0],
+    "inclusive":  true,              # true: x <= threshold 면 왼쪽 (LightGBM), false: x < threshold (XGBoost)
+    "float32_split": false,          # true: 특징값/임계값을 float32 로 바꿔 비교 (XGBoost)
+    "left":       [1, -1, -1],
+    "right":      [2, -1, -1],
+    "leaf_value": [0.0, -0.3, 0.8]
+  }, ...]
+}
+"""
+import json
+import math
+import os
+
+import joblib
+
+OUT_DIR = os.path.join(os.path.dirname(__file__), '..', '..', 'fds_main', 'src', 'main', 'resources', 'models')
+
+
+def parse_base_score(raw):
+    """xgboost 3.x 는 base_score 를 '[5E-1]' 같은 벡터 문자열로, 2.x 는 '5E-1' 로 저장한다. 이진 분류이므로 첫 값을 쓴다."""
+    return float(str(raw).strip().strip('[]').split(',')[0])
+
+
+def export_xgboost(model, name):
+    booster = model.get_booster()
+    features = list(booster.feature_names)
+    config = json.loads(booster.save_config())
+    base_score = parse_base_score(config['learner']['learner_model_param']['base_score'])
+    base_margin = math.log(base_score / (1.0 - base_score))
+
+    trees = []
+    for dump in booster.get_dump(dump_format='json'):
+        nodes = {}
+
+        def walk(node):
+            nodes[node['nodeid']] = node
+            for child in node.get('children', []):
+                walk(child)
+
+        walk(json.loads(dump))
+        size = max(nodes) + 1
+        tree = {'feature': [-1] * size, 'threshold': [0.0] * size, 'inclusive': False, 'float32_split': True,
+                'left': [-1] * size, 'right': [-1] * size, 'leaf_value': [0.0] * size}
+        for node_id, node in nodes.items():
+            if 'leaf' in node:
+                tree['leaf_value'][node_id] = float(node['leaf'])
+            else:
+                tree['feature'][node_id] = features.index(node['split'])
+                tree['threshold'][node_id] = float(node['split_condition'])
+                tree['left'][node_id] = node['yes']
+                tree['right'][node_id] = node['no']
+        trees.append(tree)
+
+    return {'name': name, 'type': 'tree_ensemble', 'link': 'logistic',
+            'base_margin': base_margin, 'features': features, 'trees': trees}
+
+
+def export_lightgbm(model, name):
+    dump = model.booster_.dump_model()
+    features = list(dump['feature_names'])
+
+    trees = []
+    for info in dump['tree_info']:
+        flat = {'feature': [], 'threshold': [], 'inclusive': True,
+                'left': [], 'right': [], 'leaf_value': []}
+
+        def add(node):
+            idx = len(flat['feature'])
+            for key in ('feature', 'threshold', 'left', 'right', 'leaf_value'):
+                flat[key].append(-1 if key in ('feature', 'left', 'right') else 0.0)
+            if 'leaf_value' in node:
+                flat['leaf_value'][idx] = float(node['leaf_value'])
+            else:
+                flat['feature'][idx] = int(node['split_feature'])
+                flat['threshold'][idx] = float(node['threshold'])
+                flat['left'][idx] = add(node['left_child'])
+                flat['right'][idx] = add(node['right_child'])
+            return idx
+
+        add(info['tree_structure'])
+        trees.append(flat)
+
+    return {'name': name, 'type': 'tree_ensemble', 'link': 'logistic',
+            'base_margin': 0.0, 'features': features, 'trees': trees}
+
+
+def export(model, name):
+    module = type(model).__module__
+    if module.startswith('xgboost'):
+        return export_xgboost(model, name)
+    if module.startswith('lightgbm'):
+        return export_lightgbm(model, name)
+    if hasattr(model, 'coef_'):
+        # 선형 모델 (LogisticRegression 등)
+        return {'name': name, 'type': 'linear', 'link': 'logistic',
+                'features': list(getattr(model, 'feature_names_in_', [])),
+                'intercept': float(model.intercept_[0]),
+                'coefficients': [float(c) for c in model.coef_[0]]}
+    raise ValueError(f'지원하지 않는 모델 형식: {type(model)}')
+
+
+if __name__ == '__main__':
+    os.makedirs(OUT_DIR, exist_ok=True)
+    targets = [('models/engine_a_card_fraud.pkl', 'ENGINE_A_CARD', 'engine_a_card.json'),
+               ('models/engine_b_transfer_fraud.pkl', 'ENGINE_B_TRANSFER', 'engine_b_transfer.json')]
+    for pkl, name, out in targets:
+        exported = export(joblib.load(pkl), name)
+        with open(os.path.join(OUT_DIR, out), 'w', encoding='utf-8') as f:
+            json.dump(exported, f)
+        print(f"✅ {pkl} -> {out} ({len(exported.get('trees', []))} trees)")
@@ -0,0 +1,8 @@
+-- =============================================================================
+-- ACCOUNTS 낙관적 잠금 버전 컬럼 추가
+-- - ddl-auto=update 환경에서는 자동 생성되므로 운영(validate/none) 배포 시에만 실행한다.
+-- - 잔액 변경은 AccountBalanceService 의 조건부 UPDATE 가 VERSION 도 함께 올린다.
+-- 실행: sqlplus scott/tiger@FREEPDB1 @account_version.sql
+-- =============================================================================
+
+ALTER TABLE ACCOUNTS ADD (VERSION NUMBER(19) DEFAULT 0 NOT NULL);
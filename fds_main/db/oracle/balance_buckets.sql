@@ -0,0 +1,19 @@
+-- =============================================================================
+-- 입금 집중 계좌 분할 잔액 (ACCOUNTS.BALANCE_BUCKETS + ACCOUNT_BALANCE_BUCKETS)
+-- - ddl-auto=update 환경에서는 자동 생성되므로 운영(validate/none) 배포 시에만 실행한다.
+-- - 계좌 총 잔액 = ACCOUNTS.BALANCE + 버킷 합계 (BalanceBucketService 가 주기적으로 합산)
+-- 실행: sqlplus scott/tiger@FREEPDB1 @balance_buckets.sql
+-- =============================================================================
+
+ALTER TABLE ACCOUNTS ADD (BALANCE_BUCKETS NUMBER(10) DEFAULT 0 NOT NULL);
+
+CREATE SEQUENCE SEQ_BALANCE_BUCKETS START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE ACCOUNT_BALANCE_BUCKETS (
+    BUCKET_ID      NUMBER(19)   NOT NULL,
+    ACCOUNT_NUMBER VARCHAR2(30) NOT NULL,
+    BUCKET_NO      NUMBER(10)   NOT NULL,
+    BALANCE        NUMBER(19)   DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_BALANCE_BUCKETS PRIMARY KEY (BUCKET_ID),
+    CONSTRAINT UK_BALANCE_BUCKET UNIQUE (ACCOUNT_NUMBER, BUCKET_NO)
+);
@@ -0,0 +1,17 @@
+-- =============================================================================
+-- TRANSACTION_FEATURES 피처 벡터 컬럼 추가 (V_FEATURES CLOB -> FEATURE_BYTES RAW)
+-- - ddl-auto=update 환경에서는 컬럼이 자동 생성되므로 운영(validate/none) 배포 시에만 실행한다.
+-- - 과거 행 변환은 애플리케이션 기동 후 FeatureVectorMigrationJob 이 chunk 단위로 수행한다.
+-- 실행: sqlplus scott/tiger@FREEPDB1 @feature_vector.sql
+-- =============================================================================
+
+ALTER TABLE TRANSACTION_FEATURES ADD (
+    FEATURE_AMOUNT    NUMBER(19),
+    FEATURE_SCHEMA_ID NUMBER(10),
+    FEATURE_BYTES     RAW(255)
+);
+
+-- 이관 대상 조회용 (FEATURE_SCHEMA_ID IS NULL AND V_FEATURES IS NOT NULL)
+-- 단일 컬럼 B-tree 인덱스는 키가 전부 NULL 인 행을 담지 않아 IS NULL 조회가 전체 스캔이 되므로 상수 0 을 함께 색인한다.
+-- (이전 스크립트로 단일 컬럼 인덱스를 만든 DB 는 DROP INDEX IDX_TX_FEATURES_SCHEMA; 후 다시 생성)
+CREATE INDEX IDX_TX_FEATURES_SCHEMA ON TRANSACTION_FEATURES (FEATURE_SCHEMA_ID, 0);
@@ -0,0 +1,36 @@
+-- =============================================================================
+-- 송금 API Idempotency-Key 기록 (TX_IDEMPOTENCY_KEYS)
+-- - ddl-auto=update 환경에서는 자동 생성되므로 운영(validate/none) 배포 시에만 실행한다.
+-- - 키는 사용자별로 구분한다 (PK = USER_ID + IDEMPOTENCY_KEY).
+-- - 보관 기간(fds.idempotency.ttl-hours)이 지난 행은 IdempotencyService 가 주기적으로 삭제한다.
+-- - 처리 중(IN_PROGRESS) 행은 처리 인스턴스가 LEASE_RENEWED_AT 을 주기적으로 갱신한다.
+-- 실행: sqlplus scott/tiger@FREEPDB1 @idempotency_keys.sql
+-- =============================================================================
+
+CREATE TABLE TX_IDEMPOTENCY_KEYS (
+    USER_ID          VARCHAR2(50)   NOT NULL,
+    IDEMPOTENCY_KEY  VARCHAR2(100)  NOT NULL,
+    REQUEST_HASH     VARCHAR2(64)   NOT NULL,
+    STATUS           VARCHAR2(20)   NOT NULL,
+    HTTP_STATUS      NUMBER(10),
+    RESPONSE_BODY    VARCHAR2(2000),
+    TX_ID            NUMBER(19),
+    CREATED_AT       TIMESTAMP      NOT NULL,
+    COMPLETED_AT     TIMESTAMP,
+    LEASE_RENEWED_AT TIMESTAMP,
+    CONSTRAINT PK_TX_IDEMPOTENCY_KEYS PRIMARY KEY (USER_ID, IDEMPOTENCY_KEY)
+);
+
+CREATE INDEX IDX_IDEMPOTENCY_CREATED ON TX_IDEMPOTENCY_KEYS (CREATED_AT);
+
+-- -----------------------------------------------------------------------------
+-- 이전 버전(키 단독 PK)에서 올리는 경우: ddl-auto=update 는 PK 를 바꾸지 않으므로 직접 실행한다.
+-- 기존 키는 사용자 구분이 없어 재사용할 수 없으므로 비우고 시작한다. (보관 기간만큼의 중복 방지 이력만 사라짐)
+-- -----------------------------------------------------------------------------
+-- DROP TABLE TX_IDEMPOTENCY_KEYS;
+-- (위 CREATE TABLE / CREATE INDEX 실행)
+
+-- -----------------------------------------------------------------------------
+-- 선점 갱신 컬럼이 없는 버전(사용자 + 키 PK)에서 올리는 경우
+-- -----------------------------------------------------------------------------
+-- ALTER TABLE TX_IDEMPOTENCY_KEYS ADD (LEASE_RENEWED_AT TIMESTAMP);
@@ -0,0 +1,33 @@
+-- =============================================================================
+-- 트랜잭션 아웃박스 (FDS_OUTBOX)
+-- - ddl-auto=update 환경에서는 자동 생성되므로 운영(validate/none) 배포 시에만 실행한다.
+-- - 이벤트 행은 중계 후에도 남는다 (PENDING = NULL). 보관 기간이 지난 행은 OUTBOX_ID 범위로 정리한다.
+-- 실행: sqlplus scott/tiger@FREEPDB1 @outbox.sql
+-- =============================================================================
+
+CREATE SEQUENCE SEQ_FDS_OUTBOX START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE FDS_OUTBOX (
+    OUTBOX_ID      NUMBER(19)     NOT NULL,
+    EVENT_TYPE     VARCHAR2(40)   NOT NULL,
+    AGGREGATE_TYPE VARCHAR2(20)   NOT NULL,
+    AGGREGATE_ID   VARCHAR2(50)   NOT NULL,
+    PAYLOAD        VARCHAR2(2000),
+    CREATED_AT     TIMESTAMP      NOT NULL,
+    PENDING        NUMBER(1)      DEFAULT 1,
+    PUBLISHED_AT   TIMESTAMP,
+    CONSTRAINT PK_FDS_OUTBOX PRIMARY KEY (OUTBOX_ID)
+);
+
+-- 전달 대기 행 조회용 (PENDING 이 NULL 인 전달 완료 행은 색인되지 않아 인덱스가 대기 건수만큼만 유지됨)
+CREATE INDEX IDX_FDS_OUTBOX_PENDING ON FDS_OUTBOX (PENDING);
+
+-- -----------------------------------------------------------------------------
+-- 이전 버전(sink 별 LAST_ID 위치, FDS_OUTBOX_OFFSETS)에서 올리는 경우
+-- -----------------------------------------------------------------------------
+-- ALTER TABLE FDS_OUTBOX ADD (PENDING NUMBER(1) DEFAULT 1, PUBLISHED_AT TIMESTAMP);
+-- UPDATE FDS_OUTBOX SET PENDING = NULL
+--  WHERE OUTBOX_ID <= (SELECT NVL(MIN(LAST_ID), 0) FROM FDS_OUTBOX_OFFSETS);
+-- COMMIT;
+-- CREATE INDEX IDX_FDS_OUTBOX_PENDING ON FDS_OUTBOX (PENDING);
+-- DROP TABLE FDS_OUTBOX_OFFSETS;
@@ -0,0 +1,42 @@
+-- =============================================================================
+-- 쓰기 경로 시퀀스 pooled-lo 전환 (allocationSize = 50)
+-- - 엔티티의 allocationSize 와 시퀀스 INCREMENT BY 를 50 으로 맞춘다.
+-- - 기존 시퀀스(ALTER 4건)는 적용 전에도 increment_size_mismatch_strategy=FIX 로 1건씩 채번되므로 배포 후 실행해도 된다.
+-- - [수정] BLACKLIST_ACCOUNTS 는 IDENTITY 에서 새 시퀀스로 바뀌므로 반드시 배포 전에 실행한다. (아래 블록 참고)
+-- - pooled-lo 는 NEXTVAL 을 하한값으로 사용하므로 기존 ID 와 겹치지 않는다.
+-- 실행: sqlplus scott/tiger@FREEPDB1 @pooled_sequences.sql
+-- =============================================================================
+
+ALTER SEQUENCE SEQ_TRANSACTIONS INCREMENT BY 50;
+ALTER SEQUENCE SEQ_DETECTION_ID INCREMENT BY 50;
+ALTER SEQUENCE SEQ_REPORT_ID INCREMENT BY 50;
+ALTER SEQUENCE SEQ_ACCOUNTS INCREMENT BY 50;
+
+-- BLACKLIST_ACCOUNTS: IDENTITY 컬럼 -> 시퀀스 채번
+-- [수정] 이 블록은 배포 "전"에 실행해야 한다.
+--   앱을 먼저 올리면 ddl-auto=update 가 1부터 시작하는 SEQ_BLACKLIST_ACCOUNTS 를 만들고,
+--   블랙리스트 등록이 기존 BLACKLIST_ID 와 충돌한다.
+-- 여러 번 실행해도 되도록 IDENTITY 해제/시퀀스 생성은 필요한 경우에만 하고,
+-- 시퀀스가 이미 있으면 DROP 하지 않고 기존 최대값 + 1 로 RESTART 한다.
+DECLARE
+    v_identity NUMBER;
+    v_exists   NUMBER;
+    v_start    NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_identity
+      FROM USER_TAB_IDENTITY_COLS
+     WHERE TABLE_NAME = 'BLACKLIST_ACCOUNTS' AND COLUMN_NAME = 'BLACKLIST_ID';
+    IF v_identity > 0 THEN
+        EXECUTE IMMEDIATE 'ALTER TABLE BLACKLIST_ACCOUNTS MODIFY (BLACKLIST_ID DROP IDENTITY)';
+    END IF;
+
+    SELECT NVL(MAX(BLACKLIST_ID), 0) + 1 INTO v_start FROM BLACKLIST_ACCOUNTS;
+    SELECT COUNT(*) INTO v_exists FROM USER_SEQUENCES WHERE SEQUENCE_NAME = 'SEQ_BLACKLIST_ACCOUNTS';
+    IF v_exists = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE SEQ_BLACKLIST_ACCOUNTS START WITH ' || v_start || ' INCREMENT BY 50';
+    ELSE
+        EXECUTE IMMEDIATE 'ALTER SEQUENCE SEQ_BLACKLIST_ACCOUNTS INCREMENT BY 50';
+        EXECUTE IMMEDIATE 'ALTER SEQUENCE SEQ_BLACKLIST_ACCOUNTS RESTART START WITH ' || v_start;
+    END IF;
+END;
+/
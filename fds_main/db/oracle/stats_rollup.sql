@@ -0,0 +1,75 @@
+-- =============================================================================
+-- 통계 일별 롤업 (STATS_DAILY_TX_ROLLUP / STATS_DAILY_USER_ROLLUP) + 반영 잠금 행 (STATS_ROLLUP_WATERMARK)
+-- - 테이블 생성은 ddl-auto=update 환경에서는 자동이므로 운영(validate/none) 배포 시에만 실행한다.
+-- - 반영 대상은 원본 행의 ROLLUP_PENDING 표시(1: 대기, NULL: 반영 완료)로 고른다.
+--   ddl-auto 로 컬럼이 생기면 기존 행은 NULL(반영 완료로 간주)이므로, 아래 ROLLUP_PENDING 블록의 UPDATE 는 환경과 관계없이 실행한다.
+-- - 기존 행을 대기로 표시하면 첫 실행 시 StatsRollupScheduler 가 과거 행을 묶음 단위로 채운다.
+--   채워지는 동안 대시보드는 아직 반영되지 않은 날부터 원본 테이블을 읽는다.
+-- 실행: sqlplus scott/tiger@FREEPDB1 @stats_rollup.sql
+-- =============================================================================
+
+CREATE TABLE STATS_DAILY_TX_ROLLUP (
+    STAT_DAY         DATE          NOT NULL,
+    TX_TYPE          VARCHAR2(50)  NOT NULL,
+    TX_HOUR          NUMBER(10)    NOT NULL,
+    TX_COUNT         NUMBER(19)    DEFAULT 0 NOT NULL,
+    TX_AMOUNT_SUM    NUMBER(38)    DEFAULT 0 NOT NULL,
+    DETECTED_COUNT   NUMBER(19)    DEFAULT 0 NOT NULL,
+    FRAUD_COUNT      NUMBER(19)    DEFAULT 0 NOT NULL,
+    FRAUD_PROB_SUM   BINARY_DOUBLE DEFAULT 0 NOT NULL,
+    FRAUD_PROB_COUNT NUMBER(19)    DEFAULT 0 NOT NULL,
+    UPDATED_AT       TIMESTAMP,
+    CONSTRAINT PK_STATS_DAILY_TX_ROLLUP PRIMARY KEY (STAT_DAY, TX_TYPE, TX_HOUR)
+);
+
+CREATE TABLE STATS_DAILY_USER_ROLLUP (
+    STAT_DAY         DATE          NOT NULL,
+    USER_INNER_ID    NUMBER(19)    NOT NULL,
+    TX_TYPE          VARCHAR2(50)  NOT NULL,
+    TX_COUNT         NUMBER(19)    DEFAULT 0 NOT NULL,
+    TX_AMOUNT_SUM    NUMBER(38)    DEFAULT 0 NOT NULL,
+    DETECTED_COUNT   NUMBER(19)    DEFAULT 0 NOT NULL,
+    FRAUD_COUNT      NUMBER(19)    DEFAULT 0 NOT NULL,
+    FRAUD_PROB_SUM   BINARY_DOUBLE DEFAULT 0 NOT NULL,
+    FRAUD_PROB_COUNT NUMBER(19)    DEFAULT 0 NOT NULL,
+    LAST_TX_AT       TIMESTAMP,
+    LAST_DETECTED_AT TIMESTAMP,
+    UPDATED_AT       TIMESTAMP,
+    CONSTRAINT PK_STATS_DAILY_USER_ROLLUP PRIMARY KEY (STAT_DAY, USER_INNER_ID, TX_TYPE)
+);
+
+CREATE INDEX IDX_STATS_USER_ROLLUP_USER ON STATS_DAILY_USER_ROLLUP (USER_INNER_ID, STAT_DAY);
+
+CREATE TABLE STATS_ROLLUP_WATERMARK (
+    ROLLUP_NAME VARCHAR2(30) NOT NULL,
+    UPDATED_AT  TIMESTAMP,
+    CONSTRAINT PK_STATS_ROLLUP_WATERMARK PRIMARY KEY (ROLLUP_NAME)
+);
+
+-- -----------------------------------------------------------------------------
+-- 원본 행 반영 대기 표시 (ROLLUP_PENDING)
+-- - 단일 컬럼 인덱스라 반영이 끝난 NULL 행은 색인되지 않아 인덱스가 대기 건수만큼만 유지된다.
+-- - 증분 반영은 대기(1) 행을 묶음 크기만큼 2 로 선점해 누적한 뒤 같은 트랜잭션에서 NULL 로 바꾼다.
+-- -----------------------------------------------------------------------------
+ALTER TABLE TRANSACTIONS ADD (ROLLUP_PENDING NUMBER(1));
+ALTER TABLE FRAUD_DETECTION_RESULTS ADD (ROLLUP_PENDING NUMBER(1));
+
+-- 새로 설치: 기존 행을 모두 대기로 표시해 첫 실행에서 채운다.
+UPDATE TRANSACTIONS SET ROLLUP_PENDING = 1;
+UPDATE FRAUD_DETECTION_RESULTS SET ROLLUP_PENDING = 1;
+COMMIT;
+
+CREATE INDEX IDX_TRANSACTIONS_ROLLUP_PENDING ON TRANSACTIONS (ROLLUP_PENDING);
+CREATE INDEX IDX_FDS_RESULTS_ROLLUP_PENDING ON FRAUD_DETECTION_RESULTS (ROLLUP_PENDING);
+
+-- -----------------------------------------------------------------------------
+-- 이전 버전(STATS_ROLLUP_WATERMARK.LAST_ID 위치)에서 올리는 경우
+-- - 위 "새로 설치" UPDATE 대신 아래를 실행한다. 위치 이후 행만 대기로 표시한다.
+-- - 위치 방식에서 커밋 대기 여유(settle-ms)보다 늦게 커밋되어 건너뛴 행은 재계산(recompute)으로 바로잡힌다.
+-- -----------------------------------------------------------------------------
+-- UPDATE TRANSACTIONS SET ROLLUP_PENDING = 1
+--  WHERE TX_ID > (SELECT NVL(MAX(LAST_ID), 0) FROM STATS_ROLLUP_WATERMARK WHERE ROLLUP_NAME = 'TX');
+-- UPDATE FRAUD_DETECTION_RESULTS SET ROLLUP_PENDING = 1
+--  WHERE DETECTION_ID > (SELECT NVL(MAX(LAST_ID), 0) FROM STATS_ROLLUP_WATERMARK WHERE ROLLUP_NAME = 'DETECTION');
+-- COMMIT;
+-- ALTER TABLE STATS_ROLLUP_WATERMARK DROP COLUMN LAST_ID;
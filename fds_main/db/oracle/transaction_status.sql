@@ -0,0 +1,31 @@
+-- =============================================================================
+-- TRANSACTIONS.STATUS 기존 행 보정
+-- - STATUS 컬럼 추가 이전 거래는 NULL 이므로 관리자 승인/거절의 HELD 상태 선점(claimStatus)에 걸리지 않는다.
+-- - 배포 직후(ddl-auto 가 STATUS 컬럼을 만든 뒤) 한 번 실행한다. 여러 번 실행해도 NULL 행만 바꾼다.
+--   운영(validate/none) 환경은 아래 ALTER 주석을 풀어 컬럼부터 추가한다.
+-- - 기존 격리 거래: 탐지 결과가 IS_FRAUD=1 이고 관리자 거절 이력이 없는 거래 -> HELD
+--   기존 거절 거래: 관리자 거절 확정(DETECTED_ENGINE '관리자 거절%') 거래 -> REJECTED
+-- 실행: sqlplus scott/tiger@FREEPDB1 @transaction_status.sql
+-- =============================================================================
+
+-- ALTER TABLE TRANSACTIONS ADD (STATUS VARCHAR2(20));
+
+UPDATE TRANSACTIONS t
+   SET t.STATUS = 'HELD'
+ WHERE t.STATUS IS NULL
+   AND EXISTS (SELECT 1
+                 FROM FRAUD_DETECTION_RESULTS d
+                WHERE d.TX_ID = t.TX_ID
+                  AND d.IS_FRAUD = 1
+                  AND (d.DETECTED_ENGINE IS NULL OR d.DETECTED_ENGINE NOT LIKE '관리자 거절%'));
+
+UPDATE TRANSACTIONS t
+   SET t.STATUS = 'REJECTED'
+ WHERE t.STATUS IS NULL
+   AND EXISTS (SELECT 1
+                 FROM FRAUD_DETECTION_RESULTS d
+                WHERE d.TX_ID = t.TX_ID
+                  AND d.IS_FRAUD = 1
+                  AND d.DETECTED_ENGINE LIKE '관리자 거절%');
+
+COMMIT;
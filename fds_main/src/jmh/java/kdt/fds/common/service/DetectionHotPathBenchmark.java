@@ -0,0 +1,64 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kdt.fds.transaction.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 탐지 1건당 반복되는 객체 구성 비용 벤치마크
+ * - FdsResultService 피처 벡터 구성 (FeatureVectorCodec)
+ * - DetectionService 스코어링 요청 구성 + 전송 맵(payload) 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DetectionHotPathBenchmark {
+
+    private DetectionService detectionService;
+    private FdsResultService resultService;
+    private Transaction tx;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VelocityStore velocityStore = new VelocityStore(null, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            velocityStore.record("110-000001", 100_000L, now - i * 300_000L);
+        }
+        // 요청 구성에 필요한 빈도 저장소만 연결 (나머지 협력 객체는 사용하지 않음)
+        detectionService = new DetectionService(null, new FdsRuleEngine(), null, null, null, velocityStore);
+        resultService = new FdsResultService(null, null, null, velocityStore, null);
+
+        tx = Transaction.builder()
+                .txId(1_000_001L)
+                .userId("benchuser")
+                .txType("TRANSFER")
+                .amount(300_000L)
+                .sourceValue("110-000001")
+                .targetAccountNumber("220-000002")
+                .location("SEOUL")
+                .createdAt(LocalDateTime.of(2026, 1, 15, 14, 0))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] featureVector() {
+        return resultService.buildFeatureVector(tx, 5_000_000L);
+    }
+
+    @Benchmark
+    public Map<String, Object> scoringPayload() {
+        return detectionService.buildScoringRequest(tx, 5_000_000L).toPayload();
+    }
+}
@@ -0,0 +1,97 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kdt.fds.common.entity.FdsRule;
+import kdt.fds.transaction.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FdsRuleEngine.evaluateRules 벤치마크
+ * - 기본 규칙만 있는 경우 / 관리자 규칙(조건 다수 + 빈도 조건)이 추가된 경우를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FdsRuleEngineBenchmark {
+
+    private FdsRuleEngine defaultEngine;
+    private FdsRuleEngine extendedEngine;
+
+    private Transaction dayTransfer;   // 모든 규칙 통과 (전체 규칙 평가)
+    private Transaction nightTransfer; // 심야 고액 규칙 적중
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        defaultEngine = new FdsRuleEngine();
+
+        VelocityStore velocityStore = new VelocityStore(null, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 30; i++) {
+            velocityStore.record("110-000001", 50_000L, now - i * 60_000L);
+        }
+        extendedEngine = new FdsRuleEngine(velocityStore);
+        List<FdsRule> rules = new ArrayList<>(FdsRuleEngine.defaultRules());
+        for (int i = 0; i < 20; i++) {
+            rules.add(FdsRule.builder()
+                    .ruleCode("BENCH_RULE_" + i)
+                    .description("벤치마크 규칙 " + i)
+                    .priority(100 + i)
+                    .minAmount(10_000_000L + i)
+                    .txTypes("TRANSFER,CARD")
+                    .locations("SEOUL,BUSAN,JEJU")
+                    .build());
+        }
+        rules.add(FdsRule.builder()
+                .ruleCode("BENCH_VELOCITY")
+                .description("단시간 반복 송금")
+                .priority(200)
+                .velocityWindow("10M")
+                .velocityMinCount(50)
+                .build());
+        extendedEngine.reload(rules);
+
+        dayTransfer = Transaction.builder()
+                .txType("TRANSFER")
+                .amount(300_000L)
+                .sourceValue("110-000001")
+                .targetAccountNumber("220-000002")
+                .location("SEOUL")
+                .createdAt(LocalDateTime.of(2026, 1, 15, 14, 0))
+                .build();
+        nightTransfer = Transaction.builder()
+                .txType("TRANSFER")
+                .amount(3_000_000L)
+                .sourceValue("110-000001")
+                .targetAccountNumber("220-000002")
+                .location("SEOUL")
+                .createdAt(LocalDateTime.of(2026, 1, 15, 3, 0))
+                .build();
+    }
+
+    @Benchmark
+    public String defaultRulesPass() {
+        return defaultEngine.evaluateRules(dayTransfer);
+    }
+
+    @Benchmark
+    public String defaultRulesHit() {
+        return defaultEngine.evaluateRules(nightTransfer);
+    }
+
+    @Benchmark
+    public String extendedRulesPass() {
+        return extendedEngine.evaluateRules(dayTransfer);
+    }
+}
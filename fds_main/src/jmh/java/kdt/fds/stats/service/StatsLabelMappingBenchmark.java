@@ -0,0 +1,71 @@
+package kdt.fds.stats.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 이 파일은 대시보드 코드 레이블 변환 벤치마크 파일이다.
+ * 분포 맵 레이블 변환과 단건 코드 레이블 변환 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatsLabelMappingBenchmark {
+
+    private LabelSupport support;
+    private Map<String, Long> distribution;
+    private Map<String, String> labels;
+    private Set<String> duplicateLabels;
+
+    /**
+     * 업종 코드 40개, 중복 레이블 일부를 포함한 코드북을 준비한다.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        support = new LabelSupport();
+        distribution = new LinkedHashMap<>();
+        labels = new LinkedHashMap<>();
+        for (int i = 0; i < 40; i++) {
+            String code = "MCC_" + i;
+            distribution.put(code, (long) (i * 17 + 3));
+            labels.put(code, i % 10 == 0 ? "기타" : "업종 " + i);
+        }
+        distribution.put("UNMAPPED", 5L);
+        duplicateLabels = support.findDuplicateLabels(labels);
+    }
+
+    /**
+     * 분포 맵 전체의 레이블 변환을 측정한다.
+     */
+    @Benchmark
+    public Map<String, Long> mapDistributionLabels() {
+        return support.mapDistributionLabels(distribution, labels, duplicateLabels);
+    }
+
+    /**
+     * 중복 레이블 코드 1건의 레이블 변환을 측정한다.
+     */
+    @Benchmark
+    public String resolveCodeLabel() {
+        return support.resolveCodeLabel("MCC_20", labels, duplicateLabels);
+    }
+
+    /**
+     * 공통 메서드만 사용하는 벤치마크용 하위 클래스다.
+     */
+    static final class LabelSupport extends StatsDashboardSupport {
+        LabelSupport() {
+            super(null);
+        }
+    }
+}
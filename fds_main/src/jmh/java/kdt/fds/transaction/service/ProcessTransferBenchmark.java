@@ -0,0 +1,129 @@
+package kdt.fds.transaction.service;
+
+import com.sun.net.httpserver.HttpServer;
+import kdt.fds.FdsApplication;
+import kdt.fds.account.entity.Account;
+import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.fraud.entity.FraudDetectionResult;
+import kdt.fds.fraud.repository.FraudRepository;
+import kdt.fds.transaction.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송금 1건 종단 벤치마크 (TransactionService.processTransfer)
+ * - H2(Oracle 모드) + JDK HttpServer 스코어링 스텁으로 블랙리스트 -> 룰 -> AI -> 이체 전체 경로를 측정한다.
+ * - 스텁은 항상 낮은 확률을 돌려주므로 모든 거래가 승인(잔액 이동)까지 진행된다.
+ * - jdbcBatchSize 0(배치 없음) / 50(기본 설정) 으로 JDBC 배치 효과를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProcessTransferBenchmark {
+
+    private static final String SENDER = "110-900001";
+    private static final String RECEIVER = "220-900002";
+    private static final byte[] SCORE_RESPONSE =
+            "{\"status\":\"success\",\"probability\":0.12,\"engine\":\"ENGINE_B_TRANSFER\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private static final int RESULT_BATCH = 100;
+
+    @Param({"0", "50"})
+    public int jdbcBatchSize;
+
+    private HttpServer scoringStub;
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private FraudRepository fraudRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        scoringStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        scoringStub.createContext("/api/predict", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, SCORE_RESPONSE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(SCORE_RESPONSE);
+            }
+        });
+        scoringStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        scoringStub.start();
+
+        context = new SpringApplicationBuilder(FdsApplication.class)
+                .run("--spring.profiles.active=jmh",
+                        "--fds.scoring.base-url=http://127.0.0.1:" + scoringStub.getAddress().getPort(),
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        transactionService = context.getBean(TransactionService.class);
+        fraudRepository = context.getBean(FraudRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        accountRepository.save(Account.builder().accountNumber(SENDER).password("bench").balance(Long.MAX_VALUE / 4).build());
+        accountRepository.save(Account.builder().accountNumber(RECEIVER).password("bench").balance(0L).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        if (scoringStub != null) {
+            scoringStub.stop(0);
+        }
+    }
+
+    @Benchmark
+    public Transaction processTransfer() {
+        return transactionService.processTransfer(Transaction.builder()
+                .userId("benchuser")
+                .txType("TRANSFER")
+                .amount(10_000L)
+                .sourceValue(SENDER)
+                .targetAccountNumber(RECEIVER)
+                .location("SEOUL")
+                .build());
+    }
+
+    /**
+     * 탐지 결과 100건 일괄 저장 (시퀀스 pooled-lo + JDBC 배치 효과)
+     */
+    @Benchmark
+    public List<FraudDetectionResult> saveDetectionResults() {
+        List<FraudDetectionResult> results = new ArrayList<>(RESULT_BATCH);
+        for (int i = 0; i < RESULT_BATCH; i++) {
+            results.add(FraudDetectionResult.builder()
+                    .txId((long) i)
+                    .probability(0.12)
+                    .thresholdValue(0.7)
+                    .isFraud(0)
+                    .engine("[Engine_B] BENCH")
+                    .detectedAt(LocalDateTime.now())
+                    .build());
+        }
+        return transactionTemplate.execute(status -> fraudRepository.saveAll(results));
+    }
+}
@@ -3,6 +3,8 @@ package kdt.fds.account.entity;
 import jakarta.persistence.*;
 import kdt.fds.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
@@ -21,7 +23,7 @@ public class Account {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "acc_seq")
-    @SequenceGenerator(name = "acc_seq", sequenceName = "SEQ_ACCOUNTS", allocationSize = 1)
+    @SequenceGenerator(name = "acc_seq", sequenceName = "SEQ_ACCOUNTS", allocationSize = 50) // pooled-lo
     private Long accountId;
 
     @ManyToOne(fetch = FetchType.EAGER) // 관리자 화면 및 JS 연동의 편의성을 위해 EAGER 유지
@@ -38,6 +40,25 @@ public class Account {
     @Column(nullable = false)
     private Long balance = 0L; // 정밀한 계산을 위해 Long 타입으로 통일
 
+    // [추가] 분할 잔액 버킷 수 (0: 미사용, 가맹점/정산 계좌처럼 입금이 몰리는 계좌만 설정)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "BALANCE_BUCKETS", nullable = false)
+    private Integer balanceBuckets = 0;
+
+    // [추가] 아직 BALANCE 로 합산되지 않은 버킷 잔액 합계 (조회 시점 값, 분할 계좌만 서브쿼리 실행)
+    @Setter(AccessLevel.NONE)
+    @Formula("(CASE WHEN BALANCE_BUCKETS > 0 THEN "
+            + "(SELECT NVL(SUM(b.BALANCE), 0) FROM ACCOUNT_BALANCE_BUCKETS b WHERE b.ACCOUNT_NUMBER = ACCOUNT_NUMBER) "
+            + "ELSE 0 END)")
+    private Long bucketBalance;
+
+    // [추가] 낙관적 잠금 버전 (잔액 UPDATE 시에도 함께 증가, AccountBalanceService 참고)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
     @Builder.Default
     @Column(nullable = false, length = 10)
     private String status = "ACTIVE";
@@ -54,8 +75,16 @@ public class Account {
     // 비즈니스 로직
     // ==========================================
 
+    /**
+     * [수정] 총 잔액 (BALANCE + 합산 전 버킷 잔액)
+     */
+    public Long getBalance() {
+        return bucketBalance != null && bucketBalance != 0 ? balance + bucketBalance : balance;
+    }
+
     /**
      * 출금 처리 (잔액 부족 시 예외 발생 및 트랜잭션 롤백)
+     * 잔액을 메모리에서 계산하므로 동시 출금에는 AccountBalanceService.debit 을 사용한다.
      */
     public void withdraw(Long amount) {
         if (amount <= 0) {
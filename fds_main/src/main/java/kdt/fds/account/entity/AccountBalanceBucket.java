@@ -0,0 +1,38 @@
+package kdt.fds.account.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 고빈도 입금 계좌의 분할 잔액 (ACCOUNTS.BALANCE_BUCKETS > 0 인 계좌만 사용)
+ * - 입금은 버킷 중 하나에 누적되고, BalanceBucketService 가 주기적으로 ACCOUNTS.BALANCE 로 합친다.
+ * - 계좌 총 잔액 = ACCOUNTS.BALANCE + 버킷 합계
+ */
+@Entity
+@Table(name = "ACCOUNT_BALANCE_BUCKETS",
+        uniqueConstraints = @UniqueConstraint(name = "UK_BALANCE_BUCKET", columnNames = {"ACCOUNT_NUMBER", "BUCKET_NO"}))
+@Getter @Setter @NoArgsConstructor
+public class AccountBalanceBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_BALANCE_BUCKETS")
+    @SequenceGenerator(name = "SEQ_BALANCE_BUCKETS", sequenceName = "SEQ_BALANCE_BUCKETS", allocationSize = 50)
+    @Column(name = "BUCKET_ID")
+    private Long id;
+
+    @Column(name = "ACCOUNT_NUMBER", nullable = false, length = 30)
+    private String accountNumber;
+
+    @Column(name = "BUCKET_NO", nullable = false)
+    private Integer bucketNo;
+
+    @Column(name = "BALANCE", nullable = false)
+    private Long balance = 0L;
+
+    public AccountBalanceBucket(String accountNumber, int bucketNo) {
+        this.accountNumber = accountNumber;
+        this.bucketNo = bucketNo;
+    }
+}
@@ -0,0 +1,62 @@
+package kdt.fds.account.repository;
+
+import jakarta.persistence.LockModeType;
+import kdt.fds.account.entity.AccountBalanceBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AccountBalanceBucketRepository extends JpaRepository<AccountBalanceBucket, Long> {
+
+    List<AccountBalanceBucket> findByAccountNumberOrderByBucketNo(String accountNumber);
+
+    /**
+     * 버킷 입금 (0 이면 버킷 행 없음 또는 정지/해지 계좌)
+     * - ACCOUNTS 입금(AccountRepository.credit)과 같이 ACTIVE 계좌에만 반영한다. ACCOUNTS 행은 읽기만 하므로 잠그지 않는다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE AccountBalanceBucket b
+            SET b.balance = b.balance + :amount
+            WHERE b.accountNumber = :accountNumber
+              AND b.bucketNo = :bucketNo
+              AND EXISTS (
+                  SELECT 1 FROM Account a
+                  WHERE a.accountNumber = b.accountNumber
+                    AND a.status = 'ACTIVE'
+              )
+            """)
+    int credit(@Param("accountNumber") String accountNumber, @Param("bucketNo") Integer bucketNo,
+               @Param("amount") Long amount);
+
+    /**
+     * 합산 대상 버킷 잠금 (버킷 번호 순서, 합산/출금 경로 공통)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AccountBalanceBucket b WHERE b.accountNumber = :accountNumber ORDER BY b.bucketNo")
+    List<AccountBalanceBucket> lockByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT COALESCE(SUM(b.balance), 0) FROM AccountBalanceBucket b WHERE b.accountNumber = :accountNumber")
+    long sumBalance(@Param("accountNumber") String accountNumber);
+
+    /**
+     * 합산할 잔액이 남아있는 ACTIVE 계좌 (분할 해제된 계좌 포함)
+     * - [수정] 정지/해지 계좌는 ACCOUNTS 입금(ACTIVE 조건)이 실패하므로 제외한다. 버킷 잔액은 그대로 두고 다시 ACTIVE 가 되면 합산한다.
+     */
+    @Query("""
+            SELECT DISTINCT b.accountNumber FROM AccountBalanceBucket b
+            WHERE b.balance <> 0
+              AND EXISTS (
+                  SELECT 1 FROM Account a
+                  WHERE a.accountNumber = b.accountNumber
+                    AND a.status = 'ACTIVE'
+              )
+            """)
+    List<String> findActiveAccountNumbersWithPendingBalance();
+}
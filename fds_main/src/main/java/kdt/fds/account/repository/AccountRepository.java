@@ -3,7 +3,11 @@ package kdt.fds.account.repository;
 import kdt.fds.account.entity.Account;
 import kdt.fds.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,10 +16,53 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    // [추가] 여러 계좌와 소유자를 한 번에 조회 (대량 송금 chunk 단위 잔액/소유자 확인)
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.user WHERE a.accountNumber IN :accountNumbers")
+    List<Account> findWithUserByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
     List<Account> findByUser(User user);
 
     List<Account> findByUser_UserId(String userId);
 
     // [수정] 필드명이 name이므로 UserName -> Name으로 변경
     boolean existsByUser_Name(String name);
+
+    // [추가] 분할 잔액 계좌 목록 (BalanceBucketService 메모리 목록 갱신용)
+    List<Account> findByBalanceBucketsGreaterThan(Integer bucketCount);
+
+    // ==========================================
+    // [추가] 잔액 변경 (AccountBalanceService 전용)
+    // 엔티티를 읽지 않고 단건 조건부 UPDATE, 버전을 함께 올려 JPA 경로의 동시 수정을 감지한다.
+    // ==========================================
+
+    /**
+     * 출금: 잔액이 충분할 때만 차감 (0 이면 잔액 부족 또는 계좌 없음)
+     */
+    @Modifying
+    @Query("""
+            UPDATE Account a
+            SET a.balance = a.balance - :amount, a.version = a.version + 1
+            WHERE a.accountNumber = :accountNumber
+              AND a.status = 'ACTIVE'
+              AND a.balance >= :amount
+            """)
+    int debit(@Param("accountNumber") String accountNumber, @Param("amount") Long amount);
+
+    /**
+     * 입금 (0 이면 계좌 없음)
+     */
+    @Modifying
+    @Query("""
+            UPDATE Account a
+            SET a.balance = a.balance + :amount, a.version = a.version + 1
+            WHERE a.accountNumber = :accountNumber
+              AND a.status = 'ACTIVE'
+            """)
+    int credit(@Param("accountNumber") String accountNumber, @Param("amount") Long amount);
+
+    /**
+     * 현재 잔액만 조회 (영속성 컨텍스트의 엔티티가 아닌 DB 값)
+     */
+    @Query("SELECT a.balance FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package kdt.fds.account.service;
+
+import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.common.entity.OutboxEvent;
+import kdt.fds.common.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 계좌 잔액 변경 전용 서비스
+ * - 잔액을 읽어서 계산 후 저장하지 않고, 조건부 UPDATE 1회로 차감/입금한다. (동시 이체 시 갱신 유실 없음)
+ * - 잔액 부족 판정은 UPDATE 의 WHERE 조건(BALANCE >= 금액)이 담당하며, 실패 시에만 원인 확인을 위해 다시 조회한다.
+ * - 이체는 두 계좌를 계좌번호 순서로 갱신해 반대 방향 동시 이체 간 교착을 막는다.
+ * - [추가] 분할 계좌(BalanceBucketService)의 입금은 버킷 행에, 출금은 BALANCE 부족 시 버킷 합산 후 차감한다.
+ * - [추가] 변경마다 아웃박스 이벤트(BALANCE_DEBITED / BALANCE_CREDITED)를 같은 트랜잭션에 기록한다.
+ * - 호출 측 트랜잭션 안에서만 동작한다. (실패 예외로 같은 트랜잭션의 이전 UPDATE 까지 롤백)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final BalanceBucketService bucketService;
+    private final OutboxService outboxService;
+
+    /**
+     * 출금 (잔액 부족 / 계좌 없음이면 예외)
+     */
+    public void debit(String accountNumber, long amount) {
+        checkAmount(amount);
+        if (accountRepository.debit(accountNumber, amount) == 0) {
+            // 분할 계좌면 합산 전 버킷 잔액을 끌어와 한 번 더 시도 (버킷이 없으면 조회 1회로 끝남)
+            if (bucketService.fold(accountNumber) == 0 || accountRepository.debit(accountNumber, amount) == 0) {
+                throw debitFailure(accountNumber);
+            }
+        }
+        appendMovement(OutboxEvent.BALANCE_DEBITED, accountNumber, amount);
+    }
+
+    /**
+     * 입금
+     * @return false: 수취 계좌 없음 (타행/가맹점 등)
+     */
+    public boolean credit(String accountNumber, long amount) {
+        checkAmount(amount);
+        boolean credited = bucketService.credit(accountNumber, amount) || accountRepository.credit(accountNumber, amount) > 0;
+        if (credited) {
+            appendMovement(OutboxEvent.BALANCE_CREDITED, accountNumber, amount);
+        }
+        return credited;
+    }
+
+    /**
+     * 계좌 간 이동 (계좌번호 오름차순으로 UPDATE)
+     * @param requireReceiver true 면 수취 계좌가 없을 때 예외, false 면 출금만 처리
+     * @return 수취 계좌 입금 여부
+     */
+    public boolean transfer(String fromAccountNumber, String toAccountNumber, long amount, boolean requireReceiver) {
+        checkAmount(amount);
+        if (fromAccountNumber.equals(toAccountNumber)) {
+            throw new IllegalArgumentException("동일한 계좌로 송금할 수 없습니다.");
+        }
+
+        boolean credited;
+        if (toAccountNumber == null || fromAccountNumber.compareTo(toAccountNumber) < 0) {
+            debit(fromAccountNumber, amount);
+            credited = toAccountNumber != null && credit(toAccountNumber, amount);
+        } else {
+            credited = credit(toAccountNumber, amount);
+            debit(fromAccountNumber, amount);
+        }
+
+        if (!credited && requireReceiver) {
+            throw new IllegalArgumentException("입금 계좌를 찾을 수 없습니다.");
+        }
+        return credited;
+    }
+
+    /**
+     * 변경 후 잔액 조회 (거래 내역 기록용, 같은 트랜잭션에서 UPDATE 한 행이므로 확정 값)
+     */
+    public long currentBalance(String accountNumber) {
+        long balance = accountRepository.findBalanceByAccountNumber(accountNumber)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+        return balance + bucketService.pendingBalance(accountNumber);
+    }
+
+    private void appendMovement(String eventType, String accountNumber, long amount) {
+        outboxService.append(eventType, OutboxService.AGGREGATE_ACCOUNT, accountNumber,
+                Map.of("account_number", accountNumber, "amount", amount));
+    }
+
+    private RuntimeException debitFailure(String accountNumber) {
+        return accountRepository.findBalanceByAccountNumber(accountNumber)
+                .<RuntimeException>map(balance -> new IllegalStateException("잔액이 부족합니다. (현재 잔액: " + balance + ")"))
+                .orElseGet(() -> new IllegalArgumentException("출금 계좌를 찾을 수 없습니다."));
+    }
+
+    private void checkAmount(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final AccountBalanceService balanceService;
     private final UserRepository userRepository;
     private final TransactionRepository transactionRepository;
     private final BCryptPasswordEncoder passwordEncoder;
@@ -90,10 +91,14 @@ public class AccountService {
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
 
-        account.setBalance(account.getBalance() + amount);
+        // [수정] 조건부 UPDATE 로 입금 (엔티티 잔액 계산 시 동시 입출금이 유실됨)
+        // 조회 이후 정지/해지되어 입금되지 않았으면 내역만 남지 않도록 예외 (트랜잭션 롤백)
+        if (!balanceService.credit(accountNumber, amount)) {
+            throw new IllegalStateException("입금할 수 없는 계좌입니다. (정지 또는 해지된 계좌)");
+        }
 
         // 입금 내역 저장
-        saveTransaction(account, "DEPOSIT", amount, account.getBalance(), "직접 입금", null);
+        saveTransaction(account, "DEPOSIT", amount, balanceService.currentBalance(accountNumber), "직접 입금", null);
     }
 
     /**
@@ -108,15 +113,13 @@ public class AccountService {
                 .orElseThrow(() -> new IllegalArgumentException("입금 계좌를 찾을 수 없습니다."));
 
         if (fromAccNum.equals(toAccNum)) throw new IllegalArgumentException("동일한 계좌로 송금할 수 없습니다.");
-        if (fromAccount.getBalance() < amount) throw new IllegalStateException("잔액이 부족합니다.");
 
-        // 잔액 이동
-        fromAccount.setBalance(fromAccount.getBalance() - amount);
-        toAccount.setBalance(toAccount.getBalance() + amount);
+        // [수정] 잔액 이동 (조건부 UPDATE, 잔액 부족 시 예외)
+        balanceService.transfer(fromAccNum, toAccNum, amount, true);
 
         // 출금 및 입금 이력 각각 저장
-        saveTransaction(fromAccount, "TRANSFER_OUT", amount, fromAccount.getBalance(), "송금 완료", toAccNum);
-        saveTransaction(toAccount, "TRANSFER_IN", amount, toAccount.getBalance(), "입금 완료", fromAccNum);
+        saveTransaction(fromAccount, "TRANSFER_OUT", amount, balanceService.currentBalance(fromAccNum), "송금 완료", toAccNum);
+        saveTransaction(toAccount, "TRANSFER_IN", amount, balanceService.currentBalance(toAccNum), "입금 완료", fromAccNum);
     }
 
     /**
@@ -128,10 +131,9 @@ public class AccountService {
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
 
-        if (account.getBalance() < amount) throw new IllegalStateException("잔액이 부족합니다.");
-
-        account.setBalance(account.getBalance() - amount);
-        saveTransaction(account, "WITHDRAW", amount, account.getBalance(), "ATM 현금 인출", null);
+        // [수정] 조건부 UPDATE 로 인출 (잔액 부족 시 예외)
+        balanceService.debit(accountNumber, amount);
+        saveTransaction(account, "WITHDRAW", amount, balanceService.currentBalance(accountNumber), "ATM 현금 인출", null);
     }
 
     // --- 통계 및 내역 조회 보조 메서드 ---
@@ -0,0 +1,176 @@
+package kdt.fds.account.service;
+
+import kdt.fds.account.entity.Account;
+import kdt.fds.account.entity.AccountBalanceBucket;
+import kdt.fds.account.repository.AccountBalanceBucketRepository;
+import kdt.fds.account.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 고빈도 입금 계좌 분할 잔액 관리
+ * - 분할 계좌(ACCOUNTS.BALANCE_BUCKETS = N)의 입금은 N개 버킷 행 중 하나에 누적해 ACCOUNTS 단일 행 경합을 피한다.
+ * - 버킷 선택은 요청 스레드 해시 기준 (동시 요청이 서로 다른 행으로 분산)
+ * - 주기적으로 버킷 잔액을 ACCOUNTS.BALANCE 로 합산하고, 출금 시 BALANCE 가 모자라면 그 자리에서 합산 후 다시 차감한다.
+ * - 잠금 순서는 항상 버킷(번호 순) -> ACCOUNTS 행
+ */
+@Slf4j
+@Service
+public class BalanceBucketService {
+
+    public static final int MAX_BUCKETS = 64;
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceBucketRepository bucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 계좌번호 -> 버킷 수 (분할 계좌만 보관, 입금마다 ACCOUNTS 를 읽지 않기 위한 메모리 목록)
+    private final Map<String, Integer> bucketCounts = new ConcurrentHashMap<>();
+
+    public BalanceBucketService(AccountRepository accountRepository,
+                                AccountBalanceBucketRepository bucketRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.bucketRepository = bucketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isSharded(String accountNumber) {
+        return accountNumber != null && bucketCounts.containsKey(accountNumber);
+    }
+
+    /**
+     * 분할 계좌 입금 (현재 트랜잭션 안에서 버킷 1행 UPDATE)
+     * @return false: 분할 계좌가 아니거나 버킷 행이 없거나 ACTIVE 계좌가 아님 (호출 측이 ACCOUNTS 입금을 시도, 역시 ACTIVE 조건)
+     */
+    boolean credit(String accountNumber, long amount) {
+        Integer count = accountNumber != null ? bucketCounts.get(accountNumber) : null;
+        if (count == null || count <= 0) {
+            return false;
+        }
+        int bucketNo = Math.floorMod(Long.hashCode(Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L), count);
+        return bucketRepository.credit(accountNumber, bucketNo, amount) > 0;
+    }
+
+    /**
+     * 버킷 잔액을 ACCOUNTS.BALANCE 로 합산 (현재 트랜잭션 안에서 버킷 행 잠금, 커밋까지 유지)
+     * @return 합산한 금액 (버킷이 없거나 비어 있으면 0)
+     */
+    long fold(String accountNumber) {
+        List<AccountBalanceBucket> buckets = bucketRepository.lockByAccountNumber(accountNumber);
+        long sum = 0;
+        for (AccountBalanceBucket bucket : buckets) {
+            if (bucket.getBalance() != 0) {
+                sum += bucket.getBalance();
+                bucket.setBalance(0L);
+            }
+        }
+        if (sum != 0 && accountRepository.credit(accountNumber, sum) == 0) {
+            throw new IllegalStateException("버킷 잔액을 합산할 계좌가 없습니다: " + accountNumber);
+        }
+        return sum;
+    }
+
+    /**
+     * 합산 전 버킷 잔액 (분할 계좌가 아니면 조회하지 않음)
+     */
+    long pendingBalance(String accountNumber) {
+        return isSharded(accountNumber) ? bucketRepository.sumBalance(accountNumber) : 0L;
+    }
+
+    /**
+     * 계좌 분할 설정 (0 이면 해제, 남은 버킷 잔액은 합산 주기에 정리)
+     */
+    @Transactional
+    public void configure(String accountNumber, int bucketCount) {
+        if (bucketCount < 0 || bucketCount > MAX_BUCKETS) {
+            throw new IllegalArgumentException("버킷 수는 0~" + MAX_BUCKETS + " 범위여야 합니다.");
+        }
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+
+        Set<Integer> existing = new HashSet<>();
+        for (AccountBalanceBucket bucket : bucketRepository.findByAccountNumberOrderByBucketNo(accountNumber)) {
+            existing.add(bucket.getBucketNo());
+        }
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            if (!existing.contains(bucketNo)) {
+                bucketRepository.save(new AccountBalanceBucket(accountNumber, bucketNo));
+            }
+        }
+        account.setBalanceBuckets(bucketCount);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(accountNumber, bucketCount);
+            }
+        });
+        log.info("계좌 분할 잔액 설정: {} -> 버킷 {}개", accountNumber, bucketCount);
+    }
+
+    /**
+     * 기동 시 + 주기적으로 분할 계좌 목록 갱신 (다른 인스턴스에서 변경한 설정 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${fds.accounts.buckets.refresh-interval-ms:10000}",
+            initialDelayString = "${fds.accounts.buckets.refresh-interval-ms:10000}")
+    public void refresh() {
+        try {
+            Map<String, Integer> loaded = new ConcurrentHashMap<>();
+            for (Account account : accountRepository.findByBalanceBucketsGreaterThan(0)) {
+                loaded.put(account.getAccountNumber(), account.getBalanceBuckets());
+            }
+            bucketCounts.keySet().retainAll(loaded.keySet());
+            bucketCounts.putAll(loaded);
+        } catch (Exception e) {
+            log.warn("⚠️ 분할 잔액 계좌 목록 갱신 실패 (기존 목록 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버킷 잔액 주기 합산 (계좌별 개별 트랜잭션)
+     * - [수정] ACTIVE 계좌만 대상으로 한다. 정지/해지 계좌의 버킷 잔액은 합산하지 않고 남겨 두며 (총 잔액 조회에는 포함),
+     *   매 주기 실패/경고를 반복하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${fds.accounts.buckets.consolidate-interval-ms:1000}",
+            initialDelayString = "${fds.accounts.buckets.consolidate-interval-ms:1000}")
+    public void consolidate() {
+        List<String> accountNumbers;
+        try {
+            accountNumbers = bucketRepository.findActiveAccountNumbersWithPendingBalance();
+        } catch (Exception e) {
+            log.warn("⚠️ 버킷 합산 대상 조회 실패: {}", e.getMessage());
+            return;
+        }
+        for (String accountNumber : accountNumbers) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> fold(accountNumber));
+            } catch (Exception e) {
+                log.warn("⚠️ 버킷 합산 실패 {}: {}", accountNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void register(String accountNumber, int bucketCount) {
+        if (bucketCount > 0) {
+            bucketCounts.put(accountNumber, bucketCount);
+        } else {
+            bucketCounts.remove(accountNumber);
+        }
+    }
+}
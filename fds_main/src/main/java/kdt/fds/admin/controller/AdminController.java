@@ -7,11 +7,11 @@ import kdt.fds.fraud.entity.FraudDetectionResult;
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.user.mapper.UserMapper;
 import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.account.service.BalanceBucketService;
 import kdt.fds.fraud.repository.BlacklistRepository;
 import kdt.fds.fraud.repository.FraudRepository;
 import kdt.fds.transaction.repository.TransactionRepository;
 import kdt.fds.admin.service.AdminService;
-import kdt.fds.transaction.service.TransactionService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,9 +31,9 @@ public class AdminController {
 
     private final AdminService adminService;
     private final BlacklistRepository blacklistRepository;
-    private final TransactionService transactionService;
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final BalanceBucketService balanceBucketService;
     private final FraudRepository fraudRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
@@ -75,18 +75,29 @@ public class AdminController {
         return ResponseEntity.ok(accountRepository.findAll());
     }
 
+    /**
+     * [추가] 입금 집중 계좌(가맹점/정산) 분할 잔액 설정 (bucketCount 0 이면 해제)
+     */
+    @PostMapping("/api/v1/admin/accounts/{accountNumber}/buckets")
+    @ResponseBody
+    public ResponseEntity<?> configureBalanceBuckets(@PathVariable("accountNumber") String accountNumber,
+                                                     @RequestParam("count") int bucketCount) {
+        try {
+            balanceBucketService.configure(accountNumber, bucketCount);
+            return ResponseEntity.ok("계좌 [" + accountNumber + "] 분할 잔액 버킷: " + bucketCount + "개");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PostMapping("/api/v1/admin/approve/{id}")
     @ResponseBody
     public ResponseEntity<String> approveTransaction(@PathVariable("id") Long id) {
         FraudDetectionResult fraudResult = fraudRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("탐지 결과 없음"));
-        fraudResult.setIsFraud(0);
-        fraudRepository.save(fraudResult);
 
-        // 실제 거래 승인 로직 포함 (기존 코드 유지)
-        Transaction tx = transactionRepository.findById(fraudResult.getTxId()).orElseThrow();
-        Account sender = accountRepository.findByAccountNumber(tx.getSourceValue()).orElseThrow();
-        transactionService.executeTransfer(tx, sender);
+        // [수정] 격리(HELD) 상태 선점 후 이체 (탐지 결과 갱신 포함, 중복 승인 시 예외)
+        adminService.approveTransaction(fraudResult.getTxId());
 
         return ResponseEntity.ok("SUCCESS");
     }
@@ -1,17 +1,23 @@
 package kdt.fds.admin.service;
 
-import kdt.fds.account.entity.Account;
 import kdt.fds.fraud.entity.BlacklistAccount;
 import kdt.fds.transaction.entity.Transaction;
-import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.account.service.AccountBalanceService;
+import kdt.fds.common.entity.OutboxEvent;
+import kdt.fds.common.service.OutboxService;
 import kdt.fds.fraud.repository.BlacklistRepository;
 import kdt.fds.fraud.repository.FraudRepository;
+import kdt.fds.fraud.service.BlacklistIndex;
+import kdt.fds.transaction.entity.CardTransaction;
+import kdt.fds.transaction.repository.CardTransactionRepository;
 import kdt.fds.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,32 +25,43 @@ public class AdminService {
 
     private final FraudRepository fraudRepository;
     private final TransactionRepository transactionRepository;
-    private final AccountRepository accountRepository;
+    private final AccountBalanceService balanceService;
     private final BlacklistRepository blacklistRepository;
+    private final BlacklistIndex blacklistIndex;
+    private final CardTransactionRepository cardTransactionRepository;
+    private final OutboxService outboxService;
 
     /**
      * 관리자 승인: 보류되었던 송금을 실행합니다.
+     * - 격리(HELD) 거래만 승인 상태로 선점한 뒤 잔액을 이동한다 (이미 승인/거절/비동기 처리 중이면 예외).
+     * - 카드 결제는 결제 내역도 보류(HELD) 상태일 때만 승인하고, 가맹점 입금 없이 출금만 한다.
      */
     @Transactional
     public String approveTransaction(Long txId) {
-        // 1. 거래 정보 확인
+        // 1. 상태 선점 (HELD -> APPROVED, 중복 승인/워커와의 동시 이체 방지)
+        if (transactionRepository.claimStatus(txId, Transaction.STATUS_HELD, Transaction.STATUS_APPROVED) == 0) {
+            throw new IllegalStateException("격리(HELD) 상태인 거래만 승인할 수 있습니다. ID: " + txId);
+        }
         Transaction tx = transactionRepository.findById(txId)
                 .orElseThrow(() -> new RuntimeException("거래 정보를 찾을 수 없습니다. ID: " + txId));
 
-        // 2. [수정] findByAccountNum -> findByAccountNumber
-        Account sender = accountRepository.findByAccountNumber(tx.getSourceValue())
-                .orElseThrow(() -> new RuntimeException("송금인 계좌가 존재하지 않습니다."));
+        if ("CARD".equals(tx.getTxType())) {
+            // [수정] 거절(DECLINED)/실패 결제는 승인 불가 (예외로 상태 선점도 롤백)
+            cardTransactionRepository.findByTxId(txId).ifPresent(cardTx -> {
+                if (!CardTransaction.STATUS_HELD.equals(cardTx.getStatus())) {
+                    throw new IllegalStateException("보류(HELD) 상태인 카드 결제만 승인할 수 있습니다. ID: " + txId);
+                }
+                cardTx.setStatus(CardTransaction.STATUS_SUCCESS);
+            });
+            // 2. 가맹점은 내부 계좌가 아니므로 출금만 (잔액 부족 시 예외)
+            balanceService.debit(tx.getSourceValue(), tx.getAmount());
+            tx.setBalanceAfterTx(balanceService.currentBalance(tx.getSourceValue()));
+        } else {
+            // 2. [수정] 조건부 UPDATE 로 잔액 이동 (송금인 계좌 없음/잔액 부족 시 예외, 수취 계좌가 없으면 출금만)
+            balanceService.transfer(tx.getSourceValue(), tx.getTargetAccountNumber(), tx.getAmount(), false);
+        }
 
-        // [수정] getTxAmount() -> getAmount() (Long 타입 반영)
-        sender.withdraw(tx.getAmount());
-        accountRepository.save(sender);
-
-        // [수정] findByAccountNum -> findByAccountNumber / getTargetValue -> getTargetAccountNumber
-        accountRepository.findByAccountNumber(tx.getTargetAccountNumber()).ifPresent(receiver -> {
-            // [수정] getBalance()와 setBalance()의 Long 타입 연산
-            receiver.setBalance(receiver.getBalance() + tx.getAmount());
-            accountRepository.save(receiver);
-        });
+        tx.setStatus(Transaction.STATUS_APPROVED);
 
         // 3. 탐지 결과 상태 업데이트
         fraudRepository.findByTxId(txId).ifPresent(fdsResult -> {
@@ -59,13 +76,36 @@ public class AdminService {
 
     /**
      * 관리자 거절: 송금을 취소하고 수취인 계좌를 블랙리스트에 등록합니다.
+     * - 승인과 같이 격리(HELD) 거래만 거절 상태로 선점한다 (이미 승인/출금된 거래는 예외).
      */
     @Transactional
     public String rejectTransaction(Long txId) {
-        // 1. 거래 정보 조회
+        // 1. [수정] 상태 선점 (HELD -> REJECTED, 이미 승인/이체된 거래의 거절 방지)
+        if (transactionRepository.claimStatus(txId, Transaction.STATUS_HELD, Transaction.STATUS_REJECTED) == 0) {
+            throw new IllegalStateException("격리(HELD) 상태인 거래만 거절할 수 있습니다. ID: " + txId);
+        }
         Transaction tx = transactionRepository.findById(txId)
                 .orElseThrow(() -> new RuntimeException("기록 없음: 해당 거래 ID(" + txId + ")를 찾을 수 없습니다."));
 
+        // [추가] 카드 결제는 수취 계좌가 아니라 가맹점이므로 블랙리스트 등록 없이 결제만 거절
+        if ("CARD".equals(tx.getTxType())) {
+            tx.setStatus(Transaction.STATUS_REJECTED);
+            // [수정] 보류(HELD) 결제만 거절 (이미 승인/출금된 결제는 예외로 상태 선점도 롤백)
+            cardTransactionRepository.findByTxId(txId).ifPresent(cardTx -> {
+                if (!CardTransaction.STATUS_HELD.equals(cardTx.getStatus())) {
+                    throw new IllegalStateException("보류(HELD) 상태인 카드 결제만 거절할 수 있습니다. ID: " + txId);
+                }
+                cardTx.setStatus(CardTransaction.STATUS_DECLINED);
+            });
+            fraudRepository.findByTxId(txId).ifPresent(fdsResult -> {
+                fdsResult.setIsFraud(1);
+                fdsResult.setEngine("관리자 거절 확정: 카드 결제 거절");
+                fraudRepository.save(fdsResult);
+            });
+            log.info("카드 결제 거절 완료: TX_ID {}", txId);
+            return "거절 완료: 카드 결제 [" + txId + "]가 거절되었습니다.";
+        }
+
         // 2. [수정] getTargetValue -> getTargetAccountNumber
         String scammerAccount = tx.getTargetAccountNumber();
 
@@ -75,8 +115,12 @@ public class AdminService {
             blacklist.setAccountNum(scammerAccount);
             blacklist.setReason("관리자 수동 거절 (TX_ID: " + txId + ")");
             blacklistRepository.save(blacklist);
+            blacklistIndex.addAfterCommit(scammerAccount);
+            appendBlacklistEvent(OutboxEvent.BLACKLIST_ADDED, scammerAccount, blacklist.getReason());
         }
 
+        tx.setStatus(Transaction.STATUS_REJECTED);
+
         // 3. 탐지 결과 업데이트
         fraudRepository.findByTxId(txId).ifPresent(fdsResult -> {
             fdsResult.setIsFraud(1); // 1: 사기/차단 확정
@@ -96,6 +140,8 @@ public class AdminService {
         return blacklistRepository.findByAccountNum(accountNum)
                 .map(account -> {
                     blacklistRepository.delete(account);
+                    blacklistIndex.removeAfterCommit(accountNum);
+                    appendBlacklistEvent(OutboxEvent.BLACKLIST_REMOVED, accountNum, account.getReason());
                     log.info("블랙리스트 차단 해제: Account {}", accountNum);
                     return "계좌 [" + accountNum + "]의 차단이 해제되었습니다.";
                 })
@@ -116,8 +162,18 @@ public class AdminService {
         blacklist.setReason(reason);
 
         blacklistRepository.save(blacklist);
+        blacklistIndex.addAfterCommit(accountNum);
+        appendBlacklistEvent(OutboxEvent.BLACKLIST_ADDED, accountNum, reason);
 
         log.info("관리자 수동 차단 등록: {}", accountNum);
         return "계좌 [" + accountNum + "]가 블랙리스트에 추가되었습니다.";
     }
+
+    /**
+     * [추가] 블랙리스트 변경 아웃박스 기록
+     */
+    private void appendBlacklistEvent(String eventType, String accountNum, String reason) {
+        outboxService.append(eventType, OutboxService.AGGREGATE_BLACKLIST, accountNum,
+                Map.of("account_num", accountNum, "reason", reason != null ? reason : ""));
+    }
 }
\ No newline at end of file
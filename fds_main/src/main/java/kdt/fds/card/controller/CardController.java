@@ -139,8 +139,14 @@ public class CardController {
                                  Principal principal,
                                  RedirectAttributes redirectAttributes) {
         try {
-            cardService.createTransactionByLoginId(principal.getName(), cardNumber, merchantName, amount);
-            redirectAttributes.addFlashAttribute("message", "결제가 완료되었습니다.");
+            String status = cardService.createTransactionByLoginId(principal.getName(), cardNumber, merchantName, amount);
+            if (CardTransaction.STATUS_DECLINED.equals(status)) {
+                redirectAttributes.addFlashAttribute("error", "결제가 거절되었습니다. (이상 거래 탐지)");
+            } else if (CardTransaction.STATUS_HELD.equals(status)) {
+                redirectAttributes.addFlashAttribute("message", "결제가 보류되었습니다. 관리자 검토 후 처리됩니다.");
+            } else {
+                redirectAttributes.addFlashAttribute("message", "결제가 완료되었습니다.");
+            }
             return "redirect:/card/history";
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "결제 실패: " + e.getMessage());
@@ -1,18 +1,27 @@
 package kdt.fds.card.service;
 
 import kdt.fds.account.entity.Account;
+import kdt.fds.account.service.AccountBalanceService;
 import kdt.fds.card.entity.Card;
+import kdt.fds.common.config.CardAuthProperties;
+import kdt.fds.common.service.DetectionService;
+import kdt.fds.common.service.VelocityStore;
+import kdt.fds.fraud.service.BlacklistIndex;
 import kdt.fds.transaction.entity.CardTransaction;
+import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.user.entity.User;
 import kdt.fds.account.repository.AccountRepository;
 import kdt.fds.card.repository.CardRepository;
 import kdt.fds.transaction.repository.CardTransactionRepository;
+import kdt.fds.transaction.repository.TransactionRepository;
 import kdt.fds.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; // 로그 기록을 위해 추가
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,9 +35,16 @@ public class CardService {
 
     private final CardRepository cardRepository;
     private final AccountRepository accountRepository;
+    private final AccountBalanceService balanceService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CardTransactionRepository cardTransactionRepository;
+    private final VelocityStore velocityStore;
+    private final TransactionRepository transactionRepository;
+    private final DetectionService detectionService;
+    private final BlacklistIndex blacklistIndex;
+    private final CardAuthProperties cardAuthProperties;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 카드 발급 로직
@@ -111,9 +127,42 @@ public class CardService {
 
     /**
      * 실제 카드 결제 처리 로직
+     * - [수정] 출금 전에 FDS 탐지 (블랙리스트 -> 룰 -> AI, AI 는 마감 시간 초과 시 룰 기반 판정)
+     * - FDS 거절/보류는 예외 없이 결제 내역 상태로 남기고 출금하지 않는다.
+     * - 탐지(스코어링 대기)는 트랜잭션 밖에서 수행해 그동안 DB 커넥션을 잡지 않는다.
+     *   거래 기록 -> 탐지 -> 판정 반영(출금/결제 내역)을 각각 짧은 트랜잭션으로 나누고,
+     *   판정 전 거래는 격리(HELD) 상태로 두어 중간에 중단되면 관리자 검토 대상으로 남는다.
+     * @return 결제 상태 (CardTransaction.STATUS_*)
      */
-    @Transactional // 잔액 차감 + 내역 저장이 한 묶음으로 처리되어야 함
-    public void processPayment(String cardNumber, Long amount, String merchantName) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String processPayment(String cardNumber, Long amount, String merchantName) {
+        // 1~4. 카드/잔액 확인 후 FDS 탐지 대상 거래 기록
+        PaymentDraft draft = transactionTemplate.execute(status -> recordPayment(cardNumber, amount, merchantName));
+
+        // 5. [수정] 트랜잭션 밖에서 탐지 (탐지 결과는 FdsResultService 가 자체 트랜잭션으로 저장)
+        String status = authorize(draft.tx(), draft.balance());
+
+        // 6. 판정 반영 (승인 시에만 잔액 차감) + 결제 내역 저장
+        try {
+            transactionTemplate.executeWithoutResult(tx -> settlePayment(draft, status));
+        } catch (RuntimeException e) {
+            // 탐지 중 다른 출금으로 잔액이 부족해진 경우 등: 실패로 남기고 예외는 그대로 전달
+            transactionTemplate.executeWithoutResult(tx -> failPayment(draft));
+            throw e;
+        }
+
+        if (CardTransaction.STATUS_SUCCESS.equals(status)) {
+            log.info("결제 승인 완료 - 가맹점: {}, 금액: {}, 카드: {}", merchantName, amount, cardNumber);
+        } else {
+            log.warn("결제 FDS {} - 가맹점: {}, 금액: {}, 카드: {}", status, merchantName, amount, cardNumber);
+        }
+        return status;
+    }
+
+    /**
+     * 탐지 전 단계: 카드/계좌 확인 후 FDS 탐지 대상 거래를 격리(HELD) 상태로 기록한다.
+     */
+    private PaymentDraft recordPayment(String cardNumber, Long amount, String merchantName) {
         // 1. 카드 및 연결 계좌 조회
         Card card = cardRepository.findByCardNumber(cardNumber)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카드 번호입니다."));
@@ -134,42 +183,114 @@ public class CardService {
             throw new IllegalStateException("계좌 잔액이 부족합니다.");
         }
 
-        // 4. 잔액 차감
-        account.setBalance(account.getBalance() - amount);
+        // 4. [추가] FDS 탐지 대상 거래 기록 (출금 계좌 기준으로 빈도/블랙리스트 판정)
+        Transaction fdsTx = transactionRepository.save(Transaction.builder()
+                .account(account)
+                .user(card.getUser())
+                .userId(card.getUser() != null ? card.getUser().getUserId() : null)
+                .txType("CARD")
+                .amount(amount)
+                .description("카드 결제")
+                .sourceValue(account.getAccountNumber())
+                .targetAccountNumber(merchantName)
+                .status(Transaction.STATUS_HELD)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        return new PaymentDraft(fdsTx, card, account.getAccountNumber(), account.getBalance());
+    }
+
+    /**
+     * 탐지 후 단계: 격리 상태를 판정 결과로 선점한 뒤 승인 건만 출금하고 결제 내역을 저장한다.
+     * (탐지 중 관리자가 먼저 처리했으면 선점이 실패하므로 이중 출금되지 않는다)
+     */
+    private void settlePayment(PaymentDraft draft, String status) {
+        Transaction fdsTx = draft.tx();
+        String txStatus = switch (status) {
+            case CardTransaction.STATUS_SUCCESS -> Transaction.STATUS_APPROVED;
+            case CardTransaction.STATUS_HELD -> Transaction.STATUS_HELD;
+            default -> Transaction.STATUS_REJECTED;
+        };
+        if (transactionRepository.claimStatus(fdsTx.getTxId(), Transaction.STATUS_HELD, txStatus) == 0) {
+            throw new IllegalStateException("이미 처리된 결제입니다. ID: " + fdsTx.getTxId());
+        }
 
-        // Dirty Checking으로 자동 반영되지만, 계좌 잔액은 중요 데이터이므로 명시적 save 권장
-        accountRepository.save(account);
+        // 빈도는 탐지 이후에 반영 (거절/보류 건도 시도 건수로 집계)
+        velocityStore.recordAfterCommit(draft.accountNumber(), fdsTx.getAmount(), fdsTx.getCreatedAt());
 
-        // 5. 결제 내역 저장
-        CardTransaction tx = CardTransaction.builder()
-                .card(card)
-                .merchantName(merchantName)
-                .amount(amount)
-                .status("SUCCESS")
-                .approvedAt(LocalDateTime.now())
-                .build();
+        if (CardTransaction.STATUS_SUCCESS.equals(status)) {
+            // [수정] 조건부 UPDATE (위의 잔액 확인 이후 다른 출금이 있었으면 여기서 잔액 부족 예외)
+            balanceService.debit(draft.accountNumber(), fdsTx.getAmount());
+            transactionRepository.findById(fdsTx.getTxId())
+                    .ifPresent(tx -> tx.setBalanceAfterTx(balanceService.currentBalance(draft.accountNumber())));
+        }
 
-        cardTransactionRepository.save(tx);
+        saveCardTransaction(draft, status);
+    }
+
+    /**
+     * 판정 반영이 실패한 결제를 실패(FAILED)로 남긴다.
+     */
+    private void failPayment(PaymentDraft draft) {
+        if (transactionRepository.claimStatus(draft.tx().getTxId(), Transaction.STATUS_HELD, Transaction.STATUS_FAILED) > 0) {
+            saveCardTransaction(draft, CardTransaction.STATUS_FAILED);
+        }
+    }
+
+    private void saveCardTransaction(PaymentDraft draft, String status) {
+        cardTransactionRepository.save(CardTransaction.builder()
+                .card(draft.card())
+                .merchantName(draft.tx().getTargetAccountNumber())
+                .amount(draft.tx().getAmount())
+                .status(status)
+                .approvedAt(draft.tx().getCreatedAt())
+                .txId(draft.tx().getTxId())
+                .build());
+    }
+
+    /**
+     * 카드 승인 판정 (블랙리스트 -> 룰 -> AI)
+     */
+    private String authorize(Transaction fdsTx, long currentBalance) {
+        if (blacklistIndex.contains(fdsTx.getSourceValue())) {
+            log.warn("🚫 [카드 거절] 블랙리스트 계좌: {}", fdsTx.getSourceValue());
+            detectionService.saveFilterResult(fdsTx, "블랙리스트 계좌 카드 결제", currentBalance);
+            return CardTransaction.STATUS_DECLINED;
+        }
 
-        log.info("결제 승인 완료 - 가맹점: {}, 금액: {}, 카드: {}", merchantName, amount, cardNumber);
+        int decision = detectionService.detectCardAndSave(fdsTx, currentBalance, cardAuthProperties.getScoringTimeoutMs());
+        return switch (decision) {
+            case DetectionService.DECISION_APPROVE -> CardTransaction.STATUS_SUCCESS;
+            case DetectionService.DECISION_DECLINE -> CardTransaction.STATUS_DECLINED;
+            default -> CardTransaction.STATUS_HELD;
+        };
     }
 
     /**
      * 컨트롤러에서 호출하는 가상 결제 실행 메서드
+     * - 탐지를 트랜잭션 밖에서 하도록 결제 자체는 processPayment 가 단계별 트랜잭션으로 처리한다.
      */
-    @Transactional
-    public void createTransactionByLoginId(String loginId, String cardNumber, String merchantName, Long amount) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String createTransactionByLoginId(String loginId, String cardNumber, String merchantName, Long amount) {
         // 1. 보안 체크: 해당 카드가 실제로 로그인한 사용자의 카드가 맞는지 확인
-        Card card = cardRepository.findByCardNumber(cardNumber)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카드 번호입니다."));
+        transactionTemplate.executeWithoutResult(status -> {
+            Card card = cardRepository.findByCardNumber(cardNumber)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카드 번호입니다."));
 
-        // 유저 아이디(String) 비교 시 null 체크와 함께 equals 사용
-        if (card.getUser() == null || !card.getUser().getUserId().equals(loginId)) {
-            log.error("보안 위배 시도: 로그인ID={} 가 타인의 카드번호={} 결제를 시도함", loginId, cardNumber);
-            throw new IllegalArgumentException("본인 소유의 카드만 결제가 가능합니다.");
-        }
+            // 유저 아이디(String) 비교 시 null 체크와 함께 equals 사용
+            if (card.getUser() == null || !card.getUser().getUserId().equals(loginId)) {
+                log.error("보안 위배 시도: 로그인ID={} 가 타인의 카드번호={} 결제를 시도함", loginId, cardNumber);
+                throw new IllegalArgumentException("본인 소유의 카드만 결제가 가능합니다.");
+            }
+        });
+
+        // 2. 이미 구현된 결제 프로세스 실행 (FDS 탐지 + 잔액 차감 + 내역 저장)
+        return processPayment(cardNumber, amount, merchantName);
+    }
 
-        // 2. 이미 구현된 결제 프로세스 실행 (잔액 차감 + 내역 저장)
-        processPayment(cardNumber, amount, merchantName);
+    /**
+     * 탐지 전 기록된 결제 (탐지/판정 반영 단계로 넘기는 값)
+     */
+    private record PaymentDraft(Transaction tx, Card card, String accountNumber, long balance) {
     }
 }
\ No newline at end of file
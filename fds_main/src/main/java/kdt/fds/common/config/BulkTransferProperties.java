@@ -0,0 +1,20 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 송금 API (POST /api/v1/transactions/bulk) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.bulk")
+public class BulkTransferProperties {
+    /** 한 트랜잭션에서 저장/탐지/이체하는 행 수 (스코어링 배치 크기와 같음) */
+    private int chunkSize = 200;
+    /** 요청 1건당 최대 행 수, 초과분은 처리하지 않음 */
+    private int maxRows = 100000;
+}
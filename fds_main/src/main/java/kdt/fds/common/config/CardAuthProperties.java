@@ -0,0 +1,20 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카드 승인 FDS 설정
+ * - 카드 승인은 응답 시간이 짧아야 하므로 AI 판정에 별도 마감 시간을 둔다.
+ * - 마감 시간 안에 결과가 없으면 룰 기반(금액 한도)으로만 판정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.card")
+public class CardAuthProperties {
+    /** AI 판정 최대 대기 시간 (ms) */
+    private long scoringTimeoutMs = 150;
+}
@@ -0,0 +1,23 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 탐지 파이프라인 설정
+ * - enabled=true 이면 송금 요청은 PENDING_REVIEW 로 저장만 하고, 탐지/이체는 워커가 처리한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.detection.async")
+public class DetectionPipelineProperties {
+    /** 비동기 모드 사용 여부 (false 면 기존처럼 요청 스레드에서 탐지) */
+    private boolean enabled = false;
+    /** 대기열을 처리하는 가상 스레드 워커 수 */
+    private int workers = 8;
+    /** 대기열 최대 길이, 초과 시 요청을 거절한다 (backpressure) */
+    private int queueCapacity = 1000;
+}
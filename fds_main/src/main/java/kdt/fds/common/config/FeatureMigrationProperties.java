@@ -0,0 +1,20 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 과거 V_FEATURES(JSON) -> FEATURE_BYTES(피처 벡터) 이관 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.features.migration")
+public class FeatureMigrationProperties {
+    /** 기동 후 백그라운드 이관 실행 여부 */
+    private boolean enabled = true;
+    /** 한 번에 읽고 갱신하는 행 수 */
+    private int chunkSize = 500;
+}
@@ -0,0 +1,28 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * TRANSACTION_FEATURES 지연 저장(write-behind) 설정
+ * - 탐지 결과 커밋 후 피처 행을 버퍼에 모아 주기적으로 일괄 INSERT 한다.
+ * - 재시도 후에도 실패한 행은 dead-letter 파일(NDJSON)에 남긴다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.features.write-behind")
+public class FeatureWriteBehindProperties {
+    /** 버퍼 비우기 주기 (ms) */
+    private long flushIntervalMs = 300;
+    /** 한 번에 INSERT 하는 최대 행 수 */
+    private int batchSize = 200;
+    /** 버퍼 최대 길이, 초과분은 바로 dead-letter 로 기록 */
+    private int queueCapacity = 10000;
+    /** 행별 최대 저장 시도 횟수 */
+    private int maxAttempts = 3;
+    /** 저장 실패 행 기록 파일 (한 줄에 JSON 1건) */
+    private String deadLetterPath = "logs/feature-dead-letter.ndjson";
+}
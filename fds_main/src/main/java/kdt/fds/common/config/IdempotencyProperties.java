@@ -0,0 +1,30 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 송금 API Idempotency-Key 설정
+ * - 완료된 응답은 메모리 LRU 캐시 + TX_IDEMPOTENCY_KEYS 테이블에 보관하고, 같은 키의 재요청에 그대로 돌려준다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.idempotency")
+public class IdempotencyProperties {
+    /** 메모리 캐시 최대 키 수 (초과 시 가장 오래 사용하지 않은 키부터 제거, DB 에는 남음) */
+    private int cacheSize = 10000;
+    /** 키 보관 기간 (시간), 경과 후 같은 키는 새 요청으로 처리 */
+    private int ttlHours = 24;
+    /**
+     * 처리 중(IN_PROGRESS) 선점 유지 시간 (초), 마지막 갱신 후 경과하면 같은 키 재요청이 넘겨받는다
+     * (처리 중인 인스턴스가 leaseRenewIntervalMs 마다 갱신하므로 송금 처리 시간과 무관, 갱신 주기의 3배 이상으로)
+     */
+    private int leaseSeconds = 30;
+    /** [추가] 처리 중 선점 갱신 주기 (ms) */
+    private long leaseRenewIntervalMs = 10000;
+    /** 만료 키 정리 주기 (ms) */
+    private long purgeIntervalMs = 600000;
+}
@@ -0,0 +1,31 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * FDS_OUTBOX 중계(relay) 설정
+ * - 업무 트랜잭션과 같은 커밋으로 기록된 전달 대기 이벤트를 묶음으로 잠가 sink 에 전달한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.outbox")
+public class OutboxProperties {
+    /** 중계 주기 (ms) */
+    private long pollIntervalMs = 500;
+    /** 1회 전달 최대 건수 */
+    private int batchSize = 500;
+    /** 로컬 파일 sink (테스트/디버깅용) */
+    private FileSink fileSink = new FileSink();
+
+    @Getter
+    @Setter
+    public static class FileSink {
+        private boolean enabled = false;
+        /** 한 줄에 이벤트 1건 (NDJSON) */
+        private String path = "logs/outbox-events.ndjson";
+    }
+}
@@ -0,0 +1,33 @@
+package kdt.fds.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * AI 스코어링 전용 HTTP 클라이언트 설정
+ * - JDK HttpClient(HTTP/1.1)는 커넥션을 재사용(keep-alive 풀)하므로 호출마다 연결을 새로 맺지 않는다.
+ */
+@Configuration
+public class ScoringClientConfig {
+
+    @Bean
+    public RestClient scoringRestClient(ScoringClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+
+        return RestClient.builder()
+                .baseUrl(properties.getBaseUrl())
+                .requestFactory(requestFactory)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package kdt.fds.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 스코어링 서버(Flask) 호출 설정
+ * - 연결/응답 타임아웃, 동시 호출 한도(bulkhead), 서킷 브레이커 기준값을 지정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.scoring")
+public class ScoringClientProperties {
+    /** 스코어링 서버 주소 */
+    private String baseUrl = "http://localhost:5001";
+    /** 단건 예측 경로 */
+    private String predictPath = "/api/predict";
+    /** 배치 예측 경로 (ScoringDispatcher 사용 시) */
+    private String batchPredictPath = "/api/predict/batch";
+    /** TCP 연결 타임아웃 (ms) */
+    private long connectTimeoutMs = 300;
+    /** 호출 1건당 응답 마감 시간 (ms) */
+    private long readTimeoutMs = 800;
+    /** 동시에 진행 가능한 스코어링 호출 수 */
+    private int maxConcurrentCalls = 32;
+    /** 동시 호출 슬롯 대기 시간 (ms), 초과 시 즉시 룰 기반 판정 */
+    private long bulkheadWaitMs = 20;
+    /** 연속 실패 시 서킷을 여는 기준 횟수 */
+    private int failureThreshold = 5;
+    /** 서킷 오픈 유지 시간 (ms), 경과 후 시험 호출 1건 허용 */
+    private long openStateMs = 10000;
+    /** 스코어링 엔진 선택 (remote: Flask 서버, native: JVM 내부 모델) */
+    private String engine = "remote";
+    /** 마이크로 배치 설정 */
+    private Batch batch = new Batch();
+    /** 내부 엔진 모델 파일 위치 */
+    private NativeModel nativeModel = new NativeModel();
+
+    @Getter
+    @Setter
+    public static class Batch {
+        /** 마이크로 배치 사용 여부 (false 면 건별 호출) */
+        private boolean enabled = false;
+        /** 배치 1건에 담을 최대 요청 수 */
+        private int maxSize = 32;
+        /** 첫 요청 이후 배치를 채우기 위해 기다리는 최대 시간 (ms) */
+        private long maxWaitMs = 5;
+        /** 대기열 최대 길이, 초과 시 즉시 룰 기반 판정 */
+        private int queueCapacity = 2048;
+    }
+
+    @Getter
+    @Setter
+    public static class NativeModel {
+        /** 엔진 A(카드) 모델 JSON */
+        private String cardPath = "classpath:models/engine_a_card.json";
+        /** 엔진 B(송금) 모델 JSON */
+        private String transferPath = "classpath:models/engine_b_transfer.json";
+    }
+}
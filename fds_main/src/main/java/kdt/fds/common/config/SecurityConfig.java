@@ -40,6 +40,8 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/login", "/join", "/pay/**", "/error").permitAll()
+                        // 로컬 스코어링 스텁 (scoring-stub 프로필에서만 컨트롤러가 등록됨)
+                        .requestMatchers("/stub/scoring/**").permitAll()
                         // 관리자 뷰와 API 모두 ROLE_ADMIN 체크
                         .requestMatchers("/admin/**", "/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
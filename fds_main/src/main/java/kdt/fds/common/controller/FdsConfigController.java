@@ -2,6 +2,8 @@ package kdt.fds.common.controller;
 
 import kdt.fds.common.entity.FdsConfig;
 import kdt.fds.common.repository.FdsConfigRepository;
+import kdt.fds.common.service.FdsConfigCache;
+import kdt.fds.common.vo.FdsConfigSnapshot;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,9 +15,11 @@ import java.util.Map;
 public class FdsConfigController {
 
     private final FdsConfigRepository configRepository;
+    private final FdsConfigCache configCache;
 
-    public FdsConfigController(FdsConfigRepository configRepository) {
+    public FdsConfigController(FdsConfigRepository configRepository, FdsConfigCache configCache) {
         this.configRepository = configRepository;
+        this.configCache = configCache;
     }
 
     /**
@@ -54,12 +58,23 @@ public class FdsConfigController {
             config.setDescription("관리자 변경 반영");
             configRepository.save(config);
 
+            // 저장 직후 메모리 스냅샷 교체 (탐지 로직에 즉시 반영)
+            configCache.reload();
+
             return ResponseEntity.ok(config);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("오류 발생: " + e.getMessage());
         }
     }
 
+    /**
+     * 3. 현재 적용 중인 설정 스냅샷 조회 (버전 확인용)
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<FdsConfigSnapshot> getSnapshot() {
+        return ResponseEntity.ok(configCache.get());
+    }
+
     // 기존 프론트엔드 호환을 위한 유지
     @GetMapping("/threshold")
     public ResponseEntity<FdsConfig> getThreshold() {
@@ -0,0 +1,89 @@
+package kdt.fds.common.controller;
+
+import jakarta.validation.Valid;
+import kdt.fds.common.dto.FdsRuleCommand;
+import kdt.fds.common.entity.FdsRule;
+import kdt.fds.common.repository.FdsRuleRepository;
+import kdt.fds.common.service.FdsRuleEngine;
+import kdt.fds.common.service.FdsRuleLoader;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/rules")
+public class FdsRuleController {
+
+    private final FdsRuleRepository ruleRepository;
+    private final FdsRuleLoader ruleLoader;
+    private final FdsRuleEngine ruleEngine;
+
+    public FdsRuleController(FdsRuleRepository ruleRepository, FdsRuleLoader ruleLoader, FdsRuleEngine ruleEngine) {
+        this.ruleRepository = ruleRepository;
+        this.ruleLoader = ruleLoader;
+        this.ruleEngine = ruleEngine;
+    }
+
+    /**
+     * 1. 전체 규칙 조회 (비활성 포함)
+     */
+    @GetMapping
+    public ResponseEntity<List<FdsRule>> getRules() {
+        return ResponseEntity.ok(ruleRepository.findAll());
+    }
+
+    /**
+     * 2. 규칙 등록/수정 (RULE_CODE 기준) 후 즉시 재컴파일
+     */
+    @PostMapping
+    public ResponseEntity<?> saveRule(@Valid @RequestBody FdsRuleCommand command) {
+        FdsRule rule = ruleRepository.findByRuleCode(command.ruleCode().trim())
+                .orElseGet(FdsRule::new);
+        FdsRule saved = ruleRepository.save(command.applyTo(rule));
+        ruleLoader.reload();
+        return ResponseEntity.ok(saved);
+    }
+
+    /**
+     * 3. 규칙 삭제 후 재컴파일
+     */
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<?> deleteRule(@PathVariable("ruleId") Long ruleId) {
+        if (!ruleRepository.existsById(ruleId)) {
+            return ResponseEntity.badRequest().body("존재하지 않는 규칙입니다.");
+        }
+        ruleRepository.deleteById(ruleId);
+        ruleLoader.reload();
+        return ResponseEntity.ok("삭제 완료");
+    }
+
+    /**
+     * 4. DB 직접 수정분 즉시 반영
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        return ResponseEntity.ok(Map.of("loaded", ruleLoader.reload()));
+    }
+
+    /**
+     * 5. 규칙별 적중 횟수
+     */
+    @GetMapping("/hits")
+    public ResponseEntity<Map<String, Long>> getHits() {
+        return ResponseEntity.ok(ruleEngine.hitCounts());
+    }
+
+    /**
+     * 요청 검증 실패 (Bean Validation)
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<String> handleInvalidRequest(MethodArgumentNotValidException e) {
+        ObjectError first = e.getBindingResult().getAllErrors().isEmpty() ? null : e.getBindingResult().getAllErrors().get(0);
+        return ResponseEntity.badRequest().body(first != null && first.getDefaultMessage() != null
+                ? first.getDefaultMessage() : "잘못된 요청입니다.");
+    }
+}
@@ -0,0 +1,65 @@
+package kdt.fds.common.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 테스트용 AI 스코어링 스텁 (Flask 서버 없이 단건/배치 계약 확인)
+ * - scoring-stub 프로필에서만 등록되며, 금액/잔액 비율로 결정적인 확률을 돌려준다.
+ */
+@Profile("scoring-stub")
+@RestController
+@RequestMapping("/stub/scoring/api/predict")
+public class ScoringStubController {
+
+    @PostMapping
+    public Map<String, Object> predict(@RequestBody Map<String, Object> item) {
+        Map<String, Object> response = score(item);
+        response.put("status", "success");
+        return response;
+    }
+
+    @PostMapping("/batch")
+    public Map<String, Object> predictBatch(@RequestBody Map<String, List<Map<String, Object>>> body) {
+        List<Map<String, Object>> items = body.getOrDefault("items", List.of());
+        List<Map<String, Object>> results = new ArrayList<>(items.size());
+        for (Map<String, Object> item : items) {
+            results.add(score(item));
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", "success");
+        response.put("results", results);
+        return response;
+    }
+
+    private Map<String, Object> score(Map<String, Object> item) {
+        double amount = toDouble(item.get("amount"));
+        double oldBalance = toDouble(item.get("old_bal"));
+        boolean card = "CARD".equals(item.get("tx_type"));
+
+        // 잔액 대비 출금 비율이 클수록 위험도가 높아지는 단순 규칙
+        double ratio = oldBalance <= 0 ? 1.0 : Math.min(1.0, amount / oldBalance);
+        double probability = Math.round(ratio * 0.9 * 1000) / 1000.0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tx_id", item.get("tx_id"));
+        result.put("probability", probability);
+        result.put("engine", card ? "STUB_ENGINE_A_CARD" : "STUB_ENGINE_B_TRANSFER");
+        return result;
+    }
+
+    private double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        return value == null ? 0.0 : Double.parseDouble(value.toString());
+    }
+}
@@ -0,0 +1,89 @@
+package kdt.fds.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import kdt.fds.common.entity.FdsRule;
+import kdt.fds.common.vo.VelocityWindow;
+
+/**
+ * 탐지 규칙 등록/수정 요청 (POST /api/v1/admin/rules)
+ * - 엔티티 대신 수정 가능한 값만 받아 요청 단계에서 검증한다. (RULE_ID/적중 통계 등은 바인딩되지 않음)
+ */
+public record FdsRuleCommand(
+        @NotBlank(message = "규칙 코드가 누락되었습니다.")
+        @Size(max = 50, message = "규칙 코드는 50자 이하여야 합니다.")
+        String ruleCode,
+
+        @Size(max = 255)
+        String description,
+
+        Integer priority,
+
+        @PositiveOrZero(message = "최소 금액은 0 이상이어야 합니다.")
+        Long minAmount,
+
+        @PositiveOrZero(message = "최대 금액은 0 이상이어야 합니다.")
+        Long maxAmount,
+
+        @Min(value = 0, message = "시간대는 HOUR_FROM 0~23, HOUR_TO 1~24 범위여야 합니다.")
+        @Max(value = 23, message = "시간대는 HOUR_FROM 0~23, HOUR_TO 1~24 범위여야 합니다.")
+        Integer hourFrom,
+
+        @Min(value = 1, message = "시간대는 HOUR_FROM 0~23, HOUR_TO 1~24 범위여야 합니다.")
+        @Max(value = 24, message = "시간대는 HOUR_FROM 0~23, HOUR_TO 1~24 범위여야 합니다.")
+        Integer hourTo,
+
+        @Size(max = 255)
+        String txTypes,
+
+        @Size(max = 255)
+        String locations,
+
+        @Size(max = 255)
+        String merchantCats,
+
+        @Pattern(regexp = VelocityWindow.CODE_PATTERN, message = "빈도 창은 1M, 10M, 1H, 24H 중 하나여야 합니다.")
+        String velocityWindow,
+
+        @PositiveOrZero(message = "빈도 건수는 0 이상이어야 합니다.")
+        Integer velocityMinCount,
+
+        @PositiveOrZero(message = "빈도 금액은 0 이상이어야 합니다.")
+        Long velocityMinAmount,
+
+        Boolean enabled
+) {
+    @JsonIgnore
+    @AssertTrue(message = "최소 금액이 최대 금액보다 클 수 없습니다.")
+    public boolean isAmountRangeValid() {
+        return minAmount == null || maxAmount == null || minAmount <= maxAmount;
+    }
+
+    /**
+     * 기존 규칙(또는 신규 엔티티)에 요청 값을 반영 (코드/창은 공백 제거 후 정규화)
+     */
+    public FdsRule applyTo(FdsRule rule) {
+        rule.setRuleCode(ruleCode.trim());
+        rule.setDescription(description);
+        rule.setPriority(priority != null ? priority : 100);
+        rule.setMinAmount(minAmount);
+        rule.setMaxAmount(maxAmount);
+        rule.setHourFrom(hourFrom);
+        rule.setHourTo(hourTo);
+        rule.setTxTypes(txTypes);
+        rule.setLocations(locations);
+        rule.setMerchantCats(merchantCats);
+        VelocityWindow window = VelocityWindow.fromCode(velocityWindow);
+        rule.setVelocityWindow(window != null ? window.code() : null);
+        rule.setVelocityMinCount(velocityMinCount);
+        rule.setVelocityMinAmount(velocityMinAmount);
+        rule.setEnabled(enabled == null || enabled);
+        return rule;
+    }
+}
@@ -0,0 +1,42 @@
+package kdt.fds.common.dto;
+
+import kdt.fds.common.vo.VelocitySnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI 스코어링 서버(Flask /api/predict) 요청 항목
+ * - 필드명은 Flask 측 request.json 키(user_id, amount, location, old_bal, tx_type)와 맞춘다.
+ */
+public record ScoringRequest(
+        Long txId,
+        String userId,
+        Long amount,
+        String location,
+        long oldBalance,
+        String txType,
+        VelocitySnapshot velocity
+) {
+    /**
+     * Flask 요청 본문으로 변환 (Map.of 와 달리 null 값을 허용)
+     */
+    public Map<String, Object> toPayload() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("tx_id", txId);
+        payload.put("user_id", userId);
+        payload.put("amount", amount);
+        payload.put("location", location);
+        payload.put("old_bal", oldBalance);
+        payload.put("tx_type", txType);
+        // 계좌 거래 빈도 (모델이 사용하지 않는 키는 Flask 측에서 무시)
+        if (velocity != null) {
+            payload.put("tx_count_10m", velocity.count10m());
+            payload.put("tx_count_1h", velocity.count1h());
+            payload.put("tx_amount_1h", velocity.amount1h());
+            payload.put("tx_count_24h", velocity.count24h());
+            payload.put("tx_amount_24h", velocity.amount24h());
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,9 @@
+package kdt.fds.common.dto;
+
+/**
+ * AI 스코어링 결과 (사기 확률 + 판정 엔진명)
+ */
+public record ScoringResult(
+        double probability,
+        String engine
+) {}
@@ -0,0 +1,66 @@
+package kdt.fds.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * FDS 탐지 규칙 정의 (재배포 없이 추가/수정)
+ * - 비어 있는(null) 조건은 검사하지 않는다. 모든 조건을 만족하면 "RULE: " + RULE_CODE 로 차단한다.
+ * - 목록형 조건(TX_TYPES, LOCATIONS, MERCHANT_CATS)은 콤마로 구분한다.
+ */
+@Entity
+@Table(name = "FDS_RULES")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class FdsRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_FDS_RULES")
+    @SequenceGenerator(name = "SEQ_FDS_RULES", sequenceName = "SEQ_FDS_RULES", allocationSize = 1)
+    @Column(name = "RULE_ID")
+    private Long ruleId;
+
+    @Column(name = "RULE_CODE", nullable = false, unique = true, length = 50)
+    private String ruleCode; // 예: HIGH_AMOUNT_LIMIT
+
+    @Column(name = "DESCRIPTION")
+    private String description; // 관리자 화면/탐지 사유 표시용
+
+    @Builder.Default
+    @Column(name = "PRIORITY")
+    private Integer priority = 100; // 낮을수록 먼저 평가
+
+    @Column(name = "MIN_AMOUNT")
+    private Long minAmount; // 이상
+
+    @Column(name = "MAX_AMOUNT")
+    private Long maxAmount; // 이하
+
+    @Column(name = "HOUR_FROM")
+    private Integer hourFrom; // 시작 시각(포함, 0~23)
+
+    @Column(name = "HOUR_TO")
+    private Integer hourTo; // 종료 시각(제외, 1~24), HOUR_FROM 보다 작으면 자정을 넘는 구간
+
+    @Column(name = "TX_TYPES")
+    private String txTypes;
+
+    @Column(name = "LOCATIONS")
+    private String locations;
+
+    @Column(name = "MERCHANT_CATS")
+    private String merchantCats;
+
+    // 거래 빈도 조건 (VelocityStore 기준, 현재 거래 포함)
+    @Column(name = "VELOCITY_WINDOW", length = 10)
+    private String velocityWindow; // 1M, 10M, 1H, 24H
+
+    @Column(name = "VELOCITY_MIN_COUNT")
+    private Integer velocityMinCount; // 창 안 거래 건수 이상
+
+    @Column(name = "VELOCITY_MIN_AMOUNT")
+    private Long velocityMinAmount; // 창 안 거래 금액 합계 이상
+
+    @Builder.Default
+    @Column(name = "ENABLED")
+    private Boolean enabled = true;
+}
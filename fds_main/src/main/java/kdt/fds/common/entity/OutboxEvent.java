@@ -0,0 +1,59 @@
+package kdt.fds.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트 (FDS_OUTBOX)
+ * - 탐지 결과, 잔액 변경, 블랙리스트 변경을 업무 데이터와 같은 트랜잭션에 기록한다.
+ * - OutboxRelay 가 전달 대기(PENDING = 1) 행을 잠가 sink 로 전달한 뒤 전달 완료로 표시한다. (행은 삭제하지 않음)
+ */
+@Entity
+@Table(name = "FDS_OUTBOX")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    // 이벤트 유형
+    public static final String DETECTION_DECIDED = "DETECTION_DECIDED";
+    public static final String FEATURE_RECORDED = "FEATURE_RECORDED";
+    public static final String BALANCE_DEBITED = "BALANCE_DEBITED";
+    public static final String BALANCE_CREDITED = "BALANCE_CREDITED";
+    public static final String BLACKLIST_ADDED = "BLACKLIST_ADDED";
+    public static final String BLACKLIST_REMOVED = "BLACKLIST_REMOVED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_FDS_OUTBOX")
+    @SequenceGenerator(name = "SEQ_FDS_OUTBOX", sequenceName = "SEQ_FDS_OUTBOX", allocationSize = 50)
+    @Column(name = "OUTBOX_ID")
+    private Long id;
+
+    @Column(name = "EVENT_TYPE", nullable = false, length = 40)
+    private String eventType;
+
+    // 이벤트 대상 (TRANSACTION / ACCOUNT / BLACKLIST) 과 식별자 (거래 ID, 계좌번호)
+    @Column(name = "AGGREGATE_TYPE", nullable = false, length = 20)
+    private String aggregateType;
+
+    @Column(name = "AGGREGATE_ID", nullable = false, length = 50)
+    private String aggregateId;
+
+    // JSON 문자열 (행 내부 저장, CLOB 아님)
+    @Column(name = "PAYLOAD", length = 2000)
+    private String payload;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 전달 대기 표시 (1: 대기, NULL: 전달 완료) - NULL 은 인덱스에 들어가지 않으므로 대기 행만 색인된다
+    @Builder.Default
+    @Column(name = "PENDING")
+    private Integer pending = 1;
+
+    @Column(name = "PUBLISHED_AT")
+    private LocalDateTime publishedAt;
+}
@@ -4,11 +4,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "TRANSACTION_FEATURES") // schema 제거
 @Getter @Setter @NoArgsConstructor
-public class TransactionFeature {
+public class TransactionFeature implements Persistable<Long> {
 
     @Id
     @Column(name = "TX_ID")
@@ -20,7 +21,39 @@ public class TransactionFeature {
     @Column(name = "NEW_BALANCE_ORG")
     private Double newBalanceOrg;
 
+    // [추가] 자주 조회하는 피처는 고정 컬럼으로 분리
+    @Column(name = "FEATURE_AMOUNT")
+    private Long featureAmount;
+
+    // [추가] 피처 벡터 (FeatureVectorCodec, 스키마 ID + packed double), CLOB 대신 RAW 로 행 내부 저장
+    @Column(name = "FEATURE_SCHEMA_ID")
+    private Integer featureSchemaId;
+
+    @Column(name = "FEATURE_BYTES", length = 255)
+    private byte[] featureBytes;
+
+    // 과거 JSON 피처 (FeatureVectorMigrationJob 이 FEATURE_BYTES 로 이관 후 비움)
     @Lob // 오라클의 CLOB 타입 매핑
     @Column(name = "V_FEATURES")
     private String vFeatures;
-}
\ No newline at end of file
+
+    // [추가] TX_ID 를 직접 지정하므로 saveAll 시 merge 용 SELECT 없이 바로 INSERT 하도록 신규 여부를 관리
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return txId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
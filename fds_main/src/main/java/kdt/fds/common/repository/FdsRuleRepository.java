@@ -0,0 +1,15 @@
+package kdt.fds.common.repository;
+
+import kdt.fds.common.entity.FdsRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FdsRuleRepository extends JpaRepository<FdsRule, Long> {
+
+    // 룰 엔진 적재용 (우선순위 순)
+    List<FdsRule> findByEnabledTrueOrderByPriorityAscRuleIdAsc();
+
+    Optional<FdsRule> findByRuleCode(String ruleCode);
+}
@@ -0,0 +1,41 @@
+package kdt.fds.common.repository;
+
+import kdt.fds.common.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 대기 이벤트를 잠가서 조회 (다른 인스턴스가 잠근 행은 건너뜀)
+     * - 커밋 순서와 무관하게 커밋된 대기 행은 모두 대상이 된다. (늦게 커밋된 작은 ID 도 다음 주기에 전달)
+     * - Oracle 은 FOR UPDATE 와 FETCH FIRST 를 함께 쓸 수 없어 ROWNUM 으로 자르며,
+     *   IDX_FDS_OUTBOX_PENDING(PENDING) 범위 스캔으로 대기 행만 읽는다. (잡히는 순서는 보장되지 않으므로 호출 측에서 ID 순 정렬)
+     */
+    @Query(value = """
+            SELECT * FROM FDS_OUTBOX
+            WHERE PENDING = 1
+              AND ROWNUM <= :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockPendingBatch(@Param("limit") int limit);
+
+    /**
+     * 전달 완료 표시 (lockPendingBatch 로 잠근 행)
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent o
+            SET o.pending = NULL, o.publishedAt = :publishedAt
+            WHERE o.id IN :ids
+            """)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+}
@@ -0,0 +1,31 @@
+package kdt.fds.common.service;
+
+import kdt.fds.common.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 프로세스 내부 sink: 이벤트를 스프링 이벤트로 발행 (@EventListener OutboxEvent 로 수신)
+ * 통계 캐시, 빈도 저장소 등 메모리 상태를 테이블 재조회 없이 갱신할 때 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String name() {
+        return "application-event";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -2,44 +2,56 @@ package kdt.fds.common.service;
 
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.account.repository.AccountRepository;
-import kdt.fds.common.repository.FdsConfigRepository;
+import kdt.fds.common.dto.ScoringRequest;
+import kdt.fds.common.dto.ScoringResult;
+import kdt.fds.common.vo.FdsConfigSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DetectionService {
 
+    // 탐지 판정값 (FDS_RESULTS.IS_FRAUD 는 0/1, DECLINE 은 카드 승인 거절 구분용)
+    public static final int DECISION_APPROVE = 0;
+    public static final int DECISION_HOLD = 1;
+    public static final int DECISION_DECLINE = 2;
+
     private final FdsResultService resultService;
     private final FdsRuleEngine ruleEngine;
-    private final FdsConfigRepository configRepository;
+    private final FdsConfigCache configCache;
     private final AccountRepository accountRepository;
 
-    // RestTemplate 주입 (Bean 설정이 없다면 생성자에서 초기화도 가능)
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    private static final String FLASK_URL = "http://localhost:5001/api/predict";
+    // [수정] new RestTemplate() 대신 스코어링 엔진 사용 (fds.scoring.engine=remote|native)
+    private final FraudScoringEngine scoringEngine;
+    private final VelocityStore velocityStore;
 
-    private static final String KEY_THRESHOLD = "THRESHOLD";
-    private static final String KEY_AUTO_LIMIT = "AUTO_LIMIT";
+    // 카드 승인 AI 판정용 (마감 시간 초과 시 호출자는 기다리지 않고 폴백)
+    private final ExecutorService cardScoringExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public int detectAndSave(Transaction tx) {
+    /**
+     * @param knownBalance 호출 측에서 이미 조회한 출금 계좌 잔액 (null 이면 여기서 조회)
+     */
+    public int detectAndSave(Transaction tx, Long knownBalance) {
         // [수정] getTxAmount() -> getAmount()
         log.info("🛡️ 탐지 프로세스 시작 - TX_ID: {}, 금액: {}", tx.getTxId(), tx.getAmount());
 
         // =================================================================
-        // [핵심 1] 설정값 조회
+        // [핵심 1] 설정값 조회 (메모리 스냅샷, DB 미접근)
         // =================================================================
-        double threshold = Double.parseDouble(configRepository.findById(KEY_THRESHOLD)
-                .map(c -> c.getConfigValue()).orElse("0.7"));
-
-        long autoLimit = Long.parseLong(configRepository.findById(KEY_AUTO_LIMIT)
-                .map(c -> c.getConfigValue()).orElse("100000"));
+        FdsConfigSnapshot config = configCache.get();
 
         // =================================================================
         // [관문 1] Rule 엔진 체크
@@ -47,7 +59,7 @@ public class DetectionService {
         String ruleViolation = ruleEngine.evaluateRules(tx);
         if (ruleViolation != null) {
             String reason = mapReasonToKorean(ruleViolation);
-            resultService.saveAiResult(tx, 1.0, threshold, 1, "[Rule] " + reason);
+            resultService.saveAiResult(tx, 1.0, config.threshold(), 1, "[Rule] " + reason, knownBalance);
             log.warn("⛔ 룰 기반 즉시 차단: {}", reason);
             return 1;
         }
@@ -55,71 +67,191 @@ public class DetectionService {
         // =================================================================
         // [관문 2 & 3] AI 판정 및 금액 한도 체크
         // =================================================================
+        // [수정] findByAccountNum -> findByAccountNumber
+        // [수정] getBalance() 타입 반영 (Long)
+        // [수정] 조회한 잔액은 피처 저장에도 그대로 사용 (FdsResultService 재조회 제거)
+        long currentBalance = knownBalance != null ? knownBalance
+                : accountRepository.findByAccountNumber(tx.getSourceValue())
+                .map(acc -> acc.getBalance()).orElse(0L);
+
+        // AI 판정 (remote: Flask 호출, native: JVM 내부 모델)
+        return scoreAndSave(tx, config, currentBalance,
+                () -> scoringEngine.score(buildScoringRequest(tx, currentBalance)));
+    }
+
+    /**
+     * [추가] 카드 승인 탐지 (블랙리스트 확인 후 호출)
+     * - 잔액/빈도/설정은 이미 메모리에 있는 값을 사용하고 DB 를 다시 조회하지 않는다.
+     * - AI 판정은 timeoutMs 안에 끝나지 않으면 룰 기반 판정으로 대체한다.
+     * @return DECISION_APPROVE, DECISION_HOLD(AI/한도), DECISION_DECLINE(룰 위반)
+     */
+    public int detectCardAndSave(Transaction tx, long currentBalance, long timeoutMs) {
+        log.info("💳 카드 승인 탐지 시작 - TX_ID: {}, 금액: {}", tx.getTxId(), tx.getAmount());
+        FdsConfigSnapshot config = configCache.get();
+
+        String ruleViolation = ruleEngine.evaluateRules(tx);
+        if (ruleViolation != null) {
+            String reason = mapReasonToKorean(ruleViolation);
+            resultService.saveAiResult(tx, 1.0, config.threshold(), 1, "[Rule] " + reason, currentBalance);
+            log.warn("⛔ 카드 승인 룰 차단: {}", reason);
+            return DECISION_DECLINE;
+        }
+
+        return scoreAndSave(tx, config, currentBalance,
+                () -> scoreWithin(buildScoringRequest(tx, currentBalance), timeoutMs));
+    }
+
+    /**
+     * [추가] 여러 거래 일괄 탐지 (대량 송금 API)
+     * - 룰 위반 건은 바로 격리하고, 나머지는 스코어링 요청 1회(scoreBatch)로 판정한다.
+     * - 배치 스코어링이 실패하면 각 건을 단건과 같은 폴백 규칙(금액 한도)으로 판정한다.
+     * @param balances 거래별 출금 계좌 잔액 (txs 와 같은 순서)
+     * @return 거래별 판정값 (DECISION_APPROVE / DECISION_HOLD)
+     */
+    public int[] detectBatchAndSave(List<Transaction> txs, List<Long> balances) {
+        FdsConfigSnapshot config = configCache.get();
+        int[] decisions = new int[txs.size()];
+
+        List<Integer> scoredIndexes = new ArrayList<>(txs.size());
+        List<ScoringRequest> requests = new ArrayList<>(txs.size());
+        for (int i = 0; i < txs.size(); i++) {
+            Transaction tx = txs.get(i);
+            String ruleViolation = ruleEngine.evaluateRules(tx);
+            if (ruleViolation != null) {
+                resultService.saveAiResult(tx, 1.0, config.threshold(), 1,
+                        "[Rule] " + mapReasonToKorean(ruleViolation), balances.get(i));
+                decisions[i] = DECISION_HOLD;
+                continue;
+            }
+            scoredIndexes.add(i);
+            requests.add(buildScoringRequest(tx, balances.get(i)));
+        }
+        if (requests.isEmpty()) {
+            return decisions;
+        }
+
+        List<ScoringResult> results;
+        RuntimeException failure = null;
         try {
-            // [수정] findByAccountNum -> findByAccountNumber
-            // [수정] getBalance() 타입 반영 (Long)
-            long currentBalance = accountRepository.findByAccountNumber(tx.getSourceValue())
-                    .map(acc -> acc.getBalance()).orElse(0L);
-
-            // AI 서버 요청 맵 구성 (필드명 수정 반영)
-            Map<String, Object> request = Map.of(
-                    "user_id", tx.getUserId(),
-                    "amount", tx.getAmount(),       // getTxAmount -> getAmount
-                    "location", tx.getLocation(),
-                    "old_bal", currentBalance,
-                    "tx_type", tx.getTxType()
-            );
-
-            // AI 서버 호출
-            Map<String, Object> response = restTemplate.postForObject(FLASK_URL, request, Map.class);
-
-            if (response != null && "success".equals(response.get("status"))) {
-                Double probability = Double.valueOf(response.get("probability").toString());
-                String flaskEngine = response.get("engine").toString();
-
-                // --- [판단 로직] ---
-                boolean isAiSafe = probability < threshold;
-                boolean isAmountSafe = tx.getAmount() <= autoLimit; // getTxAmount -> getAmount
-
-                int finalDecision;
-                String decisionReason;
-
-                if (isAiSafe && isAmountSafe) {
-                    finalDecision = 0;
-                    decisionReason = flaskEngine + " (정상 승인)";
-                } else {
-                    finalDecision = 1;
-                    if (!isAiSafe) {
-                        decisionReason = flaskEngine + " (위험도 높음)";
-                    } else {
-                        decisionReason = flaskEngine + " (AI 안전하나 금액 한도 초과)";
-                    }
+            results = scoringEngine.scoreBatch(requests);
+        } catch (RuntimeException e) {
+            results = List.of();
+            failure = e;
+        }
+        for (int k = 0; k < scoredIndexes.size(); k++) {
+            int i = scoredIndexes.get(k);
+            ScoringResult result = failure == null ? results.get(k) : null;
+            RuntimeException error = failure;
+            decisions[i] = scoreAndSave(txs.get(i), config, balances.get(i), () -> {
+                if (error != null) {
+                    throw error;
                 }
+                return result;
+            });
+        }
+        return decisions;
+    }
 
-                resultService.saveAiResult(tx, probability, threshold, finalDecision, decisionReason);
-                return finalDecision;
+    /**
+     * AI 판정 + 금액 한도로 최종 판정 후 결과 저장 (AI 불가 시 금액 한도만으로 판정)
+     */
+    private int scoreAndSave(Transaction tx, FdsConfigSnapshot config, Long knownBalance,
+                             Supplier<ScoringResult> scorer) {
+        double threshold = config.threshold();
+        boolean isAmountSafe = tx.getAmount() <= config.autoLimit(); // getTxAmount -> getAmount
+
+        try {
+            ScoringResult scoring = scorer.get();
+            double probability = scoring.probability();
+            String flaskEngine = scoring.engine();
+
+            // --- [판단 로직] ---
+            boolean isAiSafe = probability < threshold;
+
+            int finalDecision;
+            String decisionReason;
+
+            if (isAiSafe && isAmountSafe) {
+                finalDecision = DECISION_APPROVE;
+                decisionReason = flaskEngine + " (정상 승인)";
+            } else {
+                finalDecision = DECISION_HOLD;
+                if (!isAiSafe) {
+                    decisionReason = flaskEngine + " (위험도 높음)";
+                } else {
+                    decisionReason = flaskEngine + " (AI 안전하나 금액 한도 초과)";
+                }
             }
 
+            resultService.saveAiResult(tx, probability, threshold, finalDecision, decisionReason, knownBalance);
+            return finalDecision;
+
+        } catch (ScoringUnavailableException e) {
+            // [폴백] AI 서버 사용 불가 -> 룰 통과 건은 금액 한도만으로 판정
+            log.warn("⚠️ AI 판정 불가, 룰 기반 판정으로 대체: {}", e.getMessage());
+            int finalDecision = isAmountSafe ? DECISION_APPROVE : DECISION_HOLD;
+            String decisionReason = isAmountSafe
+                    ? "[Fallback] 룰 기반 승인 (AI 서버 불가)"
+                    : "[Fallback] 금액 한도 초과 (AI 서버 불가)";
+            resultService.saveAiResult(tx, 0.0, threshold, finalDecision, decisionReason, knownBalance);
+            return finalDecision;
+
         } catch (Exception e) {
             log.error("AI 서버 에러: {}", e.getMessage());
-            resultService.saveAiResult(tx, 0.0, threshold, 1, "[System] AI 서버 오류");
-            return 1;
+            resultService.saveAiResult(tx, 0.0, threshold, DECISION_HOLD, "[System] AI 서버 오류", knownBalance);
+            return DECISION_HOLD;
+        }
+    }
+
+    /**
+     * 마감 시간 안에서만 AI 판정을 기다린다 (초과 시 ScoringUnavailableException)
+     */
+    private ScoringResult scoreWithin(ScoringRequest request, long timeoutMs) {
+        CompletableFuture<ScoringResult> future =
+                CompletableFuture.supplyAsync(() -> scoringEngine.score(request), cardScoringExecutor);
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ScoringUnavailableException("카드 승인 AI 판정 시간 초과 (" + timeoutMs + "ms)");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ScoringUnavailableException sue) {
+                throw sue;
+            }
+            throw new IllegalStateException("카드 승인 AI 판정 실패: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScoringUnavailableException("카드 승인 AI 판정 대기 중 인터럽트", e);
         }
+    }
 
-        return 1;
+    /**
+     * AI 서버 요청 항목 구성 (필드명 수정 반영)
+     */
+    ScoringRequest buildScoringRequest(Transaction tx, long currentBalance) {
+        return new ScoringRequest(
+                tx.getTxId(),
+                tx.getUserId(),
+                tx.getAmount(),
+                tx.getLocation(),
+                currentBalance,
+                tx.getTxType(),
+                velocityStore.snapshot(tx.getSourceValue())
+        );
     }
 
     /**
-     * 필터/블랙리스트 차단 시 호출
+     * 필터/블랙리스트 차단 시 호출 (knownBalance: 호출 측에서 조회한 잔액, null 이면 재조회)
      */
-    public void saveFilterResult(Transaction tx, String reason) {
-        // 일관성을 위해 기본 임계치 0.7 기록 (필요시 조회 로직 추가 가능)
-        resultService.saveAiResult(tx, 1.0, 0.7, 1, "[Blacklist] " + reason);
+    public void saveFilterResult(Transaction tx, String reason, Long knownBalance) {
+        // [수정] 스냅샷에서 현재 임계치를 기록 (조회 비용 없음)
+        resultService.saveAiResult(tx, 1.0, configCache.get().threshold(), 1, "[Blacklist] " + reason, knownBalance);
     }
 
     private String mapReasonToKorean(String violation) {
-        if (violation.contains("HIGH_AMOUNT")) return "고액 거래 (규칙 위반)";
-        if (violation.contains("NIGHT")) return "심야 의심 거래";
+        // [수정] 규칙 설명을 사유로 사용 (기본 규칙도 설명을 가지므로 코드 문자열로 추측하지 않음)
+        String description = ruleEngine.describe(violation);
+        if (description != null && !description.isBlank()) return description;
         return "보안 정책 위반: " + violation;
     }
 }
\ No newline at end of file
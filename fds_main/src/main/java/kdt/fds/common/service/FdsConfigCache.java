@@ -0,0 +1,161 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import kdt.fds.common.entity.FdsConfig;
+import kdt.fds.common.repository.FdsConfigRepository;
+import kdt.fds.common.vo.FdsConfigSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * FDS 설정값 메모리 캐시
+ * - 탐지/이체 핫패스에서 FDS_CONFIG 를 매번 조회하지 않도록 불변 스냅샷을 보관한다.
+ * - 관리자 변경(FdsConfigController) 시 즉시 재적재, DB 직접 수정분은 주기적 폴링으로 반영한다.
+ */
+@Slf4j
+@Service
+public class FdsConfigCache {
+
+    private final FdsConfigRepository configRepository;
+
+    private final AtomicReference<FdsConfigSnapshot> current = new AtomicReference<>();
+
+    private final Counter readCounter;
+    private final Counter swapCounter;
+    private final Timer refreshTimer;
+
+    public FdsConfigCache(FdsConfigRepository configRepository, MeterRegistry meterRegistry) {
+        this.configRepository = configRepository;
+        this.readCounter = Counter.builder("fds.config.reads")
+                .description("설정 스냅샷 조회 횟수 (DB 미접근)")
+                .register(meterRegistry);
+        this.swapCounter = Counter.builder("fds.config.swaps")
+                .description("설정 스냅샷 교체 횟수")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("fds.config.refresh")
+                .description("FDS_CONFIG 재적재 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("fds.config.version", current, ref -> ref.get() == null ? 0 : ref.get().version())
+                .description("현재 적용 중인 설정 스냅샷 버전")
+                .register(meterRegistry);
+        Gauge.builder("fds.config.age.seconds", current, ref -> ref.get() == null ? -1
+                        : Duration.between(ref.get().loadedAt(), LocalDateTime.now()).toSeconds())
+                .description("현재 스냅샷이 적재된 후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // DB 가 아직 준비되지 않았어도 기본값으로 기동하고, 다음 폴링에서 다시 적재한다.
+            log.warn("⚠️ FDS 설정 초기 적재 실패, 기본값 사용: {}", e.getMessage());
+            current.compareAndSet(null, build(0L, Map.of()));
+        }
+    }
+
+    /**
+     * 현재 스냅샷 조회 (volatile 읽기 1회, DB 접근 없음)
+     */
+    public FdsConfigSnapshot get() {
+        readCounter.increment();
+        FdsConfigSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : build(0L, Map.of());
+    }
+
+    /**
+     * DB 직접 수정분 반영용 주기 폴링
+     */
+    @Scheduled(fixedDelayString = "${fds.config.refresh-interval-ms:5000}",
+            initialDelayString = "${fds.config.refresh-interval-ms:5000}")
+    public void poll() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ FDS 설정 폴링 실패 (기존 스냅샷 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * FDS_CONFIG 전체를 다시 읽어 값이 달라졌을 때만 새 스냅샷으로 교체한다.
+     */
+    public FdsConfigSnapshot reload() {
+        Map<String, String> values = refreshTimer.record(this::loadValues);
+
+        while (true) {
+            FdsConfigSnapshot before = current.get();
+            if (before != null && before.values().equals(values)) {
+                return before;
+            }
+            long nextVersion = before == null ? 1L : before.version() + 1;
+            FdsConfigSnapshot next = build(nextVersion, values);
+            if (current.compareAndSet(before, next)) {
+                swapCounter.increment();
+                log.info("✅ FDS 설정 스냅샷 교체 v{} (THRESHOLD={}, AUTO_LIMIT={}, AUTO_APPROVE_AMOUNT={})",
+                        next.version(), next.threshold(), next.autoLimit(), next.autoApproveAmount());
+                return next;
+            }
+        }
+    }
+
+    private Map<String, String> loadValues() {
+        Map<String, String> values = new HashMap<>();
+        for (FdsConfig config : configRepository.findAll()) {
+            if (config.getConfigKey() != null && config.getConfigValue() != null) {
+                values.put(config.getConfigKey(), config.getConfigValue().trim());
+            }
+        }
+        return values;
+    }
+
+    private FdsConfigSnapshot build(long version, Map<String, String> values) {
+        return new FdsConfigSnapshot(
+                version,
+                parseDouble(values, FdsConfigSnapshot.KEY_THRESHOLD, FdsConfigSnapshot.DEFAULT_THRESHOLD),
+                parseLong(values, FdsConfigSnapshot.KEY_AUTO_LIMIT, FdsConfigSnapshot.DEFAULT_AUTO_LIMIT),
+                parseDouble(values, FdsConfigSnapshot.KEY_AUTO_APPROVE_AMOUNT, FdsConfigSnapshot.DEFAULT_AUTO_APPROVE_AMOUNT),
+                values,
+                LocalDateTime.now()
+        );
+    }
+
+    private double parseDouble(Map<String, String> values, String key, double defaultValue) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(raw);
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 설정값 형식 오류 {}={}, 기본값 {} 사용", key, raw, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private long parseLong(Map<String, String> values, String key, long defaultValue) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            // 프론트에서 "100000.0" 형태로 저장되는 경우도 허용
+            return (long) Double.parseDouble(raw);
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 설정값 형식 오류 {}={}, 기본값 {} 사용", key, raw, defaultValue);
+            return defaultValue;
+        }
+    }
+}
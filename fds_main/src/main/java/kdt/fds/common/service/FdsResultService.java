@@ -1,27 +1,37 @@
 package kdt.fds.common.service;
 
+import kdt.fds.common.entity.OutboxEvent;
 import kdt.fds.common.entity.TransactionFeature;
 import kdt.fds.fraud.entity.FraudDetectionResult;
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.account.repository.AccountRepository;
 import kdt.fds.fraud.repository.FraudRepository;
-import kdt.fds.common.repository.TransactionFeatureRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FdsResultService {
 
     private final FraudRepository fraudRepository;
-    private final TransactionFeatureRepository featureRepository;
+    private final FeatureWriteBehind featureWriteBehind;
     private final AccountRepository accountRepository;
+    private final VelocityStore velocityStore;
+    private final OutboxService outboxService;
 
+    /**
+     * 탐지 결과 저장 + 피처 행 지연 저장 예약
+     * [추가] 호출 측에서 이미 조회한 잔액(knownBalance)을 넘기면 계좌 재조회를 생략한다
+     */
     @Transactional
-    public void saveAiResult(Transaction tx, Double prob, Double threshold, Integer isFraud, String engineMsg) {
+    public void saveAiResult(Transaction tx, Double prob, Double threshold, Integer isFraud, String engineMsg,
+                             Long knownBalance) {
 
         // 1. 엔진 태그 결정 (카드 vs 계좌이체)
         String engineTag = "CARD".equals(tx.getTxType()) ? "[Engine_A]" : "[Engine_B]";
@@ -38,31 +48,52 @@ public class FdsResultService {
         fraudRepository.save(result);
 
         // 3. 피처 저장 (JSON 및 필드명 매핑)
-        try {
-            // [수정] findByAccountNum -> findByAccountNumber
-            // [수정] getBalance() 리턴 타입이 Long이므로 기본값 0L 설정
-            Long currentBal = accountRepository.findByAccountNumber(tx.getSourceValue())
-                    .map(acc -> acc.getBalance()).orElse(0L);
+        // [수정] 커밋 후 지연 저장 버퍼로 넘겨 송금 트랜잭션에서 CLOB INSERT 를 제외
+        // [수정] findByAccountNum -> findByAccountNumber
+        // [수정] getBalance() 리턴 타입이 Long이므로 기본값 0L 설정
+        Long currentBal = knownBalance != null ? knownBalance
+                : accountRepository.findByAccountNumber(tx.getSourceValue())
+                .map(acc -> acc.getBalance()).orElse(0L);
+
+        TransactionFeature feature = new TransactionFeature();
+        feature.setTxId(tx.getTxId());
+        feature.setOldBalanceOrg(currentBal.doubleValue()); // Feature 테이블이 Double을 요구할 경우 변환
+        feature.setNewBalanceOrg((double) (currentBal - tx.getAmount()));
+        // [수정] CLOB JSON 대신 스키마 ID + 벡터 바이트로 저장
+        feature.setFeatureAmount(tx.getAmount());
+        feature.setFeatureSchemaId(FeatureVectorCodec.SCHEMA_V1);
+        feature.setFeatureBytes(buildFeatureVector(tx, currentBal));
 
-            // [수정] getTxAmount() -> getAmount() (타입: Long)
-            String jsonFeatures = String.format(
-                    "{\"amount\": %d, \"old_bal\": %d, \"type\": \"%s\", \"loc\": \"%s\"}",
-                    tx.getAmount(), currentBal, tx.getTxType(), tx.getLocation()
-            );
+        featureWriteBehind.enqueueAfterCommit(feature);
 
-            TransactionFeature feature = new TransactionFeature();
-            feature.setTxId(tx.getTxId());
-            feature.setOldBalanceOrg(currentBal.doubleValue()); // Feature 테이블이 Double을 요구할 경우 변환
-            feature.setNewBalanceOrg((double) (currentBal - tx.getAmount()));
-            feature.setVFeatures(jsonFeatures);
+        // [추가] 아웃박스 기록 (탐지 결과와 같은 커밋, 피처 행 자체는 커밋 후 지연 저장)
+        Map<String, Object> decided = new LinkedHashMap<>();
+        decided.put("tx_id", tx.getTxId());
+        decided.put("tx_type", tx.getTxType());
+        decided.put("source", tx.getSourceValue());
+        decided.put("amount", tx.getAmount());
+        decided.put("probability", prob);
+        decided.put("threshold", threshold);
+        decided.put("is_fraud", isFraud);
+        decided.put("engine", finalEngineName);
+        outboxService.append(OutboxEvent.DETECTION_DECIDED, OutboxService.AGGREGATE_TRANSACTION, tx.getTxId(), decided);
 
-            featureRepository.save(feature);
-            log.info("✅ FDS 저장 완료: {}", finalEngineName);
+        Map<String, Object> recorded = new LinkedHashMap<>();
+        recorded.put("tx_id", tx.getTxId());
+        recorded.put("schema_id", feature.getFeatureSchemaId());
+        recorded.put("amount", feature.getFeatureAmount());
+        recorded.put("old_balance", currentBal);
+        recorded.put("new_balance", currentBal - tx.getAmount());
+        outboxService.append(OutboxEvent.FEATURE_RECORDED, OutboxService.AGGREGATE_TRANSACTION, tx.getTxId(), recorded);
+
+        log.info("✅ FDS 저장 완료: {}", finalEngineName);
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Feature 저장 실패: {}", e.getMessage());
-            // 에러 추적을 위해 스택트레이스 출력 권장
-            e.printStackTrace();
-        }
+    /**
+     * 피처 벡터 구성 (JMH 벤치마크에서 단독 측정)
+     */
+    byte[] buildFeatureVector(Transaction tx, long currentBal) {
+        return FeatureVectorCodec.encode(tx.getAmount(), currentBal, tx.getTxType(),
+                velocityStore.snapshot(tx.getSourceValue()));
     }
-}
\ No newline at end of file
+}
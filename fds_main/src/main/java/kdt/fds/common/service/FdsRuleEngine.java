@@ -1,33 +1,235 @@
 package kdt.fds.common.service;
 
+import kdt.fds.common.entity.FdsRule;
+import kdt.fds.common.vo.VelocitySnapshot;
+import kdt.fds.common.vo.VelocityWindow;
 import kdt.fds.transaction.entity.Transaction;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class FdsRuleEngine {
 
+    public static final String RESULT_PREFIX = "RULE: ";
+
+    // 규칙 코드별 적중 횟수 (재적재 후에도 누적 유지)
+    private final Map<String, LongAdder> hitCounters = new ConcurrentHashMap<>();
+
+    // 컴파일된 평가 계획 (재적재 시 통째로 교체)
+    private volatile CompiledRule[] plan;
+    private volatile boolean planUsesVelocity;
+
+    // 거래 빈도 저장소 (없으면 빈도 조건은 현재 거래 1건 기준으로 평가)
+    private final VelocityStore velocityStore;
+
+    /**
+     * 기본 규칙(고액 한도, 심야 고액 송금)으로 시작한다. DB 규칙은 FdsRuleLoader 가 reload 로 반영한다.
+     */
+    public FdsRuleEngine() {
+        this(null);
+    }
+
+    @Autowired
+    public FdsRuleEngine(VelocityStore velocityStore) {
+        this.velocityStore = velocityStore;
+        reload(defaultRules());
+    }
+
     /**
      * 규칙 기반 탐지 (AI 호출 전 실행)
      * @return 사기 의심 사유 (정상이면 null)
      */
     public String evaluateRules(Transaction tx) {
+        long amount = tx.getAmount() != null ? tx.getAmount() : 0L;
+
+        // [수정] 서버 현재 시각이 아니라 거래 시각 기준으로 판단
+        LocalDateTime txTime = tx.getCreatedAt() != null ? tx.getCreatedAt() : LocalDateTime.now();
+        int hourBit = 1 << txTime.getHour();
 
-        // 1. [수정] 고액 거래 규칙 (getTxAmount -> getAmount)
-        // 5,000만원 이상 (Long 타입이므로 숫자 뒤에 L을 붙여주는 것이 좋습니다)
-        if (tx.getAmount() >= 50000000L) {
-            return "RULE: HIGH_AMOUNT_LIMIT";
+        // 빈도 조건이 있는 규칙이 있을 때만 저장소 조회 (고정 비용)
+        VelocitySnapshot velocity = planUsesVelocity && velocityStore != null
+                ? velocityStore.snapshot(tx.getSourceValue())
+                : VelocitySnapshot.EMPTY;
+
+        for (CompiledRule rule : plan) {
+            if (rule.matches(amount, hourBit, tx, velocity)) {
+                rule.hits.increment();
+                return rule.result;
+            }
         }
+        return null; // 통과
+    }
+
+    /**
+     * 규칙 목록을 평가 계획으로 컴파일해 교체 (우선순위 순, 조건 문자열은 이 시점에 모두 해석)
+     */
+    public void reload(List<FdsRule> rules) {
+        List<FdsRule> ordered = new ArrayList<>(rules);
+        ordered.removeIf(r -> r.getRuleCode() == null || Boolean.FALSE.equals(r.getEnabled()));
+        ordered.sort(Comparator.comparing((FdsRule r) -> r.getPriority() != null ? r.getPriority() : Integer.MAX_VALUE));
 
-        // 2. [수정] 심야 고액 거래 규칙 (00시 ~ 05시 사이 100만원 이상)
-        // 필드명 수정: getTxAmount -> getAmount
-        int hour = LocalDateTime.now().getHour();
-        if ((hour >= 0 && hour <= 5) && tx.getAmount() >= 1000000L) {
-            return "RULE: NIGHT_SUSPICIOUS_TRANSFER";
+        CompiledRule[] compiled = new CompiledRule[ordered.size()];
+        boolean usesVelocity = false;
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = compile(ordered.get(i));
+            usesVelocity |= compiled[i].velocityWindow != null;
         }
+        this.planUsesVelocity = usesVelocity;
+        this.plan = compiled;
+    }
 
-        // 3. (추가 가능) 특정 위험 지역 거래 등...
+    /** 규칙 코드별 적중 횟수 (평가 순서대로) */
+    public Map<String, Long> hitCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (CompiledRule rule : plan) {
+            counts.put(rule.code, rule.hits.sum());
+        }
+        hitCounters.forEach((code, adder) -> counts.putIfAbsent(code, adder.sum()));
+        return counts;
+    }
 
-        return null; // 통과
+    /** 판정 결과("RULE: CODE")에 해당하는 규칙 설명 (없으면 null) */
+    public String describe(String violation) {
+        for (CompiledRule rule : plan) {
+            if (rule.result.equals(violation)) {
+                return rule.description;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 기존 하드코딩 규칙과 동일한 기본 규칙
+     */
+    public static List<FdsRule> defaultRules() {
+        return List.of(
+                // 5,000만원 이상
+                FdsRule.builder()
+                        .ruleCode("HIGH_AMOUNT_LIMIT")
+                        .description("고액 거래 (규칙 위반)")
+                        .priority(10)
+                        .minAmount(50000000L)
+                        .build(),
+                // 00시 ~ 05시 사이 100만원 이상
+                FdsRule.builder()
+                        .ruleCode("NIGHT_SUSPICIOUS_TRANSFER")
+                        .description("심야 의심 거래")
+                        .priority(20)
+                        .minAmount(1000000L)
+                        .hourFrom(0)
+                        .hourTo(6)
+                        .build()
+        );
+    }
+
+    private CompiledRule compile(FdsRule rule) {
+        VelocityWindow window = VelocityWindow.fromCode(rule.getVelocityWindow());
+        if (window != null && rule.getVelocityMinCount() == null && rule.getVelocityMinAmount() == null) {
+            window = null;
+        }
+        return new CompiledRule(
+                rule.getRuleCode(),
+                rule.getDescription(),
+                rule.getMinAmount() != null ? rule.getMinAmount() : Long.MIN_VALUE,
+                rule.getMaxAmount() != null ? rule.getMaxAmount() : Long.MAX_VALUE,
+                hourMask(rule.getHourFrom(), rule.getHourTo()),
+                toSet(rule.getTxTypes()),
+                toSet(rule.getLocations()),
+                toSet(rule.getMerchantCats()),
+                window,
+                rule.getVelocityMinCount() != null ? rule.getVelocityMinCount() : 0,
+                rule.getVelocityMinAmount() != null ? rule.getVelocityMinAmount() : Long.MIN_VALUE,
+                hitCounters.computeIfAbsent(rule.getRuleCode(), code -> new LongAdder())
+        );
+    }
+
+    /** 시간대 조건을 24비트 마스크로 변환 (조건 없음 = 전체) */
+    private static int hourMask(Integer from, Integer to) {
+        if (from == null && to == null) {
+            return 0xFFFFFF;
+        }
+        int start = from != null ? Math.floorMod(from, 24) : 0;
+        int end = to != null ? to : 24;
+        int mask = 0;
+        if (start < end) {
+            for (int h = start; h < end && h < 24; h++) mask |= 1 << h;
+        } else {
+            // 자정을 넘는 구간 (예: 22 ~ 6)
+            for (int h = start; h < 24; h++) mask |= 1 << h;
+            for (int h = 0; h < end; h++) mask |= 1 << h;
+        }
+        return mask;
+    }
+
+    private static Set<String> toSet(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return null;
+        }
+        Set<String> values = new HashSet<>();
+        for (String token : csv.split(",")) {
+            if (!token.isBlank()) values.add(token.trim());
+        }
+        return values.isEmpty() ? null : Set.copyOf(values);
+    }
+
+    /**
+     * 컴파일된 규칙 1건 (값 비교가 싼 조건부터 평가)
+     */
+    private static final class CompiledRule {
+        private final String code;
+        private final String result;
+        private final String description;
+        private final long minAmount;
+        private final long maxAmount;
+        private final int hourMask;
+        private final Set<String> txTypes;
+        private final Set<String> locations;
+        private final Set<String> merchantCats;
+        private final VelocityWindow velocityWindow;
+        private final int velocityMinCount;
+        private final long velocityMinAmount;
+        private final LongAdder hits;
+
+        private CompiledRule(String code, String description, long minAmount, long maxAmount, int hourMask,
+                             Set<String> txTypes, Set<String> locations, Set<String> merchantCats,
+                             VelocityWindow velocityWindow, int velocityMinCount, long velocityMinAmount, LongAdder hits) {
+            this.code = code;
+            this.result = RESULT_PREFIX + code;
+            this.description = description;
+            this.minAmount = minAmount;
+            this.maxAmount = maxAmount;
+            this.hourMask = hourMask;
+            this.txTypes = txTypes;
+            this.locations = locations;
+            this.merchantCats = merchantCats;
+            this.velocityWindow = velocityWindow;
+            this.velocityMinCount = velocityMinCount;
+            this.velocityMinAmount = velocityMinAmount;
+            this.hits = hits;
+        }
+
+        boolean matches(long amount, int hourBit, Transaction tx, VelocitySnapshot velocity) {
+            if (amount < minAmount || amount > maxAmount) return false;
+            if ((hourMask & hourBit) == 0) return false;
+            if (velocityWindow != null) {
+                // 현재 거래를 포함한 창 안 건수/금액
+                if (velocityWindow.count(velocity) + 1 < velocityMinCount) return false;
+                if (velocityWindow.amount(velocity) + amount < velocityMinAmount) return false;
+            }
+            if (txTypes != null && (tx.getTxType() == null || !txTypes.contains(tx.getTxType()))) return false;
+            if (locations != null && (tx.getLocation() == null || !locations.contains(tx.getLocation()))) return false;
+            return merchantCats == null || (tx.getMerchantCat() != null && merchantCats.contains(tx.getMerchantCat()));
+        }
     }
-}
\ No newline at end of file
+}
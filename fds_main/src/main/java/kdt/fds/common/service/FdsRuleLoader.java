@@ -0,0 +1,83 @@
+package kdt.fds.common.service;
+
+import jakarta.annotation.PostConstruct;
+import kdt.fds.common.entity.FdsRule;
+import kdt.fds.common.repository.FdsRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * FDS_RULES 테이블 -> FdsRuleEngine 적재
+ * - 기동 시 테이블이 비어 있으면 기본 규칙을 등록한다.
+ * - 관리자 변경 시 즉시, DB 직접 수정분은 주기적 폴링으로 재컴파일한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FdsRuleLoader {
+
+    private final FdsRuleRepository ruleRepository;
+    private final FdsRuleEngine ruleEngine;
+
+    private volatile int lastSignature;
+
+    @PostConstruct
+    public void init() {
+        try {
+            if (ruleRepository.count() == 0) {
+                ruleRepository.saveAll(FdsRuleEngine.defaultRules());
+                log.info("✅ 기본 FDS 규칙 등록 완료");
+            }
+            reload();
+        } catch (Exception e) {
+            // 기본 규칙(생성자에서 컴파일)으로 계속 동작
+            log.warn("⚠️ FDS 규칙 초기 적재 실패, 기본 규칙 사용: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fds.rules.refresh-interval-ms:10000}",
+            initialDelayString = "${fds.rules.refresh-interval-ms:10000}")
+    public void poll() {
+        try {
+            reloadIfChanged();
+        } catch (Exception e) {
+            log.warn("⚠️ FDS 규칙 폴링 실패 (기존 규칙 유지): {}", e.getMessage());
+        }
+    }
+
+    /** 무조건 재컴파일 */
+    public int reload() {
+        List<FdsRule> rules = ruleRepository.findByEnabledTrueOrderByPriorityAscRuleIdAsc();
+        apply(rules);
+        return rules.size();
+    }
+
+    private void reloadIfChanged() {
+        List<FdsRule> rules = ruleRepository.findByEnabledTrueOrderByPriorityAscRuleIdAsc();
+        if (signature(rules) != lastSignature) {
+            apply(rules);
+        }
+    }
+
+    private void apply(List<FdsRule> rules) {
+        ruleEngine.reload(rules);
+        lastSignature = signature(rules);
+        log.info("🔄 FDS 규칙 {}건 컴파일 완료", rules.size());
+    }
+
+    private int signature(List<FdsRule> rules) {
+        int hash = 1;
+        for (FdsRule r : rules) {
+            hash = 31 * hash + Objects.hash(r.getRuleId(), r.getRuleCode(), r.getPriority(),
+                    r.getMinAmount(), r.getMaxAmount(), r.getHourFrom(), r.getHourTo(),
+                    r.getTxTypes(), r.getLocations(), r.getMerchantCats(),
+                    r.getVelocityWindow(), r.getVelocityMinCount(), r.getVelocityMinAmount(), r.getEnabled());
+        }
+        return hash;
+    }
+}
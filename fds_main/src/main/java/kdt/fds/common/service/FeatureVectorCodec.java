@@ -0,0 +1,152 @@
+package kdt.fds.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kdt.fds.common.vo.VelocitySnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TRANSACTION_FEATURES 피처 벡터 인코딩 (V_FEATURES CLOB JSON 대체)
+ * - 형식: [스키마 ID 1바이트][슬롯 수 1바이트][double * 슬롯 수] (big-endian)
+ * - 스키마별 슬롯 순서는 고정이며, 슬롯을 추가할 때는 새 스키마 ID 를 만든다 (기존 행은 그대로 디코딩).
+ * - 알 수 없는 값(이관된 과거 행의 빈도 등)은 NaN 으로 저장하고 JSON 변환 시 생략한다.
+ */
+public final class FeatureVectorCodec {
+
+    public static final int SCHEMA_V1 = 1;
+    /** JSON 파싱 불가 등으로 이관하지 못한 과거 행 표시 (FEATURE_BYTES 없음) */
+    public static final int SCHEMA_UNMIGRATED = 0;
+
+    // 스키마 v1 슬롯 (JSON 키 이름은 기존 V_FEATURES 와 동일하게 유지)
+    private static final String[] V1_SLOTS = {
+            "amount", "old_bal", "new_bal", "type",
+            "tx_count_10m", "tx_count_1h", "tx_amount_1h", "tx_count_24h", "tx_amount_24h"
+    };
+    private static final int HEADER_BYTES = 2;
+    private static final int TYPE_SLOT = 3;
+
+    // 거래 유형 코드 (슬롯에는 숫자로 저장)
+    private static final String[] TX_TYPES = {null, "TRANSFER", "CARD"};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter JSON_WRITER = MAPPER.writer();
+
+    private FeatureVectorCodec() {
+    }
+
+    /**
+     * 탐지 시점 피처를 v1 벡터로 인코딩한다.
+     */
+    public static byte[] encode(long amount, long oldBalance, String txType, VelocitySnapshot velocity) {
+        VelocitySnapshot v = velocity != null ? velocity : VelocitySnapshot.EMPTY;
+        return pack(SCHEMA_V1, new double[]{
+                amount, oldBalance, oldBalance - amount, typeCode(txType),
+                v.count10m(), v.count1h(), v.amount1h(), v.count24h(), v.amount24h()
+        });
+    }
+
+    /**
+     * 과거 V_FEATURES JSON({"amount", "old_bal", "type", "loc"})을 v1 벡터로 변환한다. (빈도 슬롯은 NaN)
+     * @return 파싱할 수 없으면 null
+     */
+    public static byte[] encodeLegacyJson(String json, Double newBalance) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode node = MAPPER.readTree(json);
+            if (node == null || !node.hasNonNull("amount")) {
+                return null;
+            }
+            double amount = node.get("amount").asDouble();
+            double oldBalance = node.hasNonNull("old_bal") ? node.get("old_bal").asDouble() : Double.NaN;
+            double newBal = newBalance != null ? newBalance : oldBalance - amount;
+            String type = node.hasNonNull("type") ? node.get("type").asText() : null;
+            return pack(SCHEMA_V1, new double[]{
+                    amount, oldBalance, newBal, typeCode(type),
+                    Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN
+            });
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 벡터를 디코딩한다. (스키마 ID 는 바이트 헤더 기준, 알 수 없는 스키마면 빈 배열)
+     */
+    public static double[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_BYTES) {
+            return new double[0];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int schemaId = buffer.get();
+        int slots = Byte.toUnsignedInt(buffer.get());
+        if (schemaId != SCHEMA_V1 || buffer.remaining() < slots * Double.BYTES) {
+            return new double[0];
+        }
+        double[] values = new double[slots];
+        for (int i = 0; i < slots; i++) {
+            values[i] = buffer.getDouble();
+        }
+        return values;
+    }
+
+    public static int schemaId(byte[] bytes) {
+        return bytes == null || bytes.length == 0 ? SCHEMA_UNMIGRATED : bytes[0];
+    }
+
+    /**
+     * 관리자 화면용 JSON 문자열 (기존 V_FEATURES 키 유지, 위치는 거래 원장 값 사용)
+     */
+    public static String toJson(byte[] bytes, String location) {
+        double[] values = decode(bytes);
+        if (values.length == 0) {
+            return null;
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (int i = 0; i < values.length && i < V1_SLOTS.length; i++) {
+            if (Double.isNaN(values[i])) {
+                continue;
+            }
+            if (i == TYPE_SLOT) {
+                json.put(V1_SLOTS[i], typeName((int) values[i]));
+            } else {
+                json.put(V1_SLOTS[i], (long) values[i]);
+            }
+        }
+        json.put("loc", location);
+        try {
+            return JSON_WRITER.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static byte[] pack(int schemaId, double[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + values.length * Double.BYTES);
+        buffer.put((byte) schemaId);
+        buffer.put((byte) values.length);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+        return buffer.array();
+    }
+
+    private static double typeCode(String txType) {
+        for (int i = 1; i < TX_TYPES.length; i++) {
+            if (TX_TYPES[i].equals(txType)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static String typeName(int code) {
+        return code > 0 && code < TX_TYPES.length ? TX_TYPES[code] : "OTHER";
+    }
+}
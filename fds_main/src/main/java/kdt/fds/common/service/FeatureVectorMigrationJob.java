@@ -0,0 +1,107 @@
+package kdt.fds.common.service;
+
+import kdt.fds.common.config.FeatureMigrationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TRANSACTION_FEATURES 과거 행 이관 (V_FEATURES JSON -> FEATURE_BYTES 피처 벡터)
+ * - 기동 후 백그라운드 스레드에서 chunk 단위로 변환하고, 변환한 행의 CLOB 은 비운다.
+ * - JSON 을 읽을 수 없는 행은 FEATURE_SCHEMA_ID = 0 으로 표시하고 원문을 남긴다 (재시도 대상에서 제외).
+ * - 매 chunk 가 별도 커밋이므로 중간에 종료되어도 다음 기동 때 남은 행부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class FeatureVectorMigrationJob {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final FeatureMigrationProperties properties;
+
+    public FeatureVectorMigrationJob(NamedParameterJdbcTemplate jdbcTemplate, FeatureMigrationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("fds-feature-migration").start(this::migrateAll);
+    }
+
+    void migrateAll() {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long migrated = 0;
+        long skipped = 0;
+        try {
+            while (true) {
+                List<LegacyRow> rows = jdbcTemplate.query("""
+                        SELECT TX_ID, V_FEATURES, NEW_BALANCE_ORG
+                        FROM TRANSACTION_FEATURES
+                        WHERE FEATURE_SCHEMA_ID IS NULL
+                          AND V_FEATURES IS NOT NULL
+                        FETCH FIRST :chunkSize ROWS ONLY
+                        """, new MapSqlParameterSource("chunkSize", chunkSize), (rs, rowNum) -> new LegacyRow(
+                        rs.getLong("TX_ID"),
+                        rs.getString("V_FEATURES"),
+                        rs.getObject("NEW_BALANCE_ORG") != null ? rs.getDouble("NEW_BALANCE_ORG") : null));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<SqlParameterSource> converted = new ArrayList<>(rows.size());
+                List<SqlParameterSource> unparsable = new ArrayList<>();
+                for (LegacyRow row : rows) {
+                    byte[] bytes = FeatureVectorCodec.encodeLegacyJson(row.json(), row.newBalance());
+                    if (bytes == null) {
+                        unparsable.add(new MapSqlParameterSource("txId", row.txId())
+                                .addValue("schemaId", FeatureVectorCodec.SCHEMA_UNMIGRATED));
+                        continue;
+                    }
+                    double amount = FeatureVectorCodec.decode(bytes)[0];
+                    converted.add(new MapSqlParameterSource("txId", row.txId())
+                            .addValue("schemaId", FeatureVectorCodec.schemaId(bytes))
+                            .addValue("amount", (long) amount)
+                            .addValue("bytes", bytes, Types.VARBINARY));
+                }
+
+                if (!converted.isEmpty()) {
+                    jdbcTemplate.batchUpdate("""
+                            UPDATE TRANSACTION_FEATURES
+                            SET FEATURE_SCHEMA_ID = :schemaId,
+                                FEATURE_AMOUNT = :amount,
+                                FEATURE_BYTES = :bytes,
+                                V_FEATURES = NULL
+                            WHERE TX_ID = :txId
+                            """, converted.toArray(SqlParameterSource[]::new));
+                }
+                if (!unparsable.isEmpty()) {
+                    jdbcTemplate.batchUpdate("""
+                            UPDATE TRANSACTION_FEATURES
+                            SET FEATURE_SCHEMA_ID = :schemaId
+                            WHERE TX_ID = :txId
+                            """, unparsable.toArray(SqlParameterSource[]::new));
+                }
+                migrated += converted.size();
+                skipped += unparsable.size();
+            }
+            if (migrated > 0 || skipped > 0) {
+                log.info("✅ 피처 벡터 이관 완료: {}건 변환 / {}건 원문 유지", migrated, skipped);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 피처 벡터 이관 중단 ({}건 변환, 다음 기동 시 이어서 진행): {}", migrated, e.getMessage());
+        }
+    }
+
+    private record LegacyRow(long txId, String json, Double newBalance) {}
+}
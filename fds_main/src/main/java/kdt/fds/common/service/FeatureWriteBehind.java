@@ -0,0 +1,208 @@
+package kdt.fds.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kdt.fds.common.config.FeatureWriteBehindProperties;
+import kdt.fds.common.entity.TransactionFeature;
+import kdt.fds.common.repository.TransactionFeatureRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TRANSACTION_FEATURES 지연 저장 버퍼
+ * - 탐지 트랜잭션 커밋 후 피처 행을 버퍼에 넣고, 송금 응답과 무관하게 주기적으로 일괄 INSERT 한다.
+ * - 일괄 저장이 실패하면 행 단위로 다시 저장해 문제 행만 재시도하고, 한도를 넘으면 dead-letter 파일에 기록한다.
+ * - 저장(flush)과 제거(discard)는 같은 락으로 배타 실행한다. (대기열에서 꺼내 저장 중인 행을 놓치고 삭제가 끝나면 고아 행이 남음)
+ */
+@Slf4j
+@Service
+public class FeatureWriteBehind {
+
+    // dead-letter 직렬화용 (스레드 안전, 재사용)
+    private static final ObjectWriter DEAD_LETTER_WRITER = new ObjectMapper().writer();
+
+    private final TransactionFeatureRepository featureRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FeatureWriteBehindProperties properties;
+
+    private final BlockingQueue<PendingFeature> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter flushedCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+
+    public FeatureWriteBehind(TransactionFeatureRepository featureRepository,
+                              PlatformTransactionManager transactionManager,
+                              FeatureWriteBehindProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.featureRepository = featureRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.flushedCounter = Counter.builder("fds.features.flushed")
+                .description("지연 저장된 피처 행 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("fds.features.retried")
+                .description("저장 실패로 다시 대기열에 들어간 피처 행 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("fds.features.dead_letter")
+                .description("dead-letter 파일에 기록된 피처 행 수")
+                .register(meterRegistry);
+        Gauge.builder("fds.features.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 피처 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 피처 행 저장 예약 (트랜잭션 중이면 커밋 후, 롤백 시 버림)
+     */
+    public void enqueueAfterCommit(TransactionFeature feature) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(new PendingFeature(feature, 0));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(new PendingFeature(feature, 0));
+            }
+        });
+    }
+
+    /**
+     * 아직 저장되지 않은 피처 행 제거 (거래 삭제 시 삭제 이후에 INSERT 되지 않도록)
+     * - 진행 중인 flush 가 있으면 끝날 때까지 기다린다. 반환 후에는 해당 행이 대기열에 없거나 이미 커밋되어 있다.
+     */
+    public boolean discard(Long txId) {
+        flushLock.lock();
+        try {
+            return queue.removeIf(pending -> pending.feature().getTxId().equals(txId));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fds.features.write-behind.flush-interval-ms:300}",
+            initialDelayString = "${fds.features.write-behind.flush-interval-ms:300}")
+    public void flush() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<PendingFeature> batch = new ArrayList<>(batchSize);
+        // 이번 주기에 쌓인 만큼만 처리 (재시도 행은 다음 주기로 미룬다)
+        int remaining = queue.size();
+        while (remaining > 0) {
+            // 묶음 단위로 락을 잡아 discard 가 전체 flush 가 아니라 진행 중인 묶음 하나만 기다리게 한다
+            flushLock.lock();
+            try {
+                int drained = queue.drainTo(batch, Math.min(batchSize, remaining));
+                if (drained == 0) {
+                    break;
+                }
+                remaining -= drained;
+                write(batch);
+                batch.clear();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+        // 종료 시점에 남은 재시도 행은 유실되지 않도록 파일로 남긴다
+        PendingFeature pending;
+        while ((pending = queue.poll()) != null) {
+            deadLetter(pending, "shutdown");
+        }
+    }
+
+    private void write(List<PendingFeature> batch) {
+        List<TransactionFeature> rows = new ArrayList<>(batch.size());
+        for (PendingFeature pending : batch) {
+            rows.add(pending.feature());
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> featureRepository.saveAll(rows));
+            flushedCounter.increment(rows.size());
+            return;
+        } catch (Exception e) {
+            log.warn("⚠️ 피처 일괄 저장 실패 ({}건), 행 단위로 재시도: {}", rows.size(), e.getMessage());
+        }
+
+        // 문제 행만 골라내기 위해 행 단위 저장
+        for (PendingFeature pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> featureRepository.save(pending.feature()));
+                flushedCounter.increment();
+            } catch (Exception e) {
+                retryOrDeadLetter(pending, e);
+            }
+        }
+    }
+
+    private void retryOrDeadLetter(PendingFeature pending, Exception cause) {
+        PendingFeature next = new PendingFeature(pending.feature(), pending.attempts() + 1);
+        if (next.attempts() < properties.getMaxAttempts() && queue.offer(next)) {
+            retryCounter.increment();
+            return;
+        }
+        deadLetter(next, cause.getMessage());
+    }
+
+    private void offer(PendingFeature pending) {
+        if (!queue.offer(pending)) {
+            deadLetter(pending, "queue full");
+        }
+    }
+
+    private synchronized void deadLetter(PendingFeature pending, String reason) {
+        TransactionFeature feature = pending.feature();
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("tx_id", feature.getTxId());
+        line.put("old_balance_org", feature.getOldBalanceOrg());
+        line.put("new_balance_org", feature.getNewBalanceOrg());
+        line.put("feature_amount", feature.getFeatureAmount());
+        line.put("feature_schema_id", feature.getFeatureSchemaId());
+        line.put("feature_bytes", feature.getFeatureBytes()); // base64
+        line.put("attempts", pending.attempts());
+        line.put("reason", reason);
+        line.put("failed_at", LocalDateTime.now().toString());
+        try {
+            Path path = Path.of(properties.getDeadLetterPath());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, (DEAD_LETTER_WRITER.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            deadLetterCounter.increment();
+            log.error("❌ 피처 저장 포기 TX_ID: {} ({}), dead-letter 기록", feature.getTxId(), reason);
+        } catch (IOException e) {
+            log.error("❌ 피처 dead-letter 기록 실패 TX_ID: {} - {}", feature.getTxId(), e.getMessage());
+        }
+    }
+
+    private record PendingFeature(TransactionFeature feature, int attempts) {}
+}
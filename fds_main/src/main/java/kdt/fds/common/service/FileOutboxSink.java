@@ -0,0 +1,57 @@
+package kdt.fds.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kdt.fds.common.config.OutboxProperties;
+import kdt.fds.common.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 파일 sink (테스트/디버깅용, fds.outbox.file-sink.enabled=true 일 때만 등록)
+ */
+@Component
+@ConditionalOnProperty(prefix = "fds.outbox.file-sink", name = "enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxEventSink {
+
+    private static final ObjectWriter LINE_WRITER = new ObjectMapper().writer();
+
+    private final Path path;
+
+    public FileOutboxSink(OutboxProperties properties) {
+        this.path = Path.of(properties.getFileSink().getPath());
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws Exception {
+        StringBuilder lines = new StringBuilder(events.size() * 160);
+        for (OutboxEvent event : events) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("id", event.getId());
+            line.put("event_type", event.getEventType());
+            line.put("aggregate_type", event.getAggregateType());
+            line.put("aggregate_id", event.getAggregateId());
+            line.put("payload", event.getPayload());
+            line.put("created_at", event.getCreatedAt().toString());
+            lines.append(LINE_WRITER.writeValueAsString(line)).append('\n');
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
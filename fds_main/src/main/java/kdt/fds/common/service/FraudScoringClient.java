@@ -0,0 +1,179 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kdt.fds.common.config.ScoringClientProperties;
+import kdt.fds.common.dto.ScoringRequest;
+import kdt.fds.common.dto.ScoringResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI 스코어링 서버(Flask) 호출 클라이언트
+ * - 커넥션 풀 + 호출별 타임아웃(ScoringClientConfig), 동시 호출 한도(bulkhead), 서킷 브레이커를 적용한다.
+ * - 호출할 수 없거나 실패하면 ScoringUnavailableException 을 던지고, 판정은 호출 측이 룰 기반으로 대체한다.
+ */
+@Slf4j
+@Service
+public class FraudScoringClient {
+
+    private final RestClient scoringRestClient;
+    private final ScoringClientProperties properties;
+
+    private final Semaphore bulkhead;
+    private final ScoringCircuitBreaker circuitBreaker;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter circuitOpenRejects;
+    private final Counter bulkheadRejects;
+
+    public FraudScoringClient(RestClient scoringRestClient,
+                              ScoringClientProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.scoringRestClient = scoringRestClient;
+        this.properties = properties;
+        this.bulkhead = new Semaphore(Math.max(1, properties.getMaxConcurrentCalls()));
+        this.circuitBreaker = new ScoringCircuitBreaker(properties.getFailureThreshold(), properties.getOpenStateMs());
+
+        this.successTimer = scoringTimer(meterRegistry, "success");
+        this.failureTimer = scoringTimer(meterRegistry, "failure");
+        this.circuitOpenRejects = Counter.builder("fds.scoring.rejected")
+                .tag("reason", "circuit_open")
+                .description("서킷 오픈으로 호출하지 않은 건수")
+                .register(meterRegistry);
+        this.bulkheadRejects = Counter.builder("fds.scoring.rejected")
+                .tag("reason", "bulkhead_full")
+                .description("동시 호출 한도 초과로 호출하지 않은 건수")
+                .register(meterRegistry);
+        Gauge.builder("fds.scoring.inflight", bulkhead,
+                        s -> Math.max(1, properties.getMaxConcurrentCalls()) - s.availablePermits())
+                .description("진행 중인 스코어링 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("fds.scoring.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 스코어링
+     */
+    public ScoringResult score(ScoringRequest request) {
+        return call(() -> parse(scoringRestClient.post()
+                .uri(properties.getPredictPath())
+                .body(request.toPayload())
+                .retrieve()
+                .body(Map.class)));
+    }
+
+    /**
+     * 배치 스코어링 (ScoringDispatcher 전용, 결과는 요청 순서와 동일)
+     * - 배치 1건이 동시 호출 슬롯 1개를 사용한다.
+     */
+    public List<ScoringResult> scoreBatch(List<ScoringRequest> requests) {
+        List<Map<String, Object>> items = new ArrayList<>(requests.size());
+        for (ScoringRequest request : requests) {
+            items.add(request.toPayload());
+        }
+        return call(() -> parseBatch(scoringRestClient.post()
+                .uri(properties.getBatchPredictPath())
+                .body(Map.of("items", items))
+                .retrieve()
+                .body(Map.class), requests.size()));
+    }
+
+    private <T> T call(Supplier<T> invocation) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitOpenRejects.increment();
+            throw new ScoringUnavailableException("스코어링 서킷 오픈 상태");
+        }
+        if (!acquireSlot()) {
+            bulkheadRejects.increment();
+            // 서킷 시험 호출이었다면 서버를 호출하지 않았으므로 실패로 기록하지 않고 권한만 반납 (다음 호출이 바로 시험)
+            circuitBreaker.releasePermission();
+            throw new ScoringUnavailableException("스코어링 동시 호출 한도 초과");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = invocation.get();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (Exception e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            circuitBreaker.onFailure();
+            if (e instanceof ScoringUnavailableException sue) {
+                throw sue;
+            }
+            throw new ScoringUnavailableException("스코어링 호출 실패: " + e.getMessage(), e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public ScoringCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private boolean acquireSlot() {
+        try {
+            return bulkhead.tryAcquire(properties.getBulkheadWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ScoringResult parse(Map<?, ?> response) {
+        if (response == null || !"success".equals(response.get("status"))) {
+            throw new ScoringUnavailableException("스코어링 서버 응답 오류: " + response);
+        }
+        return parseItem(response);
+    }
+
+    private List<ScoringResult> parseBatch(Map<?, ?> response, int expectedSize) {
+        if (response == null || !"success".equals(response.get("status"))) {
+            throw new ScoringUnavailableException("배치 스코어링 응답 오류: " + response);
+        }
+        if (!(response.get("results") instanceof List<?> rows) || rows.size() != expectedSize) {
+            throw new ScoringUnavailableException("배치 스코어링 결과 건수 불일치 (요청 " + expectedSize + "건)");
+        }
+        List<ScoringResult> results = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            if (!(row instanceof Map<?, ?> item)) {
+                throw new ScoringUnavailableException("배치 스코어링 결과 형식 오류: " + row);
+            }
+            results.add(parseItem(item));
+        }
+        return results;
+    }
+
+    private ScoringResult parseItem(Map<?, ?> response) {
+        Object probability = response.get("probability");
+        Object engine = response.get("engine");
+        if (probability == null) {
+            throw new ScoringUnavailableException("스코어링 응답에 probability 없음");
+        }
+        return new ScoringResult(Double.parseDouble(probability.toString()),
+                engine != null ? engine.toString() : "UNKNOWN_ENGINE");
+    }
+
+    private static Timer scoringTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("fds.scoring.latency")
+                .tag("outcome", outcome)
+                .description("AI 스코어링 호출 지연 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package kdt.fds.common.service;
+
+import kdt.fds.common.dto.ScoringRequest;
+import kdt.fds.common.dto.ScoringResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 사기 확률 산출 엔진
+ * - remote: Flask 스코어링 서버 호출 (RemoteScoringEngine)
+ * - native: JVM 내부에서 내보낸 모델(JSON)로 직접 계산 (NativeScoringEngine)
+ * - fds.scoring.engine 설정으로 선택하며, 사용 불가 시 ScoringUnavailableException 을 던진다.
+ */
+public interface FraudScoringEngine {
+
+    /** 엔진 구분명 (로그/지표용) */
+    String name();
+
+    ScoringResult score(ScoringRequest request);
+
+    /** 배치 스코어링 (결과는 요청 순서와 동일) */
+    default List<ScoringResult> scoreBatch(List<ScoringRequest> requests) {
+        List<ScoringResult> results = new ArrayList<>(requests.size());
+        for (ScoringRequest request : requests) {
+            results.add(score(request));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,97 @@
+package kdt.fds.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kdt.fds.common.config.ScoringClientProperties;
+import kdt.fds.common.dto.ScoringRequest;
+import kdt.fds.common.dto.ScoringResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JVM 내부 스코어링 엔진 (Flask 왕복 없이 마이크로초 단위 판정)
+ * - fds_fraudengine/app/export_native_models.py 로 내보낸 JSON 모델을 기동 시 적재한다.
+ * - 특징 벡터는 app.py 와 동일한 규칙으로 구성한다 (엔진 A: 카드, 엔진 B: 송금).
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "fds.scoring.engine", havingValue = "native")
+public class NativeScoringEngine implements FraudScoringEngine {
+
+    // 두 모델이 공유하는 표준 특징 슬롯 (app.py 의 DataFrame 컬럼명과 동일)
+    static final List<String> FEATURE_SLOTS = List.of(
+            "step", "amount", "oldbalanceOrg", "newbalanceOrig", "oldbalanceDest",
+            "newbalanceDest", "errorBalanceOrig", "errorBalanceDest", "type_CASH_IN",
+            "type_CASH_OUT", "type_DEBIT", "type_PAYMENT", "type_TRANSFER", "type_CARD");
+
+    private static final int STEP = 0;
+    private static final int AMOUNT = 1;
+    private static final int OLD_BALANCE_ORG = 2;
+    private static final int NEW_BALANCE_ORIG = 3;
+    private static final int TYPE_TRANSFER = 12;
+    private static final int TYPE_CARD = 13;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final NativeTreeModel cardModel;
+    private final NativeTreeModel transferModel;
+
+    public NativeScoringEngine(ScoringClientProperties properties, ResourceLoader resourceLoader) {
+        ScoringClientProperties.NativeModel config = properties.getNativeModel();
+        this.cardModel = load(resourceLoader.getResource(config.getCardPath()));
+        this.transferModel = load(resourceLoader.getResource(config.getTransferPath()));
+        log.info("✅ 내부 스코어링 엔진 적재 완료 (카드: {}, 송금: {})", cardModel.name(), transferModel.name());
+    }
+
+    @Override
+    public String name() {
+        return "native";
+    }
+
+    @Override
+    public ScoringResult score(ScoringRequest request) {
+        boolean card = "CARD".equals(request.txType());
+        // 호출 스레드가 가상 스레드(비동기 워커, 대량 송금)라 스레드별 버퍼는 재사용되지 않으므로 호출마다 작은 배열을 만든다
+        double[] x = new double[FEATURE_SLOTS.size()];
+        fill(x, request, card);
+
+        NativeTreeModel model = card ? cardModel : transferModel;
+        return new ScoringResult(model.predict(x), model.name());
+    }
+
+    /**
+     * app.py 의 입력 행 구성과 동일하게 특징 벡터를 채운다
+     */
+    static void fill(double[] x, ScoringRequest request, boolean card) {
+        Arrays.fill(x, 0.0);
+        double amount = request.amount() != null ? request.amount() : 0L;
+        double oldBalance = request.oldBalance();
+
+        x[AMOUNT] = amount;
+        x[OLD_BALANCE_ORG] = oldBalance;
+        if (card) {
+            x[TYPE_CARD] = 1.0;
+        } else {
+            x[STEP] = 1.0;
+            x[NEW_BALANCE_ORIG] = oldBalance - amount;
+            x[TYPE_TRANSFER] = 1.0;
+        }
+    }
+
+    private NativeTreeModel load(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode root = MAPPER.readTree(in);
+            return NativeTreeModel.fromJson(root, FEATURE_SLOTS);
+        } catch (IOException e) {
+            throw new IllegalStateException("내부 스코어링 모델을 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package kdt.fds.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내보낸 AI 모델(JSON)을 원시 배열로 펼쳐 둔 JVM 내부 모델
+ * - tree_ensemble: 노드별 feature/threshold/left/right/leaf_value 배열을 따라 내려가 리프 값을 합산한다.
+ * - linear: 계수와 특징값의 내적 + 절편
+ * - link 가 logistic 이면 sigmoid 를 적용해 확률로 변환한다.
+ * - 로드 시점에 모델 특징 순서를 엔진의 표준 특징 슬롯 번호로 바꿔 두므로, 계산 중에는 문자열 비교나 할당이 없다.
+ * - XGBoost 트리(float32_split)는 XGBoost 와 같이 특징값/임계값을 float32 로 바꿔 비교한다. (double 비교 시 경계값에서 분기가 달라짐)
+ */
+final class NativeTreeModel {
+
+    private final String name;
+    private final boolean logistic;
+    private final double baseMargin;
+
+    // tree_ensemble
+    private final int[][] features;
+    private final double[][] thresholds;
+    private final boolean[] inclusive;
+    private final boolean[] float32Split;
+    private final int[][] lefts;
+    private final int[][] rights;
+    private final double[][] leafValues;
+
+    // linear
+    private final int[] linearSlots;
+    private final double[] coefficients;
+
+    private NativeTreeModel(String name, boolean logistic, double baseMargin,
+                            int[][] features, double[][] thresholds, boolean[] inclusive, boolean[] float32Split,
+                            int[][] lefts, int[][] rights, double[][] leafValues,
+                            int[] linearSlots, double[] coefficients) {
+        this.name = name;
+        this.logistic = logistic;
+        this.baseMargin = baseMargin;
+        this.features = features;
+        this.thresholds = thresholds;
+        this.inclusive = inclusive;
+        this.float32Split = float32Split;
+        this.lefts = lefts;
+        this.rights = rights;
+        this.leafValues = leafValues;
+        this.linearSlots = linearSlots;
+        this.coefficients = coefficients;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * 표준 특징 벡터로 확률 계산 (호출당 객체 할당 없음)
+     */
+    double predict(double[] x) {
+        double margin = baseMargin;
+
+        if (linearSlots != null) {
+            for (int i = 0; i < linearSlots.length; i++) {
+                margin += coefficients[i] * x[linearSlots[i]];
+            }
+        } else {
+            for (int t = 0; t < features.length; t++) {
+                int[] feature = features[t];
+                double[] threshold = thresholds[t];
+                int[] left = lefts[t];
+                int[] right = rights[t];
+                boolean le = inclusive[t];
+                boolean f32 = float32Split[t];
+
+                int node = 0;
+                while (feature[node] >= 0) {
+                    double v = f32 ? (float) x[feature[node]] : x[feature[node]];
+                    boolean goLeft = le ? v <= threshold[node] : v < threshold[node];
+                    node = goLeft ? left[node] : right[node];
+                }
+                margin += leafValues[t][node];
+            }
+        }
+
+        return logistic ? 1.0 / (1.0 + Math.exp(-margin)) : margin;
+    }
+
+    /**
+     * JSON 모델을 읽어 표준 특징 슬롯(slotNames) 기준으로 컴파일
+     */
+    static NativeTreeModel fromJson(JsonNode root, List<String> slotNames) {
+        String name = root.path("name").asText("NATIVE_MODEL");
+        String type = root.path("type").asText("tree_ensemble");
+        boolean logistic = "logistic".equals(root.path("link").asText("logistic"));
+
+        List<String> modelFeatures = new ArrayList<>();
+        root.path("features").forEach(f -> modelFeatures.add(f.asText()));
+        int[] slotOf = new int[modelFeatures.size()];
+        for (int i = 0; i < modelFeatures.size(); i++) {
+            slotOf[i] = slotNames.indexOf(modelFeatures.get(i));
+            if (slotOf[i] < 0) {
+                throw new IllegalStateException(name + " 모델 특징 '" + modelFeatures.get(i) + "' 을(를) 지원하지 않습니다. 지원: " + slotNames);
+            }
+        }
+
+        if ("linear".equals(type)) {
+            JsonNode coef = root.path("coefficients");
+            if (coef.size() != slotOf.length) {
+                throw new IllegalStateException(name + " 계수 개수와 특징 개수가 다릅니다.");
+            }
+            double[] coefficients = new double[coef.size()];
+            for (int i = 0; i < coefficients.length; i++) {
+                coefficients[i] = coef.get(i).asDouble();
+            }
+            return new NativeTreeModel(name, logistic, root.path("intercept").asDouble(0.0),
+                    null, null, null, null, null, null, null, slotOf, coefficients);
+        }
+
+        if (!"tree_ensemble".equals(type)) {
+            throw new IllegalStateException(name + " 지원하지 않는 모델 형식: " + type);
+        }
+
+        JsonNode trees = root.path("trees");
+        int count = trees.size();
+        int[][] features = new int[count][];
+        double[][] thresholds = new double[count][];
+        boolean[] inclusive = new boolean[count];
+        boolean[] float32Split = new boolean[count];
+        int[][] lefts = new int[count][];
+        int[][] rights = new int[count][];
+        double[][] leafValues = new double[count][];
+
+        for (int t = 0; t < count; t++) {
+            JsonNode tree = trees.get(t);
+            int[] rawFeature = toIntArray(tree.path("feature"));
+            // 모델 특징 번호 -> 표준 슬롯 번호 (리프는 -1 유지)
+            for (int n = 0; n < rawFeature.length; n++) {
+                if (rawFeature[n] >= 0) {
+                    rawFeature[n] = slotOf[rawFeature[n]];
+                }
+            }
+            features[t] = rawFeature;
+            thresholds[t] = toDoubleArray(tree.path("threshold"));
+            inclusive[t] = tree.path("inclusive").asBoolean(true);
+            // 키가 없는 이전 내보내기 파일은 XGBoost(inclusive=false) 트리를 float32 비교로 본다
+            float32Split[t] = tree.path("float32_split").asBoolean(!inclusive[t]);
+            if (float32Split[t]) {
+                double[] threshold = thresholds[t];
+                for (int n = 0; n < threshold.length; n++) {
+                    threshold[n] = (float) threshold[n];
+                }
+            }
+            lefts[t] = toIntArray(tree.path("left"));
+            rights[t] = toIntArray(tree.path("right"));
+            leafValues[t] = toDoubleArray(tree.path("leaf_value"));
+
+            int size = rawFeature.length;
+            if (thresholds[t].length != size || lefts[t].length != size
+                    || rights[t].length != size || leafValues[t].length != size) {
+                throw new IllegalStateException(name + " " + t + "번 트리의 배열 길이가 일치하지 않습니다.");
+            }
+        }
+
+        return new NativeTreeModel(name, logistic, root.path("base_margin").asDouble(0.0),
+                features, thresholds, inclusive, float32Split, lefts, rights, leafValues, null, null);
+    }
+
+    private static int[] toIntArray(JsonNode node) {
+        int[] values = new int[node.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = node.get(i).asInt();
+        }
+        return values;
+    }
+
+    private static double[] toDoubleArray(JsonNode node) {
+        double[] values = new double[node.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = node.get(i).asDouble();
+        }
+        return values;
+    }
+}
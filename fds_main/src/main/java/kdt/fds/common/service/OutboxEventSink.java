@@ -0,0 +1,18 @@
+package kdt.fds.common.service;
+
+import kdt.fds.common.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 전달 대상
+ * - OutboxRelay 가 묶음마다 모든 sink 에 전달한 뒤 이벤트를 전달 완료로 표시한다.
+ * - 예외를 던지면 묶음이 대기 상태로 남아 다음 주기에 다시 전달된다. (at-least-once, 이벤트 ID 로 중복 제거)
+ */
+public interface OutboxEventSink {
+
+    /** 로그/오류 메시지용 이름 */
+    String name();
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
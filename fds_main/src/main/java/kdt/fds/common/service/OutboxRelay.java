@@ -0,0 +1,96 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kdt.fds.common.config.OutboxProperties;
+import kdt.fds.common.entity.OutboxEvent;
+import kdt.fds.common.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * FDS_OUTBOX 중계
+ * - 전달 대기(PENDING = 1) 이벤트를 FOR UPDATE SKIP LOCKED 로 잠가 묶음으로 읽고, 모든 sink 에 전달한 뒤 완료로 표시한다.
+ * - 행 단위 표시라 커밋 순서와 무관하다. (ID 는 인스턴스별로 미리 할당되므로 작은 ID 가 늦게 커밋될 수 있음)
+ * - 여러 인스턴스가 떠 있으면 서로 다른 행을 나눠 전달한다.
+ * - 전달 실패 시 묶음 전체를 롤백해 대기 상태로 두고 다음 주기에 재시도한다. (앞서 성공한 sink 는 중복 수신, 이벤트 ID 로 제거)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository eventRepository;
+    private final List<OutboxEventSink> sinks;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventRepository eventRepository,
+                       List<OutboxEventSink> sinks,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.sinks = sinks;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayedCounter = Counter.builder("fds.outbox.relayed")
+                .description("sink 로 전달된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("fds.outbox.failed")
+                .description("아웃박스 전달 실패 횟수 (묶음 단위)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${fds.outbox.poll-interval-ms:500}",
+            initialDelayString = "${fds.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            // 한 주기에 밀린 만큼 이어서 전달 (묶음이 가득 차지 않으면 종료)
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed >= properties.getBatchSize());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("⚠️ 아웃박스 전달 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 이벤트 1묶음을 모든 sink 에 전달
+     * @return 전달 건수
+     */
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = new ArrayList<>(
+                    eventRepository.lockPendingBatch(Math.max(1, properties.getBatchSize())));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            events.sort(Comparator.comparing(OutboxEvent::getId));
+
+            for (OutboxEventSink sink : sinks) {
+                try {
+                    sink.publish(events);
+                } catch (Exception e) {
+                    throw new IllegalStateException("[" + sink.name() + "] " + e.getMessage(), e);
+                }
+            }
+            eventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+            return events.size();
+        });
+        int count = relayed != null ? relayed : 0;
+        relayedCounter.increment(count);
+        return count;
+    }
+}
@@ -0,0 +1,48 @@
+package kdt.fds.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kdt.fds.common.entity.OutboxEvent;
+import kdt.fds.common.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 아웃박스 기록 (호출 측 트랜잭션 안에서만, 업무 데이터와 함께 커밋/롤백)
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String AGGREGATE_TRANSACTION = "TRANSACTION";
+    public static final String AGGREGATE_ACCOUNT = "ACCOUNT";
+    public static final String AGGREGATE_BLACKLIST = "BLACKLIST";
+
+    // payload 직렬화용 (스레드 안전, 재사용)
+    private static final ObjectWriter PAYLOAD_WRITER = new ObjectMapper().writer();
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, String aggregateType, Object aggregateId, Map<String, ?> payload) {
+        String json;
+        try {
+            json = PAYLOAD_WRITER.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .payload(json)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
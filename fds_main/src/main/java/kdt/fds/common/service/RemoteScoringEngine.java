@@ -0,0 +1,37 @@
+package kdt.fds.common.service;
+
+import kdt.fds.common.dto.ScoringRequest;
+import kdt.fds.common.dto.ScoringResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Flask 스코어링 서버를 호출하는 엔진 (기본값)
+ * - 단건은 ScoringDispatcher(마이크로 배치), 배치는 FraudScoringClient 를 통해 바로 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fds.scoring.engine", havingValue = "remote", matchIfMissing = true)
+public class RemoteScoringEngine implements FraudScoringEngine {
+
+    private final ScoringDispatcher scoringDispatcher;
+    private final FraudScoringClient scoringClient;
+
+    @Override
+    public String name() {
+        return "remote";
+    }
+
+    @Override
+    public ScoringResult score(ScoringRequest request) {
+        return scoringDispatcher.score(request);
+    }
+
+    @Override
+    public List<ScoringResult> scoreBatch(List<ScoringRequest> requests) {
+        return scoringClient.scoreBatch(requests);
+    }
+}
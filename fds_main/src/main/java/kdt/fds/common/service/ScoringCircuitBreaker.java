@@ -0,0 +1,68 @@
+package kdt.fds.common.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스코어링 서버 호출용 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 기준치에 도달하면 OPEN
+ * - OPEN: 호출 차단, 유지 시간이 지나면 HALF_OPEN 으로 시험 호출 1건 허용
+ * - HALF_OPEN: 시험 호출 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+public class ScoringCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openStateMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public ScoringCircuitBreaker(int failureThreshold, long openStateMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openStateMillis = openStateMillis;
+    }
+
+    /** 이번 호출을 허용할지 판단 (OPEN 유지 시간이 지났으면 시험 호출 1건만 통과) */
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openStateMillis) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * 시험 호출 권한을 호출 없이 반납 (동시 호출 한도 초과 등 서버 상태와 무관한 사유)
+     * - OPEN 으로 되돌리되 오픈 시각은 그대로 두어, 다음 호출이 바로 시험 호출을 가져간다.
+     */
+    public void releasePermission() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        consecutiveFailures.set(0);
+        state.set(State.OPEN);
+    }
+}
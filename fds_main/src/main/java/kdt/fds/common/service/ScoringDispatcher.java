@@ -0,0 +1,188 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kdt.fds.common.config.ScoringClientProperties;
+import kdt.fds.common.dto.ScoringRequest;
+import kdt.fds.common.dto.ScoringResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 스코어링 마이크로 배치 디스패처
+ * - 동시에 들어온 탐지 요청을 최대 N건 또는 T ms 동안 모아 /api/predict/batch 로 한 번에 보낸다.
+ * - 결과 확률은 요청 순서대로 대기 중인 호출자에게 돌려준다.
+ * - fds.scoring.batch.enabled=false 이면 기존처럼 건별 호출한다.
+ */
+@Slf4j
+@Service
+public class ScoringDispatcher {
+
+    private final FraudScoringClient scoringClient;
+    private final ScoringClientProperties properties;
+
+    private final BlockingQueue<PendingScore> queue;
+    private final DistributionSummary batchSizeSummary;
+
+    // 배치 전송은 가상 스레드에서 수행 (수집 스레드는 다음 배치를 계속 모은다)
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private Thread collector;
+    private volatile boolean running;
+
+    public ScoringDispatcher(FraudScoringClient scoringClient,
+                             ScoringClientProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.scoringClient = scoringClient;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getBatch().getQueueCapacity()));
+        this.batchSizeSummary = DistributionSummary.builder("fds.scoring.batch.size")
+                .description("스코어링 배치 1건에 담긴 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("fds.scoring.batch.queue", queue, BlockingQueue::size)
+                .description("배치 전송 대기 중인 스코어링 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.getBatch().isEnabled()) {
+            return;
+        }
+        running = true;
+        collector = Thread.ofPlatform().daemon().name("fds-scoring-dispatcher").start(this::collectLoop);
+        log.info("✅ 스코어링 마이크로 배치 활성화 (maxSize={}, maxWaitMs={})",
+                properties.getBatch().getMaxSize(), properties.getBatch().getMaxWaitMs());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (collector != null) {
+            collector.interrupt();
+        }
+        senders.shutdown();
+        // 남은 요청은 호출자가 폴백할 수 있도록 실패 처리
+        PendingScore pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new ScoringUnavailableException("스코어링 디스패처 종료"));
+        }
+    }
+
+    /**
+     * 스코어링 요청 (배치 모드면 다른 요청과 묶여 전송되고 결과가 올 때까지 대기)
+     */
+    public ScoringResult score(ScoringRequest request) {
+        if (!running) {
+            return scoringClient.score(request);
+        }
+
+        CompletableFuture<ScoringResult> future = new CompletableFuture<>();
+        if (!queue.offer(new PendingScore(request, future))) {
+            throw new ScoringUnavailableException("스코어링 배치 대기열 초과");
+        }
+
+        // 배치 대기 + 호출 마감 시간 이후에는 기다리지 않는다
+        long deadlineMs = properties.getBatch().getMaxWaitMs() + properties.getReadTimeoutMs()
+                + properties.getBulkheadWaitMs();
+        try {
+            return future.get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ScoringUnavailableException("스코어링 배치 응답 시간 초과");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ScoringUnavailableException sue) {
+                throw sue;
+            }
+            throw new ScoringUnavailableException("스코어링 배치 실패: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScoringUnavailableException("스코어링 대기 중 인터럽트", e);
+        }
+    }
+
+    private void collectLoop() {
+        int maxSize = Math.max(1, properties.getBatch().getMaxSize());
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getBatch().getMaxWaitMs());
+
+        while (running) {
+            try {
+                PendingScore first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingScore> batch = new ArrayList<>(maxSize);
+                batch.add(first);
+
+                // 첫 요청 이후 maxWait 안에 들어오는 요청을 maxSize 까지 모은다
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxSize) {
+                    if (queue.drainTo(batch, maxSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingScore next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                senders.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("스코어링 디스패처 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void send(List<PendingScore> batch) {
+        // 대기 시간 초과로 이미 포기한 호출자는 제외
+        List<PendingScore> live = new ArrayList<>(batch.size());
+        for (PendingScore pending : batch) {
+            if (!pending.future().isDone()) {
+                live.add(pending);
+            }
+        }
+        if (live.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(live.size());
+
+        List<ScoringRequest> requests = new ArrayList<>(live.size());
+        for (PendingScore pending : live) {
+            requests.add(pending.request());
+        }
+
+        try {
+            List<ScoringResult> results = scoringClient.scoreBatch(requests);
+            for (int i = 0; i < live.size(); i++) {
+                live.get(i).future().complete(results.get(i));
+            }
+        } catch (Exception e) {
+            for (PendingScore pending : live) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record PendingScore(ScoringRequest request, CompletableFuture<ScoringResult> future) {}
+}
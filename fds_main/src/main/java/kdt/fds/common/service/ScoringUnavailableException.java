@@ -0,0 +1,16 @@
+package kdt.fds.common.service;
+
+/**
+ * AI 스코어링 서버를 사용할 수 없을 때 발생 (서킷 오픈, 동시 호출 한도 초과, 타임아웃, 응답 오류)
+ * - DetectionService 는 이 예외를 받으면 룰 기반 판정으로 대체한다.
+ */
+public class ScoringUnavailableException extends RuntimeException {
+
+    public ScoringUnavailableException(String message) {
+        super(message);
+    }
+
+    public ScoringUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
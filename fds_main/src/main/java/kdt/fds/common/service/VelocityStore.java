@@ -0,0 +1,246 @@
+package kdt.fds.common.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kdt.fds.common.vo.VelocitySnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계좌별 거래 빈도(velocity) 메모리 저장소
+ * - 계좌마다 분 버킷 60개 + 시간 버킷 24개 링 버퍼를 두고, 커밋된 거래를 누적한다.
+ * - 조회 비용은 거래 건수와 무관하게 고정 (버킷 최대 84개 합산)
+ * - 잠금은 계좌번호 해시 기준 스트라이프 락으로 나눠 경합을 줄인다.
+ * - 기동 시 최근 24시간 거래로 다시 채운다.
+ * - 거래 시각(LocalDateTime)은 LocalDateTime.now() 와 JDBC TIMESTAMP 변환이 쓰는 JVM 기본 시간대로 epoch 로 바꾼다.
+ *   (조회 기준인 System.currentTimeMillis() 와 같은 축이어야 창이 어긋나지 않음)
+ */
+@Slf4j
+@Component
+public class VelocityStore {
+
+    private static final int STRIPES = 64;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<String, AccountWindow> windows = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+
+    public VelocityStore(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        Gauge.builder("fds.velocity.accounts", windows, ConcurrentHashMap::size)
+                .description("빈도 집계 중인 계좌 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 거래 1건 누적 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void recordAfterCommit(String accountNumber, Long amount, LocalDateTime occurredAt) {
+        if (accountNumber == null || amount == null) {
+            return;
+        }
+        long epochMillis = toEpochMillis(occurredAt != null ? occurredAt : LocalDateTime.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(accountNumber, amount, epochMillis);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(accountNumber, amount, epochMillis);
+            }
+        });
+    }
+
+    public void record(String accountNumber, long amount, long epochMillis) {
+        synchronized (lockFor(accountNumber)) {
+            windows.computeIfAbsent(accountNumber, k -> new AccountWindow()).add(amount, epochMillis);
+        }
+    }
+
+    /**
+     * 현재 시각 기준 계좌 빈도 조회 (대상 거래 자신은 포함되지 않음)
+     */
+    public VelocitySnapshot snapshot(String accountNumber) {
+        return snapshot(accountNumber, System.currentTimeMillis());
+    }
+
+    public VelocitySnapshot snapshot(String accountNumber, long nowMillis) {
+        if (accountNumber == null) {
+            return VelocitySnapshot.EMPTY;
+        }
+        AccountWindow window = windows.get(accountNumber);
+        if (window == null) {
+            return VelocitySnapshot.EMPTY;
+        }
+        synchronized (lockFor(accountNumber)) {
+            return window.read(nowMillis);
+        }
+    }
+
+    /**
+     * 기동 시 최근 24시간 계좌 출금 거래로 버킷 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusHours(24);
+        MapSqlParameterSource params = new MapSqlParameterSource("since", Timestamp.valueOf(since));
+        int[] loaded = {0};
+        try {
+            jdbcTemplate.query("""
+                    SELECT SOURCE_VALUE, TX_AMOUNT, CREATED_AT
+                    FROM TRANSACTIONS
+                    WHERE CREATED_AT >= :since
+                      AND SOURCE_VALUE IS NOT NULL
+                    """, params, rs -> {
+                Timestamp createdAt = rs.getTimestamp("CREATED_AT");
+                if (createdAt != null) {
+                    record(rs.getString("SOURCE_VALUE"), rs.getLong("TX_AMOUNT"),
+                            toEpochMillis(createdAt.toLocalDateTime()));
+                    loaded[0]++;
+                }
+            });
+            // 카드 결제는 TRANSACTIONS(CARD) 로도 기록되므로 탐지 도입 이전 내역(TX_ID 없음)만 추가
+            jdbcTemplate.query("""
+                    SELECT a.ACCOUNT_NUMBER, ct.AMOUNT, ct.APPROVED_AT
+                    FROM CARD_TRANSACTIONS ct
+                    JOIN CARDS c ON c.CARD_ID = ct.CARD_ID
+                    JOIN ACCOUNTS a ON a.ACCOUNT_ID = c.ACCOUNT_ID
+                    WHERE ct.APPROVED_AT >= :since
+                      AND ct.STATUS = 'SUCCESS'
+                      AND ct.TX_ID IS NULL
+                    """, params, rs -> {
+                Timestamp approvedAt = rs.getTimestamp("APPROVED_AT");
+                if (approvedAt != null) {
+                    record(rs.getString("ACCOUNT_NUMBER"), rs.getLong("AMOUNT"),
+                            toEpochMillis(approvedAt.toLocalDateTime()));
+                    loaded[0]++;
+                }
+            });
+            log.info("✅ 거래 빈도 저장소 재구성: {}건 / 계좌 {}개", loaded[0], windows.size());
+        } catch (Exception e) {
+            log.warn("⚠️ 거래 빈도 저장소 재구성 실패 (빈 상태로 시작): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 24시간 이상 거래가 없는 계좌 정리 (메모리 회수)
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictIdle() {
+        long cutoffHour = System.currentTimeMillis() / 3_600_000L - 24;
+        windows.forEach((accountNumber, window) -> {
+            synchronized (lockFor(accountNumber)) {
+                if (window.lastHour <= cutoffHour) {
+                    windows.remove(accountNumber, window);
+                }
+            }
+        });
+    }
+
+    private Object lockFor(String accountNumber) {
+        return locks[(accountNumber.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 계좌 1개의 링 버퍼 (분 버킷 60개 + 시간 버킷 24개), 스트라이프 락 안에서만 접근
+     */
+    private static final class AccountWindow {
+        private final long[] minuteStamp = new long[60];
+        private final int[] minuteCount = new int[60];
+        private final long[] minuteAmount = new long[60];
+
+        private final long[] hourStamp = new long[24];
+        private final int[] hourCount = new int[24];
+        private final long[] hourAmount = new long[24];
+
+        private long lastHour;
+
+        AccountWindow() {
+            Arrays.fill(minuteStamp, -1L);
+            Arrays.fill(hourStamp, -1L);
+        }
+
+        void add(long amount, long epochMillis) {
+            long minute = epochMillis / 60_000L;
+            int m = (int) (minute % 60);
+            // 같은 슬롯에 더 최근 분이 있으면 버퍼 범위 밖의 오래된 거래이므로 분 버킷은 건너뛴다
+            if (minuteStamp[m] <= minute) {
+                if (minuteStamp[m] != minute) {
+                    minuteStamp[m] = minute;
+                    minuteCount[m] = 0;
+                    minuteAmount[m] = 0L;
+                }
+                minuteCount[m]++;
+                minuteAmount[m] += amount;
+            }
+
+            long hour = minute / 60;
+            int h = (int) (hour % 24);
+            if (hourStamp[h] <= hour) {
+                if (hourStamp[h] != hour) {
+                    hourStamp[h] = hour;
+                    hourCount[h] = 0;
+                    hourAmount[h] = 0L;
+                }
+                hourCount[h]++;
+                hourAmount[h] += amount;
+            }
+            lastHour = Math.max(lastHour, hour);
+        }
+
+        VelocitySnapshot read(long nowMillis) {
+            long nowMinute = nowMillis / 60_000L;
+            int c1 = 0, c10 = 0, c60 = 0;
+            long a1 = 0, a10 = 0, a60 = 0;
+            for (int back = 0; back < 60; back++) {
+                long minute = nowMinute - back;
+                int m = (int) (minute % 60);
+                if (minuteStamp[m] != minute) continue;
+                if (back == 0) {
+                    c1 += minuteCount[m];
+                    a1 += minuteAmount[m];
+                }
+                if (back < 10) {
+                    c10 += minuteCount[m];
+                    a10 += minuteAmount[m];
+                }
+                c60 += minuteCount[m];
+                a60 += minuteAmount[m];
+            }
+
+            long nowHour = nowMinute / 60;
+            int c24 = 0;
+            long a24 = 0;
+            for (int back = 0; back < 24; back++) {
+                long hour = nowHour - back;
+                int h = (int) (hour % 24);
+                if (hourStamp[h] != hour) continue;
+                c24 += hourCount[h];
+                a24 += hourAmount[h];
+            }
+            return new VelocitySnapshot(c1, a1, c10, a10, c60, a60, c24, a24);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package kdt.fds.common.vo;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * FDS_CONFIG 테이블의 불변 스냅샷
+ * - 핫패스(탐지/이체)에서는 이 객체만 읽고 DB는 조회하지 않는다.
+ * - 값이 바뀌면 새 스냅샷을 만들어 통째로 교체한다 (version 증가).
+ */
+public record FdsConfigSnapshot(
+        long version,
+        double threshold,
+        long autoLimit,
+        double autoApproveAmount,
+        Map<String, String> values,
+        LocalDateTime loadedAt
+) {
+    public static final String KEY_THRESHOLD = "THRESHOLD";
+    public static final String KEY_AUTO_LIMIT = "AUTO_LIMIT";
+    public static final String KEY_AUTO_APPROVE_AMOUNT = "AUTO_APPROVE_AMOUNT";
+
+    // 기존 코드의 orElse(...) 기본값과 동일하게 유지
+    public static final double DEFAULT_THRESHOLD = 0.7;
+    public static final long DEFAULT_AUTO_LIMIT = 100000L;
+    public static final double DEFAULT_AUTO_APPROVE_AMOUNT = 100000.0;
+
+    public FdsConfigSnapshot {
+        values = Map.copyOf(values);
+    }
+
+    /** 원본 문자열 값 조회 (타입이 정해지지 않은 기타 설정용) */
+    public String value(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+}
@@ -0,0 +1,20 @@
+package kdt.fds.common.vo;
+
+/**
+ * 계좌별 최근 거래 빈도/금액 (VelocityStore 조회 결과)
+ * - 규칙 조건은 VelocityWindow 로 필드를 읽는다.
+ * - 분 단위 버킷 기준: 1분 = 현재 분, 10분/1시간 = 현재 분 포함 최근 N분, 24시간 = 현재 시 포함 최근 24시간 버킷
+ */
+public record VelocitySnapshot(
+        int count1m,
+        long amount1m,
+        int count10m,
+        long amount10m,
+        int count1h,
+        long amount1h,
+        int count24h,
+        long amount24h
+) {
+    public static final VelocitySnapshot EMPTY = new VelocitySnapshot(0, 0L, 0, 0L, 0, 0L, 0, 0L);
+
+}
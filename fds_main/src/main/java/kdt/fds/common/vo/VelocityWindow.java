@@ -0,0 +1,56 @@
+package kdt.fds.common.vo;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 규칙 빈도 조건 창(window)
+ * - 규칙 컴파일 시점에 코드(1M, 10M, 1H, 24H)를 한 번만 해석하고, 평가 중에는 스냅샷 필드를 바로 읽는다.
+ */
+public enum VelocityWindow {
+    ONE_MINUTE("1M", VelocitySnapshot::count1m, VelocitySnapshot::amount1m),
+    TEN_MINUTES("10M", VelocitySnapshot::count10m, VelocitySnapshot::amount10m),
+    ONE_HOUR("1H", VelocitySnapshot::count1h, VelocitySnapshot::amount1h),
+    ONE_DAY("24H", VelocitySnapshot::count24h, VelocitySnapshot::amount24h);
+
+    /** 요청 검증용 코드 패턴 (대소문자 무시) */
+    public static final String CODE_PATTERN = "(?i)1M|10M|1H|24H";
+
+    private final String code;
+    private final ToIntFunction<VelocitySnapshot> count;
+    private final ToLongFunction<VelocitySnapshot> amount;
+
+    VelocityWindow(String code, ToIntFunction<VelocitySnapshot> count, ToLongFunction<VelocitySnapshot> amount) {
+        this.code = code;
+        this.count = count;
+        this.amount = amount;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public int count(VelocitySnapshot snapshot) {
+        return count.applyAsInt(snapshot);
+    }
+
+    public long amount(VelocitySnapshot snapshot) {
+        return amount.applyAsLong(snapshot);
+    }
+
+    /**
+     * 코드로 창 조회 (null 이면 null, 지원하지 않는 코드면 예외)
+     */
+    public static VelocityWindow fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        String normalized = code.trim().toUpperCase();
+        for (VelocityWindow window : values()) {
+            if (window.code.equals(normalized)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 빈도 창입니다: " + code + " (1M, 10M, 1H, 24H)");
+    }
+}
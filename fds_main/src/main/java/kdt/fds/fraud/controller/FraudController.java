@@ -1,13 +1,11 @@
 package kdt.fds.fraud.controller;
 
 import kdt.fds.fraud.dto.FraudDetailDTO;
-import kdt.fds.account.entity.Account;
 import kdt.fds.fraud.entity.FraudDetectionResult;
 import kdt.fds.transaction.entity.Transaction;
-import kdt.fds.account.repository.AccountRepository;
 import kdt.fds.fraud.repository.FraudRepository;
 import kdt.fds.transaction.repository.TransactionRepository;
-import kdt.fds.transaction.service.TransactionService;
+import kdt.fds.admin.service.AdminService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,9 +20,8 @@ import java.util.List;
 public class FraudController {
 
     private final FraudRepository fraudRepository;
-    private final TransactionService transactionService;
     private final TransactionRepository transactionRepository;
-    private final AccountRepository accountRepository;
+    private final AdminService adminService;
 
     /**
      * [READ] 전체 탐지 이력 조회
@@ -51,21 +48,16 @@ public class FraudController {
                 .orElseGet(() -> fraudRepository.findById(id)
                         .orElseThrow(() -> new IllegalArgumentException("기록을 찾을 수 없습니다.")));
 
-        result.setIsFraud(isFraud);
-        fraudRepository.save(result);
-
         // 2. 정상(0)으로 판정 변경 시, 묶여있던 송금 실행
+        // [수정] 격리(HELD) 상태를 선점한 뒤 이체 (탐지 결과도 함께 갱신, 이미 처리된 거래면 예외)
         if (isFraud == 0) {
             Transaction tx = transactionRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("거래 정보가 없습니다. ID: " + id));
-
-            // [수정] findByAccountNum -> findByAccountNumber (통합된 메서드명)
-            Account sender = accountRepository.findByAccountNumber(tx.getSourceValue())
-                    .orElseThrow(() -> new RuntimeException("송금 계좌를 찾을 수 없습니다."));
-
-            // 서비스 로직 호출 (실제 잔액 이동)
-            transactionService.executeTransfer(tx, sender);
+            adminService.approveTransaction(tx.getTxId());
             log.info("✅ 관리자 승인에 따른 송금 실행 완료: TX_ID {}", id);
+        } else {
+            result.setIsFraud(isFraud);
+            fraudRepository.save(result);
         }
 
         return ResponseEntity.ok("SUCCESS");
@@ -1,6 +1,7 @@
 package kdt.fds.fraud.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import kdt.fds.common.service.FeatureVectorCodec;
 
 import java.time.LocalDateTime;
 
@@ -24,4 +25,20 @@ public record FraudDetailDTO(
 
         String vFeatures, // [추가] AI 판단 근거(JSON 문자열)
         LocalDateTime txTimestamp
-) {}
\ No newline at end of file
+) {
+    /**
+     * [추가] 피처 벡터(FEATURE_BYTES)를 화면용 JSON 문자열로 변환 (FraudRepository.findAllWithDetails)
+     * - 벡터가 없는 과거 행(이관 전/이관 불가)은 V_FEATURES 원문을 그대로 쓴다.
+     */
+    public FraudDetailDTO(Long id, Long txId, String userName, String userId, String sourceValue, String targetValue,
+                          Double txAmount, Double probability, Integer isFraud, String engine,
+                          byte[] featureBytes, String legacyFeatures, String location, LocalDateTime txTimestamp) {
+        this(id, txId, userName, userId, sourceValue, targetValue, txAmount, probability, isFraud, engine,
+                featuresJson(featureBytes, legacyFeatures, location), txTimestamp);
+    }
+
+    private static String featuresJson(byte[] featureBytes, String legacyFeatures, String location) {
+        String json = FeatureVectorCodec.toJson(featureBytes, location);
+        return json != null ? json : legacyFeatures;
+    }
+}
\ No newline at end of file
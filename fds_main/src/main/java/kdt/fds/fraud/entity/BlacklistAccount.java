@@ -10,8 +10,10 @@ import java.time.LocalDateTime;
 @Getter @Setter
 public class BlacklistAccount {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // [수정] IDENTITY 는 JDBC 배치를 막으므로 시퀀스로 전환 (db/oracle/pooled_sequences.sql, 배포 전 실행)
+    // [수정] IDENTITY 는 JDBC 배치를 막으므로 시퀀스로 전환 (db/oracle/pooled_sequences.sql)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_BLACKLIST_ACCOUNTS")
+    @SequenceGenerator(name = "SEQ_BLACKLIST_ACCOUNTS", sequenceName = "SEQ_BLACKLIST_ACCOUNTS", allocationSize = 50)
     @Column(name = "BLACKLIST_ID")
     private Long id;
 
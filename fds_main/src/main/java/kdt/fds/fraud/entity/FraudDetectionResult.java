@@ -17,7 +17,7 @@ public class FraudDetectionResult {
     @SequenceGenerator(
             name = "det_seq",
             sequenceName = "SEQ_DETECTION_ID", // FDS_ADMIN. 제거
-            allocationSize = 1
+            allocationSize = 50 // pooled-lo (db/oracle/pooled_sequences.sql 로 INCREMENT BY 50 맞춤)
     )
     @Column(name = "DETECTION_ID")
     private Long id;
@@ -40,6 +40,11 @@ public class FraudDetectionResult {
     @Column(name = "DETECTED_AT")
     private LocalDateTime detectedAt;
 
+    // [추가] 일별 롤업 반영 대기 표시 (1: 대기, NULL: 반영 완료). StatsRollupService 만 바꾸므로 엔티티 UPDATE 에서는 제외
+    @Builder.Default
+    @Column(name = "ROLLUP_PENDING", updatable = false)
+    private Integer rollupPending = 1;
+
     /**
      * 화면 출력용 (DB 컬럼 아님)
      * User 엔티티의 필드명이 'name'이므로 이에 맞춰 관리합니다.
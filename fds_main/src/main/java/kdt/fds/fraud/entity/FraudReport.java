@@ -11,7 +11,7 @@ public class FraudReport {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rep_seq_gen")
-    @SequenceGenerator(name = "rep_seq_gen", sequenceName = "SEQ_REPORT_ID", allocationSize = 1)
+    @SequenceGenerator(name = "rep_seq_gen", sequenceName = "SEQ_REPORT_ID", allocationSize = 50) // pooled-lo
     @Column(name = "REPORT_ID")
     private Long reportId;
 
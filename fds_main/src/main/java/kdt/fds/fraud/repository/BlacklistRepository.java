@@ -2,8 +2,10 @@ package kdt.fds.fraud.repository;
 
 import kdt.fds.fraud.entity.BlacklistAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +14,8 @@ public interface BlacklistRepository extends JpaRepository<BlacklistAccount, Lon
     // 특정 계좌번호가 블랙리스트에 이미 등록되어 있는지 확인하는 메서드
     Optional<BlacklistAccount> findByAccountNum(String accountNum);
     boolean existsByAccountNum(String accountNum);
+
+    // 메모리 인덱스(BlacklistIndex) 적재/대조용: 계좌번호만 조회
+    @Query("SELECT b.accountNum FROM BlacklistAccount b")
+    List<String> findAllAccountNums();
 }
\ No newline at end of file
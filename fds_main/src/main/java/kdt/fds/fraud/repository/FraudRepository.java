@@ -19,6 +19,8 @@ public interface FraudRepository extends JpaRepository<FraudDetectionResult, Lon
      * 1. DTO 경로를 통합된 패키지인 kdt.fds.fraud.dto.FraudDetailDTO로 수정
      * 2. User 엔티티 필드명: userName -> name
      * 3. Transaction 엔티티 필드명: targetValue -> targetAccountNumber, txAmount -> amount, txTimestamp -> createdAt
+     * 4. [수정] V_FEATURES(CLOB) 대신 FEATURE_BYTES 를 읽어 DTO 에서 JSON 으로 변환
+     *    (아직 이관되지 않았거나 이관 불가로 표시된 과거 행만 V_FEATURES 를 읽어 LOB 스트리밍을 최소화)
      */
     @Query("""
         SELECT new kdt.fds.fraud.dto.FraudDetailDTO(
@@ -32,7 +34,9 @@ public interface FraudRepository extends JpaRepository<FraudDetectionResult, Lon
             f.probability,
             f.isFraud,
             f.engine,
-            tf.vFeatures,
+            tf.featureBytes,
+            CASE WHEN tf.featureBytes IS NULL THEN tf.vFeatures END,
+            t.location,
             t.createdAt
         )
         FROM FraudDetectionResult f
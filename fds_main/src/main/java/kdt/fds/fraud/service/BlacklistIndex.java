@@ -0,0 +1,209 @@
+package kdt.fds.fraud.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kdt.fds.fraud.repository.BlacklistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 블랙리스트 메모리 인덱스 (블룸 필터 + 정확한 집합)
+ * - 송금마다 BLACKLIST_ACCOUNTS 를 조회하지 않고, 대부분인 "미등록" 판정을 메모리에서 끝낸다.
+ * - 관리자 등록/해제/거절 시 커밋 후 즉시 반영하고, 주기적으로 테이블과 대조해 재구성한다.
+ */
+@Slf4j
+@Component
+public class BlacklistIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final BlacklistRepository blacklistRepository;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    // 재구성 중 발생한 변경분 (재구성 완료 후 새 스냅샷에 다시 적용)
+    private final Object mutationLock = new Object();
+    private List<Mutation> pendingDuringRebuild;
+
+    private final Counter lookups;
+    private final Counter bloomNegatives;
+    private final Counter hits;
+    private final Counter falsePositives;
+
+    public BlacklistIndex(BlacklistRepository blacklistRepository, MeterRegistry meterRegistry) {
+        this.blacklistRepository = blacklistRepository;
+        this.lookups = Counter.builder("fds.blacklist.lookups")
+                .description("블랙리스트 조회 건수")
+                .register(meterRegistry);
+        this.bloomNegatives = Counter.builder("fds.blacklist.bloom.negative")
+                .description("블룸 필터에서 바로 미등록 판정된 건수 (DB/집합 미조회)")
+                .register(meterRegistry);
+        this.hits = Counter.builder("fds.blacklist.hits")
+                .description("블랙리스트 적중 건수")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("fds.blacklist.bloom.false_positive")
+                .description("블룸 필터 양성이었으나 미등록이었던 건수")
+                .register(meterRegistry);
+        Gauge.builder("fds.blacklist.size", this, index -> index.snapshot.accounts().size())
+                .description("인덱스에 적재된 블랙리스트 계좌 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            // 초기 적재 실패 시 빈 인덱스로 두면 차단이 누락되므로 기동을 중단한다
+            throw new IllegalStateException("블랙리스트 인덱스 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 블랙리스트 여부 (미등록 판정은 블룸 필터만으로 끝남)
+     */
+    public boolean contains(String accountNum) {
+        lookups.increment();
+        if (accountNum == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        if (!current.bloom().mightContain(accountNum)) {
+            bloomNegatives.increment();
+            return false;
+        }
+        if (current.accounts().contains(accountNum)) {
+            hits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /** 등록 반영 (트랜잭션 중이면 커밋 후) */
+    public void addAfterCommit(String accountNum) {
+        afterCommit(new Mutation(accountNum, true));
+    }
+
+    /** 해제 반영 (트랜잭션 중이면 커밋 후) */
+    public void removeAfterCommit(String accountNum) {
+        afterCommit(new Mutation(accountNum, false));
+    }
+
+    /**
+     * 테이블 전체와 대조해 인덱스를 새로 만든다 (해제된 계좌의 블룸 비트도 이때 정리)
+     */
+    @Scheduled(fixedDelayString = "${fds.blacklist.reconcile-interval-ms:300000}",
+            initialDelayString = "${fds.blacklist.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("⚠️ 블랙리스트 인덱스 대조 실패 (기존 인덱스 유지): {}", e.getMessage());
+        }
+    }
+
+    public void reconcile() {
+        synchronized (mutationLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<String> accountNums = blacklistRepository.findAllAccountNums();
+            Snapshot rebuilt = Snapshot.of(accountNums);
+
+            synchronized (mutationLock) {
+                for (Mutation mutation : pendingDuringRebuild) {
+                    rebuilt.apply(mutation);
+                }
+                Set<String> before = snapshot.accounts();
+                int drift = diffCount(before, rebuilt.accounts());
+                snapshot = rebuilt;
+                if (drift > 0) {
+                    log.info("🔄 블랙리스트 인덱스 재구성: {}건 (불일치 {}건 보정)", rebuilt.accounts().size(), drift);
+                }
+            }
+        } finally {
+            synchronized (mutationLock) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+
+    private void afterCommit(Mutation mutation) {
+        if (mutation.accountNum() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(mutation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(mutation);
+            }
+        });
+    }
+
+    private void apply(Mutation mutation) {
+        synchronized (mutationLock) {
+            snapshot.apply(mutation);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(mutation);
+            }
+        }
+    }
+
+    private static int diffCount(Set<String> before, Set<String> after) {
+        int drift = 0;
+        for (String account : after) {
+            if (!before.contains(account)) drift++;
+        }
+        for (String account : before) {
+            if (!after.contains(account)) drift++;
+        }
+        return drift;
+    }
+
+    private record Mutation(String accountNum, boolean add) {}
+
+    private record Snapshot(BlacklistBloomFilter bloom, Set<String> accounts) {
+
+        static Snapshot empty() {
+            return of(List.of());
+        }
+
+        static Snapshot of(List<String> accountNums) {
+            // 재구성 전까지 추가 등록을 받아도 오탐률이 유지되도록 여유 있게 잡는다
+            int capacity = Math.max(MIN_CAPACITY, accountNums.size() * 2);
+            BlacklistBloomFilter bloom = new BlacklistBloomFilter(capacity, FALSE_POSITIVE_RATE);
+            Set<String> accounts = ConcurrentHashMap.newKeySet(capacity);
+            for (String accountNum : new HashSet<>(accountNums)) {
+                bloom.put(accountNum);
+                accounts.add(accountNum);
+            }
+            return new Snapshot(bloom, accounts);
+        }
+
+        void apply(Mutation mutation) {
+            if (mutation.add()) {
+                bloom.put(mutation.accountNum());
+                accounts.add(mutation.accountNum());
+            } else {
+                accounts.remove(mutation.accountNum());
+            }
+        }
+    }
+}
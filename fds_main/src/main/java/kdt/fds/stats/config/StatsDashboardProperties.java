@@ -0,0 +1,40 @@
+package kdt.fds.stats.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 통계 대시보드 집계 설정 파일이다.
+ * 관리자 대시보드 섹션 집계 쿼리의 동시 실행 수와 제한 시간, 대시보드 결과 캐시 크기와 보관 시간을 지정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.stats.dashboard")
+public class StatsDashboardProperties {
+    /**
+     * 동시에 실행할 집계 쿼리 수이다.
+     * 쿼리마다 커넥션을 하나씩 쓰므로 커넥션 풀 크기보다 작게 둔다.
+     */
+    private int parallelism = 4;
+
+    /**
+     * 섹션 집계 제한 시간(ms)이다. 대시보드 요청 시작부터 잰다.
+     * 시간 안에 끝나지 않은 섹션은 빈 값으로 채우고 degradedSections 에 표시한다.
+     * 같은 값(초 단위 올림)이 쿼리 타임아웃으로도 적용된다.
+     */
+    private long sectionTimeoutMs = 10000;
+
+    /**
+     * 캐시에 보관할 대시보드 결과 수이다. 넘치면 가장 오래 조회되지 않은 결과부터 버린다.
+     */
+    private int cacheSize = 500;
+
+    /**
+     * 오늘을 포함한 기간의 결과를 보관할 시간(ms)이다.
+     * 오늘이 지난 기간은 코드북 변경이나 롤업 재계산 전까지 만료 없이 보관한다.
+     */
+    private long openRangeTtlMs = 30000;
+}
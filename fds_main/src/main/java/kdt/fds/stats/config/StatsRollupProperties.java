@@ -0,0 +1,49 @@
+package kdt.fds.stats.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 일별 롤업 갱신 설정 파일이다.
+ * 증분 반영 주기와 묶음 크기, 최근 일자 재계산 범위를 지정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.stats.rollup")
+public class StatsRollupProperties {
+    /**
+     * 롤업 갱신 작업 사용 여부이다.
+     * 끄면 반영 위치가 멈추므로 대시보드는 멈춘 날짜부터 원본 테이블을 읽는다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 증분 반영 주기(ms)이다.
+     */
+    private long intervalMs = 60000;
+
+    /**
+     * 한 번에 반영할 원본 행 수이다.
+     */
+    private int batchSize = 5000;
+
+    /**
+     * 한 주기에 처리할 최대 묶음 수이다.
+     * 초기 적재처럼 밀린 행이 많아도 스케줄러 스레드를 오래 붙잡지 않도록 나눠서 반영한다.
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 재계산할 최근 일수(오늘 제외)이다.
+     * 수동 판정 변경이나 삭제처럼 증분 반영이 놓치는 변경을 이 기간 안에서 바로잡는다.
+     */
+    private int recomputeDays = 7;
+
+    /**
+     * 최근 일자 재계산 일정(cron, Asia/Seoul)이다.
+     */
+    private String recomputeCron = "0 30 3 * * *";
+}
@@ -0,0 +1,59 @@
+package kdt.fds.stats.config;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import kdt.fds.stats.service.StatsRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 파일은 일별 롤업 스케줄러 파일이다.
+ * 주기적으로 새 거래/탐지 행을 롤업에 반영하고, 매일 새벽 최근 일자를 원본 기준으로 재계산한다.
+ */
+@Component
+public class StatsRollupScheduler {
+    private static final Logger log = LoggerFactory.getLogger(StatsRollupScheduler.class);
+    private static final ZoneId ROLLUP_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final StatsRollupService statsRollupService;
+    private final StatsRollupProperties properties;
+
+    public StatsRollupScheduler(StatsRollupService statsRollupService, StatsRollupProperties properties) {
+        this.statsRollupService = statsRollupService;
+        this.properties = properties;
+    }
+
+    /**
+     * 반영 대기 중인 거래/탐지 행을 롤업에 누적한다.
+     */
+    @Scheduled(fixedDelayString = "${fds.stats.rollup.interval-ms:60000}",
+            initialDelayString = "${fds.stats.rollup.interval-ms:60000}")
+    public void rollUpPending() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            statsRollupService.rollUpPending();
+        } catch (Exception ex) {
+            log.warn("Stats rollup failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 어제부터 recomputeDays 일 전까지의 롤업을 원본 기준으로 다시 계산한다.
+     */
+    @Scheduled(cron = "${fds.stats.rollup.recompute-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void recomputeRecentDays() {
+        if (!properties.isEnabled() || properties.getRecomputeDays() <= 0) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ROLLUP_ZONE);
+        try {
+            statsRollupService.recompute(today.minusDays(properties.getRecomputeDays()), today.minusDays(1));
+        } catch (Exception ex) {
+            log.warn("Stats rollup recompute failed: {}", ex.getMessage());
+        }
+    }
+}
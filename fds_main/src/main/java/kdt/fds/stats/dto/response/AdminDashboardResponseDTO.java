@@ -8,6 +8,7 @@ import java.util.Map;
 /**
  * 이 파일은 관리자 대시보드 응답 DTO 레코드 파일이다.
  * 주간 집계 통계와 분포 지표를 섹션별로 묶어 반환한다.
+ * degradedSections 에는 집계가 실패하거나 제한 시간을 넘겨 빈 값으로 채운 섹션 이름이 담긴다.
  */
 public record AdminDashboardResponseDTO(
         DateRangeDTO range,
@@ -20,7 +21,8 @@ public record AdminDashboardResponseDTO(
         FraudReportsSectionDTO fraudReports,
         BlacklistSectionDTO blacklist,
         ReferenceDataSectionDTO referenceData,
-        CrossEntitySectionDTO crossEntity
+        CrossEntitySectionDTO crossEntity,
+        List<String> degradedSections
 ) {
     public record DateRangeDTO(
             LocalDate fromDate,
@@ -99,12 +101,14 @@ public record AdminDashboardResponseDTO(
      * 거래 섹션 DTO.
      * balanceAfterTxSummary: 거래 후 잔액 통계 추가.
      * sourceValueStats: 출금 소스(계좌/카드) 통계 추가.
+     * amountPercentiles: 거래 금액 p50/p90/p99 추가.
      */
     public record TransactionsSectionDTO(
             long totalTransactions,
             List<DateCountDTO> dailyTrend,
             Map<String, Long> hourlyDistribution,
             AmountSummaryDTO amountSummary,
+            PercentileSummaryDTO amountPercentiles,
             AmountSummaryDTO balanceAfterTxSummary,
             Map<String, Long> typeDistribution,
             FieldStatsDTO merchantCategoryStats,
@@ -130,15 +134,18 @@ public record AdminDashboardResponseDTO(
     /**
      * 탐지 섹션 DTO.
      * FraudDetectionResult에 ACTION_TAKEN이 없어 actionDistribution 제거됨.
+     * detectionLatencyMsPercentiles: 탐지 지연(ms) p50/p90/p99, fraudProbabilityPercentiles: 사기 확률 p50/p90/p99 추가.
      */
     public record DetectionSectionDTO(
             long detectionCount,
             List<DateCountDTO> detectionTrend,
             BigDecimal detectionCoverage,
             BigDecimal averageDetectionDelayMinutes,
+            PercentileSummaryDTO detectionLatencyMsPercentiles,
             long fraudCount,
             BigDecimal fraudRate,
             Map<String, Long> fraudProbabilityDistribution,
+            PercentileSummaryDTO fraudProbabilityPercentiles,
             Map<String, Long> engineDistribution,
             Map<String, Long> thresholdDistribution,
             BigDecimal thresholdExceedRate
@@ -0,0 +1,14 @@
+package kdt.fds.stats.dto.response;
+
+/**
+ * 이 파일은 분위수 요약 DTO 레코드 파일이다.
+ * 값이 있는 행 수와 p50/p90/p99 를 반환한다. 값이 없으면 분위수는 모두 null 이다.
+ */
+public record PercentileSummaryDTO(
+        long count,
+        Double p50,
+        Double p90,
+        Double p99
+) {
+    public static final PercentileSummaryDTO EMPTY = new PercentileSummaryDTO(0L, null, null, null);
+}
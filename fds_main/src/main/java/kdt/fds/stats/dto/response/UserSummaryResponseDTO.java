@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 /**
  * 이 파일은 사용자 요약 응답 DTO 레코드 파일이다.
  * 실시간 개인 요약 KPI를 반환한다.
+ * 분위수는 거래 금액, 사기 확률, 탐지 지연(ms, 거래 생성부터 탐지까지) 순서이며 medianFraudProbability 는 사기 확률 p50 과 같다.
  */
 public record UserSummaryResponseDTO(
         String range,
@@ -19,5 +20,8 @@ public record UserSummaryResponseDTO(
         Double averageFraudProbability,
         Double medianFraudProbability,
         LocalDateTime latestTransactionAt,
-        LocalDateTime latestDetectionAt
+        LocalDateTime latestDetectionAt,
+        PercentileSummaryDTO amountPercentiles,
+        PercentileSummaryDTO fraudProbabilityPercentiles,
+        PercentileSummaryDTO detectionLatencyMsPercentiles
 ) { }
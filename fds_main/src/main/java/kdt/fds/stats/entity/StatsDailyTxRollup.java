@@ -0,0 +1,77 @@
+package kdt.fds.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 일별 거래 롤업 엔티티 파일이다.
+ * (일자, 거래 유형, 시간대) 단위 거래/탐지 합계를 담는 STATS_DAILY_TX_ROLLUP 테이블을 매핑한다.
+ * 행은 StatsRollupService 가 MERGE 로 누적하므로 엔티티는 스키마 정의에만 쓰인다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "STATS_DAILY_TX_ROLLUP")
+@IdClass(StatsDailyTxRollup.Key.class)
+public class StatsDailyTxRollup {
+
+    @Id
+    @Column(name = "STAT_DAY")
+    private LocalDate statDay;
+
+    // 거래 유형이 없으면 'UNKNOWN' 으로 모은다.
+    @Id
+    @Column(name = "TX_TYPE", length = 50)
+    private String txType;
+
+    @Id
+    @Column(name = "TX_HOUR")
+    private Integer txHour;
+
+    @Column(name = "TX_COUNT", nullable = false)
+    private Long txCount = 0L;
+
+    @Column(name = "TX_AMOUNT_SUM", nullable = false, precision = 38, scale = 0)
+    private BigDecimal txAmountSum = BigDecimal.ZERO;
+
+    @Column(name = "DETECTED_COUNT", nullable = false)
+    private Long detectedCount = 0L;
+
+    @Column(name = "FRAUD_COUNT", nullable = false)
+    private Long fraudCount = 0L;
+
+    // 평균 사기 확률은 합계 / 건수로 계산한다 (확률이 없는 탐지 행은 건수에서 빠진다).
+    @Column(name = "FRAUD_PROB_SUM", nullable = false)
+    private Double fraudProbSum = 0.0;
+
+    @Column(name = "FRAUD_PROB_COUNT", nullable = false)
+    private Long fraudProbCount = 0L;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 일별 거래 롤업 복합 키이다.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate statDay;
+        private String txType;
+        private Integer txHour;
+    }
+}
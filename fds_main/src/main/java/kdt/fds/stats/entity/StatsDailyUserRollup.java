@@ -0,0 +1,91 @@
+package kdt.fds.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 일별 사용자 롤업 엔티티 파일이다.
+ * (일자, 사용자, 거래 유형) 단위 거래/탐지 합계를 담는 STATS_DAILY_USER_ROLLUP 테이블을 매핑한다.
+ * 사용자 대시보드의 거래 유형 분포를 롤업만으로 채우기 위해 거래 유형까지 키에 포함한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(
+        name = "STATS_DAILY_USER_ROLLUP",
+        indexes = {
+                @Index(
+                        name = "IDX_STATS_USER_ROLLUP_USER",
+                        columnList = "USER_INNER_ID, STAT_DAY"
+                )
+        }
+)
+@IdClass(StatsDailyUserRollup.Key.class)
+public class StatsDailyUserRollup {
+
+    @Id
+    @Column(name = "STAT_DAY")
+    private LocalDate statDay;
+
+    @Id
+    @Column(name = "USER_INNER_ID")
+    private Long userInnerId;
+
+    // 거래 유형이 없으면 'UNKNOWN' 으로 모은다.
+    @Id
+    @Column(name = "TX_TYPE", length = 50)
+    private String txType;
+
+    @Column(name = "TX_COUNT", nullable = false)
+    private Long txCount = 0L;
+
+    @Column(name = "TX_AMOUNT_SUM", nullable = false, precision = 38, scale = 0)
+    private BigDecimal txAmountSum = BigDecimal.ZERO;
+
+    @Column(name = "DETECTED_COUNT", nullable = false)
+    private Long detectedCount = 0L;
+
+    @Column(name = "FRAUD_COUNT", nullable = false)
+    private Long fraudCount = 0L;
+
+    @Column(name = "FRAUD_PROB_SUM", nullable = false)
+    private Double fraudProbSum = 0.0;
+
+    @Column(name = "FRAUD_PROB_COUNT", nullable = false)
+    private Long fraudProbCount = 0L;
+
+    @Column(name = "LAST_TX_AT")
+    private LocalDateTime lastTxAt;
+
+    @Column(name = "LAST_DETECTED_AT")
+    private LocalDateTime lastDetectedAt;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 일별 사용자 롤업 복합 키이다.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate statDay;
+        private Long userInnerId;
+        private String txType;
+    }
+}
@@ -0,0 +1,35 @@
+package kdt.fds.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이 파일은 일별 롤업 반영 위치 엔티티 파일이다.
+ * 롤업 대상(TX / DETECTION)별 행으로, 증분 반영과 재계산이 이 행을 잠가 한 번에 하나씩 실행되도록 한다.
+ * 반영할 원본 행은 ID 위치가 아니라 원본 행의 ROLLUP_PENDING 표시로 고르며, 여기에는 마지막 반영 시각만 기록한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "STATS_ROLLUP_WATERMARK")
+public class StatsRollupWatermark {
+
+    @Id
+    @Column(name = "ROLLUP_NAME", length = 30)
+    private String rollupName;
+
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
+
+    public StatsRollupWatermark(String rollupName) {
+        this.rollupName = rollupName;
+    }
+}
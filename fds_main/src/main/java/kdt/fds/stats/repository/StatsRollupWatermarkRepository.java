@@ -0,0 +1,20 @@
+package kdt.fds.stats.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import kdt.fds.stats.entity.StatsRollupWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 이 파일은 일별 롤업 반영 위치 리포지토리 파일이다.
+ * 여러 인스턴스 중 하나만 같은 롤업을 갱신하도록 행 잠금 조회를 제공한다.
+ */
+public interface StatsRollupWatermarkRepository extends JpaRepository<StatsRollupWatermark, String> {
+    // 반영 위치 행을 잠그고 조회한다. 트랜잭션이 끝날 때까지 다른 갱신 작업은 대기한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM StatsRollupWatermark w WHERE w.rollupName = :rollupName")
+    Optional<StatsRollupWatermark> lockByRollupName(@Param("rollupName") String rollupName);
+}
@@ -3,50 +3,612 @@ package kdt.fds.stats.service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import jakarta.annotation.PreDestroy;
+import kdt.fds.stats.config.StatsDashboardProperties;
 import kdt.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.fds.stats.dto.response.PercentileSummaryDTO;
 import kdt.fds.stats.vo.StatsDateRange;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 관리자 대시보드에 필요한 집계를 담당한다.
+ * 테이블마다 GROUPING SETS 쿼리 1회로 합계와 분포를 함께 읽고, 섹션은 그 결과를 나눠 구성한다.
+ * (결과 행의 DIM 컬럼이 어떤 그룹인지 나타내며, 총계 행은 DIM = 'TOTAL')
+ * 집계 쿼리는 서로 독립적이므로 가상 스레드에서 동시에 실행하고, 쿼리마다 읽기 전용 트랜잭션(커넥션)을 따로 쓴다.
  */
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 public class AdminStatsDashboardService extends StatsDashboardSupport {
-    public AdminStatsDashboardService(NamedParameterJdbcTemplate jdbcTemplate) {
+    private static final String DIM = "DIM";
+    private static final String TOTAL = "TOTAL";
+    private static final String TX_COUNT = "TX_COUNT";
+    private static final List<String> LABEL_CODE_TYPES = List.of(
+            "ACCOUNT_STATUS", "CARD_STATUS", "CARD_TYPE", "TRANSACTION_TYPE", "REPORT_STATUS", "REPORT_REASON"
+    );
+
+    // 집계 쿼리(로드) 이름
+    private static final String LOAD_LABELS = "labels";
+    private static final String LOAD_USERS = "users";
+    private static final String LOAD_ACCOUNTS = "accounts";
+    private static final String LOAD_CARDS = "cards";
+    private static final String LOAD_TRANSACTIONS = "transactions";
+    private static final String LOAD_TRANSACTION_DETECTIONS = "transactionDetections";
+    private static final String LOAD_TRANSACTION_ROLLUP = "transactionRollup";
+    private static final String LOAD_FEATURES = "features";
+    private static final String LOAD_DETECTIONS = "detections";
+    private static final String LOAD_AMOUNT_PERCENTILES = "amountPercentiles";
+    private static final String LOAD_DETECTION_PERCENTILES = "detectionPercentiles";
+    private static final String LOAD_REPORTS = "reports";
+    private static final String LOAD_BLACKLIST = "blacklist";
+    private static final String LOAD_CODEBOOK = "codebook";
+    private static final String LOAD_CONFIG = "config";
+
+    // 섹션(응답 필드 이름) -> 섹션이 사용하는 로드. 로드 하나라도 실패하면 섹션을 degraded 로 표시한다.
+    private static final Map<String, List<String>> SECTION_LOADS = sectionLoads();
+
+    private static final String USERS_SQL = """
+            SELECT CASE
+                       WHEN GROUPING(x.GENDER_KEY) = 0 THEN 'GENDER'
+                       WHEN GROUPING(x.BIRTH) = 0 THEN 'BIRTH'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   COALESCE(x.GENDER_KEY, x.BIRTH) AS KEY_NAME,
+                   COUNT(*) AS COUNT_VALUE
+            FROM (
+                SELECT NVL(GENDER, 'UNKNOWN') AS GENDER_KEY, BIRTH
+                FROM USERS
+            ) x
+            GROUP BY GROUPING SETS ((), (x.GENDER_KEY), (x.BIRTH))
+            """;
+
+    private static final String ACCOUNTS_SQL = """
+            SELECT CASE
+                       WHEN GROUPING(x.CREATED_DAY) = 0 THEN 'DAY'
+                       WHEN GROUPING(x.STATUS_KEY) = 0 THEN 'STATUS'
+                       WHEN GROUPING(x.USER_INNER_ID) = 0 THEN 'OWNER'
+                       WHEN GROUPING(x.GENDER_KEY) = 0 THEN 'GENDER_BIRTH'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   x.CREATED_DAY AS KEY_DATE,
+                   COALESCE(x.STATUS_KEY, TO_CHAR(x.USER_INNER_ID), x.GENDER_KEY) AS KEY_NAME,
+                   x.BIRTH AS KEY_BIRTH,
+                   COUNT(*) AS COUNT_VALUE,
+                   SUM(x.BALANCE) AS AMOUNT_VALUE,
+                   COUNT(x.BALANCE) AS BALANCE_COUNT
+            FROM (
+                SELECT CASE WHEN a.CREATED_AT >= :fromTs AND a.CREATED_AT < :toTs THEN TRUNC(a.CREATED_AT) END AS CREATED_DAY,
+                       NVL(a.STATUS, 'UNKNOWN') AS STATUS_KEY,
+                       a.USER_INNER_ID,
+                       CASE WHEN u.ID IS NOT NULL THEN NVL(TRIM(u.GENDER), 'UNKNOWN') END AS GENDER_KEY,
+                       u.BIRTH,
+                       a.BALANCE
+                FROM ACCOUNTS a
+                LEFT JOIN USERS u ON u.ID = a.USER_INNER_ID
+            ) x
+            GROUP BY GROUPING SETS ((), (x.CREATED_DAY), (x.STATUS_KEY), (x.USER_INNER_ID), (x.GENDER_KEY, x.BIRTH))
+            """;
+
+    private static final String CARDS_SQL = """
+            SELECT CASE
+                       WHEN GROUPING(x.CREATED_DAY) = 0 THEN 'DAY'
+                       WHEN GROUPING(x.STATUS_KEY) = 0 THEN 'STATUS'
+                       WHEN GROUPING(x.CARD_TYPE_KEY) = 0 THEN 'CARD_TYPE'
+                       WHEN GROUPING(x.ISSUER_KEY) = 0 THEN 'ISSUER'
+                       WHEN GROUPING(x.USER_INNER_ID) = 0 THEN 'OWNER'
+                       WHEN GROUPING(x.ACCOUNT_ID) = 0 THEN 'ACCOUNT'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   x.CREATED_DAY AS KEY_DATE,
+                   COALESCE(x.STATUS_KEY, x.CARD_TYPE_KEY, x.ISSUER_KEY,
+                            TO_CHAR(x.USER_INNER_ID), TO_CHAR(x.ACCOUNT_ID)) AS KEY_NAME,
+                   COUNT(*) AS COUNT_VALUE
+            FROM (
+                SELECT CASE WHEN CREATED_AT >= :fromTs AND CREATED_AT < :toTs THEN TRUNC(CREATED_AT) END AS CREATED_DAY,
+                       NVL(STATUS, 'UNKNOWN') AS STATUS_KEY,
+                       NVL(CARD_TYPE, 'UNKNOWN') AS CARD_TYPE_KEY,
+                       NVL(ISSUER, 'UNKNOWN') AS ISSUER_KEY,
+                       USER_INNER_ID,
+                       ACCOUNT_ID
+                FROM CARDS
+            ) x
+            GROUP BY GROUPING SETS ((), (x.CREATED_DAY), (x.STATUS_KEY), (x.CARD_TYPE_KEY), (x.ISSUER_KEY),
+                                    (x.USER_INNER_ID), (x.ACCOUNT_ID))
+            """;
+
+    // 기간 내 거래 원장 (탐지 결과를 조인하지 않으므로 금액/건수가 중복되지 않는다)
+    // 값 종류가 많은 그룹(적요/출금 소스/계좌/사용자)은 상위 :limit 건만 돌려준다.
+    // 일자/시간대/거래 유형별 집계는 일별 롤업(TX_ROLLUP_SQL)에서 읽는다.
+    private static final String TRANSACTIONS_SQL = """
+            SELECT *
+            FROM (
+                SELECT g.*,
+                       ROW_NUMBER() OVER (PARTITION BY g.DIM
+                                          ORDER BY CASE WHEN TRIM(g.KEY_NAME) IS NULL THEN 1 ELSE 0 END,
+                                                   g.COUNT_VALUE DESC) AS RANK_BY_COUNT,
+                       ROW_NUMBER() OVER (PARTITION BY g.DIM
+                                          ORDER BY CASE WHEN TRIM(g.KEY_NAME) IS NULL THEN 1 ELSE 0 END,
+                                                   g.AMOUNT_VALUE DESC NULLS LAST) AS RANK_BY_AMOUNT
+                FROM (
+                    SELECT CASE
+                               WHEN GROUPING(x.MERCHANT_CAT) = 0 THEN 'MERCHANT_CAT'
+                               WHEN GROUPING(x.LOCATION) = 0 THEN 'LOCATION'
+                               WHEN GROUPING(x.TARGET_ACCOUNT_NUMBER) = 0 THEN 'TARGET_ACCOUNT_NUMBER'
+                               WHEN GROUPING(x.DESCRIPTION) = 0 THEN 'DESCRIPTION'
+                               WHEN GROUPING(x.SOURCE_VALUE) = 0 THEN 'SOURCE_VALUE'
+                               WHEN GROUPING(x.ACCOUNT_NUMBER) = 0 THEN 'ACCOUNT'
+                               WHEN GROUPING(x.USER_ID) = 0 THEN 'USER'
+                               ELSE 'TOTAL'
+                           END AS DIM,
+                           COALESCE(x.MERCHANT_CAT, x.LOCATION, x.TARGET_ACCOUNT_NUMBER,
+                                    x.DESCRIPTION, x.SOURCE_VALUE, x.ACCOUNT_NUMBER, x.USER_ID) AS KEY_NAME,
+                           COUNT(*) AS COUNT_VALUE,
+                           SUM(x.TX_AMOUNT) AS AMOUNT_VALUE,
+                           AVG(x.TX_AMOUNT) AS AVG_AMOUNT,
+                           SUM(x.BALANCE_AFTER_TX) AS BALANCE_SUM,
+                           AVG(x.BALANCE_AFTER_TX) AS BALANCE_AVG,
+                           SUM(CASE WHEN x.MERCHANT_CAT IS NULL OR TRIM(x.MERCHANT_CAT) = '' THEN 1 ELSE 0 END) AS MISSING_MERCHANT_CAT,
+                           SUM(CASE WHEN x.LOCATION IS NULL OR TRIM(x.LOCATION) = '' THEN 1 ELSE 0 END) AS MISSING_LOCATION,
+                           SUM(CASE WHEN x.TARGET_ACCOUNT_NUMBER IS NULL OR TRIM(x.TARGET_ACCOUNT_NUMBER) = '' THEN 1 ELSE 0 END) AS MISSING_TARGET_ACCOUNT_NUMBER,
+                           SUM(CASE WHEN x.DESCRIPTION IS NULL OR TRIM(x.DESCRIPTION) = '' THEN 1 ELSE 0 END) AS MISSING_DESCRIPTION,
+                           SUM(CASE WHEN x.SOURCE_VALUE IS NULL OR TRIM(x.SOURCE_VALUE) = '' THEN 1 ELSE 0 END) AS MISSING_SOURCE_VALUE,
+                           SUM(x.BLACKLISTED) AS BLACKLISTED_COUNT
+                    FROM (
+                        SELECT t.MERCHANT_CAT,
+                               t.LOCATION,
+                               t.TARGET_ACCOUNT_NUMBER,
+                               t.DESCRIPTION,
+                               t.SOURCE_VALUE,
+                               a.ACCOUNT_NUMBER,
+                               u.USER_ID,
+                               t.TX_AMOUNT,
+                               t.BALANCE_AFTER_TX,
+                               CASE WHEN bl.ACCOUNT_NUM IS NOT NULL THEN 1 ELSE 0 END AS BLACKLISTED
+                        FROM TRANSACTIONS t
+                        LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                        LEFT JOIN USERS u ON u.ID = a.USER_INNER_ID
+                        LEFT JOIN (SELECT DISTINCT ACCOUNT_NUM FROM BLACKLIST_ACCOUNTS) bl
+                               ON bl.ACCOUNT_NUM = a.ACCOUNT_NUMBER
+                        WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
+                    ) x
+                    GROUP BY GROUPING SETS ((), (x.MERCHANT_CAT), (x.LOCATION), (x.TARGET_ACCOUNT_NUMBER),
+                                            (x.DESCRIPTION), (x.SOURCE_VALUE), (x.ACCOUNT_NUMBER), (x.USER_ID))
+                ) g
+            )
+            WHERE DIM NOT IN ('DESCRIPTION', 'SOURCE_VALUE', 'ACCOUNT', 'USER')
+               OR RANK_BY_COUNT <= :limit
+               OR RANK_BY_AMOUNT <= :limit
+            """;
+
+    // 기간 내 거래 x 탐지 결과 (교차 분석, 블랙리스트/신고 계좌 비율)
+    private static final String TRANSACTION_DETECTIONS_SQL = """
+            SELECT *
+            FROM (
+                SELECT g.*,
+                       ROW_NUMBER() OVER (PARTITION BY g.DIM
+                                          ORDER BY CASE WHEN TRIM(g.KEY_NAME) IS NULL THEN 1 ELSE 0 END,
+                                                   g.TX_COUNT DESC) AS RANK_BY_COUNT
+                FROM (
+                    SELECT CASE
+                               WHEN GROUPING(x.GENDER_KEY) = 0 THEN 'GENDER'
+                               WHEN GROUPING(x.BIRTH_KEY) = 0 THEN 'BIRTH'
+                               WHEN GROUPING(x.ACCOUNT_STATUS_KEY) = 0 THEN 'ACCOUNT_STATUS'
+                               WHEN GROUPING(x.ACCOUNT_NUMBER) = 0 THEN 'ACCOUNT'
+                               WHEN GROUPING(x.AMOUNT_BUCKET) = 0 THEN 'AMOUNT_BUCKET'
+                               ELSE 'TOTAL'
+                           END AS DIM,
+                           COALESCE(x.GENDER_KEY, x.BIRTH_KEY, x.ACCOUNT_STATUS_KEY, x.ACCOUNT_NUMBER,
+                                    x.AMOUNT_BUCKET) AS KEY_NAME,
+                           COUNT(*) AS TX_COUNT,
+                           SUM(x.DETECTED) AS DETECTED_COUNT,
+                           SUM(x.FRAUD) AS FRAUD_COUNT,
+                           AVG(x.FRAUD_PROBABILITY) AS AVG_PROB,
+                           SUM(x.BLACKLISTED) AS BLACKLISTED_COUNT,
+                           SUM(x.BLACKLISTED * x.DETECTED) AS BLACKLISTED_DETECTED_COUNT,
+                           SUM(x.REPORTED) AS REPORTED_COUNT,
+                           SUM(x.REPORTED * x.DETECTED) AS REPORTED_DETECTED_COUNT,
+                           SUM(x.REPORTED * x.FRAUD) AS REPORTED_FRAUD_COUNT
+                    FROM (
+                        SELECT CASE WHEN u.ID IS NOT NULL THEN NVL(u.GENDER, 'UNKNOWN') END AS GENDER_KEY,
+                               CASE WHEN u.ID IS NOT NULL THEN NVL(u.BIRTH, 'UNKNOWN') END AS BIRTH_KEY,
+                               CASE WHEN a.ACCOUNT_ID IS NOT NULL THEN NVL(a.STATUS, 'UNKNOWN') END AS ACCOUNT_STATUS_KEY,
+                               a.ACCOUNT_NUMBER,
+                               CASE
+                                   WHEN t.TX_AMOUNT < 100000 THEN '0-100k'
+                                   WHEN t.TX_AMOUNT < 500000 THEN '100k-500k'
+                                   WHEN t.TX_AMOUNT < 1000000 THEN '500k-1m'
+                                   ELSE '1m+'
+                               END AS AMOUNT_BUCKET,
+                               CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END AS DETECTED,
+                               CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END AS FRAUD,
+                               d.FRAUD_PROBABILITY,
+                               CASE WHEN bl.ACCOUNT_NUM IS NOT NULL THEN 1 ELSE 0 END AS BLACKLISTED,
+                               CASE WHEN rp.REPORTED_ACCOUNT IS NOT NULL THEN 1 ELSE 0 END AS REPORTED
+                        FROM TRANSACTIONS t
+                        LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                        LEFT JOIN USERS u ON u.ID = a.USER_INNER_ID
+                        LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
+                        LEFT JOIN (SELECT DISTINCT ACCOUNT_NUM FROM BLACKLIST_ACCOUNTS) bl
+                               ON bl.ACCOUNT_NUM = a.ACCOUNT_NUMBER
+                        LEFT JOIN (
+                            SELECT DISTINCT REPORTED_ACCOUNT
+                            FROM FRAUD_REPORTS
+                            WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
+                        ) rp ON rp.REPORTED_ACCOUNT = a.ACCOUNT_NUMBER
+                        WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
+                    ) x
+                    GROUP BY GROUPING SETS ((), (x.GENDER_KEY), (x.BIRTH_KEY), (x.ACCOUNT_STATUS_KEY), (x.ACCOUNT_NUMBER),
+                                            (x.AMOUNT_BUCKET))
+                ) g
+            )
+            WHERE DIM <> 'ACCOUNT' OR RANK_BY_COUNT <= :limit
+            """;
+
+    // 일자/시간대/거래 유형별 거래·탐지 합계 (거래 1건을 한 번만 센다)
+    // 롤업 경계 이전은 STATS_DAILY_TX_ROLLUP, 경계 이후(오늘, 아직 반영되지 않은 날)는 원본 테이블에서 읽는다.
+    private static final String TX_ROLLUP_SQL = "WITH " + ROLLUP_SPLIT_CTE + """
+            SELECT CASE
+                       WHEN GROUPING(x.STAT_DAY) = 0 THEN 'DAY'
+                       WHEN GROUPING(x.TX_HOUR) = 0 THEN 'HOUR'
+                       WHEN GROUPING(x.TX_TYPE) = 0 THEN 'TX_TYPE'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   x.STAT_DAY AS KEY_DATE,
+                   COALESCE(TO_CHAR(x.TX_HOUR), x.TX_TYPE) AS KEY_NAME,
+                   SUM(x.TX_COUNT) AS COUNT_VALUE,
+                   SUM(x.TX_COUNT) AS TX_COUNT,
+                   SUM(x.TX_AMOUNT_SUM) AS AMOUNT_VALUE,
+                   SUM(x.DETECTED_COUNT) AS DETECTED_COUNT,
+                   SUM(x.FRAUD_COUNT) AS FRAUD_COUNT,
+                   SUM(x.FRAUD_PROB_SUM) / NULLIF(SUM(x.FRAUD_PROB_COUNT), 0) AS AVG_PROB
+            FROM (
+                SELECT r.STAT_DAY, r.TX_HOUR, r.TX_TYPE, r.TX_COUNT, r.TX_AMOUNT_SUM,
+                       r.DETECTED_COUNT, r.FRAUD_COUNT, r.FRAUD_PROB_SUM, r.FRAUD_PROB_COUNT
+                FROM STATS_DAILY_TX_ROLLUP r
+                CROSS JOIN ROLLUP_SPLIT s
+                WHERE r.STAT_DAY >= :fromTs
+                  AND r.STAT_DAY < s.SPLIT_TS
+                UNION ALL
+                SELECT TRUNC(t.CREATED_AT), EXTRACT(HOUR FROM t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN'),
+                       COUNT(*), NVL(SUM(t.TX_AMOUNT), 0),
+                       0, 0, 0, 0
+                FROM TRANSACTIONS t
+                CROSS JOIN ROLLUP_SPLIT s
+                WHERE t.CREATED_AT >= s.SPLIT_TS
+                  AND t.CREATED_AT < :toTs
+                GROUP BY TRUNC(t.CREATED_AT), EXTRACT(HOUR FROM t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN')
+                UNION ALL
+                SELECT TRUNC(t.CREATED_AT), EXTRACT(HOUR FROM t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN'),
+                       0, 0,
+                       COUNT(*), SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END),
+                       NVL(SUM(d.FRAUD_PROBABILITY), 0), COUNT(d.FRAUD_PROBABILITY)
+                FROM TRANSACTIONS t
+                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
+                CROSS JOIN ROLLUP_SPLIT s
+                WHERE t.CREATED_AT >= s.SPLIT_TS
+                  AND t.CREATED_AT < :toTs
+                GROUP BY TRUNC(t.CREATED_AT), EXTRACT(HOUR FROM t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN')
+            ) x
+            GROUP BY GROUPING SETS ((), (x.STAT_DAY), (x.TX_HOUR), (x.TX_TYPE))
+            """;
+
+    private static final String FEATURES_SQL = """
+            SELECT (SELECT COUNT(*) FROM TRANSACTIONS) AS TX_COUNT,
+                   COUNT(*) AS COUNT_VALUE,
+                   MIN(OLD_BALANCE_ORG) AS OLD_BALANCE_ORG_MIN,
+                   MAX(OLD_BALANCE_ORG) AS OLD_BALANCE_ORG_MAX,
+                   AVG(OLD_BALANCE_ORG) AS OLD_BALANCE_ORG_AVG,
+                   MIN(NEW_BALANCE_ORG) AS NEW_BALANCE_ORG_MIN,
+                   MAX(NEW_BALANCE_ORG) AS NEW_BALANCE_ORG_MAX,
+                   AVG(NEW_BALANCE_ORG) AS NEW_BALANCE_ORG_AVG,
+                   COUNT(FEATURE_BYTES) AS VECTOR_COUNT,
+                   AVG(UTL_RAW.LENGTH(FEATURE_BYTES)) AS VECTOR_LENGTH_AVG
+            FROM TRANSACTION_FEATURES
+            """;
+
+    private static final String DETECTIONS_SQL = """
+            SELECT CASE
+                       WHEN GROUPING(x.DETECTED_DAY) = 0 THEN 'DAY'
+                       WHEN GROUPING(x.PROBABILITY_BUCKET) = 0 THEN 'PROBABILITY'
+                       WHEN GROUPING(x.ENGINE) = 0 THEN 'ENGINE'
+                       WHEN GROUPING(x.THRESHOLD_BUCKET) = 0 THEN 'THRESHOLD'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   x.DETECTED_DAY AS KEY_DATE,
+                   COALESCE(x.PROBABILITY_BUCKET, x.ENGINE, x.THRESHOLD_BUCKET) AS KEY_NAME,
+                   COUNT(*) AS COUNT_VALUE,
+                   SUM(x.FRAUD) AS FRAUD_COUNT,
+                   AVG(x.FRAUD_PROBABILITY) AS AVG_PROB,
+                   AVG(x.DELAY_MINUTES) AS AVG_DELAY_MINUTES,
+                   SUM(x.THRESHOLD_SET) AS THRESHOLD_COUNT,
+                   SUM(x.THRESHOLD_EXCEEDED) AS THRESHOLD_EXCEEDED_COUNT,
+                   SUM(x.BLACKLISTED) AS BLACKLISTED_COUNT
+            FROM (
+                SELECT TRUNC(d.DETECTED_AT) AS DETECTED_DAY,
+                       CASE
+                           WHEN d.FRAUD_PROBABILITY IS NULL THEN 'UNKNOWN'
+                           WHEN d.FRAUD_PROBABILITY < 0.2 THEN '0-0.2'
+                           WHEN d.FRAUD_PROBABILITY < 0.4 THEN '0.2-0.4'
+                           WHEN d.FRAUD_PROBABILITY < 0.6 THEN '0.4-0.6'
+                           WHEN d.FRAUD_PROBABILITY < 0.8 THEN '0.6-0.8'
+                           ELSE '0.8-1.0'
+                       END AS PROBABILITY_BUCKET,
+                       NVL(d.DETECTED_ENGINE, 'UNKNOWN') AS ENGINE,
+                       CASE
+                           WHEN d.THRESHOLD_VALUE IS NULL THEN 'UNKNOWN'
+                           WHEN d.THRESHOLD_VALUE < 0.5 THEN '0-0.5'
+                           WHEN d.THRESHOLD_VALUE < 0.8 THEN '0.5-0.8'
+                           WHEN d.THRESHOLD_VALUE < 1.0 THEN '0.8-1.0'
+                           ELSE '1.0+'
+                       END AS THRESHOLD_BUCKET,
+                       CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END AS FRAUD,
+                       d.FRAUD_PROBABILITY,
+                       (d.DETECTED_AT - t.CREATED_AT) * 24 * 60 AS DELAY_MINUTES,
+                       CASE WHEN d.THRESHOLD_VALUE IS NOT NULL THEN 1 ELSE 0 END AS THRESHOLD_SET,
+                       CASE WHEN d.THRESHOLD_VALUE IS NOT NULL AND d.FRAUD_PROBABILITY >= d.THRESHOLD_VALUE
+                            THEN 1 ELSE 0 END AS THRESHOLD_EXCEEDED,
+                       CASE WHEN bl.ACCOUNT_NUM IS NOT NULL THEN 1 ELSE 0 END AS BLACKLISTED
+                FROM FRAUD_DETECTION_RESULTS d
+                LEFT JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+                LEFT JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                LEFT JOIN (SELECT DISTINCT ACCOUNT_NUM FROM BLACKLIST_ACCOUNTS) bl
+                       ON bl.ACCOUNT_NUM = a.ACCOUNT_NUMBER
+                WHERE d.DETECTED_AT >= :fromTs AND d.DETECTED_AT < :toTs
+            ) x
+            GROUP BY GROUPING SETS ((), (x.DETECTED_DAY), (x.PROBABILITY_BUCKET), (x.ENGINE), (x.THRESHOLD_BUCKET))
+            """;
+
+    /**
+     * 분위수 집계 대상 행이다. 거래 섹션은 거래 생성 시각, 탐지 섹션은 탐지 시각 기준으로 위 집계와 같은 범위를 쓴다.
+     */
+    private static final String AMOUNT_PERCENTILES_FROM = """
+            FROM TRANSACTIONS t
+            WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
+            """;
+
+    private static final String DETECTION_PERCENTILES_FROM = """
+            FROM FRAUD_DETECTION_RESULTS d
+            LEFT JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+            WHERE d.DETECTED_AT >= :fromTs AND d.DETECTED_AT < :toTs
+            """;
+
+    private static final List<PercentileSummaryDTO> EMPTY_PERCENTILES =
+            List.of(PercentileSummaryDTO.EMPTY, PercentileSummaryDTO.EMPTY);
+
+    private static final String REPORTS_SQL = """
+            SELECT *
+            FROM (
+                SELECT g.*,
+                       ROW_NUMBER() OVER (PARTITION BY g.DIM
+                                          ORDER BY CASE WHEN TRIM(g.KEY_NAME) IS NULL THEN 1 ELSE 0 END,
+                                                   g.COUNT_VALUE DESC) AS RANK_BY_COUNT
+                FROM (
+                    SELECT CASE
+                               WHEN GROUPING(x.REPORT_DAY) = 0 THEN 'DAY'
+                               WHEN GROUPING(x.STATUS_KEY) = 0 THEN 'STATUS'
+                               WHEN GROUPING(x.REASON_KEY) = 0 THEN 'REASON'
+                               WHEN GROUPING(x.REASON_CODE_KEY) = 0 THEN 'REASON_CODE'
+                               WHEN GROUPING(x.REPORTED_ACCOUNT) = 0 THEN 'ACCOUNT'
+                               ELSE 'TOTAL'
+                           END AS DIM,
+                           x.REPORT_DAY AS KEY_DATE,
+                           COALESCE(x.STATUS_KEY, x.REASON_KEY, x.REASON_CODE_KEY, x.REPORTED_ACCOUNT) AS KEY_NAME,
+                           COUNT(*) AS COUNT_VALUE,
+                           AVG(x.REPORT_COUNT) AS AVG_REPORT_COUNT,
+                           COUNT(DISTINCT x.REPORTED_ACCOUNT) AS DISTINCT_ACCOUNT_COUNT
+                    FROM (
+                        SELECT TRUNC(CREATED_AT) AS REPORT_DAY,
+                               NVL(STATUS, 'UNKNOWN') AS STATUS_KEY,
+                               NVL(REASON, 'UNKNOWN') AS REASON_KEY,
+                               NVL(TO_CHAR(REASON_CODE), 'UNKNOWN') AS REASON_CODE_KEY,
+                               REPORTED_ACCOUNT,
+                               REPORT_COUNT
+                        FROM FRAUD_REPORTS
+                        WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
+                    ) x
+                    GROUP BY GROUPING SETS ((), (x.REPORT_DAY), (x.STATUS_KEY), (x.REASON_KEY), (x.REASON_CODE_KEY),
+                                            (x.REPORTED_ACCOUNT))
+                ) g
+            )
+            WHERE DIM NOT IN ('REASON', 'ACCOUNT') OR RANK_BY_COUNT <= :limit
+            """;
+
+    private static final String BLACKLIST_SQL = """
+            SELECT CASE
+                       WHEN GROUPING(x.BLOCKED_DAY) = 0 THEN 'DAY'
+                       WHEN GROUPING(x.REASON_KEY) = 0 THEN 'REASON'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   x.BLOCKED_DAY AS KEY_DATE,
+                   x.REASON_KEY AS KEY_NAME,
+                   COUNT(*) AS COUNT_VALUE,
+                   COUNT(DISTINCT x.ACCOUNT_NUM) AS DISTINCT_ACCOUNT_COUNT
+            FROM (
+                SELECT CASE WHEN BLOCKED_AT >= :fromTs AND BLOCKED_AT < :toTs THEN TRUNC(BLOCKED_AT) END AS BLOCKED_DAY,
+                       NVL(REASON, 'UNKNOWN') AS REASON_KEY,
+                       ACCOUNT_NUM
+                FROM BLACKLIST_ACCOUNTS
+            ) x
+            GROUP BY GROUPING SETS ((), (x.BLOCKED_DAY), (x.REASON_KEY))
+            """;
+
+    private static final String CODEBOOK_SQL = """
+            SELECT CASE
+                       WHEN GROUPING(x.CREATED_DAY) = 0 THEN 'CREATED_DAY'
+                       WHEN GROUPING(x.UPDATED_DAY) = 0 THEN 'UPDATED_DAY'
+                       WHEN GROUPING(x.CODE_TYPE_KEY) = 0 THEN 'CODE_TYPE'
+                       WHEN GROUPING(x.SORT_ORDER_KEY) = 0 THEN 'SORT_ORDER'
+                       ELSE 'TOTAL'
+                   END AS DIM,
+                   COALESCE(x.CREATED_DAY, x.UPDATED_DAY) AS KEY_DATE,
+                   COALESCE(x.CODE_TYPE_KEY, TO_CHAR(x.SORT_ORDER_KEY)) AS KEY_NAME,
+                   COUNT(*) AS COUNT_VALUE,
+                   SUM(x.ACTIVE) AS ACTIVE_COUNT,
+                   SUM(x.INACTIVE) AS INACTIVE_COUNT,
+                   SUM(x.HAS_META_JSON) AS META_JSON_COUNT,
+                   SUM(x.DESCRIPTION_MISSING) AS DESCRIPTION_MISSING_COUNT
+            FROM (
+                SELECT CASE WHEN CREATED_AT >= :fromTs AND CREATED_AT < :toTs THEN TRUNC(CREATED_AT) END AS CREATED_DAY,
+                       CASE WHEN UPDATED_AT >= :fromTs AND UPDATED_AT < :toTs THEN TRUNC(UPDATED_AT) END AS UPDATED_DAY,
+                       NVL(CODE_TYPE, 'UNKNOWN') AS CODE_TYPE_KEY,
+                       NVL(SORT_ORDER, 0) AS SORT_ORDER_KEY,
+                       CASE WHEN IS_ACTIVE = 'Y' THEN 1 ELSE 0 END AS ACTIVE,
+                       CASE WHEN IS_ACTIVE = 'N' THEN 1 ELSE 0 END AS INACTIVE,
+                       CASE WHEN META_JSON IS NOT NULL THEN 1 ELSE 0 END AS HAS_META_JSON,
+                       CASE WHEN DESCRIPTION IS NULL OR TRIM(DESCRIPTION) = '' THEN 1 ELSE 0 END AS DESCRIPTION_MISSING
+                FROM STATS_CODEBOOK
+            ) x
+            GROUP BY GROUPING SETS ((), (x.CREATED_DAY), (x.UPDATED_DAY), (x.CODE_TYPE_KEY), (x.SORT_ORDER_KEY))
+            """;
+
+    private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore loadSlots;
+    private final TransactionTemplate readOnlyTemplate;
+    private final long loadTimeoutMs;
+    private final StatsDashboardCache dashboardCache;
+
+    public AdminStatsDashboardService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            StatsDashboardProperties properties,
+            StatsDashboardCache dashboardCache
+    ) {
         super(jdbcTemplate);
+        this.dashboardCache = dashboardCache;
+        this.loadSlots = new Semaphore(Math.max(1, properties.getParallelism()));
+        this.loadTimeoutMs = Math.max(1L, properties.getSectionTimeoutMs());
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        // 트랜잭션 제한 시간은 JdbcTemplate 쿼리 타임아웃으로 적용되어 DB 쪽 쿼리도 함께 중단된다.
+        this.readOnlyTemplate.setTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(loadTimeoutMs + 999)));
+    }
+
+    private static Map<String, List<String>> sectionLoads() {
+        Map<String, List<String>> loads = new LinkedHashMap<>();
+        loads.put("users", List.of(LOAD_USERS));
+        loads.put("accounts", List.of(LOAD_LABELS, LOAD_ACCOUNTS));
+        loads.put("cards", List.of(LOAD_LABELS, LOAD_CARDS));
+        loads.put("transactions",
+                List.of(LOAD_LABELS, LOAD_TRANSACTIONS, LOAD_TRANSACTION_ROLLUP, LOAD_AMOUNT_PERCENTILES));
+        loads.put("transactionFeatures", List.of(LOAD_FEATURES));
+        loads.put("detections", List.of(LOAD_DETECTIONS, LOAD_TRANSACTIONS, LOAD_DETECTION_PERCENTILES));
+        loads.put("fraudReports", List.of(LOAD_LABELS, LOAD_REPORTS, LOAD_TRANSACTION_DETECTIONS));
+        loads.put("blacklist", List.of(LOAD_BLACKLIST, LOAD_TRANSACTIONS, LOAD_DETECTIONS));
+        loads.put("referenceData", List.of(LOAD_CODEBOOK, LOAD_CONFIG));
+        loads.put("crossEntity", List.of(LOAD_LABELS, LOAD_TRANSACTIONS, LOAD_TRANSACTION_DETECTIONS,
+                LOAD_TRANSACTION_ROLLUP, LOAD_DETECTIONS));
+        return loads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loadExecutor.shutdownNow();
     }
 
     /**
      * 관리자 대시보드에 필요한 모든 섹션 통계를 지정 기간 기준으로 집계한다. 관리자 대시보드 응답에 사용될 DTO 객체를 반환한다.
+     * 여러 섹션이 함께 쓰는 거래/탐지 집계와 코드북 레이블은 한 번만 조회한다.
+     * 집계 쿼리는 동시에 실행하며, 실패하거나 제한 시간을 넘긴 쿼리를 쓰는 섹션은 빈 값으로 채우고 degradedSections 에 담는다.
+     * (호출 스레드는 결과만 기다리므로 트랜잭션/커넥션을 잡지 않는다)
+     * 결과는 기간별로 캐시하며, degraded 섹션이 있는 응답은 캐시하지 않는다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminDashboardResponseDTO getAdminDashboard(LocalDate fromDate, LocalDate toDate) {
         StatsDateRange range = resolveRange(fromDate, toDate);
-        MapSqlParameterSource rangeParams = new MapSqlParameterSource()
-                .addValue("fromTs", range.fromTimestamp())
-                .addValue("toTs", range.toExclusiveTimestamp());
-
-        AdminDashboardResponseDTO.UsersSectionDTO users = buildUsersSection(rangeParams);
-        AdminDashboardResponseDTO.AccountsSectionDTO accounts = buildAccountsSection(rangeParams);
-        AdminDashboardResponseDTO.CardsSectionDTO cards = buildCardsSection(rangeParams);
-        AdminDashboardResponseDTO.TransactionsSectionDTO transactions = buildTransactionsSection(rangeParams);
-        AdminDashboardResponseDTO.TransactionFeaturesSectionDTO transactionFeatures = buildTransactionFeaturesSection();
+        return dashboardCache.get("admin", range, () -> loadAdminDashboard(range),
+                response -> response.degradedSections().isEmpty());
+    }
+
+    private AdminDashboardResponseDTO loadAdminDashboard(StatsDateRange range) {
+        MapSqlParameterSource rangeParams = rangeParams(range);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(loadTimeoutMs);
+        Future<Map<String, Map<String, String>>> labelsLoad = submitLoad(() -> loadCodebookLabels(LABEL_CODE_TYPES));
+        Future<GroupedRows> transactionLoad = submitLoad(() -> queryGrouped(TRANSACTIONS_SQL, rangeParams));
+        Future<GroupedRows> transactionDetectionLoad =
+                submitLoad(() -> queryGrouped(TRANSACTION_DETECTIONS_SQL, rangeParams));
+        Future<GroupedRows> transactionRollupLoad = submitLoad(() -> queryGrouped(TX_ROLLUP_SQL, rangeParams));
+        Future<GroupedRows> detectionLoad = submitLoad(() -> queryGrouped(DETECTIONS_SQL, rangeParams));
+        Future<List<PercentileSummaryDTO>> amountPercentileLoad = submitLoad(() -> StatsPercentileQuery.query(
+                jdbcTemplate, AMOUNT_PERCENTILES_FROM, rangeParams, StatsPercentileQuery.TX_AMOUNT));
+        Future<List<PercentileSummaryDTO>> detectionPercentileLoad = submitLoad(() -> StatsPercentileQuery.query(
+                jdbcTemplate, DETECTION_PERCENTILES_FROM, rangeParams,
+                StatsPercentileQuery.DETECTION_LATENCY_MS, StatsPercentileQuery.FRAUD_PROBABILITY));
+        Future<GroupedRows> userLoad = submitLoad(() -> queryGrouped(USERS_SQL, new MapSqlParameterSource()));
+        Future<GroupedRows> accountLoad = submitLoad(() -> queryGrouped(ACCOUNTS_SQL, rangeParams));
+        Future<GroupedRows> cardLoad = submitLoad(() -> queryGrouped(CARDS_SQL, rangeParams));
+        Future<Map<String, Object>> featureLoad = submitLoad(this::loadFeatures);
+        Future<GroupedRows> reportLoad = submitLoad(() -> queryGrouped(REPORTS_SQL, rangeParams));
+        Future<GroupedRows> blacklistLoad = submitLoad(() -> queryGrouped(BLACKLIST_SQL, rangeParams));
+        Future<GroupedRows> codebookLoad = submitLoad(() -> queryGrouped(CODEBOOK_SQL, rangeParams));
+        Future<List<AdminDashboardResponseDTO.ConfigEntryDTO>> configLoad = submitLoad(this::loadConfigEntries);
+
+        Set<String> failedLoads = new LinkedHashSet<>();
+        Map<String, Map<String, String>> labels = awaitLoad(LOAD_LABELS, labelsLoad, deadline, Map.of(), failedLoads);
+        GroupedRows transactionRows =
+                awaitLoad(LOAD_TRANSACTIONS, transactionLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows transactionDetectionRows = awaitLoad(
+                LOAD_TRANSACTION_DETECTIONS, transactionDetectionLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows transactionRollupRows = awaitLoad(
+                LOAD_TRANSACTION_ROLLUP, transactionRollupLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows detectionRows = awaitLoad(LOAD_DETECTIONS, detectionLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        List<PercentileSummaryDTO> amountPercentiles = awaitLoad(
+                LOAD_AMOUNT_PERCENTILES, amountPercentileLoad, deadline, EMPTY_PERCENTILES, failedLoads);
+        List<PercentileSummaryDTO> detectionPercentiles = awaitLoad(
+                LOAD_DETECTION_PERCENTILES, detectionPercentileLoad, deadline, EMPTY_PERCENTILES, failedLoads);
+        GroupedRows userRows = awaitLoad(LOAD_USERS, userLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows accountRows = awaitLoad(LOAD_ACCOUNTS, accountLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows cardRows = awaitLoad(LOAD_CARDS, cardLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        Map<String, Object> featureRow = awaitLoad(LOAD_FEATURES, featureLoad, deadline, Map.of(), failedLoads);
+        GroupedRows reportRows = awaitLoad(LOAD_REPORTS, reportLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows blacklistRows = awaitLoad(LOAD_BLACKLIST, blacklistLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        GroupedRows codebookRows = awaitLoad(LOAD_CODEBOOK, codebookLoad, deadline, GroupedRows.EMPTY, failedLoads);
+        List<AdminDashboardResponseDTO.ConfigEntryDTO> configEntries =
+                awaitLoad(LOAD_CONFIG, configLoad, deadline, List.of(), failedLoads);
+
+        AdminDashboardResponseDTO.UsersSectionDTO users = buildUsersSection(userRows);
+        AdminDashboardResponseDTO.AccountsSectionDTO accounts = buildAccountsSection(accountRows, labels);
+        AdminDashboardResponseDTO.CardsSectionDTO cards = buildCardsSection(cardRows, labels);
+        AdminDashboardResponseDTO.TransactionsSectionDTO transactions =
+                buildTransactionsSection(transactionRows, transactionRollupRows, amountPercentiles.get(0), labels);
+        AdminDashboardResponseDTO.TransactionFeaturesSectionDTO transactionFeatures =
+                buildTransactionFeaturesSection(featureRow);
         AdminDashboardResponseDTO.DetectionSectionDTO detections =
-                buildDetectionSection(rangeParams, transactions.totalTransactions());
-        AdminDashboardResponseDTO.FraudReportsSectionDTO fraudReports = buildFraudReportsSection(rangeParams);
-        AdminDashboardResponseDTO.BlacklistSectionDTO blacklist = buildBlacklistSection(rangeParams);
-        AdminDashboardResponseDTO.ReferenceDataSectionDTO referenceData = buildReferenceDataSection(rangeParams);
+                buildDetectionSection(detectionRows, transactions.totalTransactions(), detectionPercentiles);
+        AdminDashboardResponseDTO.FraudReportsSectionDTO fraudReports =
+                buildFraudReportsSection(reportRows, transactionDetectionRows.total(), labels);
+        AdminDashboardResponseDTO.BlacklistSectionDTO blacklist =
+                buildBlacklistSection(blacklistRows, transactionRows.total(), detectionRows.total());
+        AdminDashboardResponseDTO.ReferenceDataSectionDTO referenceData =
+                buildReferenceDataSection(codebookRows, configEntries);
         AdminDashboardResponseDTO.CrossEntitySectionDTO crossEntity =
-                buildCrossEntitySection(rangeParams);
+                buildCrossEntitySection(
+                        transactionRows, transactionDetectionRows, transactionRollupRows, detectionRows, labels);
 
         return new AdminDashboardResponseDTO(
                 new AdminDashboardResponseDTO.DateRangeDTO(range.fromDate(), range.toDate()),
@@ -59,21 +621,18 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
                 fraudReports,
                 blacklist,
                 referenceData,
-                crossEntity
+                crossEntity,
+                resolveDegradedSections(failedLoads)
         );
     }
 
     /**
      * 사용자 섹션 통계를 구성한다. 사용자 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.UsersSectionDTO buildUsersSection(MapSqlParameterSource rangeParams) {
-        long totalUsers = queryLong("SELECT COUNT(*) FROM USERS", new MapSqlParameterSource());
-        Map<String, Long> genderDistribution = loadDistribution("""
-                SELECT NVL(GENDER, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM USERS
-                GROUP BY NVL(GENDER, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        Map<String, Long> ageDistribution = computeAgeDistribution();
+    private AdminDashboardResponseDTO.UsersSectionDTO buildUsersSection(GroupedRows rows) {
+        long totalUsers = toLong(rows.total().get(COUNT_VALUE));
+        Map<String, Long> genderDistribution = toDistribution(rows.rows("GENDER"));
+        Map<String, Long> ageDistribution = computeAgeDistribution(rows.rows("BIRTH"));
 
         return new AdminDashboardResponseDTO.UsersSectionDTO(
                 totalUsers,
@@ -85,30 +644,17 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
     /**
      * 계좌 섹션 통계를 구성한다. 계좌 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.AccountsSectionDTO buildAccountsSection(MapSqlParameterSource rangeParams) {
-        long totalAccounts = queryLong("SELECT COUNT(*) FROM ACCOUNTS", new MapSqlParameterSource());
-        List<AdminDashboardResponseDTO.DateCountDTO> newAccountsTrend = loadAdminDateCounts("""
-                SELECT TRUNC(CREATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM ACCOUNTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY TRUNC(CREATED_AT)
-                ORDER BY TRUNC(CREATED_AT)
-                """, rangeParams);
-        Map<String, Long> statusDistribution = loadDistribution("""
-                SELECT NVL(STATUS, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM ACCOUNTS
-                GROUP BY NVL(STATUS, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        Map<String, String> accountStatusLabels = loadCodebookLabels("ACCOUNT_STATUS");
-        Set<String> accountStatusDuplicates = findDuplicateLabels(accountStatusLabels);
-        statusDistribution = mapDistributionLabels(statusDistribution, accountStatusLabels, accountStatusDuplicates);
+    private AdminDashboardResponseDTO.AccountsSectionDTO buildAccountsSection(
+            GroupedRows rows,
+            Map<String, Map<String, String>> labels
+    ) {
+        long totalAccounts = toLong(rows.total().get(COUNT_VALUE));
+        List<AdminDashboardResponseDTO.DateCountDTO> newAccountsTrend = toDateCounts(rows.rows("DAY"));
+        Map<String, Long> statusDistribution =
+                mapLabels(toDistribution(rows.rows("STATUS")), labels, "ACCOUNT_STATUS");
         List<AdminDashboardResponseDTO.SegmentAverageDTO> averageBalanceByGenderAge =
-                computeAverageBalanceByGenderAge();
-        Map<String, Long> accountsPerUserDistribution = computeCountDistribution("""
-                SELECT USER_INNER_ID AS OWNER_ID, COUNT(*) AS COUNT_VALUE
-                FROM ACCOUNTS
-                GROUP BY USER_INNER_ID
-                """);
+                computeAverageBalanceByGenderAge(rows.rows("GENDER_BIRTH"));
+        Map<String, Long> accountsPerUserDistribution = computeCountDistribution(rows.rows("OWNER"));
 
         return new AdminDashboardResponseDTO.AccountsSectionDTO(
                 totalAccounts,
@@ -122,46 +668,17 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
     /**
      * 카드 섹션 통계를 구성한다. 카드 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.CardsSectionDTO buildCardsSection(MapSqlParameterSource rangeParams) {
-        long totalCards = queryLong("SELECT COUNT(*) FROM CARDS", new MapSqlParameterSource());
-        List<AdminDashboardResponseDTO.DateCountDTO> newCardsTrend = loadAdminDateCounts("""
-                SELECT TRUNC(CREATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM CARDS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY TRUNC(CREATED_AT)
-                ORDER BY TRUNC(CREATED_AT)
-                """, rangeParams);
-        Map<String, Long> statusDistribution = loadDistribution("""
-                SELECT NVL(STATUS, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM CARDS
-                GROUP BY NVL(STATUS, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        Map<String, Long> typeDistribution = loadDistribution("""
-                SELECT NVL(CARD_TYPE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM CARDS
-                GROUP BY NVL(CARD_TYPE, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        Map<String, String> cardStatusLabels = loadCodebookLabels("CARD_STATUS");
-        Set<String> cardStatusDuplicates = findDuplicateLabels(cardStatusLabels);
-        statusDistribution = mapDistributionLabels(statusDistribution, cardStatusLabels, cardStatusDuplicates);
-        Map<String, String> cardTypeLabels = loadCodebookLabels("CARD_TYPE");
-        Set<String> cardTypeDuplicates = findDuplicateLabels(cardTypeLabels);
-        typeDistribution = mapDistributionLabels(typeDistribution, cardTypeLabels, cardTypeDuplicates);
-        Map<String, Long> issuerDistribution = loadDistribution("""
-                SELECT NVL(ISSUER, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM CARDS
-                GROUP BY NVL(ISSUER, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        Map<String, Long> cardsPerUserDistribution = computeCountDistribution("""
-                SELECT USER_INNER_ID AS OWNER_ID, COUNT(*) AS COUNT_VALUE
-                FROM CARDS
-                GROUP BY USER_INNER_ID
-                """);
-        Map<String, Long> cardsPerAccountDistribution = computeCountDistribution("""
-                SELECT ACCOUNT_ID AS OWNER_ID, COUNT(*) AS COUNT_VALUE
-                FROM CARDS
-                GROUP BY ACCOUNT_ID
-                """);
+    private AdminDashboardResponseDTO.CardsSectionDTO buildCardsSection(
+            GroupedRows rows,
+            Map<String, Map<String, String>> labels
+    ) {
+        long totalCards = toLong(rows.total().get(COUNT_VALUE));
+        List<AdminDashboardResponseDTO.DateCountDTO> newCardsTrend = toDateCounts(rows.rows("DAY"));
+        Map<String, Long> statusDistribution = mapLabels(toDistribution(rows.rows("STATUS")), labels, "CARD_STATUS");
+        Map<String, Long> typeDistribution = mapLabels(toDistribution(rows.rows("CARD_TYPE")), labels, "CARD_TYPE");
+        Map<String, Long> issuerDistribution = toDistribution(rows.rows("ISSUER"));
+        Map<String, Long> cardsPerUserDistribution = computeCountDistribution(rows.rows("OWNER"));
+        Map<String, Long> cardsPerAccountDistribution = computeCountDistribution(rows.rows("ACCOUNT"));
 
         return new AdminDashboardResponseDTO.CardsSectionDTO(
                 totalCards,
@@ -177,156 +694,64 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
     /**
      * 거래 섹션 통계를 구성한다. 거래 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.TransactionsSectionDTO buildTransactionsSection(MapSqlParameterSource rangeParams) {
-        long totalTransactions = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.DateCountDTO> dailyTrend = loadAdminDateCounts("""
-                SELECT TRUNC(CREATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY TRUNC(CREATED_AT)
-                ORDER BY TRUNC(CREATED_AT)
-                """, rangeParams);
-        Map<String, Long> hourlyDistribution = loadDistribution("""
-                SELECT TO_CHAR(EXTRACT(HOUR FROM CREATED_AT)) AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY EXTRACT(HOUR FROM CREATED_AT)
-                ORDER BY EXTRACT(HOUR FROM CREATED_AT)
-                """, rangeParams);
-        BigDecimal totalAmount = queryDecimal("""
-                SELECT NVL(SUM(TX_AMOUNT), 0)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                """, rangeParams);
-        BigDecimal averageAmount = queryDecimal("""
-                SELECT AVG(TX_AMOUNT)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                """, rangeParams);
-        BigDecimal totalBalanceAfterTx = queryDecimal("""
-                SELECT NVL(SUM(BALANCE_AFTER_TX), 0)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  AND BALANCE_AFTER_TX IS NOT NULL
-                """, rangeParams);
-        BigDecimal averageBalanceAfterTx = queryDecimal("""
-                SELECT AVG(BALANCE_AFTER_TX)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  AND BALANCE_AFTER_TX IS NOT NULL
-                """, rangeParams);
-        Map<String, Long> typeDistribution = loadDistribution("""
-                SELECT NVL(TX_TYPE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(TX_TYPE, 'UNKNOWN')
-                """, rangeParams);
-        Map<String, String> transactionTypeLabels = loadCodebookLabels("TRANSACTION_TYPE");
-        Set<String> transactionTypeDuplicates = findDuplicateLabels(transactionTypeLabels);
-        typeDistribution = mapDistributionLabels(typeDistribution, transactionTypeLabels, transactionTypeDuplicates);
-
-        AdminDashboardResponseDTO.FieldStatsDTO merchantCategoryStats =
-                buildFieldStats("MERCHANT_CAT", rangeParams);
-        AdminDashboardResponseDTO.FieldStatsDTO locationStats =
-                buildFieldStats("LOCATION", rangeParams);
-        AdminDashboardResponseDTO.FieldStatsDTO targetAccountStats =
-                buildFieldStats("TARGET_ACCOUNT_NUMBER", rangeParams);
-        AdminDashboardResponseDTO.FieldStatsDTO descriptionStats =
-                buildFieldStats("DESCRIPTION", rangeParams);
-        AdminDashboardResponseDTO.FieldStatsDTO sourceValueStats =
-                buildFieldStats("SOURCE_VALUE", rangeParams);
-
-        List<AdminDashboardResponseDTO.NamedCountDTO> topAccountsByCount = loadNamedCounts("""
-                SELECT a.ACCOUNT_NUMBER AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY a.ACCOUNT_NUMBER
-                ORDER BY COUNT(*) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.NamedAmountDTO> topAccountsByAmount = loadNamedAmounts("""
-                SELECT a.ACCOUNT_NUMBER AS KEY_NAME, SUM(t.TX_AMOUNT) AS AMOUNT_VALUE
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY a.ACCOUNT_NUMBER
-                ORDER BY SUM(t.TX_AMOUNT) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.NamedCountDTO> topUsersByCount = loadNamedCounts("""
-                SELECT u.USER_ID AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN USERS u ON u.ID = a.USER_INNER_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY u.USER_ID
-                ORDER BY COUNT(*) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.NamedAmountDTO> topUsersByAmount = loadNamedAmounts("""
-                SELECT u.USER_ID AS KEY_NAME, SUM(t.TX_AMOUNT) AS AMOUNT_VALUE
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN USERS u ON u.ID = a.USER_INNER_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY u.USER_ID
-                ORDER BY SUM(t.TX_AMOUNT) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, rangeParams);
+    private AdminDashboardResponseDTO.TransactionsSectionDTO buildTransactionsSection(
+            GroupedRows rows,
+            GroupedRows rollupRows,
+            PercentileSummaryDTO amountPercentiles,
+            Map<String, Map<String, String>> labels
+    ) {
+        Map<String, Object> total = rows.total();
+        long totalTransactions = toLong(total.get(COUNT_VALUE));
+        List<AdminDashboardResponseDTO.DateCountDTO> dailyTrend = toDateCounts(rollupRows.rows("DAY"));
+        Map<String, Long> hourlyDistribution = toDistribution(sortByNumericKey(rollupRows.rows("HOUR")));
+        BigDecimal totalAmount = zeroIfNull(toDecimal(total.get(AMOUNT_VALUE)));
+        BigDecimal averageAmount = toDecimal(total.get("AVG_AMOUNT"));
+        BigDecimal totalBalanceAfterTx = zeroIfNull(toDecimal(total.get("BALANCE_SUM")));
+        BigDecimal averageBalanceAfterTx = toDecimal(total.get("BALANCE_AVG"));
+        Map<String, Long> typeDistribution =
+                mapLabels(toDistribution(rollupRows.rows("TX_TYPE")), labels, "TRANSACTION_TYPE");
 
         return new AdminDashboardResponseDTO.TransactionsSectionDTO(
                 totalTransactions,
                 dailyTrend,
                 hourlyDistribution,
                 new AdminDashboardResponseDTO.AmountSummaryDTO(totalAmount, averageAmount),
+                amountPercentiles,
                 new AdminDashboardResponseDTO.AmountSummaryDTO(totalBalanceAfterTx, averageBalanceAfterTx),
                 typeDistribution,
-                merchantCategoryStats,
-                locationStats,
-                targetAccountStats,
-                descriptionStats,
-                sourceValueStats,
-                topAccountsByCount,
-                topAccountsByAmount,
-                topUsersByCount,
-                topUsersByAmount
+                buildFieldStats(rows, "MERCHANT_CAT", totalTransactions),
+                buildFieldStats(rows, "LOCATION", totalTransactions),
+                buildFieldStats(rows, "TARGET_ACCOUNT_NUMBER", totalTransactions),
+                buildFieldStats(rows, "DESCRIPTION", totalTransactions),
+                buildFieldStats(rows, "SOURCE_VALUE", totalTransactions),
+                topNamedCounts(rows.rows("ACCOUNT"), COUNT_VALUE),
+                topNamedAmounts(rows.rows("ACCOUNT")),
+                topNamedCounts(rows.rows("USER"), COUNT_VALUE),
+                topNamedAmounts(rows.rows("USER"))
         );
     }
 
     /**
      * 거래 피처 섹션 통계를 구성한다. 거래 피처 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.TransactionFeaturesSectionDTO buildTransactionFeaturesSection() {
-        long transactionCount = queryLong("SELECT COUNT(*) FROM TRANSACTIONS", new MapSqlParameterSource());
-        long featureCount = queryLong("SELECT COUNT(*) FROM TRANSACTION_FEATURES", new MapSqlParameterSource());
+    private AdminDashboardResponseDTO.TransactionFeaturesSectionDTO buildTransactionFeaturesSection(
+            Map<String, Object> row
+    ) {
+        long transactionCount = toLong(row.get(TX_COUNT));
+        long featureCount = toLong(row.get(COUNT_VALUE));
         BigDecimal coverageRate = safeRate(featureCount, transactionCount);
         List<AdminDashboardResponseDTO.NumericSummaryDTO> balanceSummaries = List.of(
-                buildNumericSummary("OLD_BALANCE_ORG"),
-                buildNumericSummary("NEW_BALANCE_ORG")
+                buildNumericSummary(row, "OLD_BALANCE_ORG"),
+                buildNumericSummary(row, "NEW_BALANCE_ORG")
         );
-        long vFeaturesCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTION_FEATURES
-                WHERE V_FEATURES IS NOT NULL
-                """, new MapSqlParameterSource());
-        BigDecimal avgFeaturesLength = queryDecimal("""
-                SELECT AVG(LENGTH(V_FEATURES))
-                FROM TRANSACTION_FEATURES
-                WHERE V_FEATURES IS NOT NULL
-                """, new MapSqlParameterSource());
 
         return new AdminDashboardResponseDTO.TransactionFeaturesSectionDTO(
                 transactionCount,
                 featureCount,
                 coverageRate,
                 balanceSummaries,
-                vFeaturesCount,
-                avgFeaturesLength
+                toLong(row.get("VECTOR_COUNT")),
+                toDecimal(row.get("VECTOR_LENGTH_AVG"))
         );
     }
 
@@ -334,328 +759,99 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
      * 탐지 섹션 통계를 구성한다. 탐지 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
     private AdminDashboardResponseDTO.DetectionSectionDTO buildDetectionSection(
-            MapSqlParameterSource rangeParams,
-            long transactionCount
+            GroupedRows rows,
+            long transactionCount,
+            List<PercentileSummaryDTO> percentiles
     ) {
-        long detectionCount = queryLong("""
-                SELECT COUNT(*)
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.DateCountDTO> detectionTrend = loadAdminDateCounts("""
-                SELECT TRUNC(DETECTED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                GROUP BY TRUNC(DETECTED_AT)
-                ORDER BY TRUNC(DETECTED_AT)
-                """, rangeParams);
-        BigDecimal detectionCoverage = safeRate(detectionCount, transactionCount);
-        BigDecimal averageDelayMinutes = queryDecimal("""
-                SELECT AVG((d.DETECTED_AT - t.CREATED_AT) * 24 * 60)
-                FROM FRAUD_DETECTION_RESULTS d
-                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                WHERE d.DETECTED_AT >= :fromTs AND d.DETECTED_AT < :toTs
-                """, rangeParams);
-        long fraudCount = queryLong("""
-                SELECT COUNT(*)
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                  AND IS_FRAUD = 1
-                """, rangeParams);
-        BigDecimal fraudRate = safeRate(fraudCount, detectionCount);
-        Map<String, Long> fraudProbabilityDistribution = loadDistribution("""
-                SELECT CASE
-                           WHEN FRAUD_PROBABILITY IS NULL THEN 'UNKNOWN'
-                           WHEN FRAUD_PROBABILITY < 0.2 THEN '0-0.2'
-                           WHEN FRAUD_PROBABILITY < 0.4 THEN '0.2-0.4'
-                           WHEN FRAUD_PROBABILITY < 0.6 THEN '0.4-0.6'
-                           WHEN FRAUD_PROBABILITY < 0.8 THEN '0.6-0.8'
-                           ELSE '0.8-1.0'
-                       END AS KEY_NAME,
-                       COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                GROUP BY CASE
-                           WHEN FRAUD_PROBABILITY IS NULL THEN 'UNKNOWN'
-                           WHEN FRAUD_PROBABILITY < 0.2 THEN '0-0.2'
-                           WHEN FRAUD_PROBABILITY < 0.4 THEN '0.2-0.4'
-                           WHEN FRAUD_PROBABILITY < 0.6 THEN '0.4-0.6'
-                           WHEN FRAUD_PROBABILITY < 0.8 THEN '0.6-0.8'
-                           ELSE '0.8-1.0'
-                       END
-                """, rangeParams);
-        Map<String, Long> engineDistribution = loadDistribution("""
-                SELECT NVL(DETECTED_ENGINE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                GROUP BY NVL(DETECTED_ENGINE, 'UNKNOWN')
-                """, rangeParams);
-        Map<String, Long> thresholdDistribution = loadDistribution("""
-                SELECT CASE
-                           WHEN THRESHOLD_VALUE IS NULL THEN 'UNKNOWN'
-                           WHEN THRESHOLD_VALUE < 0.5 THEN '0-0.5'
-                           WHEN THRESHOLD_VALUE < 0.8 THEN '0.5-0.8'
-                           WHEN THRESHOLD_VALUE < 1.0 THEN '0.8-1.0'
-                           ELSE '1.0+'
-                       END AS KEY_NAME,
-                       COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                GROUP BY CASE
-                           WHEN THRESHOLD_VALUE IS NULL THEN 'UNKNOWN'
-                           WHEN THRESHOLD_VALUE < 0.5 THEN '0-0.5'
-                           WHEN THRESHOLD_VALUE < 0.8 THEN '0.5-0.8'
-                           WHEN THRESHOLD_VALUE < 1.0 THEN '0.8-1.0'
-                           ELSE '1.0+'
-                       END
-                """, rangeParams);
-        BigDecimal thresholdExceedRate = queryDecimal("""
-                SELECT SUM(CASE WHEN FRAUD_PROBABILITY >= THRESHOLD_VALUE THEN 1 ELSE 0 END)
-                       / NULLIF(COUNT(*), 0)
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                  AND THRESHOLD_VALUE IS NOT NULL
-                """, rangeParams);
+        Map<String, Object> total = rows.total();
+        long detectionCount = toLong(total.get(COUNT_VALUE));
+        long fraudCount = toLong(total.get("FRAUD_COUNT"));
 
         return new AdminDashboardResponseDTO.DetectionSectionDTO(
                 detectionCount,
-                detectionTrend,
-                detectionCoverage,
-                averageDelayMinutes,
+                toDateCounts(rows.rows("DAY")),
+                safeRate(detectionCount, transactionCount),
+                toDecimal(total.get("AVG_DELAY_MINUTES")),
+                percentiles.get(0),
                 fraudCount,
-                fraudRate,
-                fraudProbabilityDistribution,
-                engineDistribution,
-                thresholdDistribution,
-                thresholdExceedRate
+                safeRate(fraudCount, detectionCount),
+                toDistribution(rows.rows("PROBABILITY")),
+                percentiles.get(1),
+                toDistribution(rows.rows("ENGINE")),
+                toDistribution(rows.rows("THRESHOLD")),
+                nullableRate(toLong(total.get("THRESHOLD_EXCEEDED_COUNT")), toLong(total.get("THRESHOLD_COUNT")))
         );
     }
 
     /**
      * 신고 섹션 통계를 구성한다. 신고 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.FraudReportsSectionDTO buildFraudReportsSection(MapSqlParameterSource rangeParams) {
-        long totalReports = queryLong("""
-                SELECT COUNT(*)
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.DateCountDTO> reportTrend = loadAdminDateCounts("""
-                SELECT TRUNC(CREATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY TRUNC(CREATED_AT)
-                ORDER BY TRUNC(CREATED_AT)
-                """, rangeParams);
-        Map<String, Long> statusDistribution = loadDistribution("""
-                SELECT NVL(STATUS, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(STATUS, 'UNKNOWN')
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.NamedCountDTO> reasonTop = loadNamedCounts("""
-                SELECT NVL(REASON, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(REASON, 'UNKNOWN')
-                ORDER BY COUNT(*) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, rangeParams);
-        Map<String, Long> reasonCodeDistribution = loadDistribution("""
-                SELECT NVL(TO_CHAR(REASON_CODE), 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(TO_CHAR(REASON_CODE), 'UNKNOWN')
-                """, rangeParams);
-        Map<String, String> reportStatusLabels = loadCodebookLabels("REPORT_STATUS");
-        Set<String> reportStatusDuplicates = findDuplicateLabels(reportStatusLabels);
-        statusDistribution = mapDistributionLabels(statusDistribution, reportStatusLabels, reportStatusDuplicates);
-        Map<String, String> reportReasonLabels = loadCodebookLabels("REPORT_REASON");
-        Set<String> reportReasonDuplicates = findDuplicateLabels(reportReasonLabels);
-        reasonCodeDistribution = mapDistributionLabels(reasonCodeDistribution, reportReasonLabels, reportReasonDuplicates);
-        BigDecimal averageReportCount = queryDecimal("""
-                SELECT AVG(REPORT_COUNT)
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  AND REPORT_COUNT IS NOT NULL
-                """, rangeParams);
-        long distinctAccountCount = queryLong("""
-                SELECT COUNT(DISTINCT REPORTED_ACCOUNT)
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                """, rangeParams);
-        BigDecimal duplicateRate = safeRate(totalReports - distinctAccountCount, totalReports);
-        List<AdminDashboardResponseDTO.NamedCountDTO> topAccounts = loadNamedCounts("""
-                SELECT REPORTED_ACCOUNT AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM FRAUD_REPORTS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY REPORTED_ACCOUNT
-                ORDER BY COUNT(*) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, rangeParams);
-
-        BigDecimal reportedAccountDetectionRate = queryDecimal("""
-                SELECT SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END)
-                       / NULLIF(COUNT(*), 0)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                  AND a.ACCOUNT_NUMBER IN (
-                      SELECT DISTINCT REPORTED_ACCOUNT
-                      FROM FRAUD_REPORTS
-                      WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  )
-                """, rangeParams);
-        BigDecimal reportedAccountFraudRate = queryDecimal("""
-                SELECT SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END)
-                       / NULLIF(COUNT(*), 0)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                  AND a.ACCOUNT_NUMBER IN (
-                      SELECT DISTINCT REPORTED_ACCOUNT
-                      FROM FRAUD_REPORTS
-                      WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  )
-                """, rangeParams);
+    private AdminDashboardResponseDTO.FraudReportsSectionDTO buildFraudReportsSection(
+            GroupedRows rows,
+            Map<String, Object> transactionDetectionTotal,
+            Map<String, Map<String, String>> labels
+    ) {
+        Map<String, Object> total = rows.total();
+        long totalReports = toLong(total.get(COUNT_VALUE));
+        long distinctAccountCount = toLong(total.get("DISTINCT_ACCOUNT_COUNT"));
+        long reportedDetectedCount = toLong(transactionDetectionTotal.get("REPORTED_DETECTED_COUNT"));
 
         return new AdminDashboardResponseDTO.FraudReportsSectionDTO(
                 totalReports,
-                reportTrend,
-                statusDistribution,
-                reasonTop,
-                reasonCodeDistribution,
-                averageReportCount,
+                toDateCounts(rows.rows("DAY")),
+                mapLabels(toDistribution(rows.rows("STATUS")), labels, "REPORT_STATUS"),
+                topNamedCounts(rows.rows("REASON"), COUNT_VALUE),
+                mapLabels(toDistribution(rows.rows("REASON_CODE")), labels, "REPORT_REASON"),
+                toDecimal(total.get("AVG_REPORT_COUNT")),
                 distinctAccountCount,
-                duplicateRate,
-                topAccounts,
-                reportedAccountDetectionRate,
-                reportedAccountFraudRate
+                safeRate(totalReports - distinctAccountCount, totalReports),
+                topNamedCounts(rows.rows("ACCOUNT"), COUNT_VALUE),
+                nullableRate(reportedDetectedCount, toLong(transactionDetectionTotal.get("REPORTED_COUNT"))),
+                nullableRate(toLong(transactionDetectionTotal.get("REPORTED_FRAUD_COUNT")), reportedDetectedCount)
         );
     }
 
     /**
      * 블랙리스트 섹션 통계를 구성한다. 블랙리스트 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.BlacklistSectionDTO buildBlacklistSection(MapSqlParameterSource rangeParams) {
-        long totalBlacklist = queryLong("SELECT COUNT(*) FROM BLACKLIST_ACCOUNTS", new MapSqlParameterSource());
-        List<AdminDashboardResponseDTO.DateCountDTO> newTrend = loadAdminDateCounts("""
-                SELECT TRUNC(BLOCKED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM BLACKLIST_ACCOUNTS
-                WHERE BLOCKED_AT >= :fromTs AND BLOCKED_AT < :toTs
-                GROUP BY TRUNC(BLOCKED_AT)
-                ORDER BY TRUNC(BLOCKED_AT)
-                """, rangeParams);
-        Map<String, Long> reasonDistribution = loadDistribution("""
-                SELECT NVL(REASON, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM BLACKLIST_ACCOUNTS
-                GROUP BY NVL(REASON, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        long distinctAccountCount = queryLong("""
-                SELECT COUNT(DISTINCT ACCOUNT_NUM)
-                FROM BLACKLIST_ACCOUNTS
-                """, new MapSqlParameterSource());
-        long duplicateCount = totalBlacklist - distinctAccountCount;
-        long relatedTransactionCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                  AND a.ACCOUNT_NUMBER IN (SELECT ACCOUNT_NUM FROM BLACKLIST_ACCOUNTS)
-                """, rangeParams);
-        long relatedDetectionCount = queryLong("""
-                SELECT COUNT(*)
-                FROM FRAUD_DETECTION_RESULTS d
-                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE d.DETECTED_AT >= :fromTs AND d.DETECTED_AT < :toTs
-                  AND a.ACCOUNT_NUMBER IN (SELECT ACCOUNT_NUM FROM BLACKLIST_ACCOUNTS)
-                """, rangeParams);
+    private AdminDashboardResponseDTO.BlacklistSectionDTO buildBlacklistSection(
+            GroupedRows rows,
+            Map<String, Object> transactionTotal,
+            Map<String, Object> detectionTotal
+    ) {
+        long totalBlacklist = toLong(rows.total().get(COUNT_VALUE));
+        long distinctAccountCount = toLong(rows.total().get("DISTINCT_ACCOUNT_COUNT"));
 
         return new AdminDashboardResponseDTO.BlacklistSectionDTO(
                 totalBlacklist,
-                newTrend,
-                reasonDistribution,
+                toDateCounts(rows.rows("DAY")),
+                toDistribution(rows.rows("REASON")),
                 distinctAccountCount,
-                duplicateCount,
-                relatedTransactionCount,
-                relatedDetectionCount
+                totalBlacklist - distinctAccountCount,
+                toLong(transactionTotal.get("BLACKLISTED_COUNT")),
+                toLong(detectionTotal.get("BLACKLISTED_COUNT"))
         );
     }
 
     /**
      * 참고 데이터 섹션 통계를 구성한다. 참고 데이터 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.ReferenceDataSectionDTO buildReferenceDataSection(MapSqlParameterSource rangeParams) {
-        long codebookCount = queryLong("SELECT COUNT(*) FROM STATS_CODEBOOK", new MapSqlParameterSource());
-        List<AdminDashboardResponseDTO.DateCountDTO> createdTrend = loadAdminDateCounts("""
-                SELECT TRUNC(CREATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM STATS_CODEBOOK
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY TRUNC(CREATED_AT)
-                ORDER BY TRUNC(CREATED_AT)
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.DateCountDTO> updatedTrend = loadAdminDateCounts("""
-                SELECT TRUNC(UPDATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM STATS_CODEBOOK
-                WHERE UPDATED_AT >= :fromTs AND UPDATED_AT < :toTs
-                GROUP BY TRUNC(UPDATED_AT)
-                ORDER BY TRUNC(UPDATED_AT)
-                """, rangeParams);
-        Map<String, Long> codeTypeDistribution = loadDistribution("""
-                SELECT NVL(CODE_TYPE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM STATS_CODEBOOK
-                GROUP BY NVL(CODE_TYPE, 'UNKNOWN')
-                """, new MapSqlParameterSource());
-        long activeCount = queryLong("""
-                SELECT COUNT(*)
-                FROM STATS_CODEBOOK
-                WHERE IS_ACTIVE = 'Y'
-                """, new MapSqlParameterSource());
-        long inactiveCount = queryLong("""
-                SELECT COUNT(*)
-                FROM STATS_CODEBOOK
-                WHERE IS_ACTIVE = 'N'
-                """, new MapSqlParameterSource());
-        long metaJsonCount = queryLong("""
-                SELECT COUNT(*)
-                FROM STATS_CODEBOOK
-                WHERE META_JSON IS NOT NULL
-                """, new MapSqlParameterSource());
-        long descriptionMissingCount = queryLong("""
-                SELECT COUNT(*)
-                FROM STATS_CODEBOOK
-                WHERE DESCRIPTION IS NULL OR TRIM(DESCRIPTION) = ''
-                """, new MapSqlParameterSource());
-        Map<String, Long> sortOrderDistribution = loadDistribution("""
-                SELECT TO_CHAR(NVL(SORT_ORDER, 0)) AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM STATS_CODEBOOK
-                GROUP BY NVL(SORT_ORDER, 0)
-                ORDER BY NVL(SORT_ORDER, 0)
-                """, new MapSqlParameterSource());
-
-        List<AdminDashboardResponseDTO.ConfigEntryDTO> configEntries = jdbcTemplate.query("""
-                SELECT CONFIG_KEY, CONFIG_VALUE, DESCRIPTION
-                FROM FDS_CONFIG
-                ORDER BY CONFIG_KEY
-                """, new MapSqlParameterSource(), (rs, rowNum) -> new AdminDashboardResponseDTO.ConfigEntryDTO(
-                rs.getString("CONFIG_KEY"),
-                rs.getString("CONFIG_VALUE"),
-                rs.getString("DESCRIPTION")
-        ));
+    private AdminDashboardResponseDTO.ReferenceDataSectionDTO buildReferenceDataSection(
+            GroupedRows rows,
+            List<AdminDashboardResponseDTO.ConfigEntryDTO> configEntries
+    ) {
+        Map<String, Object> total = rows.total();
 
         return new AdminDashboardResponseDTO.ReferenceDataSectionDTO(
-                codebookCount,
-                createdTrend,
-                updatedTrend,
-                codeTypeDistribution,
-                activeCount,
-                inactiveCount,
-                metaJsonCount,
-                descriptionMissingCount,
-                sortOrderDistribution,
+                toLong(total.get(COUNT_VALUE)),
+                toDateCounts(rows.rows("CREATED_DAY")),
+                toDateCounts(rows.rows("UPDATED_DAY")),
+                toDistribution(rows.rows("CODE_TYPE")),
+                toLong(total.get("ACTIVE_COUNT")),
+                toLong(total.get("INACTIVE_COUNT")),
+                toLong(total.get("META_JSON_COUNT")),
+                toLong(total.get("DESCRIPTION_MISSING_COUNT")),
+                toDistribution(sortByNumericKey(rows.rows("SORT_ORDER"))),
                 configEntries
         );
     }
@@ -663,266 +859,273 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
     /**
      * 교차 분석 섹션 통계를 구성한다. 교차 분석 섹션 응답에 사용될 DTO 객체를 반환한다.
      */
-    private AdminDashboardResponseDTO.CrossEntitySectionDTO buildCrossEntitySection(MapSqlParameterSource rangeParams) {
+    private AdminDashboardResponseDTO.CrossEntitySectionDTO buildCrossEntitySection(
+            GroupedRows transactionRows,
+            GroupedRows transactionDetectionRows,
+            GroupedRows transactionRollupRows,
+            GroupedRows detectionRows,
+            Map<String, Map<String, String>> labels
+    ) {
         List<AdminDashboardResponseDTO.SegmentMetricDTO> segmentMetrics = new ArrayList<>();
-        segmentMetrics.addAll(loadSegmentMetrics("""
-                SELECT NVL(u.GENDER, 'UNKNOWN') AS SEGMENT,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END) AS DETECTED_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN USERS u ON u.ID = a.USER_INNER_ID
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY NVL(u.GENDER, 'UNKNOWN')
-                """, rangeParams, "GENDER"));
-        segmentMetrics.addAll(loadAgeSegmentMetrics(rangeParams));
-        segmentMetrics.addAll(loadSegmentMetrics("""
-                SELECT NVL(a.STATUS, 'UNKNOWN') AS SEGMENT,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END) AS DETECTED_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY NVL(a.STATUS, 'UNKNOWN')
-                """, rangeParams, "ACCOUNT_STATUS"));
-        Map<String, String> accountStatusLabels = loadCodebookLabels("ACCOUNT_STATUS");
-        Set<String> accountStatusDuplicates = findDuplicateLabels(accountStatusLabels);
-        segmentMetrics = mapSegmentMetrics(segmentMetrics, "ACCOUNT_STATUS", accountStatusLabels, accountStatusDuplicates);
-
-        List<AdminDashboardResponseDTO.AccountRankDTO> accountRanking = jdbcTemplate.query("""
-                SELECT a.ACCOUNT_NUMBER AS ACCOUNT_NUMBER,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END) AS DETECTED_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY a.ACCOUNT_NUMBER
-                ORDER BY COUNT(*) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """, withLimit(rangeParams), (rs, rowNum) -> new AdminDashboardResponseDTO.AccountRankDTO(
-                rs.getString("ACCOUNT_NUMBER"),
-                rs.getLong("TX_COUNT"),
-                rs.getLong("DETECTED_COUNT"),
-                rs.getLong("FRAUD_COUNT")
-        ));
+        segmentMetrics.addAll(toSegmentMetrics(transactionDetectionRows.rows("GENDER"), "GENDER"));
+        segmentMetrics.addAll(toAgeSegmentMetrics(transactionDetectionRows.rows("BIRTH")));
+        segmentMetrics.addAll(toSegmentMetrics(transactionDetectionRows.rows("ACCOUNT_STATUS"), "ACCOUNT_STATUS"));
+        Map<String, String> accountStatusLabels = labels.getOrDefault("ACCOUNT_STATUS", Map.of());
+        segmentMetrics = mapSegmentMetrics(
+                segmentMetrics,
+                "ACCOUNT_STATUS",
+                accountStatusLabels,
+                findDuplicateLabels(accountStatusLabels)
+        );
 
-        Map<String, Long> merchantCategoryBreakdown = loadDistribution("""
-                SELECT NVL(MERCHANT_CAT, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(MERCHANT_CAT, 'UNKNOWN')
-                """, rangeParams);
-        Map<String, Long> locationBreakdown = loadDistribution("""
-                SELECT NVL(LOCATION, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(LOCATION, 'UNKNOWN')
-                """, rangeParams);
-        Map<String, Long> targetAccountBreakdown = loadDistribution("""
-                SELECT NVL(TARGET_ACCOUNT_NUMBER, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(TARGET_ACCOUNT_NUMBER, 'UNKNOWN')
-                """, rangeParams);
-        Map<String, Long> transactionTypeBreakdown = loadDistribution("""
-                SELECT NVL(TX_TYPE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                GROUP BY NVL(TX_TYPE, 'UNKNOWN')
-                """, rangeParams);
-        Map<String, String> transactionTypeLabels = loadCodebookLabels("TRANSACTION_TYPE");
+        List<AdminDashboardResponseDTO.AccountRankDTO> accountRanking = new ArrayList<>();
+        for (Map<String, Object> row : topRows(transactionDetectionRows.rows("ACCOUNT"), TX_COUNT)) {
+            accountRanking.add(new AdminDashboardResponseDTO.AccountRankDTO(
+                    Objects.toString(row.get(KEY_NAME), null),
+                    toLong(row.get(TX_COUNT)),
+                    toLong(row.get("DETECTED_COUNT")),
+                    toLong(row.get("FRAUD_COUNT"))
+            ));
+        }
+
+        Map<String, String> transactionTypeLabels = labels.getOrDefault("TRANSACTION_TYPE", Map.of());
         Set<String> transactionTypeDuplicates = findDuplicateLabels(transactionTypeLabels);
-        transactionTypeBreakdown = mapDistributionLabels(
-                transactionTypeBreakdown,
+        Map<String, Long> transactionTypeBreakdown = mapDistributionLabels(
+                toDistribution(transactionRollupRows.rows("TX_TYPE")),
+                transactionTypeLabels,
+                transactionTypeDuplicates
+        );
+        List<AdminDashboardResponseDTO.FraudBucketDTO> typeBuckets = mapFraudBuckets(
+                toFraudBuckets(transactionRollupRows.rows("TX_TYPE")),
                 transactionTypeLabels,
                 transactionTypeDuplicates
         );
 
-        List<AdminDashboardResponseDTO.FraudBucketDTO> amountBuckets = loadFraudBuckets("""
-                SELECT CASE
-                           WHEN t.TX_AMOUNT < 100000 THEN '0-100k'
-                           WHEN t.TX_AMOUNT < 500000 THEN '100k-500k'
-                           WHEN t.TX_AMOUNT < 1000000 THEN '500k-1m'
-                           ELSE '1m+'
-                       END AS BUCKET,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
-                       AVG(d.FRAUD_PROBABILITY) AS AVG_PROB
-                FROM TRANSACTIONS t
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY CASE
-                           WHEN t.TX_AMOUNT < 100000 THEN '0-100k'
-                           WHEN t.TX_AMOUNT < 500000 THEN '100k-500k'
-                           WHEN t.TX_AMOUNT < 1000000 THEN '500k-1m'
-                           ELSE '1m+'
-                       END
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.FraudBucketDTO> hourBuckets = loadFraudBuckets("""
-                SELECT TO_CHAR(EXTRACT(HOUR FROM t.CREATED_AT)) AS BUCKET,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
-                       AVG(d.FRAUD_PROBABILITY) AS AVG_PROB
-                FROM TRANSACTIONS t
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY EXTRACT(HOUR FROM t.CREATED_AT)
-                ORDER BY EXTRACT(HOUR FROM t.CREATED_AT)
-                """, rangeParams);
-        List<AdminDashboardResponseDTO.FraudBucketDTO> typeBuckets = loadFraudBuckets("""
-                SELECT NVL(t.TX_TYPE, 'UNKNOWN') AS BUCKET,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
-                       AVG(d.FRAUD_PROBABILITY) AS AVG_PROB
-                FROM TRANSACTIONS t
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY NVL(t.TX_TYPE, 'UNKNOWN')
-                """, rangeParams);
-        typeBuckets = mapFraudBuckets(typeBuckets, transactionTypeLabels, transactionTypeDuplicates);
-        List<AdminDashboardResponseDTO.EngineComparisonDTO> engineComparisons = jdbcTemplate.query("""
-                SELECT NVL(DETECTED_ENGINE, 'UNKNOWN') AS ENGINE,
-                       AVG(FRAUD_PROBABILITY) AS AVG_PROB,
-                       SUM(CASE WHEN IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
-                       COUNT(*) AS TOTAL_COUNT
-                FROM FRAUD_DETECTION_RESULTS
-                WHERE DETECTED_AT >= :fromTs AND DETECTED_AT < :toTs
-                GROUP BY NVL(DETECTED_ENGINE, 'UNKNOWN')
-                """, rangeParams, (rs, rowNum) -> {
-            long fraudCount = rs.getLong("FRAUD_COUNT");
-            long totalCount = rs.getLong("TOTAL_COUNT");
-            return new AdminDashboardResponseDTO.EngineComparisonDTO(
-                    rs.getString("ENGINE"),
-                    rs.getDouble("AVG_PROB"),
+        List<AdminDashboardResponseDTO.EngineComparisonDTO> engineComparisons = new ArrayList<>();
+        for (Map<String, Object> row : detectionRows.rows("ENGINE")) {
+            long fraudCount = toLong(row.get("FRAUD_COUNT"));
+            long totalCount = toLong(row.get(COUNT_VALUE));
+            BigDecimal averageProbability = toDecimal(row.get("AVG_PROB"));
+            engineComparisons.add(new AdminDashboardResponseDTO.EngineComparisonDTO(
+                    Objects.toString(row.get(KEY_NAME), "UNKNOWN"),
+                    averageProbability == null ? 0.0 : averageProbability.doubleValue(),
                     safeRate(fraudCount, totalCount),
                     totalCount
-            );
-        });
-
-        BigDecimal blacklistDetectionRate = queryDecimal("""
-                SELECT SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END) / NULLIF(COUNT(*), 0)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                  AND a.ACCOUNT_NUMBER IN (SELECT ACCOUNT_NUM FROM BLACKLIST_ACCOUNTS)
-                """, rangeParams);
+            ));
+        }
 
+        Map<String, Object> transactionDetectionTotal = transactionDetectionRows.total();
         return new AdminDashboardResponseDTO.CrossEntitySectionDTO(
                 segmentMetrics,
                 accountRanking,
-                merchantCategoryBreakdown,
-                locationBreakdown,
-                targetAccountBreakdown,
+                toDistribution(transactionRows.rows("MERCHANT_CAT")),
+                toDistribution(transactionRows.rows("LOCATION")),
+                toDistribution(transactionRows.rows("TARGET_ACCOUNT_NUMBER")),
                 transactionTypeBreakdown,
-                amountBuckets,
-                hourBuckets,
+                toFraudBuckets(transactionDetectionRows.rows("AMOUNT_BUCKET")),
+                toFraudBuckets(sortByNumericKey(transactionRollupRows.rows("HOUR"))),
                 typeBuckets,
                 engineComparisons,
-                blacklistDetectionRate
+                nullableRate(
+                        toLong(transactionDetectionTotal.get("BLACKLISTED_DETECTED_COUNT")),
+                        toLong(transactionDetectionTotal.get("BLACKLISTED_COUNT"))
+                )
         );
     }
 
+    /**
+     * GROUPING SETS 쿼리를 실행하고 결과 행을 DIM 값별로 나눈다.
+     */
+    private GroupedRows queryGrouped(String sql, MapSqlParameterSource params) {
+        return new GroupedRows(jdbcTemplate.queryForList(sql, withLimit(params)));
+    }
+
+    private Map<String, Object> loadFeatures() {
+        // 피처 벡터(FEATURE_BYTES, RAW) 기준으로 집계해 CLOB 을 읽지 않는다.
+        List<Map<String, Object>> result = jdbcTemplate.queryForList(FEATURES_SQL, new MapSqlParameterSource());
+        return result.isEmpty() ? Map.of() : result.get(0);
+    }
+
+    private List<AdminDashboardResponseDTO.ConfigEntryDTO> loadConfigEntries() {
+        return jdbcTemplate.query("""
+                SELECT CONFIG_KEY, CONFIG_VALUE, DESCRIPTION
+                FROM FDS_CONFIG
+                ORDER BY CONFIG_KEY
+                """, new MapSqlParameterSource(), (rs, rowNum) -> new AdminDashboardResponseDTO.ConfigEntryDTO(
+                rs.getString("CONFIG_KEY"),
+                rs.getString("CONFIG_VALUE"),
+                rs.getString("DESCRIPTION")
+        ));
+    }
+
+    /**
+     * 집계 쿼리를 가상 스레드에서 실행한다.
+     * 동시 실행 수는 커넥션 풀을 넘지 않도록 세마포어로 제한하고, 쿼리마다 읽기 전용 트랜잭션을 새로 연다.
+     */
+    private <T> Future<T> submitLoad(Supplier<T> loader) {
+        return loadExecutor.submit(() -> {
+            loadSlots.acquire();
+            try {
+                return readOnlyTemplate.execute(status -> loader.get());
+            } finally {
+                loadSlots.release();
+            }
+        });
+    }
+
+    /**
+     * 집계 결과를 요청 시작 기준 제한 시간까지 기다린다.
+     * 실패하거나 시간을 넘기면 로드 이름을 failedLoads 에 남기고 fallback 을 반환한다.
+     */
+    private <T> T awaitLoad(String name, Future<T> future, long deadline, T fallback, Set<String> failedLoads) {
+        try {
+            T value = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return value == null ? fallback : value;
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            log.warn("⚠️ 관리자 대시보드 집계 제한 시간 초과: {} ({}ms)", name, loadTimeoutMs);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            log.warn("⚠️ 관리자 대시보드 집계 실패: {} - {}", name, cause.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        failedLoads.add(name);
+        return fallback;
+    }
+
+    private List<String> resolveDegradedSections(Set<String> failedLoads) {
+        if (failedLoads.isEmpty()) {
+            return List.of();
+        }
+        List<String> degraded = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : SECTION_LOADS.entrySet()) {
+            for (String load : entry.getValue()) {
+                if (failedLoads.contains(load)) {
+                    degraded.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        return degraded;
+    }
+
     /**
      * 사용자 생년을 연령대 버킷으로 묶어 분포를 계산한다. 연령대별 사용자 수 분포 응답에 사용될 Map 데이터를 반환한다.
      */
-    private Map<String, Long> computeAgeDistribution() {
-        List<String> birthValues = jdbcTemplate.query(
-                "SELECT BIRTH FROM USERS WHERE BIRTH IS NOT NULL",
-                (rs, rowNum) -> rs.getString("BIRTH")
-        );
+    private Map<String, Long> computeAgeDistribution(List<Map<String, Object>> birthRows) {
         Map<String, Long> distribution = new LinkedHashMap<>();
-        for (String birth : birthValues) {
-            String group = toAgeGroup(birth);
-            distribution.merge(group, 1L, Long::sum);
+        for (Map<String, Object> row : birthRows) {
+            String birth = Objects.toString(row.get(KEY_NAME), null);
+            if (birth == null) {
+                continue;
+            }
+            distribution.merge(toAgeGroup(birth), toLong(row.get(COUNT_VALUE)), Long::sum);
         }
         return distribution;
     }
 
     /**
      * 성별/연령대별 계좌 평균 잔액을 계산한다. 성별/연령대별 평균 잔액 목록 배열을 반환한다.
+     * (성별 x 생년 그룹의 잔액 합계/건수를 연령대로 다시 합친다)
      */
-    private List<AdminDashboardResponseDTO.SegmentAverageDTO> computeAverageBalanceByGenderAge() {
-        List<UserBalanceRow> rows = jdbcTemplate.query("""
-                SELECT u.GENDER, u.BIRTH, a.BALANCE
-                FROM ACCOUNTS a
-                JOIN USERS u ON u.ID = a.USER_INNER_ID
-                """, (rs, rowNum) -> new UserBalanceRow(
-                rs.getString("GENDER"),
-                rs.getString("BIRTH"),
-                rs.getBigDecimal("BALANCE")
-        ));
-        Map<String, List<BigDecimal>> grouped = new LinkedHashMap<>();
-        for (UserBalanceRow row : rows) {
-            String gender = normalizeText(row.gender());
+    private List<AdminDashboardResponseDTO.SegmentAverageDTO> computeAverageBalanceByGenderAge(
+            List<Map<String, Object>> rows
+    ) {
+        Map<String, BalanceTotal> grouped = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            String gender = normalizeText(Objects.toString(row.get(KEY_NAME), null));
             if (gender == null) {
-                gender = "UNKNOWN";
+                // 사용자와 연결되지 않은 계좌
+                continue;
             }
-            String ageGroup = toAgeGroup(row.birth());
-            String key = gender + "|" + ageGroup;
-            grouped.computeIfAbsent(key, ignored -> new ArrayList<>()).add(row.balance());
+            String ageGroup = toAgeGroup(Objects.toString(row.get("KEY_BIRTH"), null));
+            BalanceTotal total = grouped.computeIfAbsent(gender + "|" + ageGroup,
+                    ignored -> new BalanceTotal(gender, ageGroup));
+            BigDecimal sum = toDecimal(row.get(AMOUNT_VALUE));
+            if (sum != null) {
+                total.sum = total.sum.add(sum);
+            }
+            total.count += toLong(row.get("BALANCE_COUNT"));
         }
 
         List<AdminDashboardResponseDTO.SegmentAverageDTO> result = new ArrayList<>();
-        for (Map.Entry<String, List<BigDecimal>> entry : grouped.entrySet()) {
-            String[] parts = entry.getKey().split("\\|", -1);
-            String gender = parts.length > 0 ? parts[0] : "UNKNOWN";
-            String ageGroup = parts.length > 1 ? parts[1] : "UNKNOWN";
-            BigDecimal average = average(entry.getValue());
-            result.add(new AdminDashboardResponseDTO.SegmentAverageDTO(gender, ageGroup, average));
+        for (BalanceTotal total : grouped.values()) {
+            BigDecimal average = total.count == 0
+                    ? null
+                    : total.sum.divide(BigDecimal.valueOf(total.count), 4, RoundingMode.HALF_UP);
+            result.add(new AdminDashboardResponseDTO.SegmentAverageDTO(total.gender, total.ageGroup, average));
         }
         return result;
     }
 
-    private Map<String, Long> computeCountDistribution(String sql) {
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, new MapSqlParameterSource());
+    /**
+     * 소유자별 건수 행을 "보유 건수 -> 소유자 수" 분포로 바꾼다.
+     */
+    private Map<String, Long> computeCountDistribution(List<Map<String, Object>> ownerRows) {
         Map<String, Long> distribution = new LinkedHashMap<>();
-        for (Map<String, Object> row : rows) {
+        for (Map<String, Object> row : ownerRows) {
             long count = toLong(row.get(COUNT_VALUE));
             distribution.merge(String.valueOf(count), 1L, Long::sum);
         }
         return distribution;
     }
 
-    private List<AdminDashboardResponseDTO.SegmentMetricDTO> loadSegmentMetrics(
-            String sql,
-            MapSqlParameterSource params,
+    private AdminDashboardResponseDTO.FieldStatsDTO buildFieldStats(
+            GroupedRows rows,
+            String columnName,
+            long total
+    ) {
+        long missing = toLong(rows.total().get("MISSING_" + columnName));
+        return new AdminDashboardResponseDTO.FieldStatsDTO(
+                total,
+                missing,
+                safeRate(missing, total),
+                topNamedCounts(rows.rows(columnName), COUNT_VALUE)
+        );
+    }
+
+    private AdminDashboardResponseDTO.NumericSummaryDTO buildNumericSummary(Map<String, Object> row, String columnName) {
+        return new AdminDashboardResponseDTO.NumericSummaryDTO(
+                columnName,
+                toDecimal(row.get(columnName + "_MIN")),
+                toDecimal(row.get(columnName + "_MAX")),
+                toDecimal(row.get(columnName + "_AVG"))
+        );
+    }
+
+    private List<AdminDashboardResponseDTO.SegmentMetricDTO> toSegmentMetrics(
+            List<Map<String, Object>> rows,
             String segmentType
     ) {
-        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new AdminDashboardResponseDTO.SegmentMetricDTO(
-                segmentType,
-                rs.getString("SEGMENT"),
-                rs.getLong("TX_COUNT"),
-                rs.getLong("DETECTED_COUNT"),
-                rs.getLong("FRAUD_COUNT")
-        ));
+        List<AdminDashboardResponseDTO.SegmentMetricDTO> result = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            String segment = Objects.toString(row.get(KEY_NAME), null);
+            if (segment == null) {
+                // 계좌/사용자와 연결되지 않은 거래
+                continue;
+            }
+            result.add(new AdminDashboardResponseDTO.SegmentMetricDTO(
+                    segmentType,
+                    segment,
+                    toLong(row.get(TX_COUNT)),
+                    toLong(row.get("DETECTED_COUNT")),
+                    toLong(row.get("FRAUD_COUNT"))
+            ));
+        }
+        return result;
     }
 
-    private List<AdminDashboardResponseDTO.SegmentMetricDTO> loadAgeSegmentMetrics(MapSqlParameterSource params) {
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
-                SELECT u.BIRTH AS BIRTH,
-                       COUNT(*) AS TX_COUNT,
-                       SUM(CASE WHEN d.TX_ID IS NOT NULL THEN 1 ELSE 0 END) AS DETECTED_COUNT,
-                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN USERS u ON u.ID = a.USER_INNER_ID
-                LEFT JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                GROUP BY u.BIRTH
-                """, params);
+    private List<AdminDashboardResponseDTO.SegmentMetricDTO> toAgeSegmentMetrics(List<Map<String, Object>> rows) {
         Map<String, long[]> aggregated = new LinkedHashMap<>();
         for (Map<String, Object> row : rows) {
-            String birth = Objects.toString(row.get("BIRTH"), null);
-            String group = toAgeGroup(birth);
-            long[] metrics = aggregated.computeIfAbsent(group, ignored -> new long[3]);
-            metrics[0] += toLong(row.get("TX_COUNT"));
+            String birth = Objects.toString(row.get(KEY_NAME), null);
+            if (birth == null) {
+                continue;
+            }
+            long[] metrics = aggregated.computeIfAbsent(toAgeGroup(birth), ignored -> new long[3]);
+            metrics[0] += toLong(row.get(TX_COUNT));
             metrics[1] += toLong(row.get("DETECTED_COUNT"));
             metrics[2] += toLong(row.get("FRAUD_COUNT"));
         }
@@ -940,103 +1143,130 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         return result;
     }
 
-    private AdminDashboardResponseDTO.FieldStatsDTO buildFieldStats(
-            String columnName,
-            MapSqlParameterSource params
-    ) {
-        long total = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                """, params);
-        long missing = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  AND (%s IS NULL OR TRIM(%s) = '')
-                """.formatted(columnName, columnName), params);
-        List<AdminDashboardResponseDTO.NamedCountDTO> topValues = loadNamedCounts("""
-                SELECT %s AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS
-                WHERE CREATED_AT >= :fromTs AND CREATED_AT < :toTs
-                  AND %s IS NOT NULL AND TRIM(%s) <> ''
-                GROUP BY %s
-                ORDER BY COUNT(*) DESC
-                FETCH NEXT :limit ROWS ONLY
-                """.formatted(columnName, columnName, columnName, columnName), params);
-        return new AdminDashboardResponseDTO.FieldStatsDTO(
-                total,
-                missing,
-                safeRate(missing, total),
-                topValues
-        );
+    private List<AdminDashboardResponseDTO.FraudBucketDTO> toFraudBuckets(List<Map<String, Object>> rows) {
+        List<AdminDashboardResponseDTO.FraudBucketDTO> result = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            long txCount = toLong(row.get(TX_COUNT));
+            long fraudCount = toLong(row.get("FRAUD_COUNT"));
+            BigDecimal avgProb = toDecimal(row.get("AVG_PROB"));
+            result.add(new AdminDashboardResponseDTO.FraudBucketDTO(
+                    Objects.toString(row.get(KEY_NAME), null),
+                    txCount,
+                    fraudCount,
+                    safeRate(fraudCount, txCount),
+                    avgProb == null ? null : avgProb.doubleValue()
+            ));
+        }
+        return result;
+    }
+
+    private Map<String, Long> toDistribution(List<Map<String, Object>> rows) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            String key = normalizeText(Objects.toString(row.get(KEY_NAME), null));
+            result.merge(key == null ? "UNKNOWN" : key, toLong(row.get(COUNT_VALUE)), Long::sum);
+        }
+        return result;
     }
 
-    private AdminDashboardResponseDTO.NumericSummaryDTO buildNumericSummary(String columnName) {
-        MapSqlParameterSource params = new MapSqlParameterSource();
-        BigDecimal min = queryDecimal("""
-                SELECT MIN(%s)
-                FROM TRANSACTION_FEATURES
-                """.formatted(columnName), params);
-        BigDecimal max = queryDecimal("""
-                SELECT MAX(%s)
-                FROM TRANSACTION_FEATURES
-                """.formatted(columnName), params);
-        BigDecimal avg = queryDecimal("""
-                SELECT AVG(%s)
-                FROM TRANSACTION_FEATURES
-                """.formatted(columnName), params);
-        return new AdminDashboardResponseDTO.NumericSummaryDTO(columnName, min, max, avg);
+    private List<AdminDashboardResponseDTO.DateCountDTO> toDateCounts(List<Map<String, Object>> rows) {
+        List<AdminDashboardResponseDTO.DateCountDTO> result = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            LocalDate date = toKeyDate(row.get(KEY_DATE));
+            if (date == null) {
+                // 조회 기간 밖의 행 (전체 건수와 함께 읽는 테이블)
+                continue;
+            }
+            result.add(new AdminDashboardResponseDTO.DateCountDTO(date, toLong(row.get(COUNT_VALUE))));
+        }
+        result.sort(Comparator.comparing(AdminDashboardResponseDTO.DateCountDTO::date));
+        return result;
     }
 
-    private List<AdminDashboardResponseDTO.FraudBucketDTO> loadFraudBuckets(
-            String sql,
-            MapSqlParameterSource params
+    private List<AdminDashboardResponseDTO.NamedCountDTO> topNamedCounts(
+            List<Map<String, Object>> rows,
+            String countColumn
     ) {
-        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
-            long txCount = rs.getLong("TX_COUNT");
-            long fraudCount = rs.getLong("FRAUD_COUNT");
-            Double avgProb = rs.getObject("AVG_PROB") == null ? null : rs.getDouble("AVG_PROB");
-            return new AdminDashboardResponseDTO.FraudBucketDTO(
-                    rs.getString("BUCKET"),
-                    txCount,
-                    fraudCount,
-                    safeRate(fraudCount, txCount),
-                    avgProb
-            );
-        });
+        List<AdminDashboardResponseDTO.NamedCountDTO> result = new ArrayList<>();
+        for (Map<String, Object> row : topRows(rows, countColumn)) {
+            result.add(new AdminDashboardResponseDTO.NamedCountDTO(
+                    Objects.toString(row.get(KEY_NAME), null),
+                    toLong(row.get(countColumn))
+            ));
+        }
+        return result;
     }
 
-    private List<AdminDashboardResponseDTO.DateCountDTO> loadAdminDateCounts(
-            String sql,
-            MapSqlParameterSource params
-    ) {
-        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new AdminDashboardResponseDTO.DateCountDTO(
-                toLocalDate(rs.getTimestamp(KEY_DATE)),
-                rs.getLong(COUNT_VALUE)
+    private List<AdminDashboardResponseDTO.NamedAmountDTO> topNamedAmounts(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> named = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            if (normalizeText(Objects.toString(row.get(KEY_NAME), null)) != null) {
+                named.add(row);
+            }
+        }
+        named.sort(Comparator.comparing(
+                (Map<String, Object> row) -> toDecimal(row.get(AMOUNT_VALUE)),
+                Comparator.nullsLast(Comparator.reverseOrder())
         ));
+        List<AdminDashboardResponseDTO.NamedAmountDTO> result = new ArrayList<>();
+        for (Map<String, Object> row : named.subList(0, Math.min(TOP_LIMIT, named.size()))) {
+            result.add(new AdminDashboardResponseDTO.NamedAmountDTO(
+                    Objects.toString(row.get(KEY_NAME), null),
+                    toDecimal(row.get(AMOUNT_VALUE))
+            ));
+        }
+        return result;
     }
 
-    private List<AdminDashboardResponseDTO.NamedCountDTO> loadNamedCounts(
-            String sql,
-            MapSqlParameterSource params
-    ) {
-        MapSqlParameterSource withLimit = withLimit(params);
-        return jdbcTemplate.query(sql, withLimit, (rs, rowNum) -> new AdminDashboardResponseDTO.NamedCountDTO(
-                rs.getString(KEY_NAME),
-                rs.getLong(COUNT_VALUE)
-        ));
+    /**
+     * 이름(KEY_NAME)이 비어 있지 않은 행 중 건수 상위 TOP_LIMIT 건을 고른다.
+     */
+    private List<Map<String, Object>> topRows(List<Map<String, Object>> rows, String countColumn) {
+        List<Map<String, Object>> named = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            if (normalizeText(Objects.toString(row.get(KEY_NAME), null)) != null) {
+                named.add(row);
+            }
+        }
+        named.sort(Comparator.comparingLong((Map<String, Object> row) -> toLong(row.get(countColumn))).reversed());
+        return named.subList(0, Math.min(TOP_LIMIT, named.size()));
     }
 
-    private List<AdminDashboardResponseDTO.NamedAmountDTO> loadNamedAmounts(
-            String sql,
-            MapSqlParameterSource params
+    private List<Map<String, Object>> sortByNumericKey(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong(row -> parseKeyNumber(row.get(KEY_NAME))));
+        return sorted;
+    }
+
+    private long parseKeyNumber(Object value) {
+        if (value == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private BigDecimal zeroIfNull(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    /**
+     * 분모가 0 이면 null 을 돌려주는 비율 (SQL 의 SUM(...) / NULLIF(COUNT(*), 0) 과 같은 의미)
+     */
+    private BigDecimal nullableRate(long numerator, long denominator) {
+        return denominator <= 0 ? null : safeRate(numerator, denominator);
+    }
+
+    private Map<String, Long> mapLabels(
+            Map<String, Long> distribution,
+            Map<String, Map<String, String>> labels,
+            String codeType
     ) {
-        MapSqlParameterSource withLimit = withLimit(params);
-        return jdbcTemplate.query(sql, withLimit, (rs, rowNum) -> new AdminDashboardResponseDTO.NamedAmountDTO(
-                rs.getString(KEY_NAME),
-                rs.getBigDecimal(AMOUNT_VALUE)
-        ));
+        Map<String, String> typeLabels = labels.getOrDefault(codeType, Map.of());
+        return mapDistributionLabels(distribution, typeLabels, findDuplicateLabels(typeLabels));
     }
 
     private MapSqlParameterSource withLimit(MapSqlParameterSource params) {
@@ -1048,25 +1278,6 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         return next;
     }
 
-    private BigDecimal average(List<BigDecimal> values) {
-        if (values == null || values.isEmpty()) {
-            return null;
-        }
-        BigDecimal sum = BigDecimal.ZERO;
-        int count = 0;
-        for (BigDecimal value : values) {
-            if (value == null) {
-                continue;
-            }
-            sum = sum.add(value);
-            count++;
-        }
-        if (count == 0) {
-            return null;
-        }
-        return sum.divide(BigDecimal.valueOf(count), 4, RoundingMode.HALF_UP);
-    }
-
     private List<AdminDashboardResponseDTO.SegmentMetricDTO> mapSegmentMetrics(
             List<AdminDashboardResponseDTO.SegmentMetricDTO> metrics,
             String segmentType,
@@ -1140,5 +1351,40 @@ public class AdminStatsDashboardService extends StatsDashboardSupport {
         return bucket + "s";
     }
 
-    private record UserBalanceRow(String gender, String birth, BigDecimal balance) { }
+    /**
+     * GROUPING SETS 결과를 DIM 값별로 나눈 것. 총계 행(DIM = 'TOTAL')은 total() 로 꺼낸다.
+     */
+    private static final class GroupedRows {
+        private static final GroupedRows EMPTY = new GroupedRows(List.of());
+
+        private final Map<String, List<Map<String, Object>>> byDim = new HashMap<>();
+
+        private GroupedRows(List<Map<String, Object>> rows) {
+            for (Map<String, Object> row : rows) {
+                String dim = Objects.toString(row.get(DIM), TOTAL);
+                byDim.computeIfAbsent(dim, ignored -> new ArrayList<>()).add(row);
+            }
+        }
+
+        private Map<String, Object> total() {
+            List<Map<String, Object>> rows = byDim.get(TOTAL);
+            return rows == null || rows.isEmpty() ? Map.of() : rows.get(0);
+        }
+
+        private List<Map<String, Object>> rows(String dim) {
+            return byDim.getOrDefault(dim, List.of());
+        }
+    }
+
+    private static final class BalanceTotal {
+        private final String gender;
+        private final String ageGroup;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private long count;
+
+        private BalanceTotal(String gender, String ageGroup) {
+            this.gender = gender;
+            this.ageGroup = ageGroup;
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package kdt.fds.stats.service;
+
+import java.util.Arrays;
+
+/**
+ * 스트리밍 분위수 근사(t-digest, merging 방식)이다.
+ * 값을 모두 보관하지 않고 평균/가중치 쌍(centroid)으로 압축하므로 행 수와 관계없이 메모리가 일정하다.
+ * 양 끝(p1, p99 부근) centroid 는 작게, 가운데는 크게 묶어 꼬리 분위수 오차를 줄인다.
+ * 스레드 안전하지 않다. 쿼리 한 번의 행을 읽는 동안에만 쓴다.
+ */
+public final class PercentileDigest {
+    private final double compression;
+    private final double[] buffer;
+    private int bufferCount;
+    private double[] means = new double[0];
+    private double[] weights = new double[0];
+    private int centroidCount;
+    private long centroidWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * compression 이 클수록 centroid 가 많아져 정확하지만 메모리를 더 쓴다. (centroid 수는 대략 compression 이하)
+     */
+    public PercentileDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression 은 10 이상이어야 합니다: " + compression);
+        }
+        this.compression = compression;
+        this.buffer = new double[(int) Math.ceil(compression) * 5];
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (bufferCount == buffer.length) {
+            merge();
+        }
+        buffer[bufferCount++] = value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long size() {
+        return centroidWeight + bufferCount;
+    }
+
+    /**
+     * q(0~1) 분위수를 centroid 중심 사이 선형 보간으로 근사한다. 값이 없으면 null 을 반환한다.
+     * 값이 적어 centroid 가 하나씩이면 PERCENTILE_CONT 와 같은 값이 나온다.
+     */
+    public Double quantile(double q) {
+        merge();
+        if (centroidCount == 0) {
+            return null;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+        double index = q * (centroidWeight - 1);
+        // 첫/마지막 centroid 중심 바깥은 최소/최대값과 보간한다.
+        double firstCenter = (weights[0] - 1) / 2.0;
+        if (index <= firstCenter) {
+            return firstCenter <= 0 ? min : min + (means[0] - min) * index / firstCenter;
+        }
+        double lastCenter = centroidWeight - 1 - (weights[centroidCount - 1] - 1) / 2.0;
+        if (index >= lastCenter) {
+            double tail = centroidWeight - 1 - lastCenter;
+            double last = means[centroidCount - 1];
+            return tail <= 0 ? max : last + (max - last) * (index - lastCenter) / tail;
+        }
+        double center = firstCenter;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2.0;
+            if (center + step >= index) {
+                double ratio = (index - center) / step;
+                return means[i] + (means[i + 1] - means[i]) * ratio;
+            }
+            center += step;
+        }
+        return means[centroidCount - 1];
+    }
+
+    /**
+     * 버퍼 값을 정렬해 기존 centroid 와 평균 순으로 합친 뒤, 크기 제한(k 척도 차이 1 이하) 안에서 이웃끼리 묶는다.
+     */
+    private void merge() {
+        if (bufferCount == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, bufferCount);
+        int total = centroidCount + bufferCount;
+        double[] sortedMeans = new double[total];
+        double[] sortedWeights = new double[total];
+        int c = 0;
+        int b = 0;
+        for (int i = 0; i < total; i++) {
+            if (b >= bufferCount || (c < centroidCount && means[c] <= buffer[b])) {
+                sortedMeans[i] = means[c];
+                sortedWeights[i] = weights[c];
+                c++;
+            } else {
+                sortedMeans[i] = buffer[b];
+                sortedWeights[i] = 1;
+                b++;
+            }
+        }
+
+        double totalWeight = centroidWeight + bufferCount;
+        int out = 0;
+        double mergedWeight = 0;
+        double limitStart = scale(0);
+        double currentMean = sortedMeans[0];
+        double currentWeight = sortedWeights[0];
+        for (int i = 1; i < total; i++) {
+            double proposed = currentWeight + sortedWeights[i];
+            if (scale((mergedWeight + proposed) / totalWeight) - limitStart <= 1.0) {
+                currentMean += (sortedMeans[i] - currentMean) * sortedWeights[i] / proposed;
+                currentWeight = proposed;
+            } else {
+                sortedMeans[out] = currentMean;
+                sortedWeights[out] = currentWeight;
+                out++;
+                mergedWeight += currentWeight;
+                limitStart = scale(mergedWeight / totalWeight);
+                currentMean = sortedMeans[i];
+                currentWeight = sortedWeights[i];
+            }
+        }
+        sortedMeans[out] = currentMean;
+        sortedWeights[out] = currentWeight;
+        out++;
+
+        means = Arrays.copyOf(sortedMeans, out);
+        weights = Arrays.copyOf(sortedWeights, out);
+        centroidCount = out;
+        centroidWeight = (long) totalWeight;
+        bufferCount = 0;
+    }
+
+    /**
+     * k1 척도 함수이다. 분위수 q 를 centroid 인덱스 척도로 바꾸며, 양 끝에서 기울기가 커진다.
+     */
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(Math.max(-1.0, Math.min(1.0, 2 * q - 1)));
+    }
+}
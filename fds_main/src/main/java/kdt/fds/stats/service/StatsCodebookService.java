@@ -5,6 +5,8 @@ import kdt.fds.stats.dto.request.StatsCodebookRequestDTO;
 import kdt.fds.stats.dto.response.StatsCodebookResponseDTO;
 import kdt.fds.stats.entity.StatsCodebook;
 import kdt.fds.stats.repository.StatsCodebookRepository;
+import kdt.fds.stats.vo.StatsDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -22,9 +24,14 @@ import org.springframework.web.server.ResponseStatusException;
 @Transactional
 public class StatsCodebookService {
     private final StatsCodebookRepository statsCodebookRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StatsCodebookService(StatsCodebookRepository statsCodebookRepository) {
+    public StatsCodebookService(
+            StatsCodebookRepository statsCodebookRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.statsCodebookRepository = statsCodebookRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -73,6 +80,7 @@ public class StatsCodebookService {
         applyAllFields(entity, request);
         applyCreateAudit(entity, request);
         StatsCodebook saved = save(entity);
+        publishLabelsChanged("codebook created: " + saved.getCodeType());
         return StatsCodebookResponseDTO.from(saved);
     }
 
@@ -91,6 +99,7 @@ public class StatsCodebookService {
         applyAllFields(entity, request);
         applyUpdateAudit(entity, request);
         StatsCodebook saved = save(entity);
+        publishLabelsChanged("codebook updated: " + saved.getCodeType());
         return StatsCodebookResponseDTO.from(saved);
     }
 
@@ -103,6 +112,14 @@ public class StatsCodebookService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Codebook not found");
         }
         statsCodebookRepository.deleteById(codebookId);
+        publishLabelsChanged("codebook deleted: " + codebookId);
+    }
+
+    /**
+     * 대시보드 결과 캐시에 레이블 변경을 알린다. 캐시는 트랜잭션 커밋 후에 비워진다.
+     */
+    private void publishLabelsChanged(String reason) {
+        eventPublisher.publishEvent(new StatsDataChangedEvent(reason));
     }
 
     private void applyAllFields(StatsCodebook entity, StatsCodebookRequestDTO request) {
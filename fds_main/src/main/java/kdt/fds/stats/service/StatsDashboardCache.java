@@ -0,0 +1,128 @@
+package kdt.fds.stats.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import kdt.fds.stats.config.StatsDashboardProperties;
+import kdt.fds.stats.vo.StatsDataChangedEvent;
+import kdt.fds.stats.vo.StatsDateRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이 파일은 통계 대시보드 결과 캐시 파일이다.
+ * 조회 기간별 대시보드 집계 결과를 메모리 LRU 캐시(접근 순서 LinkedHashMap)에 보관한다.
+ * 오늘이 지난 기간은 만료 없이, 오늘을 포함한 기간은 openRangeTtlMs 동안만 보관한다.
+ * 코드북 레이블 변경이나 롤업 재계산(StatsDataChangedEvent)이 커밋되면 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class StatsDashboardCache {
+    private static final ZoneId CACHE_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Map<String, Entry> entries;
+    private final long openRangeTtlNanos;
+    // 무효화 세대 (계산 도중 무효화된 결과를 다시 넣지 않도록 계산 시작 시점의 세대와 비교)
+    private long generation;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public StatsDashboardCache(StatsDashboardProperties properties, MeterRegistry meterRegistry) {
+        int cacheSize = Math.max(1, properties.getCacheSize());
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.openRangeTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, properties.getOpenRangeTtlMs()));
+        this.hitCounter = Counter.builder("fds.stats.dashboard.cache")
+                .tag("result", "hit")
+                .description("통계 대시보드 캐시 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("fds.stats.dashboard.cache")
+                .tag("result", "miss")
+                .description("통계 대시보드 캐시 조회 수")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("fds.stats.dashboard.cache.invalidated")
+                .description("코드북 변경/롤업 재계산으로 캐시를 비운 횟수")
+                .register(meterRegistry);
+        Gauge.builder("fds.stats.dashboard.cache.size", this, StatsDashboardCache::size)
+                .description("캐시에 보관 중인 대시보드 결과 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이름과 조회 기간으로 캐시된 결과를 찾고, 없거나 만료되었으면 loader 로 계산해 보관한다.
+     */
+    public <T> T get(String name, StatsDateRange range, Supplier<T> loader) {
+        return get(name, range, loader, value -> true);
+    }
+
+    /**
+     * 이름과 조회 기간으로 캐시된 결과를 찾고, 없거나 만료되었으면 loader 로 계산해 보관한다.
+     * cacheable 이 false 인 결과(일부 섹션이 degraded 인 응답 등)는 보관하지 않고 그대로 반환한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name, StatsDateRange range, Supplier<T> loader, Predicate<? super T> cacheable) {
+        String key = name + ":" + range.fromDate() + ":" + range.toDate();
+        long observedGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.nanoTime())) {
+                hitCounter.increment();
+                return (T) entry.value();
+            }
+            observedGeneration = generation;
+        }
+        missCounter.increment();
+        T value = loader.get();
+        if (value == null || !cacheable.test(value)) {
+            return value;
+        }
+        boolean includesToday = !range.toDate().isBefore(LocalDate.now(CACHE_ZONE));
+        synchronized (this) {
+            if (generation == observedGeneration) {
+                entries.put(key, new Entry(value, includesToday, System.nanoTime() + openRangeTtlNanos));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 캐시를 모두 비운다. 이벤트가 트랜잭션 안에서 발행되면 커밋 후에 비워,
+     * 변경 전 레이블로 다시 계산한 결과가 남지 않게 한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsDataChanged(StatsDataChangedEvent event) {
+        synchronized (this) {
+            generation++;
+            entries.clear();
+        }
+        invalidationCounter.increment();
+        log.info("Stats dashboard cache cleared: {}", event.reason());
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 항목이다. 오늘을 포함한 기간의 결과만 만료 시각(nanoTime 기준)을 가진다.
+     */
+    private record Entry(Object value, boolean expiring, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return expiring && now - expiresAtNanos >= 0;
+        }
+    }
+}
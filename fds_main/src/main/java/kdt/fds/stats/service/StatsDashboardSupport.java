@@ -6,6 +6,7 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -29,6 +30,35 @@ abstract class StatsDashboardSupport {
     protected static final String AMOUNT_VALUE = "AMOUNT_VALUE";
     protected static final String KEY_DATE = "KEY_DATE";
 
+    /**
+     * 일별 롤업과 원본 행을 나누는 경계 시각(SPLIT_TS)을 계산하는 CTE 이다.
+     * 롤업에 아직 반영되지 않은(ROLLUP_PENDING = 1) 가장 이른 거래/탐지(원 거래 기준)의 날짜와 오늘 중 이른 날을 조회 기간 안으로 맞춘다.
+     * 경계 이전의 완료된 날은 롤업에서, 경계부터는 원본 테이블에서 읽는다. :fromTs, :toTs, :todayTs 를 사용한다.
+     */
+    protected static final String ROLLUP_SPLIT_CTE = """
+            ROLLUP_SPLIT AS (
+                SELECT GREATEST(
+                           CAST(:fromTs AS TIMESTAMP),
+                           LEAST(
+                               CAST(:toTs AS TIMESTAMP),
+                               CAST(:todayTs AS TIMESTAMP),
+                               NVL((
+                                   SELECT CAST(TRUNC(MIN(t.CREATED_AT)) AS TIMESTAMP)
+                                   FROM TRANSACTIONS t
+                                   WHERE t.ROLLUP_PENDING = 1
+                               ), CAST(:todayTs AS TIMESTAMP)),
+                               NVL((
+                                   SELECT CAST(TRUNC(MIN(t.CREATED_AT)) AS TIMESTAMP)
+                                   FROM FRAUD_DETECTION_RESULTS d
+                                   JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+                                   WHERE d.ROLLUP_PENDING = 1
+                               ), CAST(:todayTs AS TIMESTAMP))
+                           )
+                       ) AS SPLIT_TS
+                FROM DUAL
+            )
+            """;
+
     protected final NamedParameterJdbcTemplate jdbcTemplate;
 
     protected StatsDashboardSupport(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -60,6 +90,17 @@ abstract class StatsDashboardSupport {
         return new StatsDateRange(from, to);
     }
 
+    /**
+     * 날짜 범위를 쿼리 파라미터로 변환한다.
+     * 롤업 경계 계산(ROLLUP_SPLIT_CTE)에 쓰이는 오늘 시작 시각도 함께 넣는다.
+     */
+    protected MapSqlParameterSource rangeParams(StatsDateRange range) {
+        return new MapSqlParameterSource()
+                .addValue("fromTs", range.fromTimestamp())
+                .addValue("toTs", range.toExclusiveTimestamp())
+                .addValue("todayTs", LocalDate.now(DEFAULT_ZONE).atStartOfDay());
+    }
+
     protected Map<String, Long> loadDistribution(String sql, MapSqlParameterSource params) {
         List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, params);
         Map<String, Long> result = new LinkedHashMap<>();
@@ -95,6 +136,45 @@ abstract class StatsDashboardSupport {
         return timestamp == null ? null : timestamp.toLocalDateTime();
     }
 
+    protected LocalDate toKeyDate(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return toLocalDate(timestamp);
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        return null;
+    }
+
+    protected LocalDateTime toKeyDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime;
+        }
+        return null;
+    }
+
+    protected BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString());
+        }
+        return null;
+    }
+
     protected BigDecimal safeRate(long numerator, long denominator) {
         if (denominator <= 0) {
             return BigDecimal.ZERO;
@@ -145,6 +225,33 @@ abstract class StatsDashboardSupport {
         return labels;
     }
 
+    /**
+     * 여러 코드 타입의 코드북 레이블 맵을 한 번에 로드한다.
+     * 코드 타입별로 CODE_KEY -> DISPLAY_NAME 맵을 반환한다.
+     */
+    protected Map<String, Map<String, String>> loadCodebookLabels(Collection<String> codeTypes) {
+        Map<String, Map<String, String>> labels = new LinkedHashMap<>();
+        if (codeTypes == null || codeTypes.isEmpty()) {
+            return labels;
+        }
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT CODE_TYPE, CODE_KEY, DISPLAY_NAME
+                FROM STATS_CODEBOOK
+                WHERE CODE_TYPE IN (:codeTypes)
+                """, new MapSqlParameterSource().addValue("codeTypes", codeTypes));
+        for (Map<String, Object> row : rows) {
+            String codeType = normalizeText(Objects.toString(row.get("CODE_TYPE"), null));
+            String codeKey = normalizeText(Objects.toString(row.get("CODE_KEY"), null));
+            if (codeType == null || codeKey == null) {
+                continue;
+            }
+            String displayName = normalizeText(Objects.toString(row.get("DISPLAY_NAME"), null));
+            labels.computeIfAbsent(codeType, ignored -> new LinkedHashMap<>())
+                    .put(codeKey, displayName == null ? codeKey : displayName);
+        }
+        return labels;
+    }
+
     /**
      * 레이블 맵에서 중복된 레이블 값을 찾는다.
      * 동일한 DISPLAY_NAME이 여러 CODE_KEY에 매핑된 경우 해당 레이블을 반환한다.
@@ -0,0 +1,175 @@
+package kdt.fds.stats.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import kdt.fds.stats.dto.response.PercentileSummaryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 통계 분위수(p50/p90/p99) 조회를 담당한다.
+ * PERCENTILE_CONT 집계로 DB 안에서 계산해 결과 한 행만 가져온다. (Oracle, H2 2.x 모두 지원)
+ * DB 가 PERCENTILE_CONT 를 지원하지 않으면 같은 행을 스트리밍으로 읽어 t-digest 로 근사한다.
+ */
+final class StatsPercentileQuery {
+    private static final Logger log = LoggerFactory.getLogger(StatsPercentileQuery.class);
+
+    /** 사기 탐지 확률 식 (FRAUD_DETECTION_RESULTS d) */
+    static final String FRAUD_PROBABILITY = "d.FRAUD_PROBABILITY";
+
+    /** 거래 금액 식 (TRANSACTIONS t) */
+    static final String TX_AMOUNT = "t.TX_AMOUNT";
+
+    /**
+     * 탐지 지연(ms) 식 (FRAUD_DETECTION_RESULTS d, TRANSACTIONS t).
+     * TIMESTAMP 차이는 INTERVAL 이므로 일/시/분/초를 꺼내 밀리초 숫자로 바꾼다.
+     */
+    static final String DETECTION_LATENCY_MS = """
+            (EXTRACT(DAY FROM (d.DETECTED_AT - t.CREATED_AT)) * 86400000
+             + EXTRACT(HOUR FROM (d.DETECTED_AT - t.CREATED_AT)) * 3600000
+             + EXTRACT(MINUTE FROM (d.DETECTED_AT - t.CREATED_AT)) * 60000
+             + EXTRACT(SECOND FROM (d.DETECTED_AT - t.CREATED_AT)) * 1000)""";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final String[] QUANTILE_ALIASES = {"P50", "P90", "P99"};
+    private static final double DIGEST_COMPRESSION = 200;
+
+    /**
+     * PERCENTILE_CONT 를 쓸 수 없는 DB 로 확인되면 (오류 메시지가 PERCENTILE_CONT 를 가리킬 때만) false 로 바꿔 이후 조회는 바로 t-digest 로 계산한다.
+     */
+    private static volatile boolean databasePercentiles = true;
+
+    private StatsPercentileQuery() {
+    }
+
+    /**
+     * fromClause(FROM ~ WHERE) 행에 대해 각 값 식의 분위수를 계산한다. 식 순서대로 분위수 요약을 반환한다.
+     * 값이 NULL 인 행은 식별로 제외한다.
+     */
+    static List<PercentileSummaryDTO> query(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            String fromClause,
+            MapSqlParameterSource params,
+            String... valueExpressions
+    ) {
+        if (databasePercentiles) {
+            try {
+                return queryInDatabase(jdbcTemplate, fromClause, params, valueExpressions);
+            } catch (BadSqlGrammarException ex) {
+                // [수정] 다른 문법 오류(잘못된 fromClause 등)로 영구 전환되지 않도록 PERCENTILE_CONT 관련 오류만 전환한다.
+                if (!isPercentileUnsupported(ex)) {
+                    throw ex;
+                }
+                log.warn("⚠️ PERCENTILE_CONT 미지원 DB 로 판단해 t-digest 근사로 전환합니다: {}", ex.getSQLException().getMessage());
+                List<PercentileSummaryDTO> result = queryWithDigest(jdbcTemplate, fromClause, params, valueExpressions);
+                databasePercentiles = false;
+                return result;
+            }
+        }
+        return queryWithDigest(jdbcTemplate, fromClause, params, valueExpressions);
+    }
+
+    private static List<PercentileSummaryDTO> queryInDatabase(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            String fromClause,
+            MapSqlParameterSource params,
+            String[] valueExpressions
+    ) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        for (int i = 0; i < valueExpressions.length; i++) {
+            String expression = valueExpressions[i];
+            if (i > 0) {
+                sql.append(",\n       ");
+            }
+            sql.append("COUNT(").append(expression).append(") AS N_").append(i);
+            for (int q = 0; q < QUANTILES.length; q++) {
+                sql.append(",\n       PERCENTILE_CONT(").append(QUANTILES[q])
+                        .append(") WITHIN GROUP (ORDER BY ").append(expression).append(") AS ")
+                        .append(QUANTILE_ALIASES[q]).append('_').append(i);
+            }
+        }
+        sql.append('\n').append(fromClause);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql.toString(), params);
+        Map<String, Object> row = rows.isEmpty() ? Map.of() : rows.get(0);
+        List<PercentileSummaryDTO> result = new ArrayList<>(valueExpressions.length);
+        for (int i = 0; i < valueExpressions.length; i++) {
+            long count = row.get("N_" + i) instanceof Number number ? number.longValue() : 0L;
+            result.add(count == 0L ? PercentileSummaryDTO.EMPTY : new PercentileSummaryDTO(
+                    count,
+                    toDouble(row.get("P50_" + i)),
+                    toDouble(row.get("P90_" + i)),
+                    toDouble(row.get("P99_" + i))
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * 값 식을 그대로 조회해 행 단위로 t-digest 에 넣는다. 결과 목록을 만들지 않으므로 행 수와 관계없이 메모리가 일정하다.
+     */
+    private static List<PercentileSummaryDTO> queryWithDigest(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            String fromClause,
+            MapSqlParameterSource params,
+            String[] valueExpressions
+    ) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        PercentileDigest[] digests = new PercentileDigest[valueExpressions.length];
+        for (int i = 0; i < valueExpressions.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(valueExpressions[i]).append(" AS V_").append(i);
+            digests[i] = new PercentileDigest(DIGEST_COMPRESSION);
+        }
+        sql.append('\n').append(fromClause);
+
+        jdbcTemplate.query(sql.toString(), params, (RowCallbackHandler) rs -> {
+            for (int i = 0; i < digests.length; i++) {
+                double value = rs.getDouble(i + 1);
+                if (!rs.wasNull()) {
+                    digests[i].add(value);
+                }
+            }
+        });
+
+        List<PercentileSummaryDTO> result = new ArrayList<>(digests.length);
+        for (PercentileDigest digest : digests) {
+            result.add(digest.size() == 0L ? PercentileSummaryDTO.EMPTY : new PercentileSummaryDTO(
+                    digest.size(),
+                    digest.quantile(QUANTILES[0]),
+                    digest.quantile(QUANTILES[1]),
+                    digest.quantile(QUANTILES[2])
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * DB 오류 메시지가 PERCENTILE_CONT / WITHIN GROUP 을 가리키는지 확인한다.
+     * 예외 메시지에는 실행한 SQL 전문이 들어 있으므로 SQLException 메시지만 본다.
+     */
+    private static boolean isPercentileUnsupported(BadSqlGrammarException ex) {
+        for (Throwable cause = ex.getSQLException(); cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null) {
+                String upper = message.toUpperCase(Locale.ROOT);
+                if (upper.contains("PERCENTILE_CONT") || upper.contains("WITHIN GROUP")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+}
@@ -0,0 +1,316 @@
+package kdt.fds.stats.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import kdt.fds.stats.config.StatsRollupProperties;
+import kdt.fds.stats.entity.StatsRollupWatermark;
+import kdt.fds.stats.repository.StatsRollupWatermarkRepository;
+import kdt.fds.stats.vo.StatsDataChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이 파일은 일별 롤업 갱신 서비스 파일이다.
+ * TRANSACTIONS / FRAUD_DETECTION_RESULTS 의 반영 대기 행(ROLLUP_PENDING = 1)을 묶음으로 읽어
+ * STATS_DAILY_TX_ROLLUP(일자, 거래 유형, 시간대)과 STATS_DAILY_USER_ROLLUP(일자, 사용자, 거래 유형)에 누적한다.
+ * 탐지 행은 원 거래의 일자/유형/시간대로 집계한다.
+ * 대기 표시는 행마다 커밋과 함께 보이므로 ID 순서나 커밋 지연과 관계없이 빠짐없이 한 번씩 반영된다.
+ */
+@Slf4j
+@Service
+public class StatsRollupService {
+    static final String TX_ROLLUP = "TX";
+    static final String DETECTION_ROLLUP = "DETECTION";
+
+    // 증분 반영은 일자 제한 없이 선점한 대기 행만으로 고른다.
+    private static final LocalDateTime MIN_TS = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TS = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // 원본 행 조건 (MERGE 의 %s 자리에 넣는다)
+    private static final String TX_CLAIMED = "t.ROLLUP_PENDING = 2";
+    private static final String TX_APPLIED = "t.ROLLUP_PENDING IS NULL";
+    private static final String DETECTION_CLAIMED = "d.ROLLUP_PENDING = 2";
+    private static final String DETECTION_APPLIED = "d.ROLLUP_PENDING IS NULL";
+
+    // 대기(1) 행을 묶음 크기만큼 선점(2)한다. 같은 트랜잭션 안에서 누적 후 반영 완료(NULL)로 바꾼다.
+    private static final String CLAIM_TX_SQL = """
+            UPDATE TRANSACTIONS SET ROLLUP_PENDING = 2
+            WHERE ROLLUP_PENDING = 1
+              AND ROWNUM <= :batchSize
+            """;
+    private static final String RELEASE_TX_SQL = "UPDATE TRANSACTIONS SET ROLLUP_PENDING = NULL WHERE ROLLUP_PENDING = 2";
+
+    private static final String CLAIM_DETECTION_SQL = """
+            UPDATE FRAUD_DETECTION_RESULTS SET ROLLUP_PENDING = 2
+            WHERE ROLLUP_PENDING = 1
+              AND ROWNUM <= :batchSize
+            """;
+    private static final String RELEASE_DETECTION_SQL =
+            "UPDATE FRAUD_DETECTION_RESULTS SET ROLLUP_PENDING = NULL WHERE ROLLUP_PENDING = 2";
+
+    private static final String MERGE_TX_ROLLUP_TX_SQL = """
+            MERGE INTO STATS_DAILY_TX_ROLLUP r
+            USING (
+                SELECT TRUNC(t.CREATED_AT) AS STAT_DAY,
+                       NVL(t.TX_TYPE, 'UNKNOWN') AS TX_TYPE,
+                       EXTRACT(HOUR FROM t.CREATED_AT) AS TX_HOUR,
+                       COUNT(*) AS TX_COUNT,
+                       NVL(SUM(t.TX_AMOUNT), 0) AS TX_AMOUNT_SUM
+                FROM TRANSACTIONS t
+                WHERE %s
+                  AND t.CREATED_AT >= :fromTs
+                  AND t.CREATED_AT < :toTs
+                GROUP BY TRUNC(t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN'), EXTRACT(HOUR FROM t.CREATED_AT)
+            ) s
+            ON (r.STAT_DAY = s.STAT_DAY AND r.TX_TYPE = s.TX_TYPE AND r.TX_HOUR = s.TX_HOUR)
+            WHEN MATCHED THEN UPDATE SET
+                r.TX_COUNT = r.TX_COUNT + s.TX_COUNT,
+                r.TX_AMOUNT_SUM = r.TX_AMOUNT_SUM + s.TX_AMOUNT_SUM,
+                r.UPDATED_AT = SYSTIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (
+                STAT_DAY, TX_TYPE, TX_HOUR, TX_COUNT, TX_AMOUNT_SUM,
+                DETECTED_COUNT, FRAUD_COUNT, FRAUD_PROB_SUM, FRAUD_PROB_COUNT, UPDATED_AT
+            ) VALUES (
+                s.STAT_DAY, s.TX_TYPE, s.TX_HOUR, s.TX_COUNT, s.TX_AMOUNT_SUM,
+                0, 0, 0, 0, SYSTIMESTAMP
+            )
+            """;
+
+    private static final String MERGE_TX_ROLLUP_DETECTION_SQL = """
+            MERGE INTO STATS_DAILY_TX_ROLLUP r
+            USING (
+                SELECT TRUNC(t.CREATED_AT) AS STAT_DAY,
+                       NVL(t.TX_TYPE, 'UNKNOWN') AS TX_TYPE,
+                       EXTRACT(HOUR FROM t.CREATED_AT) AS TX_HOUR,
+                       COUNT(*) AS DETECTED_COUNT,
+                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
+                       NVL(SUM(d.FRAUD_PROBABILITY), 0) AS FRAUD_PROB_SUM,
+                       COUNT(d.FRAUD_PROBABILITY) AS FRAUD_PROB_COUNT
+                FROM FRAUD_DETECTION_RESULTS d
+                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+                WHERE %s
+                  AND t.CREATED_AT >= :fromTs
+                  AND t.CREATED_AT < :toTs
+                GROUP BY TRUNC(t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN'), EXTRACT(HOUR FROM t.CREATED_AT)
+            ) s
+            ON (r.STAT_DAY = s.STAT_DAY AND r.TX_TYPE = s.TX_TYPE AND r.TX_HOUR = s.TX_HOUR)
+            WHEN MATCHED THEN UPDATE SET
+                r.DETECTED_COUNT = r.DETECTED_COUNT + s.DETECTED_COUNT,
+                r.FRAUD_COUNT = r.FRAUD_COUNT + s.FRAUD_COUNT,
+                r.FRAUD_PROB_SUM = r.FRAUD_PROB_SUM + s.FRAUD_PROB_SUM,
+                r.FRAUD_PROB_COUNT = r.FRAUD_PROB_COUNT + s.FRAUD_PROB_COUNT,
+                r.UPDATED_AT = SYSTIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (
+                STAT_DAY, TX_TYPE, TX_HOUR, TX_COUNT, TX_AMOUNT_SUM,
+                DETECTED_COUNT, FRAUD_COUNT, FRAUD_PROB_SUM, FRAUD_PROB_COUNT, UPDATED_AT
+            ) VALUES (
+                s.STAT_DAY, s.TX_TYPE, s.TX_HOUR, 0, 0,
+                s.DETECTED_COUNT, s.FRAUD_COUNT, s.FRAUD_PROB_SUM, s.FRAUD_PROB_COUNT, SYSTIMESTAMP
+            )
+            """;
+
+    private static final String MERGE_USER_ROLLUP_TX_SQL = """
+            MERGE INTO STATS_DAILY_USER_ROLLUP r
+            USING (
+                SELECT TRUNC(t.CREATED_AT) AS STAT_DAY,
+                       a.USER_INNER_ID,
+                       NVL(t.TX_TYPE, 'UNKNOWN') AS TX_TYPE,
+                       COUNT(*) AS TX_COUNT,
+                       NVL(SUM(t.TX_AMOUNT), 0) AS TX_AMOUNT_SUM,
+                       MAX(t.CREATED_AT) AS LAST_TX_AT
+                FROM TRANSACTIONS t
+                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                WHERE %s
+                  AND t.CREATED_AT >= :fromTs
+                  AND t.CREATED_AT < :toTs
+                  AND a.USER_INNER_ID IS NOT NULL
+                GROUP BY TRUNC(t.CREATED_AT), a.USER_INNER_ID, NVL(t.TX_TYPE, 'UNKNOWN')
+            ) s
+            ON (r.STAT_DAY = s.STAT_DAY AND r.USER_INNER_ID = s.USER_INNER_ID AND r.TX_TYPE = s.TX_TYPE)
+            WHEN MATCHED THEN UPDATE SET
+                r.TX_COUNT = r.TX_COUNT + s.TX_COUNT,
+                r.TX_AMOUNT_SUM = r.TX_AMOUNT_SUM + s.TX_AMOUNT_SUM,
+                r.LAST_TX_AT = CASE
+                    WHEN r.LAST_TX_AT IS NULL OR r.LAST_TX_AT < s.LAST_TX_AT THEN s.LAST_TX_AT
+                    ELSE r.LAST_TX_AT
+                END,
+                r.UPDATED_AT = SYSTIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (
+                STAT_DAY, USER_INNER_ID, TX_TYPE, TX_COUNT, TX_AMOUNT_SUM,
+                DETECTED_COUNT, FRAUD_COUNT, FRAUD_PROB_SUM, FRAUD_PROB_COUNT,
+                LAST_TX_AT, LAST_DETECTED_AT, UPDATED_AT
+            ) VALUES (
+                s.STAT_DAY, s.USER_INNER_ID, s.TX_TYPE, s.TX_COUNT, s.TX_AMOUNT_SUM,
+                0, 0, 0, 0,
+                s.LAST_TX_AT, NULL, SYSTIMESTAMP
+            )
+            """;
+
+    private static final String MERGE_USER_ROLLUP_DETECTION_SQL = """
+            MERGE INTO STATS_DAILY_USER_ROLLUP r
+            USING (
+                SELECT TRUNC(t.CREATED_AT) AS STAT_DAY,
+                       a.USER_INNER_ID,
+                       NVL(t.TX_TYPE, 'UNKNOWN') AS TX_TYPE,
+                       COUNT(*) AS DETECTED_COUNT,
+                       SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END) AS FRAUD_COUNT,
+                       NVL(SUM(d.FRAUD_PROBABILITY), 0) AS FRAUD_PROB_SUM,
+                       COUNT(d.FRAUD_PROBABILITY) AS FRAUD_PROB_COUNT,
+                       MAX(d.DETECTED_AT) AS LAST_DETECTED_AT
+                FROM FRAUD_DETECTION_RESULTS d
+                JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
+                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                WHERE %s
+                  AND t.CREATED_AT >= :fromTs
+                  AND t.CREATED_AT < :toTs
+                  AND a.USER_INNER_ID IS NOT NULL
+                GROUP BY TRUNC(t.CREATED_AT), a.USER_INNER_ID, NVL(t.TX_TYPE, 'UNKNOWN')
+            ) s
+            ON (r.STAT_DAY = s.STAT_DAY AND r.USER_INNER_ID = s.USER_INNER_ID AND r.TX_TYPE = s.TX_TYPE)
+            WHEN MATCHED THEN UPDATE SET
+                r.DETECTED_COUNT = r.DETECTED_COUNT + s.DETECTED_COUNT,
+                r.FRAUD_COUNT = r.FRAUD_COUNT + s.FRAUD_COUNT,
+                r.FRAUD_PROB_SUM = r.FRAUD_PROB_SUM + s.FRAUD_PROB_SUM,
+                r.FRAUD_PROB_COUNT = r.FRAUD_PROB_COUNT + s.FRAUD_PROB_COUNT,
+                r.LAST_DETECTED_AT = CASE
+                    WHEN r.LAST_DETECTED_AT IS NULL OR r.LAST_DETECTED_AT < s.LAST_DETECTED_AT THEN s.LAST_DETECTED_AT
+                    ELSE r.LAST_DETECTED_AT
+                END,
+                r.UPDATED_AT = SYSTIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (
+                STAT_DAY, USER_INNER_ID, TX_TYPE, TX_COUNT, TX_AMOUNT_SUM,
+                DETECTED_COUNT, FRAUD_COUNT, FRAUD_PROB_SUM, FRAUD_PROB_COUNT,
+                LAST_TX_AT, LAST_DETECTED_AT, UPDATED_AT
+            ) VALUES (
+                s.STAT_DAY, s.USER_INNER_ID, s.TX_TYPE, 0, 0,
+                s.DETECTED_COUNT, s.FRAUD_COUNT, s.FRAUD_PROB_SUM, s.FRAUD_PROB_COUNT,
+                NULL, s.LAST_DETECTED_AT, SYSTIMESTAMP
+            )
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final StatsRollupWatermarkRepository watermarkRepository;
+    private final StatsRollupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StatsRollupService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            StatsRollupWatermarkRepository watermarkRepository,
+            StatsRollupProperties properties,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.watermarkRepository = watermarkRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 반영 위치 이후의 거래/탐지 행을 묶음 단위로 롤업에 누적한다.
+     * 묶음이 가득 차면 한 주기 안에서 maxBatchesPerRun 까지 이어서 반영한다.
+     * 반영한 원본 행 수를 반환한다.
+     */
+    public int rollUpPending() {
+        return rollUpPending(TX_ROLLUP) + rollUpPending(DETECTION_ROLLUP);
+    }
+
+    private int rollUpPending(String rollupName) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        int maxBatches = Math.max(1, properties.getMaxBatchesPerRun());
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int applied = rollUpBatch(rollupName, batchSize);
+            total += applied;
+            if (applied < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 롤업 1묶음을 반영한다. 반영 위치 행을 잠근 트랜잭션 안에서 대기 행 선점, 누적, 반영 완료 표시를 함께 커밋한다.
+     * 아직 커밋되지 않은 행은 보이지 않을 뿐 대기 표시가 남으므로, 커밋 후 다음 주기에 반영된다.
+     */
+    int rollUpBatch(String rollupName, int batchSize) {
+        Integer applied = transactionTemplate.execute(status -> {
+            StatsRollupWatermark watermark = lockWatermark(rollupName);
+            boolean tx = TX_ROLLUP.equals(rollupName);
+            int rowCount = jdbcTemplate.update(tx ? CLAIM_TX_SQL : CLAIM_DETECTION_SQL,
+                    new MapSqlParameterSource("batchSize", batchSize));
+            if (rowCount == 0) {
+                return 0;
+            }
+            apply(rollupName, tx ? TX_CLAIMED : DETECTION_CLAIMED, MIN_TS, MAX_TS);
+            jdbcTemplate.update(tx ? RELEASE_TX_SQL : RELEASE_DETECTION_SQL, new MapSqlParameterSource());
+            watermark.setUpdatedAt(LocalDateTime.now());
+            return rowCount;
+        });
+        int count = applied == null ? 0 : applied;
+        if (count > 0) {
+            log.debug("Stats rollup [{}] applied {} rows", rollupName, count);
+        }
+        return count;
+    }
+
+    /**
+     * 지정한 일자 범위(양 끝 포함)의 롤업을 지우고 원본 행으로 다시 계산한다.
+     * 수동 판정 변경, 행 삭제처럼 ID 증분으로는 보이지 않는 변경을 바로잡는다.
+     * 두 반영 위치 행을 잠근 상태에서 반영 완료(ROLLUP_PENDING IS NULL) 행만 다시 모으므로 이후 증분 반영과 겹치지 않는다.
+     * 커밋 후 대시보드 결과 캐시에 변경을 알린다.
+     */
+    public void recompute(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null || toDate == null || fromDate.isAfter(toDate)) {
+            return;
+        }
+        LocalDateTime fromTs = fromDate.atStartOfDay();
+        LocalDateTime toTs = toDate.plusDays(1).atStartOfDay();
+        transactionTemplate.executeWithoutResult(status -> {
+            lockWatermark(TX_ROLLUP);
+            lockWatermark(DETECTION_ROLLUP);
+            MapSqlParameterSource range = new MapSqlParameterSource()
+                    .addValue("fromTs", fromTs)
+                    .addValue("toTs", toTs);
+            jdbcTemplate.update("""
+                    DELETE FROM STATS_DAILY_TX_ROLLUP
+                    WHERE STAT_DAY >= :fromTs
+                      AND STAT_DAY < :toTs
+                    """, range);
+            jdbcTemplate.update("""
+                    DELETE FROM STATS_DAILY_USER_ROLLUP
+                    WHERE STAT_DAY >= :fromTs
+                      AND STAT_DAY < :toTs
+                    """, range);
+            apply(TX_ROLLUP, TX_APPLIED, fromTs, toTs);
+            apply(DETECTION_ROLLUP, DETECTION_APPLIED, fromTs, toTs);
+        });
+        log.info("Stats rollup recomputed: {} ~ {}", fromDate, toDate);
+        eventPublisher.publishEvent(new StatsDataChangedEvent("rollup recomputed: " + fromDate + " ~ " + toDate));
+    }
+
+    private void apply(String rollupName, String rowFilter, LocalDateTime fromTs, LocalDateTime toTs) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromTs", fromTs)
+                .addValue("toTs", toTs);
+        if (TX_ROLLUP.equals(rollupName)) {
+            jdbcTemplate.update(MERGE_TX_ROLLUP_TX_SQL.formatted(rowFilter), params);
+            jdbcTemplate.update(MERGE_USER_ROLLUP_TX_SQL.formatted(rowFilter), params);
+        } else {
+            jdbcTemplate.update(MERGE_TX_ROLLUP_DETECTION_SQL.formatted(rowFilter), params);
+            jdbcTemplate.update(MERGE_USER_ROLLUP_DETECTION_SQL.formatted(rowFilter), params);
+        }
+    }
+
+    private StatsRollupWatermark lockWatermark(String rollupName) {
+        return watermarkRepository.lockByRollupName(rollupName)
+                .orElseGet(() -> watermarkRepository.saveAndFlush(new StatsRollupWatermark(rollupName)));
+    }
+}
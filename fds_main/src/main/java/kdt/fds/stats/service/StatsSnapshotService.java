@@ -25,6 +25,7 @@ import java.util.regex.Pattern;
 import kdt.fds.stats.config.StatsSnapshotProperties;
 import kdt.fds.stats.dto.request.StatsSnapshotGenerateRequestDTO;
 import kdt.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.fds.stats.dto.response.PercentileSummaryDTO;
 import kdt.fds.stats.dto.response.StatsSnapshotMetadataDTO;
 import kdt.fds.stats.dto.response.StatsSnapshotGenerateResponseDTO;
 import kdt.fds.stats.vo.StatsSnapshotScope;
@@ -188,7 +189,7 @@ public class StatsSnapshotService {
                   AND d.IS_FRAUD = 1
                 """, params);
         Double avgProbability = queryDouble(params);
-        Double medianProbability = queryMedianProbability(params);
+        List<PercentileSummaryDTO> percentiles = queryPercentiles(params);
         LocalDateTime latestTxAt = queryTimestamp("""
                 SELECT MAX(CREATED_AT)
                 FROM TRANSACTIONS
@@ -216,9 +217,12 @@ public class StatsSnapshotService {
         kpi.put("fraudCount", fraudCount);
         kpi.put("fraudRate", safeRate(fraudCount, detectedCount));
         kpi.put("averageFraudProbability", avgProbability);
-        kpi.put("medianFraudProbability", medianProbability);
+        kpi.put("medianFraudProbability", percentiles.get(1).p50());
         kpi.put("latestTransactionAt", latestTxAt);
         kpi.put("latestDetectionAt", latestDetectionAt);
+        kpi.put("amountPercentiles", percentiles.get(0));
+        kpi.put("fraudProbabilityPercentiles", percentiles.get(1));
+        kpi.put("detectionLatencyMsPercentiles", percentiles.get(2));
         payload.put("kpi", kpi);
 
         Path targetPath = resolveSnapshotPath(StatsSnapshotScope.GENERAL, range);
@@ -416,30 +420,20 @@ public class StatsSnapshotService {
     }
 
     /**
-     * 사기 탐지 확률의 중앙값을 계산한다.
-     * 홀수 개이면 가운데 값, 짝수 개이면 중앙 두 값의 평균을 반환한다.
+     * 거래 금액과 탐지 결과(사기 확률, 탐지 지연)의 분위수를 DB 에서 계산한다.
+     * 거래 금액, 사기 확률, 탐지 지연(ms) 순서의 분위수 요약을 반환한다.
      */
-    private Double queryMedianProbability(MapSqlParameterSource params) {
-        List<Double> values = jdbcTemplate.query("""
-                SELECT d.FRAUD_PROBABILITY
+    private List<PercentileSummaryDTO> queryPercentiles(MapSqlParameterSource params) {
+        List<PercentileSummaryDTO> percentiles = new ArrayList<>(StatsPercentileQuery.query(jdbcTemplate, """
+                FROM TRANSACTIONS t
+                WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
+                """, params, StatsPercentileQuery.TX_AMOUNT));
+        percentiles.addAll(StatsPercentileQuery.query(jdbcTemplate, """
                 FROM FRAUD_DETECTION_RESULTS d
                 JOIN TRANSACTIONS t ON t.TX_ID = d.TX_ID
                 WHERE t.CREATED_AT >= :fromTs AND t.CREATED_AT < :toTs
-                  AND d.FRAUD_PROBABILITY IS NOT NULL
-                ORDER BY d.FRAUD_PROBABILITY
-                """, params, (rs, rowNum) -> rs.getDouble(1));
-        if (values.isEmpty()) {
-            return null;
-        }
-        int size = values.size();
-        // 홀수 개: 정확히 가운데 값 반환
-        if (size % 2 == 1) {
-            return values.get(size / 2);
-        }
-        // 짝수 개: 중앙 두 값의 평균 반환
-        double lower = values.get(size / 2 - 1);
-        double upper = values.get(size / 2);
-        return (lower + upper) / 2.0;
+                """, params, StatsPercentileQuery.FRAUD_PROBABILITY, StatsPercentileQuery.DETECTION_LATENCY_MS));
+        return percentiles;
     }
 
     private BigDecimal safeRate(long numerator, long denominator) {
@@ -1,10 +1,17 @@
 package kdt.fds.stats.service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import kdt.fds.stats.dto.response.PercentileSummaryDTO;
 import kdt.fds.stats.dto.response.UserDashboardResponseDTO;
 import kdt.fds.stats.dto.response.UserSummaryResponseDTO;
 import kdt.fds.stats.vo.StatsDateRange;
@@ -24,119 +31,120 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 @Transactional(readOnly = true)
 public class UserStatsDashboardService extends StatsDashboardSupport {
+    /**
+     * 사용자 거래/탐지 합계를 (일자, 거래 유형) 단위로 조회한다.
+     * 롤업 경계 이전은 STATS_DAILY_USER_ROLLUP, 경계 이후는 TRANSACTIONS / FRAUD_DETECTION_RESULTS 에서 읽는다.
+     */
+    private static final String USER_ACTIVITY_SQL = "WITH " + ROLLUP_SPLIT_CTE + """
+            SELECT x.STAT_DAY AS KEY_DATE,
+                   x.TX_TYPE AS KEY_NAME,
+                   SUM(x.TX_COUNT) AS TX_COUNT,
+                   SUM(x.TX_AMOUNT_SUM) AS AMOUNT_VALUE,
+                   SUM(x.DETECTED_COUNT) AS DETECTED_COUNT,
+                   SUM(x.FRAUD_COUNT) AS FRAUD_COUNT,
+                   SUM(x.FRAUD_PROB_SUM) AS FRAUD_PROB_SUM,
+                   SUM(x.FRAUD_PROB_COUNT) AS FRAUD_PROB_COUNT,
+                   MAX(x.LAST_TX_AT) AS LAST_TX_AT,
+                   MAX(x.LAST_DETECTED_AT) AS LAST_DETECTED_AT
+            FROM (
+                SELECT r.STAT_DAY, r.TX_TYPE, r.TX_COUNT, r.TX_AMOUNT_SUM,
+                       r.DETECTED_COUNT, r.FRAUD_COUNT, r.FRAUD_PROB_SUM, r.FRAUD_PROB_COUNT,
+                       r.LAST_TX_AT, r.LAST_DETECTED_AT
+                FROM STATS_DAILY_USER_ROLLUP r
+                CROSS JOIN ROLLUP_SPLIT s
+                WHERE r.USER_INNER_ID = :userId
+                  AND r.STAT_DAY >= :fromTs
+                  AND r.STAT_DAY < s.SPLIT_TS
+                UNION ALL
+                SELECT TRUNC(t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN'), COUNT(*), NVL(SUM(t.TX_AMOUNT), 0),
+                       0, 0, 0, 0,
+                       MAX(t.CREATED_AT), CAST(NULL AS TIMESTAMP)
+                FROM TRANSACTIONS t
+                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                CROSS JOIN ROLLUP_SPLIT s
+                WHERE a.USER_INNER_ID = :userId
+                  AND t.CREATED_AT >= s.SPLIT_TS
+                  AND t.CREATED_AT < :toTs
+                GROUP BY TRUNC(t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN')
+                UNION ALL
+                SELECT TRUNC(t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN'), 0, 0,
+                       COUNT(*), SUM(CASE WHEN d.IS_FRAUD = 1 THEN 1 ELSE 0 END),
+                       NVL(SUM(d.FRAUD_PROBABILITY), 0), COUNT(d.FRAUD_PROBABILITY),
+                       CAST(NULL AS TIMESTAMP), MAX(d.DETECTED_AT)
+                FROM TRANSACTIONS t
+                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
+                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
+                CROSS JOIN ROLLUP_SPLIT s
+                WHERE a.USER_INNER_ID = :userId
+                  AND t.CREATED_AT >= s.SPLIT_TS
+                  AND t.CREATED_AT < :toTs
+                GROUP BY TRUNC(t.CREATED_AT), NVL(t.TX_TYPE, 'UNKNOWN')
+            ) x
+            GROUP BY x.STAT_DAY, x.TX_TYPE
+            """;
+
     private final UserRepository userRepository;
+    private final StatsDashboardCache dashboardCache;
 
     public UserStatsDashboardService(
             NamedParameterJdbcTemplate jdbcTemplate,
-            UserRepository userRepository
+            UserRepository userRepository,
+            StatsDashboardCache dashboardCache
     ) {
         super(jdbcTemplate);
         this.userRepository = userRepository;
+        this.dashboardCache = dashboardCache;
     }
 
     /**
      * 사용자 거래/탐지 요약 지표를 지정 기간 기준으로 집계한다. 사용자 요약 통계 응답에 사용될 DTO 객체를 반환한다.
+     * 결과는 사용자/기간별로 캐시한다.
      */
     public UserSummaryResponseDTO getUserSummary(Long userId, StatsRangeType rangeType) {
         StatsDateRange range = resolveRange(rangeType);
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("userId", userId)
-                .addValue("fromTs", range.fromTimestamp())
-                .addValue("toTs", range.toExclusiveTimestamp());
-
-        long transactionCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        BigDecimal totalAmount = queryDecimal("""
-                SELECT NVL(SUM(t.TX_AMOUNT), 0)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        BigDecimal averageAmount = queryDecimal("""
-                SELECT AVG(t.TX_AMOUNT)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-
-        long detectedCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        long fraudCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                  AND d.IS_FRAUD = 1
-                """, params);
+        return dashboardCache.get("userSummary:" + userId, range, () -> loadUserSummary(userId, rangeType, range));
+    }
 
-        Double averageFraudProbability = queryAverageFraudProbability(params);
-        Double medianFraudProbability = computeMedianProbability(params);
+    private UserSummaryResponseDTO loadUserSummary(Long userId, StatsRangeType rangeType, StatsDateRange range) {
+        MapSqlParameterSource params = rangeParams(range)
+                .addValue("userId", userId);
 
-        LocalDateTime latestTransactionAt = queryTimestamp("""
-                SELECT MAX(t.CREATED_AT)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        LocalDateTime latestDetectionAt = queryTimestamp("""
-                SELECT MAX(d.DETECTED_AT)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
+        UserActivity activity = loadCachedUserActivity(userId, range, params);
+        long transactionCount = activity.transactionCount();
+        long detectedCount = activity.detectedCount();
+        long fraudCount = activity.fraudCount();
+        List<PercentileSummaryDTO> percentiles = loadPercentiles(params);
+        PercentileSummaryDTO fraudProbabilityPercentiles = percentiles.get(1);
 
         return new UserSummaryResponseDTO(
                 rangeType == null ? StatsRangeType.LAST_7_DAYS.name() : rangeType.name(),
                 transactionCount,
-                totalAmount,
-                averageAmount,
+                activity.totalAmount(),
+                activity.averageAmount(),
                 detectedCount,
                 safeRate(detectedCount, transactionCount),
                 fraudCount,
                 safeRate(fraudCount, detectedCount),
-                averageFraudProbability,
-                medianFraudProbability,
-                latestTransactionAt,
-                latestDetectionAt
+                activity.averageFraudProbability(),
+                fraudProbabilityPercentiles.p50(),
+                activity.latestTransactionAt(),
+                activity.latestDetectionAt(),
+                percentiles.get(0),
+                fraudProbabilityPercentiles,
+                percentiles.get(2)
         );
     }
 
     /**
      * 사용자 대시보드에 필요한 프로필/계좌/카드/거래/탐지 정보를 조회해 구성한다. 사용자 대시보드 응답에 사용될 DTO 객체를 반환한다.
+     * 기간 집계(거래/탐지 합계)만 캐시하고, 계좌 잔액/카드/최근 거래는 매번 조회한다.
      */
     public UserDashboardResponseDTO getUserDashboard(Long userId, StatsRangeType rangeType) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
         StatsDateRange range = resolveRange(rangeType);
-        MapSqlParameterSource params = new MapSqlParameterSource()
-                .addValue("userId", userId)
-                .addValue("fromTs", range.fromTimestamp())
-                .addValue("toTs", range.toExclusiveTimestamp());
+        MapSqlParameterSource params = rangeParams(range)
+                .addValue("userId", userId);
 
         Map<String, String> accountStatusLabels = loadCodebookLabels("ACCOUNT_STATUS");
         Set<String> accountStatusDuplicates = findDuplicateLabels(accountStatusLabels);
@@ -196,41 +204,12 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
         cardStatusCounts = mapDistributionLabels(cardStatusCounts, cardStatusLabels, cardStatusDuplicates);
         cardTypeCounts = mapDistributionLabels(cardTypeCounts, cardTypeLabels, cardTypeDuplicates);
 
-        long transactionCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        BigDecimal totalAmount = queryDecimal("""
-                SELECT NVL(SUM(t.TX_AMOUNT), 0)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        BigDecimal averageAmount = queryDecimal("""
-                SELECT AVG(t.TX_AMOUNT)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        Map<String, Long> txTypeCounts = loadDistribution("""
-                SELECT NVL(t.TX_TYPE, 'UNKNOWN') AS KEY_NAME, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                GROUP BY NVL(t.TX_TYPE, 'UNKNOWN')
-                """, params);
-        txTypeCounts = mapDistributionLabels(txTypeCounts, transactionTypeLabels, transactionTypeDuplicates);
-        List<UserDashboardResponseDTO.DateCountDTO> dailyCounts = loadUserDateCounts(params);
+        UserActivity activity = loadCachedUserActivity(userId, range, params);
+        Map<String, Long> txTypeCounts = mapDistributionLabels(
+                activity.typeCounts(), transactionTypeLabels, transactionTypeDuplicates);
+        List<UserDashboardResponseDTO.DateCountDTO> dailyCounts = new ArrayList<>();
+        activity.dailyCounts().forEach((date, count) ->
+                dailyCounts.add(new UserDashboardResponseDTO.DateCountDTO(date, count)));
         List<UserDashboardResponseDTO.RecentTransactionDTO> recentTransactions = jdbcTemplate.query("""
                 SELECT t.TX_ID, t.CREATED_AT, t.TX_AMOUNT, t.MERCHANT_CAT, t.LOCATION,
                        t.TARGET_ACCOUNT_NUMBER, t.DESCRIPTION
@@ -249,35 +228,6 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                 rs.getString("DESCRIPTION")
         ));
 
-        long detectedCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-        long fraudCount = queryLong("""
-                SELECT COUNT(*)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                  AND d.IS_FRAUD = 1
-                """, params);
-        LocalDateTime latestDetectionAt = queryTimestamp("""
-                SELECT MAX(d.DETECTED_AT)
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                """, params);
-
         UserDashboardResponseDTO.CardSummaryDTO cards = new UserDashboardResponseDTO.CardSummaryDTO(
                 cardCount,
                 averageCardsPerUser,
@@ -286,80 +236,129 @@ public class UserStatsDashboardService extends StatsDashboardSupport {
                 cardIssuerCounts
         );
         UserDashboardResponseDTO.TransactionSummaryDTO transactions = new UserDashboardResponseDTO.TransactionSummaryDTO(
-                transactionCount,
-                totalAmount,
-                averageAmount,
+                activity.transactionCount(),
+                activity.totalAmount(),
+                activity.averageAmount(),
                 txTypeCounts,
                 dailyCounts,
                 recentTransactions
         );
         UserDashboardResponseDTO.DetectionSummaryDTO detections = new UserDashboardResponseDTO.DetectionSummaryDTO(
+                activity.detectedCount(),
+                activity.fraudCount(),
+                safeRate(activity.fraudCount(), activity.detectedCount()),
+                activity.latestDetectionAt()
+        );
+
+        return new UserDashboardResponseDTO(profile, accounts, cards, transactions, detections);
+    }
+
+    private UserActivity loadCachedUserActivity(Long userId, StatsDateRange range, MapSqlParameterSource params) {
+        return dashboardCache.get("userActivity:" + userId, range, () -> loadUserActivity(params));
+    }
+
+    /**
+     * 사용자 거래/탐지 합계를 (일자, 거래 유형) 단위로 읽어 기간 합계로 모은다. 요약/대시보드 응답에 공통으로 쓰일 집계 객체를 반환한다.
+     * 완료된 날은 STATS_DAILY_USER_ROLLUP 에서, 롤업 경계(오늘 또는 아직 반영되지 않은 날)부터는 원본 테이블에서 읽는다.
+     */
+    private UserActivity loadUserActivity(MapSqlParameterSource params) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(USER_ACTIVITY_SQL, params);
+        long transactionCount = 0L;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        long detectedCount = 0L;
+        long fraudCount = 0L;
+        double probabilitySum = 0.0;
+        long probabilityCount = 0L;
+        LocalDateTime latestTransactionAt = null;
+        LocalDateTime latestDetectionAt = null;
+        Map<LocalDate, Long> dailyCounts = new TreeMap<>();
+        Map<String, Long> typeCounts = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            long txCount = toLong(row.get("TX_COUNT"));
+            transactionCount += txCount;
+            BigDecimal amount = toDecimal(row.get(AMOUNT_VALUE));
+            if (amount != null) {
+                totalAmount = totalAmount.add(amount);
+            }
+            detectedCount += toLong(row.get("DETECTED_COUNT"));
+            fraudCount += toLong(row.get("FRAUD_COUNT"));
+            if (row.get("FRAUD_PROB_SUM") instanceof Number sum) {
+                probabilitySum += sum.doubleValue();
+            }
+            probabilityCount += toLong(row.get("FRAUD_PROB_COUNT"));
+            latestTransactionAt = later(latestTransactionAt, toKeyDateTime(row.get("LAST_TX_AT")));
+            latestDetectionAt = later(latestDetectionAt, toKeyDateTime(row.get("LAST_DETECTED_AT")));
+            if (txCount > 0) {
+                LocalDate date = toKeyDate(row.get(KEY_DATE));
+                if (date != null) {
+                    dailyCounts.merge(date, txCount, Long::sum);
+                }
+                String type = normalizeText(Objects.toString(row.get(KEY_NAME), null));
+                typeCounts.merge(type == null ? "UNKNOWN" : type, txCount, Long::sum);
+            }
+        }
+        BigDecimal averageAmount = transactionCount == 0
+                ? null
+                : totalAmount.divide(BigDecimal.valueOf(transactionCount), 4, RoundingMode.HALF_UP);
+        Double averageFraudProbability = probabilityCount == 0 ? null : probabilitySum / probabilityCount;
+        return new UserActivity(
+                transactionCount,
+                totalAmount,
+                averageAmount,
                 detectedCount,
                 fraudCount,
-                safeRate(fraudCount, detectedCount),
-                latestDetectionAt
+                averageFraudProbability,
+                latestTransactionAt,
+                latestDetectionAt,
+                dailyCounts,
+                typeCounts
         );
+    }
 
-        return new UserDashboardResponseDTO(profile, accounts, cards, transactions, detections);
+    private LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
     }
 
-    private List<UserDashboardResponseDTO.DateCountDTO> loadUserDateCounts(
-            MapSqlParameterSource params
+    /**
+     * 기간 내 사용자 거래/탐지 합계이다. 일별 건수는 날짜순, 거래 유형별 건수는 코드 값 기준이다.
+     */
+    private record UserActivity(
+            long transactionCount,
+            BigDecimal totalAmount,
+            BigDecimal averageAmount,
+            long detectedCount,
+            long fraudCount,
+            Double averageFraudProbability,
+            LocalDateTime latestTransactionAt,
+            LocalDateTime latestDetectionAt,
+            Map<LocalDate, Long> dailyCounts,
+            Map<String, Long> typeCounts
     ) {
-        return jdbcTemplate.query("""
-                SELECT TRUNC(t.CREATED_AT) AS KEY_DATE, COUNT(*) AS COUNT_VALUE
-                FROM TRANSACTIONS t
-                JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                WHERE a.USER_INNER_ID = :userId
-                  AND t.CREATED_AT >= :fromTs
-                  AND t.CREATED_AT < :toTs
-                GROUP BY TRUNC(t.CREATED_AT)
-                ORDER BY TRUNC(t.CREATED_AT)
-                """, params, (rs, rowNum) -> new UserDashboardResponseDTO.DateCountDTO(
-                toLocalDate(rs.getTimestamp(KEY_DATE)),
-                rs.getLong(COUNT_VALUE)
-        ));
     }
 
     /**
-     * 사용자 거래 범위 내 평균 사기 확률을 조회한다.
+     * 사용자 거래 금액과 탐지 결과(사기 확률, 탐지 지연)의 분위수를 DB 에서 계산한다.
+     * 거래 금액, 사기 확률, 탐지 지연(ms) 순서의 분위수 요약을 반환한다.
      */
-    private Double queryAverageFraudProbability(MapSqlParameterSource params) {
-        return jdbcTemplate.queryForObject("""
-                SELECT AVG(d.FRAUD_PROBABILITY)
+    private List<PercentileSummaryDTO> loadPercentiles(MapSqlParameterSource params) {
+        List<PercentileSummaryDTO> percentiles = new ArrayList<>(StatsPercentileQuery.query(jdbcTemplate, """
                 FROM TRANSACTIONS t
                 JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
-                JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
                 WHERE a.USER_INNER_ID = :userId
                   AND t.CREATED_AT >= :fromTs
                   AND t.CREATED_AT < :toTs
-                """, params, Double.class);
-    }
-
-    /**
-     * 사용자 거래 범위 내 사기 확률 중앙값을 계산한다. 확률 중앙값 응답에 사용될 계산값을 반환한다. 데이터가 없으면 null을 반환한다.
-     */
-    private Double computeMedianProbability(MapSqlParameterSource params) {
-        List<Double> values = jdbcTemplate.query("""
-                SELECT d.FRAUD_PROBABILITY
+                """, params, StatsPercentileQuery.TX_AMOUNT));
+        percentiles.addAll(StatsPercentileQuery.query(jdbcTemplate, """
                 FROM TRANSACTIONS t
                 JOIN ACCOUNTS a ON a.ACCOUNT_ID = t.ACCOUNT_ID
                 JOIN FRAUD_DETECTION_RESULTS d ON d.TX_ID = t.TX_ID
                 WHERE a.USER_INNER_ID = :userId
                   AND t.CREATED_AT >= :fromTs
                   AND t.CREATED_AT < :toTs
-                  AND d.FRAUD_PROBABILITY IS NOT NULL
-                ORDER BY d.FRAUD_PROBABILITY
-                """, params, (rs, rowNum) -> rs.getDouble(1));
-        if (values.isEmpty()) {
-            return null;
-        }
-        int size = values.size();
-        if (size % 2 == 1) {
-            return values.get(size / 2);
-        }
-        double lower = values.get(size / 2 - 1);
-        double upper = values.get(size / 2);
-        return (lower + upper) / 2.0;
+                """, params, StatsPercentileQuery.FRAUD_PROBABILITY, StatsPercentileQuery.DETECTION_LATENCY_MS));
+        return percentiles;
     }
 }
@@ -0,0 +1,8 @@
+package kdt.fds.stats.vo;
+
+/**
+ * 이 파일은 통계 데이터 변경 이벤트 레코드 파일이다.
+ * 코드북 레이블 변경이나 롤업 재계산처럼 이미 계산한 대시보드 결과를 무효로 만드는 변경을 알린다.
+ */
+public record StatsDataChangedEvent(String reason) {
+}
@@ -1,6 +1,7 @@
 package kdt.fds.transaction.controller;
 
 import kdt.fds.card.service.CardService;
+import kdt.fds.transaction.entity.CardTransaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,9 +31,16 @@ public class PaymentController {
                                  RedirectAttributes redirectAttributes) {
         try {
             // 카드 번호를 기반으로 결제를 처리하므로 별도의 Principal이 없어도 작동합니다.
-            cardService.processPayment(cardNumber, amount, merchantName);
+            String status = cardService.processPayment(cardNumber, amount, merchantName);
 
-            redirectAttributes.addFlashAttribute("message", "결제가 완료되었습니다!");
+            // [수정] FDS 거절/보류는 예외가 아니라 결제 상태로 전달됨
+            if (CardTransaction.STATUS_DECLINED.equals(status)) {
+                redirectAttributes.addFlashAttribute("error", "결제가 거절되었습니다. (이상 거래 탐지)");
+            } else if (CardTransaction.STATUS_HELD.equals(status)) {
+                redirectAttributes.addFlashAttribute("message", "결제가 보류되었습니다. 관리자 검토 후 처리됩니다.");
+            } else {
+                redirectAttributes.addFlashAttribute("message", "결제가 완료되었습니다!");
+            }
             return "redirect:/card/history";
 
         } catch (Exception e) {
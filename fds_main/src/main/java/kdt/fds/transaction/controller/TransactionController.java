@@ -1,15 +1,34 @@
 package kdt.fds.transaction.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kdt.fds.transaction.dto.TransferCommand;
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.fraud.repository.FraudRepository;
 import kdt.fds.transaction.repository.TransactionRepository;
+import kdt.fds.transaction.service.BulkTransferService;
+import kdt.fds.transaction.service.DetectionQueueFullException;
+import kdt.fds.transaction.service.IdempotencyService;
 import kdt.fds.transaction.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -23,19 +42,91 @@ public class TransactionController {
     private final TransactionService transactionService;
     private final FraudRepository fraudRepository;
     private final TransactionRepository transactionRepository;
+    private final IdempotencyService idempotencyService;
+    private final BulkTransferService bulkTransferService;
 
     /**
      * [POST] 새로운 거래 생성 요청
+     * [추가] Idempotency-Key 헤더가 있으면 같은 키의 재요청은 처리 없이 이전 응답을 돌려준다. (키는 로그인 사용자별)
+     * [수정] 엔티티 대신 TransferCommand 로 받아 형식 오류는 DB 조회 전에 400 으로 거절 (handleInvalidRequest)
      */
     @PostMapping
-    public ResponseEntity<?> createTransaction(@RequestBody Transaction tx) {
+    public ResponseEntity<?> createTransaction(@Valid @RequestBody TransferCommand command,
+                                               @RequestHeader(value = IdempotencyService.HEADER, required = false)
+                                               String idempotencyKey,
+                                               Principal principal) {
         log.info("새로운 거래 요청 수신 - 사용자ID: {}, 출처: {}, 금액: {}",
-                tx.getUserId(), tx.getSourceValue(), tx.getAmount());
+                command.userId(), command.sourceValue(), command.amount());
 
+        if (idempotencyKey == null) {
+            return process(command.toEntity());
+        }
+        String requestHash = IdempotencyService.fingerprint(command.userId(), command.txType(), command.sourceValue(),
+                command.targetAccountNumber(), command.amount());
+        return idempotencyService.execute(principal.getName(), idempotencyKey, requestHash,
+                () -> process(command.toEntity()));
+    }
+
+    /**
+     * [POST] 대량 송금 (요청/응답 NDJSON, 한 줄에 송금 1건)
+     * [추가] 요청을 chunk 단위로 처리하며 chunk 가 끝날 때마다 행별 결과를 스트리밍한다. (마지막 줄은 요약)
+     * [수정] 일반 사용자는 본인 계좌 출금 행만 처리하고, 관리자(ROLE_ADMIN)는 계좌 제한 없이 일괄 처리한다.
+     */
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createBulkTransactions(HttpServletRequest request,
+                                                                        Authentication authentication) throws IOException {
+        InputStream body = request.getInputStream();
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        String ownerId = admin ? null : authentication.getName();
+        log.info("대량 송금 요청 수신 - 요청자: {}, 크기: {} bytes", authentication.getName(), request.getContentLengthLong());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> bulkTransferService.process(body, out, ownerId));
+    }
+
+    /**
+     * [추가] 요청 검증 실패 (Bean Validation / JSON 형식 오류)
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequest(MethodArgumentNotValidException e) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (FieldError error : e.getBindingResult().getFieldErrors()) {
+            errors.putIfAbsent(error.getField(), error.getDefaultMessage());
+        }
+        ObjectError first = e.getBindingResult().getAllErrors().isEmpty() ? null : e.getBindingResult().getAllErrors().get(0);
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "FAIL",
+                "message", first != null && first.getDefaultMessage() != null ? first.getDefaultMessage() : "잘못된 요청입니다.",
+                "errors", errors
+        ));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, Object>> handleUnreadableRequest(HttpMessageNotReadableException e) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "FAIL",
+                "message", "요청 본문(JSON) 형식이 올바르지 않습니다."
+        ));
+    }
+
+    private ResponseEntity<?> process(Transaction tx) {
         try {
             // 3단계 필터 로직이 담긴 서비스 호출
             Transaction result = transactionService.processTransfer(tx);
 
+            // 비동기 모드: 접수만 완료, 결과는 /{txId}/status 로 조회
+            if (Transaction.STATUS_PENDING_REVIEW.equals(result.getStatus())) {
+                return ResponseEntity.accepted().body(Map.of(
+                        "status", Transaction.STATUS_PENDING_REVIEW,
+                        "txId", result.getTxId(),
+                        "amount", result.getAmount(),
+                        "message", "거래 요청이 접수되었습니다. 이상 거래 탐지 후 처리 결과를 조회할 수 있습니다."
+                ));
+            }
+
             return ResponseEntity.ok(Map.of(
                     "status", "PROCESSED",
                     "txId", result.getTxId(),
@@ -43,6 +134,15 @@ public class TransactionController {
                     "message", "거래 요청이 접수되었습니다. 고액 또는 의심 거래는 승인 대기 목록에서 확인 가능합니다."
             ));
 
+        } catch (DetectionQueueFullException e) {
+            // backpressure: 대기열 포화 시 재시도 유도
+            log.warn("거래 접수 지연 - 사유: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of(
+                            "status", "BUSY",
+                            "message", e.getMessage()
+                    ));
         } catch (RuntimeException e) {
             log.warn("거래 거절 - 사유: {}", e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
@@ -58,6 +158,29 @@ public class TransactionController {
         }
     }
 
+    /**
+     * [GET] 거래 처리 상태 조회 (비동기 모드 결과 폴링용)
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<?> getTransactionStatus(@PathVariable("id") Long id) {
+        return transactionRepository.findById(id)
+                .<ResponseEntity<?>>map(t -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("txId", t.getTxId());
+                    map.put("status", t.getStatus());
+                    map.put("amount", t.getAmount());
+
+                    // 탐지가 끝났으면 판정 결과 포함
+                    fraudRepository.findByTxId(t.getTxId()).ifPresent(res -> {
+                        map.put("isFraud", res.getIsFraud());
+                        map.put("probability", res.getProbability());
+                        map.put("engine", res.getEngine());
+                    });
+                    return ResponseEntity.ok(map);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * [GET] 모든 거래 내역 조회 (대시보드/히스토리용)
      */
@@ -0,0 +1,78 @@
+package kdt.fds.transaction.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import kdt.fds.transaction.entity.Transaction;
+
+/**
+ * 송금 요청 (POST /api/v1/transactions)
+ * - 엔티티 대신 필요한 값만 받아 요청 단계에서 검증한다. (형식/금액 범위/자기 계좌 송금은 DB 조회 전에 거절)
+ */
+public record TransferCommand(
+        @NotBlank(message = "사용자 ID가 누락되었습니다.")
+        @Size(max = 50)
+        String userId,
+
+        @NotNull(message = "송금 금액이 누락되었습니다.")
+        @Positive(message = "송금 금액은 0보다 커야 합니다.")
+        @Max(value = MAX_AMOUNT, message = "송금 금액이 허용 범위를 초과했습니다.")
+        Long amount,
+
+        @NotBlank(message = "출금 계좌번호가 누락되었습니다.")
+        @Pattern(regexp = ACCOUNT_NUMBER_PATTERN, message = "출금 계좌번호 형식이 올바르지 않습니다.")
+        String sourceValue,
+
+        @NotBlank(message = "입금 계좌번호가 누락되었습니다.")
+        @Pattern(regexp = ACCOUNT_NUMBER_PATTERN, message = "입금 계좌번호 형식이 올바르지 않습니다.")
+        String targetAccountNumber,
+
+        @Pattern(regexp = "TRANSFER", message = "송금 API는 TRANSFER 거래만 접수합니다.")
+        String txType,
+
+        @Size(max = 50)
+        String location,
+
+        @Size(max = 200)
+        String description
+) {
+    /** 1회 송금 상한 (100억 원) */
+    public static final long MAX_AMOUNT = 10_000_000_000L;
+    /** 숫자와 하이픈으로 된 계좌번호 (ACCOUNT_NUMBER 컬럼 길이 30) */
+    public static final String ACCOUNT_NUMBER_PATTERN = "^(?=.{4,30}$)[0-9]+(-[0-9]+)*$";
+
+    /**
+     * txType 누락 시 TRANSFER 로 처리한다.
+     */
+    public TransferCommand {
+        if (txType == null || txType.isBlank()) {
+            txType = "TRANSFER";
+        }
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "동일한 계좌로 송금할 수 없습니다.")
+    public boolean isDistinctAccounts() {
+        return sourceValue == null || !sourceValue.equals(targetAccountNumber);
+    }
+
+    /**
+     * 거래 원장 엔티티로 변환 (연관 엔티티는 서비스 단계에서 필요할 때만 조회)
+     */
+    public Transaction toEntity() {
+        return Transaction.builder()
+                .userId(userId)
+                .txType(txType)
+                .amount(amount)
+                .sourceValue(sourceValue)
+                .targetAccountNumber(targetAccountNumber)
+                .location(location)
+                .description(description)
+                .build();
+    }
+}
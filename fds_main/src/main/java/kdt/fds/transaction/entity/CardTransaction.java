@@ -10,6 +10,12 @@ import java.time.LocalDateTime;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class CardTransaction {
 
+    // 결제 상태값
+    public static final String STATUS_SUCCESS = "SUCCESS";   // 승인 및 출금 완료
+    public static final String STATUS_FAILED = "FAILED";     // 잔액 부족
+    public static final String STATUS_DECLINED = "DECLINED"; // FDS 거절 (블랙리스트/룰 위반)
+    public static final String STATUS_HELD = "HELD";         // FDS 보류 (AI 위험도/한도 초과, 관리자 검토 대기)
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -21,7 +27,11 @@ public class CardTransaction {
     private String merchantName; // 가맹점 이름 (예: 배달의민족, 스타벅스)
     private Long amount;         // 결제 금액
 
-    private String status;       // SUCCESS(승인), FAILED(잔액부족), BLOCKED(FDS차단)
+    private String status;       // SUCCESS(승인), FAILED(잔액부족), DECLINED(FDS거절), HELD(FDS보류)
+
+    // FDS 탐지 대상 거래 (TRANSACTIONS.TX_ID, 탐지 도입 이전 내역은 null)
+    @Column(name = "TX_ID")
+    private Long txId;
 
     @Builder.Default
     private LocalDateTime approvedAt = LocalDateTime.now();
@@ -0,0 +1,102 @@
+package kdt.fds.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 송금 요청 Idempotency-Key 기록 (사용자 + 키당 1행, PK 중복으로 동시 요청 중 하나만 처리)
+ * - 키는 사용자별로 구분한다. (다른 사용자가 같은 키를 써도 서로의 응답을 받지 않음)
+ */
+@Entity
+@Table(name = "TX_IDEMPOTENCY_KEYS")
+@IdClass(IdempotencyRecord.Key.class)
+@Getter @Setter @NoArgsConstructor
+public class IdempotencyRecord implements Persistable<IdempotencyRecord.Key> {
+
+    public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "USER_ID", length = 50)
+    private String userId;
+
+    @Id
+    @Column(name = "IDEMPOTENCY_KEY", length = 100)
+    private String idempotencyKey;
+
+    // 같은 키로 다른 내용을 보낸 요청 구분용 (SHA-256 hex)
+    @Column(name = "REQUEST_HASH", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "STATUS", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "HTTP_STATUS")
+    private Integer httpStatus;
+
+    // 응답 JSON (행 내부 저장)
+    @Column(name = "RESPONSE_BODY", length = 2000)
+    private String responseBody;
+
+    @Column(name = "TX_ID")
+    private Long txId;
+
+    // 선점(또는 만료된 선점을 넘겨받은) 시각, 완료/해제 UPDATE 는 자기 선점 시각과 같을 때만 반영된다
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "COMPLETED_AT")
+    private LocalDateTime completedAt;
+
+    // [추가] 처리 중 선점 갱신 시각 (처리 인스턴스가 주기적으로 갱신, null 이면 CREATED_AT 기준으로 만료 판단)
+    @Column(name = "LEASE_RENEWED_AT")
+    private LocalDateTime leaseRenewedAt;
+
+    // 키를 직접 지정하므로 save 시 merge 용 SELECT 없이 바로 INSERT (중복이면 PK 위반)
+    @Transient
+    private boolean persisted;
+
+    public IdempotencyRecord(String userId, String idempotencyKey, String requestHash, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.status = STATUS_IN_PROGRESS;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(userId, idempotencyKey);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * Idempotency-Key 복합 키 (사용자, 키)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String userId;
+        private String idempotencyKey;
+    }
+}
@@ -15,9 +15,16 @@ import java.time.LocalDateTime;
 @Builder
 public class Transaction {
 
+    // FDS 처리 상태값
+    public static final String STATUS_PENDING_REVIEW = "PENDING_REVIEW"; // 비동기 탐지 대기
+    public static final String STATUS_APPROVED = "APPROVED";             // 승인 및 이체 완료
+    public static final String STATUS_HELD = "HELD";                     // 격리 (관리자 검토 대기)
+    public static final String STATUS_REJECTED = "REJECTED";             // 관리자 거절
+    public static final String STATUS_FAILED = "FAILED";                 // 이체 실패 (잔액 부족 등)
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_TRANSACTIONS")
-    @SequenceGenerator(name = "SEQ_TRANSACTIONS", sequenceName = "SEQ_TRANSACTIONS", allocationSize = 1)
+    @SequenceGenerator(name = "SEQ_TRANSACTIONS", sequenceName = "SEQ_TRANSACTIONS", allocationSize = 50) // pooled-lo
     private Long txId;
 
     // 1. 계좌 및 유저 연관관계 (둘 다 유지하여 조회 유연성 확보)
@@ -59,7 +66,16 @@ public class Transaction {
     @Column(name = "LOCATION")
     private String location; // 거래 위치 정보
 
+    // 5. FDS 처리 상태 (STATUS_* 상수 참고, 기존 입출금 이력은 null, 기존 격리/거절 거래는 db/oracle/transaction_status.sql 로 보정)
+    @Column(name = "STATUS", length = 20)
+    private String status;
+
     @Builder.Default
     @Column(name = "CREATED_AT")
     private LocalDateTime createdAt = LocalDateTime.now(); // txTimestamp와 통합
+
+    // [추가] 일별 롤업 반영 대기 표시 (1: 대기, NULL: 반영 완료). StatsRollupService 만 바꾸므로 엔티티 UPDATE 에서는 제외
+    @Builder.Default
+    @Column(name = "ROLLUP_PENDING", updatable = false)
+    private Integer rollupPending = 1;
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import kdt.fds.transaction.entity.CardTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CardTransactionRepository extends JpaRepository<CardTransaction, Long> {
@@ -20,6 +21,10 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
      */
     List<CardTransaction> findByCard_CardIdOrderByApprovedAtDesc(Long cardId);
 
+    /**
+     * FDS 거래 ID 로 결제 내역 조회 (관리자 승인/거절 시 결제 상태 반영)
+     */
+    Optional<CardTransaction> findByTxId(Long txId);
 
 
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package kdt.fds.transaction.repository;
+
+import kdt.fds.transaction.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    /**
+     * 처리 완료 기록 (엔티티 로딩 없이 단건 UPDATE)
+     * - 선점 시각(claimedAt)이 다르면 만료 후 다른 요청이 넘겨받은 것이므로 반영하지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.status = 'COMPLETED', r.httpStatus = :httpStatus, r.responseBody = :responseBody,
+                r.txId = :txId, r.completedAt = :completedAt
+            WHERE r.userId = :userId
+              AND r.idempotencyKey = :key
+              AND r.status = 'IN_PROGRESS'
+              AND r.createdAt = :claimedAt
+            """)
+    int complete(@Param("userId") String userId, @Param("key") String key, @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("httpStatus") Integer httpStatus, @Param("responseBody") String responseBody,
+                 @Param("txId") Long txId, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 처리 중 기록 제거 (일시 오류로 재시도를 허용할 때, 자기 선점일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM IdempotencyRecord r
+            WHERE r.userId = :userId
+              AND r.idempotencyKey = :key
+              AND r.status = 'IN_PROGRESS'
+              AND r.createdAt = :claimedAt
+            """)
+    int releaseInProgress(@Param("userId") String userId, @Param("key") String key,
+                          @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * 처리 중 선점 갱신 (처리가 lease 보다 오래 걸려도 다른 요청이 넘겨받지 않도록, 자기 선점일 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.leaseRenewedAt = :renewedAt
+            WHERE r.userId = :userId
+              AND r.idempotencyKey = :key
+              AND r.status = 'IN_PROGRESS'
+              AND r.createdAt = :claimedAt
+            """)
+    int renewLease(@Param("userId") String userId, @Param("key") String key,
+                   @Param("claimedAt") LocalDateTime claimedAt, @Param("renewedAt") LocalDateTime renewedAt);
+
+    /**
+     * 선점 시간(lease)이 지난 처리 중 기록을 넘겨받는다. (처리하던 인스턴스가 응답 전에 종료된 경우)
+     * - 마지막 갱신 시각(없으면 선점 시각)이 staleBefore 이전인 기록만 넘겨받는다.
+     * @return 1: 넘겨받음, 0: 이미 완료됐거나 다른 요청이 먼저 넘겨받음
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.createdAt = :claimedAt, r.requestHash = :requestHash, r.leaseRenewedAt = NULL
+            WHERE r.userId = :userId
+              AND r.idempotencyKey = :key
+              AND r.status = 'IN_PROGRESS'
+              AND COALESCE(r.leaseRenewedAt, r.createdAt) < :staleBefore
+            """)
+    int reclaimStale(@Param("userId") String userId, @Param("key") String key,
+                     @Param("requestHash") String requestHash, @Param("claimedAt") LocalDateTime claimedAt,
+                     @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -3,9 +3,11 @@ package kdt.fds.transaction.repository;
 import kdt.fds.account.entity.Account;
 import kdt.fds.transaction.entity.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -87,4 +89,31 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
      * 전체 거래 최신순 조회
      */
     List<Transaction> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    // ==========================================
+    // 4. FDS 처리 상태
+    // ==========================================
+
+    /**
+     * 거래 처리 상태 변경 (비동기 탐지 워커용, 엔티티 로딩 없이 단건 UPDATE)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :status WHERE t.txId = :txId")
+    int updateStatus(@Param("txId") Long txId, @Param("status") String status);
+
+    /**
+     * 거래 상태 선점 (현재 상태가 expected 일 때만 변경, 0 이면 다른 경로가 이미 처리)
+     * - 잔액 이동 전에 호출해 비동기 워커와 관리자 승인이 같은 거래를 두 번 이체하지 않도록 한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :status WHERE t.txId = :txId AND t.status = :expected")
+    int claimStatus(@Param("txId") Long txId, @Param("expected") String expected, @Param("status") String status);
+
+    /**
+     * 특정 처리 상태의 거래 ID 목록 (기동 시 비동기 탐지 대기 건 재등록용)
+     */
+    @Query("SELECT t.txId FROM Transaction t WHERE t.status = :status ORDER BY t.txId")
+    List<Long> findTxIdsByStatus(@Param("status") String status);
+}
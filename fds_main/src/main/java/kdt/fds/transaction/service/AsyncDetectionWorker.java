@@ -0,0 +1,108 @@
+package kdt.fds.transaction.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kdt.fds.common.config.DetectionPipelineProperties;
+import kdt.fds.transaction.entity.Transaction;
+import kdt.fds.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 탐지 워커
+ * - 가상 스레드 N개가 DetectionQueue 를 비우면서 탐지(screenQueued) 후 이체(settleQueued) 또는 격리한다.
+ * - 탐지 단계는 트랜잭션 밖에서, 잔액 이동만 짧은 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncDetectionWorker {
+
+    private final DetectionPipelineProperties properties;
+    private final DetectionQueue detectionQueue;
+    private final TransactionService transactionService;
+    private final TransactionRepository transactionRepository;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < Math.max(1, properties.getWorkers()); i++) {
+            workers.add(Thread.ofVirtual().name("fds-detect-" + i).start(this::drain));
+        }
+        log.info("✅ 비동기 탐지 워커 {}개 시작 (대기열 {}건)", workers.size(), properties.getQueueCapacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        if (detectionQueue.depth() > 0) {
+            // 남은 건은 PENDING_REVIEW 상태로 DB 에 남고, 다음 기동 시 recoverPending 이 다시 등록한다
+            log.warn("⚠️ 처리되지 않은 탐지 대기 {}건 (PENDING_REVIEW 유지, 재기동 시 재등록)", detectionQueue.depth());
+        }
+    }
+
+    /**
+     * 기동 완료 후 PENDING_REVIEW 로 남은 거래(종료/장애로 처리되지 못한 건)를 대기열에 다시 등록
+     * - 대기열 슬롯이 모자라면 남은 건은 다음 기동까지 PENDING_REVIEW 로 둔다.
+     * - 다른 인스턴스가 처리 중인 건과 겹쳐도 이체는 settleQueued 의 상태 선점으로 한 번만 일어난다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<Long> pending = transactionRepository.findTxIdsByStatus(Transaction.STATUS_PENDING_REVIEW);
+        int enqueued = 0;
+        for (Long txId : pending) {
+            if (!detectionQueue.tryReserve()) {
+                break;
+            }
+            detectionQueue.enqueueAfterCommit(txId);
+            enqueued++;
+        }
+        if (!pending.isEmpty()) {
+            log.info("🔁 PENDING_REVIEW 거래 재등록 {}건 / 대상 {}건", enqueued, pending.size());
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            Long txId;
+            try {
+                txId = detectionQueue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (txId != null) {
+                process(txId);
+            }
+        }
+    }
+
+    private void process(Long txId) {
+        try {
+            if (transactionService.screenQueued(txId)) {
+                transactionService.settleQueued(txId);
+            }
+        } catch (Exception e) {
+            // 잔액 부족 등 이체 실패 -> 롤백 후 실패 상태로 남긴다
+            log.error("❌ 비동기 처리 실패 TX_ID: {} - {}", txId, e.getMessage());
+            transactionRepository.claimStatus(txId, Transaction.STATUS_PENDING_REVIEW, Transaction.STATUS_FAILED);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package kdt.fds.transaction.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kdt.fds.account.entity.Account;
+import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.account.service.AccountBalanceService;
+import kdt.fds.common.config.BulkTransferProperties;
+import kdt.fds.common.service.DetectionService;
+import kdt.fds.common.service.FdsConfigCache;
+import kdt.fds.common.service.VelocityStore;
+import kdt.fds.common.vo.FdsConfigSnapshot;
+import kdt.fds.fraud.service.BlacklistIndex;
+import kdt.fds.transaction.dto.TransferCommand;
+import kdt.fds.transaction.entity.Transaction;
+import kdt.fds.transaction.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대량 송금 처리 (POST /api/v1/transactions/bulk, 요청/응답 모두 NDJSON)
+ * - 요청을 한 줄씩 읽어 chunk 단위로 묶고, chunk 마다 트랜잭션 1개로 저장 -> 탐지 -> 이체를 처리한다.
+ * - chunk 안에서는 출금 계좌 일괄 조회, 블랙리스트 중복 조회 제거, 스코어링 1회(scoreBatch), 일괄 INSERT(JDBC 배치)
+ * - chunk 처리가 끝날 때마다 행별 결과를 응답으로 내보낸다. (마지막 줄은 요약)
+ * - chunk 가 실패하면(동시 출금으로 잔액 부족 등) 해당 chunk 만 행 단위 트랜잭션으로 다시 처리한다.
+ * - 일반 사용자는 본인 소유 계좌에서만 출금할 수 있다. (관리자 일괄 처리는 제한 없음)
+ */
+@Slf4j
+@Service
+public class BulkTransferService {
+
+    // 저장하지 않고 거절한 행 (형식 오류, 계좌 없음, 잔액 부족)
+    public static final String RESULT_INVALID = "INVALID";
+
+    private static final ObjectReader COMMAND_READER = new ObjectMapper()
+            .readerFor(TransferCommand.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectWriter LINE_WRITER = new ObjectMapper().writer();
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountBalanceService balanceService;
+    private final DetectionService detectionService;
+    private final BlacklistIndex blacklistIndex;
+    private final FdsConfigCache configCache;
+    private final VelocityStore velocityStore;
+    private final Validator validator;
+    private final BulkTransferProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkTransferService(AccountRepository accountRepository,
+                               TransactionRepository transactionRepository,
+                               AccountBalanceService balanceService,
+                               DetectionService detectionService,
+                               BlacklistIndex blacklistIndex,
+                               FdsConfigCache configCache,
+                               VelocityStore velocityStore,
+                               Validator validator,
+                               BulkTransferProperties properties,
+                               PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.balanceService = balanceService;
+        this.detectionService = detectionService;
+        this.blacklistIndex = blacklistIndex;
+        this.configCache = configCache;
+        this.velocityStore = velocityStore;
+        this.validator = validator;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * NDJSON 요청을 읽어 처리하고 행별 결과를 NDJSON 으로 쓴다.
+     * @param ownerId 요청 사용자 ID (출금 계좌 소유자와 요청 userId 가 같아야 함), null 이면 제한 없음 (관리자)
+     */
+    public void process(InputStream in, OutputStream out, String ownerId) throws IOException {
+        long started = System.nanoTime();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        Map<String, Integer> counts = new LinkedHashMap<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<BulkRow> chunk = new ArrayList<>(chunkSize);
+        int lineNo = 0;
+        int rows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows >= properties.getMaxRows()) {
+                writeLine(out, Map.of("line", lineNo, "status", RESULT_INVALID,
+                        "message", "최대 " + properties.getMaxRows() + "건을 초과해 이후 행은 처리하지 않았습니다."));
+                break;
+            }
+            rows++;
+            chunk.add(parse(lineNo, line));
+            if (chunk.size() >= chunkSize) {
+                flushChunk(chunk, ownerId, out, counts);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flushChunk(chunk, ownerId, out, counts);
+        }
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", rows);
+        summary.put("results", counts);
+        summary.put("elapsedMs", elapsedMs);
+        writeLine(out, Map.of("summary", summary));
+        log.info("📦 대량 송금 처리 완료: {}건 {} ({}ms)", rows, counts, elapsedMs);
+    }
+
+    private void flushChunk(List<BulkRow> chunk, String ownerId, OutputStream out, Map<String, Integer> counts)
+            throws IOException {
+        List<RowResult> results;
+        try {
+            results = transactionTemplate.execute(status -> processChunk(chunk, ownerId));
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                results = List.of(RowResult.invalid(chunk.get(0).line(), e.getMessage()));
+            } else {
+                log.warn("⚠️ 대량 송금 chunk 실패 ({}건), 행 단위로 재처리: {}", chunk.size(), e.getMessage());
+                results = new ArrayList<>(chunk.size());
+                for (BulkRow row : chunk) {
+                    try {
+                        results.addAll(transactionTemplate.execute(status -> processChunk(List.of(row), ownerId)));
+                    } catch (RuntimeException rowError) {
+                        results.add(RowResult.invalid(row.line(), rowError.getMessage()));
+                    }
+                }
+            }
+        }
+        for (RowResult result : results) {
+            counts.merge(result.status(), 1, Integer::sum);
+            Map<String, Object> lineOut = new LinkedHashMap<>();
+            lineOut.put("line", result.line());
+            lineOut.put("txId", result.txId());
+            lineOut.put("status", result.status());
+            lineOut.put("message", result.message());
+            writeLine(out, lineOut);
+        }
+        out.flush();
+    }
+
+    /**
+     * chunk 1개 처리 (호출 측 트랜잭션 안, 결과는 요청 행 순서)
+     */
+    private List<RowResult> processChunk(List<BulkRow> rows, String ownerId) {
+        RowResult[] results = new RowResult[rows.size()];
+
+        // 1. 출금 계좌 + 소유자 일괄 조회 (chunk 시작 시점 잔액, 이후 메모리에서 차감)
+        Set<String> senders = new HashSet<>();
+        for (BulkRow row : rows) {
+            if (row.command() != null) {
+                senders.add(row.command().sourceValue());
+            }
+        }
+        Map<String, Long> available = new HashMap<>();
+        Set<String> notOwned = new HashSet<>();
+        if (!senders.isEmpty()) {
+            for (Account account : accountRepository.findWithUserByAccountNumberIn(senders)) {
+                if (ownerId != null && (account.getUser() == null || !ownerId.equals(account.getUser().getUserId()))) {
+                    notOwned.add(account.getAccountNumber());
+                    continue;
+                }
+                available.put(account.getAccountNumber(), account.getBalance());
+            }
+        }
+
+        // 2. 사전 확인 통과 건만 저장 (ID 는 pooled-lo 로 즉시 할당, INSERT 는 커밋 시 일괄)
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> indexes = new ArrayList<>(rows.size());
+        List<Transaction> txs = new ArrayList<>(rows.size());
+        List<Long> balances = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            BulkRow row = rows.get(i);
+            if (row.command() == null) {
+                results[i] = RowResult.invalid(row.line(), row.error());
+                continue;
+            }
+            if (ownerId != null && (!ownerId.equals(row.command().userId())
+                    || notOwned.contains(row.command().sourceValue()))) {
+                results[i] = RowResult.invalid(row.line(), "본인 소유 계좌에서만 송금할 수 있습니다.");
+                continue;
+            }
+            Long balance = available.get(row.command().sourceValue());
+            if (balance == null) {
+                results[i] = RowResult.invalid(row.line(), "송금 계좌를 찾을 수 없습니다.");
+                continue;
+            }
+            if (row.command().amount() > balance) {
+                results[i] = RowResult.invalid(row.line(), "잔액이 부족합니다. (현재 잔액: " + balance + ")");
+                continue;
+            }
+            Transaction tx = row.command().toEntity();
+            tx.setCreatedAt(now);
+            indexes.add(i);
+            txs.add(tx);
+            balances.add(balance);
+        }
+        transactionRepository.saveAll(txs);
+        for (Transaction tx : txs) {
+            velocityStore.recordAfterCommit(tx.getSourceValue(), tx.getAmount(), tx.getCreatedAt());
+        }
+
+        // 3. 필터 (블랙리스트는 chunk 안에서 수취 계좌당 1회 조회) -> 나머지 일괄 탐지
+        FdsConfigSnapshot config = configCache.get();
+        Map<String, Boolean> blacklisted = new HashMap<>();
+        int[] decisions = new int[txs.size()];
+        List<Integer> scoredPositions = new ArrayList<>(txs.size());
+        List<Transaction> scoredTxs = new ArrayList<>(txs.size());
+        List<Long> scoredBalances = new ArrayList<>(txs.size());
+        for (int k = 0; k < txs.size(); k++) {
+            Transaction tx = txs.get(k);
+            if (blacklisted.computeIfAbsent(tx.getTargetAccountNumber(), blacklistIndex::contains)) {
+                detectionService.saveFilterResult(tx, "블랙리스트 계좌 탐지", balances.get(k));
+                decisions[k] = DetectionService.DECISION_HOLD;
+            } else if (tx.getAmount() > config.autoApproveAmount()) {
+                detectionService.saveFilterResult(tx, "자동 승인 한도 초과", balances.get(k));
+                decisions[k] = DetectionService.DECISION_HOLD;
+            } else {
+                scoredPositions.add(k);
+                scoredTxs.add(tx);
+                scoredBalances.add(balances.get(k));
+            }
+        }
+        int[] scored = detectionService.detectBatchAndSave(scoredTxs, scoredBalances);
+        for (int j = 0; j < scored.length; j++) {
+            decisions[scoredPositions.get(j)] = scored[j];
+        }
+
+        // 4. 승인 건 이체 (요청 순서대로, 메모리 잔액 부족분은 FAILED 로 기록)
+        for (int k = 0; k < txs.size(); k++) {
+            Transaction tx = txs.get(k);
+            int line = rows.get(indexes.get(k)).line();
+            if (decisions[k] != DetectionService.DECISION_APPROVE) {
+                tx.setStatus(Transaction.STATUS_HELD);
+                results[indexes.get(k)] = new RowResult(line, tx.getTxId(), Transaction.STATUS_HELD, "이상 거래 의심으로 격리되었습니다.");
+                continue;
+            }
+            long remaining = available.get(tx.getSourceValue());
+            if (tx.getAmount() > remaining) {
+                tx.setStatus(Transaction.STATUS_FAILED);
+                results[indexes.get(k)] = new RowResult(line, tx.getTxId(), Transaction.STATUS_FAILED, "잔액이 부족합니다.");
+                continue;
+            }
+            balanceService.transfer(tx.getSourceValue(), tx.getTargetAccountNumber(), tx.getAmount(), false);
+            available.put(tx.getSourceValue(), remaining - tx.getAmount());
+            available.computeIfPresent(tx.getTargetAccountNumber(), (account, balance) -> balance + tx.getAmount());
+            tx.setStatus(Transaction.STATUS_APPROVED);
+            results[indexes.get(k)] = new RowResult(line, tx.getTxId(), Transaction.STATUS_APPROVED, null);
+        }
+        return List.of(results);
+    }
+
+    private BulkRow parse(int lineNo, String line) {
+        TransferCommand command;
+        try {
+            command = COMMAND_READER.readValue(line);
+        } catch (IOException e) {
+            return new BulkRow(lineNo, null, "JSON 형식이 올바르지 않습니다.");
+        }
+        Set<ConstraintViolation<TransferCommand>> violations = validator.validate(command);
+        if (!violations.isEmpty()) {
+            return new BulkRow(lineNo, null, violations.iterator().next().getMessage());
+        }
+        return new BulkRow(lineNo, command, null);
+    }
+
+    private static void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(LINE_WRITER.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    private record BulkRow(int line, TransferCommand command, String error) {}
+
+    private record RowResult(int line, Long txId, String status, String message) {
+        static RowResult invalid(int line, String message) {
+            return new RowResult(line, null, RESULT_INVALID, message);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package kdt.fds.transaction.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kdt.fds.common.config.DetectionPipelineProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 탐지 대기열 (TX_ID 보관)
+ * - 요청 스레드는 저장 전에 슬롯을 예약하고, 커밋이 끝난 뒤에만 TX_ID 를 넣는다 (롤백 시 슬롯 반환).
+ * - 슬롯이 없으면 즉시 거절해 요청이 무한정 쌓이지 않도록 한다.
+ */
+@Component
+public class DetectionQueue {
+
+    private final LinkedBlockingQueue<Long> queue = new LinkedBlockingQueue<>();
+    private final Semaphore slots;
+
+    private final Counter rejectedCounter;
+
+    public DetectionQueue(DetectionPipelineProperties properties, MeterRegistry meterRegistry) {
+        this.slots = new Semaphore(Math.max(1, properties.getQueueCapacity()));
+        this.rejectedCounter = Counter.builder("fds.detection.queue.rejected")
+                .description("대기열 초과로 거절된 송금 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("fds.detection.queue.depth", queue, LinkedBlockingQueue::size)
+                .description("탐지 대기 중인 거래 수")
+                .register(meterRegistry);
+    }
+
+    /** 대기열 슬롯 예약 (실패 시 거절 지표 증가) */
+    public boolean tryReserve() {
+        if (slots.tryAcquire()) {
+            return true;
+        }
+        rejectedCounter.increment();
+        return false;
+    }
+
+    /**
+     * 예약한 슬롯에 TX_ID 등록
+     * - 트랜잭션 안이면 커밋 후 등록, 롤백되면 슬롯만 반환한다.
+     */
+    public void enqueueAfterCommit(Long txId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            queue.add(txId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    queue.add(txId);
+                } else {
+                    slots.release();
+                }
+            }
+        });
+    }
+
+    /** 워커용: 대기 중인 TX_ID 꺼내기 (꺼낸 즉시 슬롯 반환) */
+    public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Long txId = queue.poll(timeout, unit);
+        if (txId != null) {
+            slots.release();
+        }
+        return txId;
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+}
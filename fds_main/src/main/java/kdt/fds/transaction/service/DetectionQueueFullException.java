@@ -0,0 +1,11 @@
+package kdt.fds.transaction.service;
+
+/**
+ * 비동기 탐지 대기열이 가득 차 송금 요청을 받을 수 없을 때 발생
+ */
+public class DetectionQueueFullException extends RuntimeException {
+
+    public DetectionQueueFullException(String message) {
+        super(message);
+    }
+}
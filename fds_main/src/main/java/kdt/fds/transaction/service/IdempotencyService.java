@@ -0,0 +1,292 @@
+package kdt.fds.transaction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kdt.fds.common.config.IdempotencyProperties;
+import kdt.fds.transaction.entity.IdempotencyRecord;
+import kdt.fds.transaction.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 송금 요청 중복 처리 방지 (Idempotency-Key 헤더)
+ * - 완료된 응답은 메모리 LRU 캐시에서 바로 돌려준다. (캐시에 없으면 TX_IDEMPOTENCY_KEYS 조회)
+ * - 키는 로그인 사용자별로 구분한다. (TX_IDEMPOTENCY_KEYS PK = 사용자 + 키)
+ * - 처음 보는 키는 IN_PROGRESS 행을 INSERT 해 선점하고, 같은 키의 동시 요청은 409 로 거절한다.
+ * - 처리 중인 인스턴스는 lease-renew-interval-ms 마다 선점을 갱신한다. 마지막 갱신 후 lease-seconds 가 지난 키
+ *   (처리 인스턴스 종료 등)만 다음 재요청이 넘겨받아 다시 처리하므로, 처리가 오래 걸려도 두 번 실행되지 않는다.
+ *   완료/해제는 자기 선점 시각과 같을 때만 반영되므로 넘겨준 쪽의 늦은 완료가 결과를 덮어쓰지 않는다.
+ * - 같은 키에 다른 요청 내용이면 422, 서버 오류(5xx) 응답은 저장하지 않고 선점을 풀어 재시도를 허용한다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final ObjectWriter BODY_WRITER = new ObjectMapper().writer();
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+
+    // 완료 응답 LRU 캐시 (접근 순서 LinkedHashMap, 키는 scopedKey)
+    private final Map<String, StoredResponse> completed;
+    // 이 인스턴스에서 처리 중인 키 (동시 재시도는 DB 조회 없이 거절, 키는 scopedKey)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // [추가] 선점에 성공해 처리 중인 키 (주기적으로 선점 갱신, 키는 scopedKey)
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    private final Counter cacheReplayCounter;
+    private final Counter dbReplayCounter;
+    private final Counter conflictCounter;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              IdempotencyProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        int cacheSize = Math.max(1, properties.getCacheSize());
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.cacheReplayCounter = Counter.builder("fds.idempotency.replayed")
+                .tag("source", "cache")
+                .description("저장된 응답으로 대신한 중복 송금 요청 수")
+                .register(meterRegistry);
+        this.dbReplayCounter = Counter.builder("fds.idempotency.replayed")
+                .tag("source", "db")
+                .description("저장된 응답으로 대신한 중복 송금 요청 수")
+                .register(meterRegistry);
+        this.conflictCounter = Counter.builder("fds.idempotency.conflict")
+                .description("처리 중인 키로 들어와 거절된 요청 수")
+                .register(meterRegistry);
+        if (properties.getLeaseSeconds() * 1000L < properties.getLeaseRenewIntervalMs() * 3) {
+            log.warn("⚠️ fds.idempotency.lease-seconds({}s) 가 갱신 주기({}ms)의 3배보다 짧아 처리 중인 키를 넘겨받을 수 있습니다.",
+                    properties.getLeaseSeconds(), properties.getLeaseRenewIntervalMs());
+        }
+    }
+
+    /**
+     * 사용자 + 키 기준으로 요청을 한 번만 처리하고, 이후 같은 키는 저장된 응답을 돌려준다.
+     * @param userId 로그인 사용자 ID (키 구분 범위)
+     * @param requestHash 요청 내용 식별값 ({@link #fingerprint})
+     * @param handler 실제 처리 (예외 대신 오류 응답을 돌려주는 것을 전제)
+     */
+    public ResponseEntity<?> execute(String userId, String key, String requestHash,
+                                     Supplier<ResponseEntity<?>> handler) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "FAIL",
+                    "message", HEADER + " 는 1~" + MAX_KEY_LENGTH + "자여야 합니다."));
+        }
+        String scopedKey = userId + '\n' + key;
+
+        StoredResponse cached = completed.get(scopedKey);
+        if (cached != null && !isExpired(cached.createdAt())) {
+            cacheReplayCounter.increment();
+            return replay(key, cached, requestHash);
+        }
+
+        if (!inFlight.add(scopedKey)) {
+            return conflict(key);
+        }
+        try {
+            Claim claim = claim(userId, key, requestHash);
+            IdempotencyRecord existing = claim.existing();
+            if (existing != null) {
+                if (!IdempotencyRecord.STATUS_COMPLETED.equals(existing.getStatus())) {
+                    return conflict(key);
+                }
+                StoredResponse stored = new StoredResponse(existing.getRequestHash(), existing.getHttpStatus(),
+                        existing.getResponseBody(), existing.getCreatedAt());
+                completed.put(scopedKey, stored);
+                dbReplayCounter.increment();
+                return replay(key, stored, requestHash);
+            }
+
+            LocalDateTime claimedAt = claim.claimedAt();
+            ResponseEntity<?> response;
+            leases.put(scopedKey, new Lease(userId, key, claimedAt));
+            try {
+                response = handler.get();
+            } catch (RuntimeException e) {
+                repository.releaseInProgress(userId, key, claimedAt);
+                throw e;
+            } finally {
+                leases.remove(scopedKey);
+            }
+            if (response.getStatusCode().is5xxServerError()) {
+                // 일시 오류(대기열 포화 등)는 같은 키로 다시 처리할 수 있게 선점 해제
+                repository.releaseInProgress(userId, key, claimedAt);
+                return response;
+            }
+
+            String body = toJson(response.getBody());
+            if (repository.complete(userId, key, claimedAt, response.getStatusCode().value(), body,
+                    extractTxId(response.getBody()), LocalDateTime.now()) == 0) {
+                log.warn("⚠️ Idempotency-Key 선점 시간 초과 후 완료 (다른 요청이 넘겨받음): {}", key);
+                return response;
+            }
+            completed.put(scopedKey, new StoredResponse(requestHash, response.getStatusCode().value(), body, claimedAt));
+            return response;
+        } finally {
+            inFlight.remove(scopedKey);
+        }
+    }
+
+    /**
+     * 요청 내용 식별값 (SHA-256 hex)
+     */
+    public static String fingerprint(Object... parts) {
+        StringBuilder joined = new StringBuilder();
+        for (Object part : parts) {
+            joined.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(joined.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * [추가] 이 인스턴스에서 처리 중인 키의 선점을 갱신한다. (처리가 lease-seconds 보다 오래 걸려도 넘겨받지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${fds.idempotency.lease-renew-interval-ms:10000}",
+            initialDelayString = "${fds.idempotency.lease-renew-interval-ms:10000}")
+    public void renewLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Lease lease : leases.values()) {
+            try {
+                repository.renewLease(lease.userId(), lease.key(), lease.claimedAt(), now);
+            } catch (Exception e) {
+                log.warn("⚠️ Idempotency-Key 선점 갱신 실패: {} ({})", lease.key(), e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fds.idempotency.purge-interval-ms:600000}",
+            initialDelayString = "${fds.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        try {
+            int deleted = repository.deleteCreatedBefore(LocalDateTime.now().minusHours(properties.getTtlHours()));
+            completed.values().removeIf(stored -> isExpired(stored.createdAt()));
+            if (deleted > 0) {
+                log.info("만료된 Idempotency-Key {}건 정리", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Idempotency-Key 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키 선점 (INSERT 1회, 이미 있으면 만료된 선점만 UPDATE 로 넘겨받음)
+     * - 선점 시각은 DB TIMESTAMP 와 비교하므로 밀리초로 자른다.
+     */
+    private Claim claim(String userId, String key, String requestHash) {
+        IdempotencyRecord.Key id = new IdempotencyRecord.Key(userId, key);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            try {
+                repository.saveAndFlush(new IdempotencyRecord(userId, key, requestHash, now));
+                return new Claim(now, null);
+            } catch (DataIntegrityViolationException e) {
+                IdempotencyRecord existing = repository.findById(id).orElse(null);
+                if (existing == null || isExpired(existing.getCreatedAt())) {
+                    // 정리 전 만료 키는 지우고 새 요청으로 다시 선점
+                    if (existing != null) {
+                        repository.deleteById(id);
+                    }
+                    continue;
+                }
+                LocalDateTime staleBefore = now.minusSeconds(Math.max(1, properties.getLeaseSeconds()));
+                LocalDateTime lastRenewed = existing.getLeaseRenewedAt() != null
+                        ? existing.getLeaseRenewedAt() : existing.getCreatedAt();
+                if (IdempotencyRecord.STATUS_IN_PROGRESS.equals(existing.getStatus())
+                        && lastRenewed.isBefore(staleBefore)
+                        && repository.reclaimStale(userId, key, requestHash, now, staleBefore) == 1) {
+                    log.warn("⚠️ 선점 시간이 지난 Idempotency-Key 를 넘겨받아 다시 처리: {}", key);
+                    return new Claim(now, null);
+                }
+                return new Claim(null, existing);
+            }
+        }
+        throw new IllegalStateException("Idempotency-Key 선점에 실패했습니다: " + key);
+    }
+
+    private ResponseEntity<?> replay(String key, StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("Idempotency-Key 재사용 (요청 내용 불일치): {}", key);
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Map.of(
+                    "status", "FAIL",
+                    "message", "같은 " + HEADER + " 로 다른 내용의 요청이 이미 처리되었습니다."));
+        }
+        return ResponseEntity.status(stored.httpStatus())
+                .header(REPLAYED_HEADER, "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stored.body());
+    }
+
+    private ResponseEntity<?> conflict(String key) {
+        conflictCounter.increment();
+        log.info("처리 중인 Idempotency-Key 재요청: {}", key);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "status", "IN_PROGRESS",
+                "message", "동일한 요청을 처리하고 있습니다. 잠시 후 같은 키로 다시 조회해 주세요."));
+    }
+
+    private boolean isExpired(LocalDateTime createdAt) {
+        return createdAt.isBefore(LocalDateTime.now().minusHours(properties.getTtlHours()));
+    }
+
+    private static String toJson(Object body) {
+        try {
+            return BODY_WRITER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private static Long extractTxId(Object body) {
+        if (body instanceof Map<?, ?> map && map.get("txId") instanceof Number txId) {
+            return txId.longValue();
+        }
+        return null;
+    }
+
+    private record StoredResponse(String requestHash, int httpStatus, String body, LocalDateTime createdAt) {}
+
+    /** 선점 결과 (claimedAt: 선점 성공 시각, existing: 선점 실패 시 기존 기록) */
+    private record Claim(LocalDateTime claimedAt, IdempotencyRecord existing) {}
+
+    /** 처리 중인 선점 (갱신 대상) */
+    private record Lease(String userId, String key, LocalDateTime claimedAt) {}
+}
@@ -2,11 +2,15 @@ package kdt.fds.transaction.service;
 
 import kdt.fds.account.entity.Account;
 import kdt.fds.account.repository.AccountRepository;
-import kdt.fds.common.repository.FdsConfigRepository;
+import kdt.fds.account.service.AccountBalanceService;
+import kdt.fds.common.config.DetectionPipelineProperties;
 import kdt.fds.common.repository.TransactionFeatureRepository;
 import kdt.fds.common.service.DetectionService;
-import kdt.fds.fraud.repository.BlacklistRepository;
+import kdt.fds.common.service.FdsConfigCache;
+import kdt.fds.common.service.FeatureWriteBehind;
+import kdt.fds.common.service.VelocityStore;
 import kdt.fds.fraud.repository.FraudRepository;
+import kdt.fds.fraud.service.BlacklistIndex;
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,12 +26,17 @@ import java.time.LocalDateTime;
 public class TransactionService {
 
     private final AccountRepository accountRepository;
+    private final AccountBalanceService balanceService;
     private final TransactionRepository transactionRepository;
     private final DetectionService detectionService;
-    private final BlacklistRepository blacklistRepository;
-    private final FdsConfigRepository configRepository;
+    private final BlacklistIndex blacklistIndex;
+    private final FdsConfigCache configCache;
+    private final DetectionPipelineProperties pipelineProperties;
+    private final DetectionQueue detectionQueue;
+    private final VelocityStore velocityStore;
 
     private final TransactionFeatureRepository featureRepository;
+    private final FeatureWriteBehind featureWriteBehind;
     private final FraudRepository fraudRepository;
 
     @Transactional
@@ -42,61 +51,122 @@ public class TransactionService {
         // [수정] sourceId 설정 (Entity 필드명 확인)
         // txRequest.setSourceId(senderAccount.getAccountId());
 
+        // [비동기 모드] 접수만 하고 탐지/이체는 워커(AsyncDetectionWorker)가 처리
+        if (pipelineProperties.isEnabled()) {
+            if (!detectionQueue.tryReserve()) {
+                throw new DetectionQueueFullException("탐지 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            txRequest.setStatus(Transaction.STATUS_PENDING_REVIEW);
+            Transaction savedTx = transactionRepository.save(txRequest);
+            detectionQueue.enqueueAfterCommit(savedTx.getTxId());
+            log.info("📥 [접수] 비동기 탐지 대기 TX_ID: {}", savedTx.getTxId());
+            return savedTx;
+        }
+
         // 거래 이력 선 저장
         Transaction savedTx = transactionRepository.save(txRequest);
+        // [추가] 계좌 거래 빈도 반영 (커밋 후, 격리 거래도 시도 건수로 집계)
+        velocityStore.recordAfterCommit(savedTx.getSourceValue(), savedTx.getAmount(), savedTx.getCreatedAt());
+
+        if (!passesScreening(savedTx, senderAccount.getBalance())) {
+            savedTx.setStatus(Transaction.STATUS_HELD);
+            return savedTx;
+        }
 
         // -------------------------------------------------------------------------
-        // [자동 승인 필터링]
+        // [최종 승인] 잔액 이동
         // -------------------------------------------------------------------------
+        return executeTransfer(savedTx, senderAccount);
+    }
+
+    /**
+     * [비동기 워커] 대기 거래 탐지 (트랜잭션 없이 실행, 스코어링 중 DB 커넥션을 잡지 않음)
+     * @return true: 이체 진행 가능, false: 격리 처리됨
+     */
+    public boolean screenQueued(Long txId) {
+        Transaction tx = transactionRepository.findById(txId).orElse(null);
+        if (tx == null || !Transaction.STATUS_PENDING_REVIEW.equals(tx.getStatus())) {
+            // 삭제되었거나 이미 처리된 거래
+            return false;
+        }
+        boolean passed = passesScreening(tx, null);
+        // 빈도는 탐지 이후에 반영 (동기 경로와 같이 판정 시점 스냅샷에 자기 자신이 포함되지 않도록)
+        velocityStore.recordAfterCommit(tx.getSourceValue(), tx.getAmount(), tx.getCreatedAt());
+        if (!passed) {
+            transactionRepository.claimStatus(txId, Transaction.STATUS_PENDING_REVIEW, Transaction.STATUS_HELD);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * [비동기 워커] 탐지 통과 거래의 잔액 이동
+     * - PENDING_REVIEW -> APPROVED 로 먼저 선점하고, 선점하지 못하면(이미 처리됨) 이체하지 않는다.
+     * - 이체가 실패하면 선점도 함께 롤백되어 PENDING_REVIEW 로 남는다.
+     */
+    @Transactional
+    public void settleQueued(Long txId) {
+        if (transactionRepository.claimStatus(
+                txId, Transaction.STATUS_PENDING_REVIEW, Transaction.STATUS_APPROVED) == 0) {
+            log.warn("⚠️ 이미 처리된 거래라 이체하지 않음 TX_ID: {}", txId);
+            return;
+        }
+        Transaction tx = transactionRepository.findById(txId)
+                .orElseThrow(() -> new RuntimeException("거래 정보를 찾을 수 없습니다. ID: " + txId));
+        Account sender = accountRepository.findByAccountNumber(tx.getSourceValue())
+                .orElseThrow(() -> new RuntimeException("송금 계좌를 찾을 수 없습니다."));
+        executeTransfer(tx, sender);
+    }
 
+    /**
+     * 자동 승인 필터링 (블랙리스트 -> 한도 -> AI 판정)
+     * 차단/격리 시 탐지 결과를 기록하고 false 를 반환한다.
+     * @param senderBalance 이미 조회한 출금 계좌 잔액 (null 이면 탐지 단계에서 조회)
+     */
+    private boolean passesScreening(Transaction savedTx, Long senderBalance) {
         // 조건 1: 블랙리스트 (필드명 수정: targetValue -> targetAccountNumber)
-        if (blacklistRepository.existsByAccountNum(txRequest.getTargetAccountNumber())) {
-            log.warn("🚫 [차단] 블랙리스트: {}", txRequest.getTargetAccountNumber());
-            detectionService.saveFilterResult(savedTx, "블랙리스트 계좌 탐지");
-            return savedTx;
+        // [수정] DB 조회 대신 메모리 인덱스 (미등록 판정은 블룸 필터에서 종료)
+        if (blacklistIndex.contains(savedTx.getTargetAccountNumber())) {
+            log.warn("🚫 [차단] 블랙리스트: {}", savedTx.getTargetAccountNumber());
+            detectionService.saveFilterResult(savedTx, "블랙리스트 계좌 탐지", senderBalance);
+            return false;
         }
 
         // 조건 2: 한도 초과 (필드명 수정: txAmount -> amount)
-        double autoApproveLimit = configRepository.findById("AUTO_APPROVE_AMOUNT")
-                .map(c -> Double.parseDouble(c.getConfigValue())).orElse(100000.0);
+        double autoApproveLimit = configCache.get().autoApproveAmount();
 
-        if (txRequest.getAmount() > autoApproveLimit) {
-            log.warn("⚠️ [격리] 한도 초과: {}원", txRequest.getAmount());
-            detectionService.saveFilterResult(savedTx, "자동 승인 한도 초과");
-            return savedTx;
+        if (savedTx.getAmount() > autoApproveLimit) {
+            log.warn("⚠️ [격리] 한도 초과: {}원", savedTx.getAmount());
+            detectionService.saveFilterResult(savedTx, "자동 승인 한도 초과", senderBalance);
+            return false;
         }
 
         // 조건 3: AI 판정
-        int fraudStatus = detectionService.detectAndSave(savedTx);
+        int fraudStatus = detectionService.detectAndSave(savedTx, senderBalance);
 
         if (fraudStatus == 1) {
             log.warn("⚠️ [격리] AI 판정 이상 거래");
-            return savedTx;
+            return false;
         }
-
-        // -------------------------------------------------------------------------
-        // [최종 승인] 잔액 이동
-        // -------------------------------------------------------------------------
-        return executeTransfer(savedTx, senderAccount);
+        return true;
     }
 
     /**
-     * 실제 잔액 이동 처리 (AdminController에서도 호출함)
+     * 실제 잔액 이동 처리
+     * - 상태 선점은 호출 측 책임 (동기 경로: 미공개 신규 거래, 비동기: settleQueued, 관리자 승인: AdminService)
      */
     @Transactional
     public Transaction executeTransfer(Transaction tx, Account sender) {
-        // [수정] 필드명 수정: txAmount -> amount
-        sender.withdraw(tx.getAmount());
-        accountRepository.save(sender);
+        // [수정] 엔티티 잔액 계산/저장 대신 조건부 UPDATE (동시 이체 시 갱신 유실 방지)
+        // 수취 계좌가 없으면(타행 등) 출금만 처리
+        balanceService.transfer(sender.getAccountNumber(), tx.getTargetAccountNumber(), tx.getAmount(), false);
 
-        // [수정] 수취인 계좌 조회 및 입금 (targetAccountNumber 사용)
-        accountRepository.findByAccountNumber(tx.getTargetAccountNumber()).ifPresent(receiver -> {
-            receiver.setBalance(receiver.getBalance() + tx.getAmount());
-            accountRepository.save(receiver);
-        });
+        // 승인 상태 반영 (관리자 승인 경로에서는 준영속 엔티티가 넘어오므로 save 로 병합)
+        tx.setStatus(Transaction.STATUS_APPROVED);
+        Transaction approvedTx = transactionRepository.save(tx);
 
         log.info("💸 이체 완료 TX_ID: {}", tx.getTxId());
-        return tx;
+        return approvedTx;
     }
 
     /**
@@ -106,7 +176,8 @@ public class TransactionService {
     public void deleteTransactionData(Long txId) {
         log.info("삭제 프로세스 시작 - TX_ID: {}", txId);
 
-        // 1. [자식] 피처 데이터 삭제
+        // 1. [자식] 피처 데이터 삭제 (아직 지연 저장 버퍼에 있는 행도 제거)
+        featureWriteBehind.discard(txId);
         if (featureRepository.existsById(txId)) {
             featureRepository.deleteById(txId);
         }
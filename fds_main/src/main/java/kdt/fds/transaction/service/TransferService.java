@@ -3,6 +3,7 @@ package kdt.fds.transaction.service;
 import kdt.fds.account.entity.Account;
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.account.service.AccountBalanceService;
 import kdt.fds.transaction.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class TransferService {
 
     private final AccountRepository accountRepository;
+    private final AccountBalanceService balanceService;
     private final TransactionRepository transactionRepository;
 
     @Transactional
@@ -25,13 +27,8 @@ public class TransferService {
         Account toAccount = accountRepository.findByAccountNumber(toAccountNumber)
                 .orElseThrow(() -> new IllegalArgumentException("상대방 계좌번호를 찾을 수 없습니다."));
 
-        // 3. 잔액 확인 및 차감
-        if (fromAccount.getBalance() < amount) {
-            throw new IllegalArgumentException("잔액이 부족합니다.");
-        }
-
-        fromAccount.setBalance(fromAccount.getBalance() - amount);
-        toAccount.setBalance(toAccount.getBalance() + amount);
+        // 3. [수정] 잔액 확인 및 차감 (조건부 UPDATE, 계좌번호 순서로 갱신)
+        balanceService.transfer(fromAccount.getAccountNumber(), toAccountNumber, amount, true);
 
         // 4. 보내는 사람 거래 내역 기록
         Transaction sentTx = Transaction.builder()
@@ -39,7 +36,7 @@ public class TransferService {
                 .txType("TRANSFER_SENT")
                 .amount(amount)
                 .targetAccountNumber(toAccountNumber)
-                .balanceAfterTx(fromAccount.getBalance())
+                .balanceAfterTx(balanceService.currentBalance(fromAccount.getAccountNumber()))
                 .build();
         transactionRepository.save(sentTx);
 
@@ -49,7 +46,7 @@ public class TransferService {
                 .txType("TRANSFER_RECV")
                 .amount(amount)
                 .targetAccountNumber(fromAccount.getAccountNumber())
-                .balanceAfterTx(toAccount.getBalance())
+                .balanceAfterTx(balanceService.currentBalance(toAccountNumber))
                 .build();
         transactionRepository.save(recvTx);
     }
@@ -0,0 +1,75 @@
+package kdt.fds.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 메모리 매핑(MappedByteBuffer) 기반 줄 단위 읽기
+ * - 파일을 고정 크기 창(window) 단위로 매핑하므로 2GB 를 넘는 파일도 읽을 수 있다.
+ * - 창 경계에 걸친 줄은 내부 버퍼에 이어 붙인다. (UTF-8, \n 또는 \r\n)
+ */
+final class MappedLineReader implements Closeable {
+
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] line = new byte[512];
+
+    MappedLineReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        map(0);
+    }
+
+    /**
+     * @return 다음 줄 (개행 제외), 파일 끝이면 null
+     */
+    String nextLine() throws IOException {
+        int length = 0;
+        boolean read = false;
+        while (true) {
+            if (!window.hasRemaining()) {
+                long next = windowStart + window.limit();
+                if (next >= size) {
+                    return read ? decode(length) : null;
+                }
+                map(next);
+            }
+            byte b = window.get();
+            read = true;
+            if (b == '\n') {
+                return decode(length);
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_BYTES, size - start));
+    }
+
+    private String decode(int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+}
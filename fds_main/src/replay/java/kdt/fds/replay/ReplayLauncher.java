@@ -0,0 +1,73 @@
+package kdt.fds.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import kdt.fds.FdsApplication;
+import kdt.fds.common.controller.ScoringStubController;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 거래 재생 실행 진입점 (./gradlew replay -Preplay.file=...)
+ * - 외부 Flask 서버 없이 재현 가능하도록 JDK HttpServer 로 스코어링 스텁을 띄우고 replay 프로필로 컨텍스트를 기동한다.
+ * - 스텁 응답은 ScoringStubController 와 같은 결정적 규칙(잔액 대비 출금 비율)을 사용한다.
+ * - 재생(TransactionReplayRunner)이 끝나면 컨텍스트와 스텁을 닫고 종료한다.
+ */
+public final class ReplayLauncher {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ReplayLauncher() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        ScoringStubController scorer = new ScoringStubController();
+        HttpServer scoringStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        scoringStub.createContext("/api/predict", exchange -> {
+            if (exchange.getRequestURI().getPath().endsWith("/batch")) {
+                @SuppressWarnings("unchecked")
+                Map<String, List<Map<String, Object>>> body = MAPPER.readValue(exchange.getRequestBody(), Map.class);
+                respond(exchange, scorer.predictBatch(body));
+            } else {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> item = MAPPER.readValue(exchange.getRequestBody(), Map.class);
+                respond(exchange, scorer.predict(item));
+            }
+        });
+        scoringStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        scoringStub.start();
+
+        String[] replayArgs = Arrays.copyOf(args, args.length + 1);
+        replayArgs[args.length] = "--fds.scoring.base-url=http://127.0.0.1:" + scoringStub.getAddress().getPort();
+
+        int exitCode;
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(FdsApplication.class)
+                    .profiles("replay")
+                    .run(replayArgs);
+            exitCode = SpringApplication.exit(context);
+        } finally {
+            scoringStub.stop(0);
+        }
+        System.exit(exitCode);
+    }
+
+    private static void respond(HttpExchange exchange, Map<String, Object> response) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kdt.fds.replay;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 재생 설정 (replay 프로필)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fds.replay")
+public class ReplayProperties {
+
+    // 재생할 파일 경로 (.ndjson / .jsonl / .csv)
+    private String file;
+
+    // auto(확장자 기준) / ndjson / csv
+    private String format = "auto";
+
+    // 초당 재생 건수 (0 이하면 최대 속도)
+    private double ratePerSecond = 0;
+
+    // 동시에 처리하는 요청 수
+    private int concurrency = 8;
+
+    // 앞쪽 N건은 지연 통계에서 제외 (JIT / 커넥션 풀 예열)
+    private int warmupRows = 0;
+
+    // 파일에 처음 등장하는 출금 계좌를 만들 때의 잔액
+    private long openingBalance = 1_000_000_000_000L;
+
+    // 결과 JSON 저장 경로 (비우면 로그만 출력)
+    private String reportPath;
+}
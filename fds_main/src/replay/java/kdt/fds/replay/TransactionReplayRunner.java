@@ -0,0 +1,293 @@
+package kdt.fds.replay;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import kdt.fds.account.entity.Account;
+import kdt.fds.account.repository.AccountRepository;
+import kdt.fds.transaction.dto.TransferCommand;
+import kdt.fds.transaction.entity.Transaction;
+import kdt.fds.transaction.service.TransactionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 녹화된 거래 파일 재생 (replay 프로필, 용량 산정 / 모델 변경 전후 비교용)
+ * - NDJSON(TransferCommand 형식) 또는 CSV(첫 줄 헤더, 같은 필드명)를 메모리 매핑으로 읽어 processTransfer 로 흘려보낸다.
+ * - rate-per-second 를 주면 예정 시각에 맞춰 투입하고, 지연은 예정 시각부터 측정한다. (밀린 요청의 대기 시간 포함)
+ * - 끝나면 p50/p90/p99 지연, 처리량, 판정 분포(APPROVED/HELD/FAIL)를 로그와 JSON 으로 남긴다.
+ * - 출금 계좌는 처음 등장할 때 opening-balance 로 만들고, 수취 계좌는 만들지 않는다. (타행 이체와 같이 출금만 처리)
+ */
+@Slf4j
+@Component
+@Profile("replay")
+public class TransactionReplayRunner implements ApplicationRunner {
+
+    public static final String OUTCOME_FAIL = "FAIL";
+    public static final String OUTCOME_INVALID = "INVALID";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectReader COMMAND_READER = MAPPER.readerFor(TransferCommand.class);
+
+    private final TransactionService transactionService;
+    private final AccountRepository accountRepository;
+    private final Validator validator;
+    private final ReplayProperties properties;
+
+    public TransactionReplayRunner(TransactionService transactionService,
+                                   AccountRepository accountRepository,
+                                   Validator validator,
+                                   ReplayProperties properties) {
+        this.transactionService = transactionService;
+        this.accountRepository = accountRepository;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (properties.getFile() == null || properties.getFile().isBlank()) {
+            throw new IllegalStateException("재생할 파일(fds.replay.file)을 지정해야 합니다.");
+        }
+        Path file = Path.of(properties.getFile());
+        boolean csv = isCsv(file);
+        int concurrency = Math.max(1, properties.getConcurrency());
+        double rate = properties.getRatePerSecond();
+
+        log.info("▶️ 거래 재생 시작: {} ({}, 동시 {}건, {})", file, csv ? "CSV" : "NDJSON", concurrency,
+                rate > 0 ? rate + "건/초" : "최대 속도");
+
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        BlockingQueue<ReplayItem> queue = new ArrayBlockingQueue<>(concurrency * 64);
+        List<Worker> workers = new ArrayList<>(concurrency);
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(queue, outcomes);
+            workers.add(worker);
+            threads.add(Thread.ofVirtual().name("replay-" + i).start(worker));
+        }
+
+        long started = System.nanoTime();
+        int rows = 0;
+        int invalid = 0;
+        Set<String> seeded = new HashSet<>();
+        try (MappedLineReader reader = new MappedLineReader(file)) {
+            String[] header = null;
+            String line;
+            while ((line = reader.nextLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = line.split(",", -1);
+                    continue;
+                }
+                TransferCommand command = parse(line, header);
+                if (command == null) {
+                    invalid++;
+                    continue;
+                }
+                if (seeded.add(command.sourceValue())) {
+                    seedAccount(command.sourceValue());
+                }
+
+                long scheduled = System.nanoTime();
+                if (rate > 0) {
+                    scheduled = started + (long) (rows * 1_000_000_000L / rate);
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+                queue.put(new ReplayItem(command, scheduled, rows >= properties.getWarmupRows()));
+                rows++;
+            }
+        } finally {
+            for (int i = 0; i < concurrency; i++) {
+                queue.put(ReplayItem.END);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        outcomes.computeIfAbsent(OUTCOME_INVALID, k -> new LongAdder()).add(invalid);
+
+        report(file, rows, elapsedNanos, workers, outcomes);
+    }
+
+    private TransferCommand parse(String line, String[] header) {
+        TransferCommand command;
+        try {
+            if (header == null) {
+                command = COMMAND_READER.readValue(line);
+            } else {
+                String[] values = line.split(",", -1);
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 0; i < header.length && i < values.length; i++) {
+                    if (!values[i].isBlank()) {
+                        row.put(header[i].trim(), values[i].trim());
+                    }
+                }
+                command = MAPPER.convertValue(row, TransferCommand.class);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+        Set<ConstraintViolation<TransferCommand>> violations = validator.validate(command);
+        return violations.isEmpty() ? command : null;
+    }
+
+    private void seedAccount(String accountNumber) {
+        if (accountRepository.findByAccountNumber(accountNumber).isPresent()) {
+            return;
+        }
+        accountRepository.save(Account.builder()
+                .accountNumber(accountNumber)
+                .password("replay")
+                .balance(properties.getOpeningBalance())
+                .build());
+    }
+
+    private void report(Path file, int rows, long elapsedNanos, List<Worker> workers,
+                        Map<String, LongAdder> outcomes) throws IOException {
+        int measured = 0;
+        for (Worker worker : workers) {
+            measured += worker.size;
+        }
+        long[] latencies = new long[measured];
+        int offset = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.size);
+            offset += worker.size;
+        }
+        Arrays.sort(latencies);
+
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", percentileMs(latencies, 0.50));
+        latencyMs.put("p90", percentileMs(latencies, 0.90));
+        latencyMs.put("p99", percentileMs(latencies, 0.99));
+        latencyMs.put("max", latencies.length == 0 ? 0.0 : latencies[latencies.length - 1] / 1_000_000.0);
+
+        Map<String, Long> decisions = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> decisions.put(outcome, count.sum()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("file", file.toString());
+        report.put("rows", rows);
+        report.put("measuredRows", measured);
+        report.put("ratePerSecond", properties.getRatePerSecond());
+        report.put("concurrency", properties.getConcurrency());
+        report.put("elapsedMs", elapsedNanos / 1_000_000);
+        report.put("throughputPerSecond", elapsedSeconds > 0 ? Math.round(rows / elapsedSeconds * 10) / 10.0 : 0.0);
+        report.put("latencyMs", latencyMs);
+        report.put("decisions", decisions);
+
+        log.info("⏹️ 거래 재생 완료: {}건 / {}ms, 처리량 {}건/초", rows, report.get("elapsedMs"), report.get("throughputPerSecond"));
+        log.info("   지연(ms) {}", latencyMs);
+        log.info("   판정 분포 {}", decisions);
+
+        if (properties.getReportPath() != null && !properties.getReportPath().isBlank()) {
+            Path path = Path.of(properties.getReportPath());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report),
+                    StandardCharsets.UTF_8);
+            log.info("   결과 저장: {}", path.toAbsolutePath());
+        }
+    }
+
+    private boolean isCsv(Path file) {
+        String format = properties.getFormat();
+        if ("csv".equalsIgnoreCase(format)) {
+            return true;
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return false;
+        }
+        return file.getFileName().toString().toLowerCase().endsWith(".csv");
+    }
+
+    // nearest-rank 백분위 (ms, 소수 셋째 자리)
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        long nanos = sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private record ReplayItem(TransferCommand command, long scheduledNanos, boolean measured) {
+        static final ReplayItem END = new ReplayItem(null, 0, false);
+    }
+
+    /**
+     * 재생 작업자 (지연은 작업자별 배열에 모았다가 종료 후 합친다)
+     */
+    private final class Worker implements Runnable {
+
+        private final BlockingQueue<ReplayItem> queue;
+        private final Map<String, LongAdder> outcomes;
+        private long[] latencies = new long[4096];
+        private int size;
+
+        Worker(BlockingQueue<ReplayItem> queue, Map<String, LongAdder> outcomes) {
+            this.queue = queue;
+            this.outcomes = outcomes;
+        }
+
+        @Override
+        public void run() {
+            try {
+                ReplayItem item;
+                while ((item = queue.take()) != ReplayItem.END) {
+                    long start = properties.getRatePerSecond() > 0 ? item.scheduledNanos() : System.nanoTime();
+                    String outcome;
+                    try {
+                        Transaction result = transactionService.processTransfer(item.command().toEntity());
+                        outcome = result.getStatus();
+                    } catch (RuntimeException e) {
+                        outcome = OUTCOME_FAIL;
+                    }
+                    long latency = System.nanoTime() - start;
+                    outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+                    if (item.measured()) {
+                        if (size == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, size * 2);
+                        }
+                        latencies[size++] = latency;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
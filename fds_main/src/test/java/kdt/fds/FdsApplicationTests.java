@@ -2,23 +2,127 @@ package kdt.fds;
 
 import kdt.fds.user.controller.FormController;
 import kdt.fds.user.dto.MemberDTO;
+import kdt.fds.transaction.entity.CardTransaction;
 import kdt.fds.transaction.entity.Transaction;
 import kdt.fds.user.mapper.UserMapper;
+import kdt.fds.account.entity.Account;
+import kdt.fds.account.repository.AccountRepository;
 import kdt.fds.account.service.AccountService;
+import kdt.fds.account.service.BalanceBucketService;
 import kdt.fds.card.service.CardService;
+import kdt.fds.common.entity.FdsRule;
+import kdt.fds.common.config.FeatureWriteBehindProperties;
+import kdt.fds.common.entity.TransactionFeature;
+import kdt.fds.common.repository.TransactionFeatureRepository;
+import kdt.fds.common.service.DetectionService;
+import kdt.fds.common.service.FdsConfigCache;
 import kdt.fds.common.service.FdsRuleEngine;
+import kdt.fds.common.service.FeatureVectorCodec;
+import kdt.fds.common.service.FeatureWriteBehind;
+import kdt.fds.common.service.ScoringCircuitBreaker;
+import kdt.fds.common.service.VelocityStore;
+import kdt.fds.common.vo.FdsConfigSnapshot;
+import kdt.fds.common.vo.VelocitySnapshot;
+import kdt.fds.stats.config.StatsDashboardProperties;
+import kdt.fds.stats.config.StatsRollupProperties;
+import kdt.fds.stats.dto.response.AdminDashboardResponseDTO;
+import kdt.fds.stats.dto.response.UserSummaryResponseDTO;
+import kdt.fds.stats.service.AdminStatsDashboardService;
+import kdt.fds.stats.service.PercentileDigest;
+import kdt.fds.stats.service.StatsDashboardCache;
+import kdt.fds.stats.service.StatsRollupService;
+import kdt.fds.stats.entity.StatsRollupWatermark;
+import kdt.fds.stats.repository.StatsRollupWatermarkRepository;
+import kdt.fds.stats.service.UserStatsDashboardService;
+import kdt.fds.stats.vo.StatsDataChangedEvent;
+import kdt.fds.stats.vo.StatsDateRange;
+import kdt.fds.stats.vo.StatsRangeType;
+import kdt.fds.user.entity.User;
+import kdt.fds.user.repository.UserRepository;
+import kdt.fds.admin.service.AdminService;
+import kdt.fds.account.service.AccountBalanceService;
+import kdt.fds.common.config.BulkTransferProperties;
+import kdt.fds.common.config.IdempotencyProperties;
+import kdt.fds.common.config.OutboxProperties;
+import kdt.fds.common.entity.OutboxEvent;
+import kdt.fds.common.repository.OutboxEventRepository;
+import kdt.fds.common.service.OutboxEventSink;
+import kdt.fds.common.service.OutboxRelay;
+import kdt.fds.common.service.OutboxService;
+import kdt.fds.fraud.dto.FraudDetailDTO;
+import kdt.fds.fraud.repository.BlacklistRepository;
+import kdt.fds.fraud.repository.FraudRepository;
+import kdt.fds.fraud.service.BlacklistIndex;
+import kdt.fds.transaction.entity.IdempotencyRecord;
+import kdt.fds.transaction.repository.CardTransactionRepository;
+import kdt.fds.transaction.repository.IdempotencyRecordRepository;
+import kdt.fds.transaction.dto.TransferCommand;
+import kdt.fds.transaction.service.BulkTransferService;
+import kdt.fds.transaction.service.IdempotencyService;
+import kdt.fds.transaction.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.ui.ExtendedModelMap;
 import org.springframework.ui.Model;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -95,4 +199,747 @@ class FdsApplicationTests {
         String result = ruleEngine.evaluateRules(tx);
         assertEquals("RULE: HIGH_AMOUNT_LIMIT", result);
     }
+
+    @Test
+    @DisplayName("룰 엔진은 거래 시각 기준으로 심야 고액 송금을 감지한다")
+    void ruleEngineUsesTransactionTimestamp() {
+        Transaction night = Transaction.builder()
+                .amount(2_000_000L)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 2, 0))
+                .build();
+        Transaction daytime = Transaction.builder()
+                .amount(2_000_000L)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 14, 0))
+                .build();
+
+        assertEquals("RULE: NIGHT_SUSPICIOUS_TRANSFER", ruleEngine.evaluateRules(night));
+        assertNull(ruleEngine.evaluateRules(daytime));
+    }
+
+    @Test
+    @DisplayName("룰 엔진은 빈도 창 코드를 컴파일 시점에 해석하고 지원하지 않는 창은 거절한다")
+    void ruleEngineCompilesVelocityWindow() {
+        FdsRule burst = FdsRule.builder()
+                .ruleCode("BURST_10M")
+                .description("10분 내 연속 송금")
+                .priority(1)
+                .velocityWindow("10m")
+                .velocityMinCount(2)
+                .build();
+        ruleEngine.reload(List.of(burst));
+
+        // 저장소 없이 현재 거래 1건만 세므로 2건 조건에 못 미친다
+        assertNull(ruleEngine.evaluateRules(Transaction.builder().amount(1_000L).build()));
+        assertEquals("10분 내 연속 송금", ruleEngine.describe("RULE: BURST_10M"));
+
+        FdsRule invalid = FdsRule.builder().ruleCode("BAD_WINDOW").velocityWindow("5M").velocityMinCount(1).build();
+        assertThrows(IllegalArgumentException.class, () -> ruleEngine.reload(List.of(invalid)));
+    }
+
+    @Test
+    @DisplayName("거래 빈도 저장소는 10분 창 경계에서 오래된 분 버킷을 제외한다")
+    void velocityStoreWindowBoundary() {
+        VelocityStore store = new VelocityStore(mock(NamedParameterJdbcTemplate.class), new SimpleMeterRegistry());
+        long base = 1_700_000_040_000L - 1_700_000_040_000L % 3_600_000L; // 정시
+
+        store.record("110-1", 1_000L, base);
+        store.record("110-1", 2_000L, base + 5 * 60_000L);
+
+        VelocitySnapshot inside = store.snapshot("110-1", base + 9 * 60_000L + 59_999L);
+        assertEquals(2, inside.count10m());
+        assertEquals(3_000L, inside.amount10m());
+        assertEquals(0, inside.count1m());
+
+        VelocitySnapshot edge = store.snapshot("110-1", base + 10 * 60_000L);
+        assertEquals(1, edge.count10m());
+        assertEquals(2_000L, edge.amount10m());
+        assertEquals(2, edge.count1h());
+
+        VelocitySnapshot nextDay = store.snapshot("110-1", base + 24 * 3_600_000L);
+        assertEquals(0, nextDay.count24h());
+    }
+
+    @Test
+    @DisplayName("거래 빈도 저장소는 JVM 시간대와 관계없이 현재 거래를 현재 창에 넣는다")
+    void velocityStoreFollowsJvmTimeZone() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            VelocityStore store = new VelocityStore(mock(NamedParameterJdbcTemplate.class), new SimpleMeterRegistry());
+
+            store.recordAfterCommit("110-2", 5_000L, LocalDateTime.now());
+
+            VelocitySnapshot snapshot = store.snapshot("110-2");
+            assertEquals(1, snapshot.count1h());
+            assertEquals(5_000L, snapshot.amount1h());
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    @DisplayName("관리자 승인은 격리(HELD) 상태를 선점하지 못하면 이체하지 않는다")
+    void adminApproveRequiresHeldClaim() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        AccountBalanceService balanceService = mock(AccountBalanceService.class);
+        when(transactionRepository.claimStatus(7L, Transaction.STATUS_HELD, Transaction.STATUS_APPROVED)).thenReturn(0);
+        AdminService adminService = new AdminService(mock(FraudRepository.class), transactionRepository, balanceService,
+                mock(BlacklistRepository.class), mock(BlacklistIndex.class), mock(CardTransactionRepository.class),
+                mock(OutboxService.class));
+
+        assertThrows(IllegalStateException.class, () -> adminService.approveTransaction(7L));
+        verify(balanceService, never()).transfer(any(), any(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("관리자 거절은 이미 승인된 거래를 거절하거나 수취 계좌를 블랙리스트에 등록하지 않는다")
+    void adminRejectRequiresHeldClaim() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        CardTransactionRepository cardTransactionRepository = mock(CardTransactionRepository.class);
+        BlacklistRepository blacklistRepository = mock(BlacklistRepository.class);
+        when(transactionRepository.claimStatus(9L, Transaction.STATUS_HELD, Transaction.STATUS_REJECTED)).thenReturn(0);
+        when(transactionRepository.claimStatus(10L, Transaction.STATUS_HELD, Transaction.STATUS_REJECTED)).thenReturn(1);
+        when(transactionRepository.findById(10L)).thenReturn(Optional.of(Transaction.builder()
+                .txId(10L).txType("CARD").amount(10_000L).sourceValue("110-1").targetAccountNumber("가맹점").build()));
+        CardTransaction settled = CardTransaction.builder().txId(10L).status(CardTransaction.STATUS_SUCCESS).build();
+        when(cardTransactionRepository.findByTxId(10L)).thenReturn(Optional.of(settled));
+        AdminService adminService = new AdminService(mock(FraudRepository.class), transactionRepository,
+                mock(AccountBalanceService.class), blacklistRepository, mock(BlacklistIndex.class),
+                cardTransactionRepository, mock(OutboxService.class));
+
+        assertThrows(IllegalStateException.class, () -> adminService.rejectTransaction(9L));
+        verify(transactionRepository, never()).findById(9L);
+        verify(blacklistRepository, never()).save(any());
+
+        assertThrows(IllegalStateException.class, () -> adminService.rejectTransaction(10L));
+        assertEquals(CardTransaction.STATUS_SUCCESS, settled.getStatus());
+    }
+
+    @Test
+    @DisplayName("블랙리스트 인덱스는 등록 계좌만 적중시키고, 미등록 계좌는 블룸 필터에서 대부분 바로 걸러낸다")
+    void blacklistIndexHitsAndMisses() {
+        BlacklistRepository blacklistRepository = mock(BlacklistRepository.class);
+        when(blacklistRepository.findAllAccountNums()).thenReturn(List.of("110-1", "220-2", "220-2"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BlacklistIndex index = new BlacklistIndex(blacklistRepository, meterRegistry);
+        index.init();
+
+        assertTrue(index.contains("110-1"));
+        assertTrue(index.contains("220-2"));
+        assertFalse(index.contains(null));
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(index.contains("900-" + i));
+        }
+
+        assertEquals(2.0, meterRegistry.get("fds.blacklist.size").gauge().value());
+        assertEquals(2.0, meterRegistry.get("fds.blacklist.hits").counter().count());
+        // 오탐률 1% 설정 (여유 있게 3% 이내)
+        assertTrue(meterRegistry.get("fds.blacklist.bloom.false_positive").counter().count() < 300);
+        assertTrue(meterRegistry.get("fds.blacklist.bloom.negative").counter().count() > 9_700);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 인덱스는 등록/해제를 커밋 후 반영하고, 주기 대조로 다른 인스턴스의 변경을 맞춘다")
+    void blacklistIndexRefreshesAfterAddAndRemove() {
+        BlacklistRepository blacklistRepository = mock(BlacklistRepository.class);
+        when(blacklistRepository.findAllAccountNums()).thenReturn(List.of("110-1", "220-2"));
+        BlacklistIndex index = new BlacklistIndex(blacklistRepository, new SimpleMeterRegistry());
+        index.init();
+
+        // 트랜잭션 밖에서는 바로 반영
+        index.addAfterCommit("330-3");
+        index.removeAfterCommit("110-1");
+        assertTrue(index.contains("330-3"));
+        assertFalse(index.contains("110-1"));
+
+        // 트랜잭션 안에서는 커밋 전까지 반영하지 않음
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.addAfterCommit("440-4");
+            index.removeAfterCommit("220-2");
+            assertFalse(index.contains("440-4"));
+            assertTrue(index.contains("220-2"));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(index.contains("440-4"));
+        assertFalse(index.contains("220-2"));
+
+        // 다른 인스턴스에서 440-4 해제, 550-5 등록
+        when(blacklistRepository.findAllAccountNums()).thenReturn(List.of("330-3", "550-5"));
+        index.scheduledReconcile();
+        assertTrue(index.contains("330-3"));
+        assertTrue(index.contains("550-5"));
+        assertFalse(index.contains("440-4"));
+    }
+
+    @Test
+    @DisplayName("관리자 승인은 거절된 카드 결제를 출금하지 않는다")
+    void adminApproveRejectsDeclinedCardPayment() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        CardTransactionRepository cardTransactionRepository = mock(CardTransactionRepository.class);
+        AccountBalanceService balanceService = mock(AccountBalanceService.class);
+        when(transactionRepository.claimStatus(8L, Transaction.STATUS_HELD, Transaction.STATUS_APPROVED)).thenReturn(1);
+        when(transactionRepository.findById(8L)).thenReturn(Optional.of(Transaction.builder()
+                .txId(8L).txType("CARD").amount(10_000L).sourceValue("110-1").targetAccountNumber("가맹점").build()));
+        when(cardTransactionRepository.findByTxId(8L)).thenReturn(Optional.of(CardTransaction.builder()
+                .txId(8L).status(CardTransaction.STATUS_DECLINED).build()));
+        AdminService adminService = new AdminService(mock(FraudRepository.class), transactionRepository, balanceService,
+                mock(BlacklistRepository.class), mock(BlacklistIndex.class), cardTransactionRepository,
+                mock(OutboxService.class));
+
+        assertThrows(IllegalStateException.class, () -> adminService.approveTransaction(8L));
+        verify(balanceService, never()).debit(any(), anyLong());
+        verify(balanceService, never()).transfer(any(), any(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("피처 지연 저장 제거는 진행 중인 일괄 저장이 끝난 뒤에 반환한다")
+    void featureDiscardWaitsForInFlightFlush() throws Exception {
+        TransactionFeatureRepository featureRepository = mock(TransactionFeatureRepository.class);
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(featureRepository.saveAll(any())).thenAnswer(invocation -> {
+            saving.countDown();
+            release.await();
+            return List.of();
+        });
+        FeatureWriteBehind writeBehind = new FeatureWriteBehind(featureRepository,
+                mock(PlatformTransactionManager.class), new FeatureWriteBehindProperties(), new SimpleMeterRegistry());
+        TransactionFeature feature = new TransactionFeature();
+        feature.setTxId(42L);
+        writeBehind.enqueueAfterCommit(feature);
+
+        Thread flusher = Thread.ofVirtual().start(writeBehind::flush);
+        assertTrue(saving.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> discarded = CompletableFuture.supplyAsync(() -> writeBehind.discard(42L));
+        Thread.sleep(100);
+        assertFalse(discarded.isDone());
+
+        release.countDown();
+        // 이미 꺼내 저장한 행이므로 대기열에는 없다 (호출자는 이후 DB 행을 삭제)
+        assertFalse(discarded.get(5, TimeUnit.SECONDS));
+        flusher.join();
+    }
+
+    @Test
+    @DisplayName("피처 벡터는 인코딩/디코딩/JSON 변환을 거쳐도 값이 유지되고, 벡터가 없으면 과거 JSON 을 쓴다")
+    void featureVectorCodecRoundTrip() {
+        VelocitySnapshot velocity = new VelocitySnapshot(1, 10_000L, 2, 30_000L, 3, 60_000L, 4, 90_000L);
+        byte[] bytes = FeatureVectorCodec.encode(50_000L, 200_000L, "CARD", velocity);
+
+        assertEquals(FeatureVectorCodec.SCHEMA_V1, FeatureVectorCodec.schemaId(bytes));
+        double[] values = FeatureVectorCodec.decode(bytes);
+        assertEquals(9, values.length);
+        assertEquals(50_000d, values[0]);
+        assertEquals(150_000d, values[2]);
+        assertEquals(90_000d, values[8]);
+        assertEquals("{\"amount\":50000,\"old_bal\":200000,\"new_bal\":150000,\"type\":\"CARD\","
+                        + "\"tx_count_10m\":2,\"tx_count_1h\":3,\"tx_amount_1h\":60000,"
+                        + "\"tx_count_24h\":4,\"tx_amount_24h\":90000,\"loc\":\"Seoul\"}",
+                FeatureVectorCodec.toJson(bytes, "Seoul"));
+
+        // 이관된 과거 행: 알 수 없는 빈도 슬롯은 JSON 에서 생략
+        byte[] legacy = FeatureVectorCodec.encodeLegacyJson("{\"amount\":1000,\"old_bal\":5000,\"type\":\"TRANSFER\"}", null);
+        assertEquals("{\"amount\":1000,\"old_bal\":5000,\"new_bal\":4000,\"type\":\"TRANSFER\",\"loc\":null}",
+                FeatureVectorCodec.toJson(legacy, null));
+        assertNull(FeatureVectorCodec.encodeLegacyJson("not json", null));
+
+        FraudDetailDTO unmigrated = new FraudDetailDTO(1L, 2L, null, null, null, null, 1000d, 0.1, 0, "AI",
+                null, "{\"amount\":1000}", "Seoul", null);
+        assertEquals("{\"amount\":1000}", unmigrated.vFeatures());
+    }
+
+    @Test
+    @DisplayName("잔액 부족 출금은 예외로 끝나고 아웃박스 이벤트를 남기지 않는다")
+    void balanceDebitInsufficientFunds() {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        OutboxService outboxService = mock(OutboxService.class);
+        AccountBalanceService balanceService =
+                new AccountBalanceService(accountRepository, mock(BalanceBucketService.class), outboxService);
+        when(accountRepository.debit("110-1", 10_000L)).thenReturn(0);
+        when(accountRepository.findBalanceByAccountNumber("110-1")).thenReturn(Optional.of(5_000L));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> balanceService.debit("110-1", 10_000L));
+        assertTrue(e.getMessage().contains("5000"));
+        verify(outboxService, never()).append(any(), any(), any(), any());
+
+        when(accountRepository.findBalanceByAccountNumber("999-9")).thenReturn(Optional.empty());
+        assertThrows(IllegalArgumentException.class, () -> balanceService.debit("999-9", 10_000L));
+    }
+
+    @Test
+    @DisplayName("이체는 방향과 관계없이 계좌번호 오름차순으로 갱신한다")
+    void balanceTransferLocksInAccountOrder() {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        AccountBalanceService balanceService =
+                new AccountBalanceService(accountRepository, mock(BalanceBucketService.class), mock(OutboxService.class));
+        when(accountRepository.debit(any(), anyLong())).thenReturn(1);
+        when(accountRepository.credit(any(), anyLong())).thenReturn(1);
+
+        balanceService.transfer("110-1", "220-2", 1_000L, true);
+        InOrder forward = inOrder(accountRepository);
+        forward.verify(accountRepository).debit("110-1", 1_000L);
+        forward.verify(accountRepository).credit("220-2", 1_000L);
+
+        balanceService.transfer("220-2", "110-1", 1_000L, true);
+        InOrder reverse = inOrder(accountRepository);
+        reverse.verify(accountRepository).credit("110-1", 1_000L);
+        reverse.verify(accountRepository).debit("220-2", 1_000L);
+    }
+
+    @Test
+    @DisplayName("수취 계좌가 없으면 requireReceiver=false 는 출금만, true 는 예외로 처리한다")
+    void balanceTransferWithoutReceiver() {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        AccountBalanceService balanceService =
+                new AccountBalanceService(accountRepository, mock(BalanceBucketService.class), mock(OutboxService.class));
+        when(accountRepository.debit(any(), anyLong())).thenReturn(1);
+        when(accountRepository.credit(any(), anyLong())).thenReturn(0);
+
+        assertFalse(balanceService.transfer("110-1", "가맹점", 1_000L, false));
+        verify(accountRepository).debit("110-1", 1_000L);
+
+        assertThrows(IllegalArgumentException.class, () -> balanceService.transfer("110-1", "가맹점", 1_000L, true));
+    }
+
+    @Test
+    @DisplayName("입금이 반영되지 않은 계좌(정지/해지)는 입금 내역을 남기지 않고 예외로 끝난다")
+    void depositRejectsInactiveAccount() {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        AccountBalanceService balanceService = mock(AccountBalanceService.class);
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        BCryptPasswordEncoder encoder = mock(BCryptPasswordEncoder.class);
+        when(accountRepository.findByAccountNumber("110-1")).thenReturn(Optional.of(Account.builder()
+                .accountNumber("110-1").password("hash").status("SUSPENDED").build()));
+        when(encoder.matches("1234", "hash")).thenReturn(true);
+        when(balanceService.credit("110-1", 1_000L)).thenReturn(false);
+        AccountService service = new AccountService(accountRepository, balanceService, mock(UserRepository.class),
+                transactionRepository, encoder);
+
+        assertThrows(IllegalStateException.class, () -> service.deposit("110-1", 1_000L, "1234"));
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("아웃박스 중계는 늦게 커밋된 작은 ID 도 전달하고, 전달 실패 묶음은 대기 상태로 둔다")
+    void outboxRelayDeliversPendingRowsRegardlessOfCommitOrder() throws Exception {
+        OutboxEventRepository eventRepository = mock(OutboxEventRepository.class);
+        OutboxEventSink sink = mock(OutboxEventSink.class);
+        when(sink.name()).thenReturn("test");
+        OutboxRelay relay = new OutboxRelay(eventRepository, List.of(sink), new OutboxProperties(),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        OutboxEvent later = OutboxEvent.builder().id(7L).eventType(OutboxEvent.BALANCE_DEBITED).build();
+        OutboxEvent lateCommitted = OutboxEvent.builder().id(3L).eventType(OutboxEvent.BALANCE_CREDITED).build();
+        when(eventRepository.lockPendingBatch(anyInt())).thenReturn(List.of(later, lateCommitted));
+
+        relay.relay();
+        verify(sink).publish(List.of(lateCommitted, later));
+        verify(eventRepository).markPublished(eq(List.of(3L, 7L)), any());
+
+        OutboxEventRepository failingRepository = mock(OutboxEventRepository.class);
+        OutboxEventSink failingSink = mock(OutboxEventSink.class);
+        doThrow(new IllegalStateException("down")).when(failingSink).publish(any());
+        when(failingRepository.lockPendingBatch(anyInt())).thenReturn(List.of(later));
+        new OutboxRelay(failingRepository, List.of(failingSink), new OutboxProperties(),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry()).relay();
+        verify(failingRepository, never()).markPublished(any(), any());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 는 사용자별로 구분되고, 선점 시간이 지난 처리 중 키는 넘겨받아 다시 처리한다")
+    void idempotencyKeyScopedByUserWithLease() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.complete(any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        IdempotencyService service = new IdempotencyService(repository, new IdempotencyProperties(), new SimpleMeterRegistry());
+        AtomicInteger handled = new AtomicInteger();
+        Supplier<ResponseEntity<?>> handler = () -> {
+            handled.incrementAndGet();
+            return ResponseEntity.ok(Map.of("status", "SUCCESS"));
+        };
+
+        service.execute("alice", "key-1", "hash", handler);
+        service.execute("bob", "key-1", "hash", handler);
+        assertEquals(2, handled.get());
+        ResponseEntity<?> replayed = service.execute("alice", "key-1", "hash", handler);
+        assertEquals(2, handled.get());
+        assertEquals("true", replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+
+        // 응답 전에 종료된 인스턴스가 남긴 IN_PROGRESS 행
+        IdempotencyRecord stale = new IdempotencyRecord("carol", "key-2", "hash", LocalDateTime.now().minusMinutes(5));
+        when(repository.saveAndFlush(argThat((IdempotencyRecord r) -> r != null && "carol".equals(r.getUserId()))))
+                .thenThrow(new DataIntegrityViolationException("PK"));
+        when(repository.findById(new IdempotencyRecord.Key("carol", "key-2"))).thenReturn(Optional.of(stale));
+        when(repository.reclaimStale(eq("carol"), eq("key-2"), eq("hash"), any(), any())).thenReturn(1);
+
+        assertEquals(200, service.execute("carol", "key-2", "hash", handler).getStatusCode().value());
+        assertEquals(3, handled.get());
+    }
+
+    @Test
+    @DisplayName("처리 중인 Idempotency-Key 는 선점을 갱신해 lease 가 지나도 다른 요청이 넘겨받지 못한다")
+    void idempotencyLeaseRenewedWhileProcessing() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.complete(any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        IdempotencyService service = new IdempotencyService(repository, new IdempotencyProperties(), new SimpleMeterRegistry());
+
+        // 처리 도중 갱신 주기가 돌아온 경우 (선점 시각을 기준으로 갱신)
+        service.execute("alice", "key-1", "hash", () -> {
+            service.renewLeases();
+            return ResponseEntity.ok(Map.of("status", "SUCCESS"));
+        });
+        verify(repository).renewLease(eq("alice"), eq("key-1"), any(), any());
+        service.renewLeases();
+        verify(repository).renewLease(any(), any(), any(), any());
+
+        // 다른 인스턴스에서 1분째 처리 중이지만 방금 갱신된 키
+        IdempotencyRecord running = new IdempotencyRecord("bob", "key-2", "hash", LocalDateTime.now().minusMinutes(1));
+        running.setLeaseRenewedAt(LocalDateTime.now().minusSeconds(5));
+        when(repository.saveAndFlush(argThat((IdempotencyRecord r) -> r != null && "bob".equals(r.getUserId()))))
+                .thenThrow(new DataIntegrityViolationException("PK"));
+        when(repository.findById(new IdempotencyRecord.Key("bob", "key-2"))).thenReturn(Optional.of(running));
+        AtomicInteger handled = new AtomicInteger();
+
+        ResponseEntity<?> response = service.execute("bob", "key-2", "hash", () -> {
+            handled.incrementAndGet();
+            return ResponseEntity.ok(Map.of("status", "SUCCESS"));
+        });
+
+        assertEquals(409, response.getStatusCode().value());
+        assertEquals(0, handled.get());
+        verify(repository, never()).reclaimStale(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("송금 요청 검증은 계좌번호 4~30자 경계, TRANSFER 외 거래 유형, 0 이하/누락 금액을 거절한다")
+    void transferCommandValidation() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            String thirtyChars = "1".repeat(25) + "-1234";
+
+            assertEquals(Set.of(), transferViolations(validator, "1234", thirtyChars, null, 10_000L));
+            assertEquals(Set.of("sourceValue"), transferViolations(validator, "123", thirtyChars, null, 10_000L));
+            assertEquals(Set.of("targetAccountNumber"),
+                    transferViolations(validator, "1234", thirtyChars + "5", null, 10_000L));
+            assertEquals(Set.of("sourceValue"), transferViolations(validator, "-1234", "5678", null, 10_000L));
+            assertEquals(Set.of("sourceValue"), transferViolations(validator, "12--34", "5678", null, 10_000L));
+
+            // txType 누락은 TRANSFER 로 처리, 다른 유형은 거절
+            assertEquals(Set.of(), transferViolations(validator, "1234", "5678", "TRANSFER", 10_000L));
+            assertEquals(Set.of("txType"), transferViolations(validator, "1234", "5678", "CARD", 10_000L));
+
+            assertEquals(Set.of("amount"), transferViolations(validator, "1234", "5678", null, 0L));
+            assertEquals(Set.of("amount"), transferViolations(validator, "1234", "5678", null, -1L));
+            assertEquals(Set.of("amount"), transferViolations(validator, "1234", "5678", null, null));
+            assertEquals(Set.of("amount"),
+                    transferViolations(validator, "1234", "5678", null, TransferCommand.MAX_AMOUNT + 1));
+            assertEquals(Set.of(), transferViolations(validator, "1234", "5678", null, TransferCommand.MAX_AMOUNT));
+
+            assertEquals(Set.of("distinctAccounts"), transferViolations(validator, "1234", "1234", null, 10_000L));
+        }
+    }
+
+    @Test
+    @DisplayName("대량 송금은 본인 계좌 행만 처리하고, chunk 안 잔액은 메모리에서 차감해 초과분을 FAILED 로 남긴다")
+    void bulkTransferOwnershipAndInMemoryBalance() throws IOException {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        AccountBalanceService balanceService = mock(AccountBalanceService.class);
+        when(accountRepository.findWithUserByAccountNumberIn(any())).thenReturn(List.of(
+                bulkAccount("110-1", "alice", 10_000L), bulkAccount("330-3", "bob", 50_000L)));
+        BulkTransferService service = newBulkTransferService(accountRepository, balanceService, 10);
+
+        List<String> lines = runBulk(service, "alice",
+                bulkLine("alice", "110-1", 6_000L),
+                bulkLine("alice", "110-1", 6_000L),
+                bulkLine("alice", "330-3", 1_000L),
+                bulkLine("bob", "110-1", 1_000L));
+
+        assertTrue(lines.get(0).contains("\"status\":\"APPROVED\""));
+        assertTrue(lines.get(1).contains("\"status\":\"FAILED\""));
+        assertTrue(lines.get(2).contains("\"status\":\"INVALID\""));
+        assertTrue(lines.get(3).contains("\"status\":\"INVALID\""));
+        verify(balanceService).transfer("110-1", "220-2", 6_000L, false);
+        verify(balanceService, never()).transfer(eq("330-3"), any(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("대량 송금 chunk 가 실패하면 행 단위로 다시 처리해 실패 행만 INVALID 로 남긴다")
+    void bulkTransferChunkFallback() throws IOException {
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        AccountBalanceService balanceService = mock(AccountBalanceService.class);
+        when(accountRepository.findWithUserByAccountNumberIn(any())).thenReturn(List.of(
+                bulkAccount("110-1", "alice", 10_000L), bulkAccount("440-4", "alice", 10_000L)));
+        // 조회 이후 다른 출금으로 잔액이 줄어 조건부 UPDATE 가 실패한 경우
+        when(balanceService.transfer(eq("440-4"), any(), anyLong(), anyBoolean()))
+                .thenThrow(new IllegalStateException("잔액이 부족합니다. (현재 잔액: 0)"));
+        BulkTransferService service = newBulkTransferService(accountRepository, balanceService, 10);
+
+        List<String> lines = runBulk(service, null,
+                bulkLine("alice", "110-1", 1_000L),
+                bulkLine("alice", "440-4", 1_000L));
+
+        assertTrue(lines.get(0).contains("\"status\":\"APPROVED\""));
+        assertTrue(lines.get(1).contains("\"status\":\"INVALID\""));
+        assertTrue(lines.get(1).contains("잔액이 부족합니다"));
+        assertTrue(lines.get(2).contains("\"APPROVED\":1"));
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커는 연속 실패로 열리고 시험 호출 결과에 따라 닫히거나 다시 열린다")
+    void circuitBreakerStateTransitions() {
+        ScoringCircuitBreaker breaker = new ScoringCircuitBreaker(2, 60_000);
+        breaker.onFailure();
+        assertEquals(ScoringCircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(ScoringCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+
+        ScoringCircuitBreaker probing = new ScoringCircuitBreaker(1, 0);
+        probing.onFailure();
+        assertTrue(probing.tryAcquirePermission());
+        assertEquals(ScoringCircuitBreaker.State.HALF_OPEN, probing.getState());
+        assertFalse(probing.tryAcquirePermission());
+
+        // 호출 없이 반납한 시험 권한은 다음 호출이 바로 가져간다
+        probing.releasePermission();
+        assertEquals(ScoringCircuitBreaker.State.OPEN, probing.getState());
+        assertTrue(probing.tryAcquirePermission());
+
+        probing.onFailure();
+        assertEquals(ScoringCircuitBreaker.State.OPEN, probing.getState());
+        assertTrue(probing.tryAcquirePermission());
+        probing.onSuccess();
+        assertEquals(ScoringCircuitBreaker.State.CLOSED, probing.getState());
+        assertTrue(probing.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("관리자 대시보드는 테이블별 집계 쿼리 몇 번으로 모든 섹션을 구성한다")
+    void adminDashboardUsesHandfulOfStatements() {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.queryForList(argThat((String sql) -> sql != null && sql.contains("BALANCE_AFTER_TX")),
+                any(SqlParameterSource.class))).thenReturn(List.of(
+                Map.of("DIM", "TOTAL", "COUNT_VALUE", 3L, "AMOUNT_VALUE", new BigDecimal("600000"),
+                        "MISSING_LOCATION", 1L, "BLACKLISTED_COUNT", 2L)
+        ));
+        when(jdbcTemplate.queryForList(argThat((String sql) -> sql != null && sql.contains("STATS_DAILY_TX_ROLLUP")),
+                any(SqlParameterSource.class))).thenReturn(List.of(
+                Map.of("DIM", "DAY", "KEY_DATE", Timestamp.valueOf("2026-01-02 00:00:00"), "COUNT_VALUE", 1L),
+                Map.of("DIM", "DAY", "KEY_DATE", Timestamp.valueOf("2026-01-01 00:00:00"), "COUNT_VALUE", 2L),
+                Map.of("DIM", "HOUR", "KEY_NAME", "10", "COUNT_VALUE", 1L, "TX_COUNT", 1L),
+                Map.of("DIM", "HOUR", "KEY_NAME", "9", "COUNT_VALUE", 2L, "TX_COUNT", 2L)
+        ));
+        AdminStatsDashboardService service = new AdminStatsDashboardService(
+                jdbcTemplate, mock(PlatformTransactionManager.class), new StatsDashboardProperties(), newDashboardCache());
+
+        AdminDashboardResponseDTO response =
+                service.getAdminDashboard(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2));
+
+        // 코드북 레이블 1 + 테이블별 GROUPING SETS 10 + 일별 롤업 1 + 분위수 2 + FDS_CONFIG 1
+        assertEquals(15, mockingDetails(jdbcTemplate).getInvocations().size());
+        assertEquals(3L, response.transactions().totalTransactions());
+        assertEquals(new BigDecimal("600000"), response.transactions().amountSummary().total());
+        assertEquals(1L, response.transactions().locationStats().missingCount());
+        assertEquals(2L, response.blacklist().relatedTransactionCount());
+        assertEquals(LocalDate.of(2026, 1, 1), response.transactions().dailyTrend().get(0).date());
+        assertEquals(List.of("9", "10"), List.copyOf(response.transactions().hourlyDistribution().keySet()));
+        assertTrue(response.degradedSections().isEmpty());
+    }
+
+    @Test
+    @DisplayName("관리자 대시보드는 실패한 집계를 쓰는 섹션만 degraded 로 표시한다")
+    void adminDashboardMarksFailedSectionsDegraded() {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.queryForList(argThat((String sql) -> sql != null && sql.contains("FROM TRANSACTION_FEATURES")),
+                any(SqlParameterSource.class))).thenThrow(new IllegalStateException("ORA-01013"));
+        AdminStatsDashboardService service = new AdminStatsDashboardService(
+                jdbcTemplate, mock(PlatformTransactionManager.class), new StatsDashboardProperties(), newDashboardCache());
+
+        AdminDashboardResponseDTO response =
+                service.getAdminDashboard(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2));
+
+        assertEquals(List.of("transactionFeatures"), response.degradedSections());
+        assertEquals(0L, response.transactionFeatures().featureCount());
+        assertNotNull(response.transactions());
+    }
+
+    @Test
+    @DisplayName("사용자 요약은 일별 롤업 행과 당일 원본 행을 한 쿼리로 읽어 합산하고 분위수는 DB 집계 결과를 쓴다")
+    void userSummaryCombinesRollupRows() {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(jdbcTemplate.queryForList(argThat((String sql) -> sql != null && sql.contains("STATS_DAILY_USER_ROLLUP")),
+                any(SqlParameterSource.class))).thenReturn(List.of(
+                Map.of("KEY_DATE", Timestamp.valueOf("2026-01-01 00:00:00"), "KEY_NAME", "TRANSFER_OUT",
+                        "TX_COUNT", 2L, "AMOUNT_VALUE", new BigDecimal("300000"),
+                        "DETECTED_COUNT", 2L, "FRAUD_COUNT", 1L,
+                        "FRAUD_PROB_SUM", 1.2, "FRAUD_PROB_COUNT", 2L,
+                        "LAST_TX_AT", Timestamp.valueOf("2026-01-01 10:00:00")),
+                Map.of("KEY_DATE", Timestamp.valueOf("2026-01-02 00:00:00"), "KEY_NAME", "DEPOSIT",
+                        "TX_COUNT", 1L, "AMOUNT_VALUE", new BigDecimal("100000"),
+                        "DETECTED_COUNT", 1L, "FRAUD_COUNT", 0L,
+                        "FRAUD_PROB_SUM", 0.3, "FRAUD_PROB_COUNT", 1L,
+                        "LAST_TX_AT", Timestamp.valueOf("2026-01-02 09:00:00"),
+                        "LAST_DETECTED_AT", Timestamp.valueOf("2026-01-02 09:00:01"))
+        ));
+        when(jdbcTemplate.queryForList(argThat((String sql) -> sql != null && sql.contains("PERCENTILE_CONT")
+                        && sql.contains("FRAUD_DETECTION_RESULTS")),
+                any(SqlParameterSource.class))).thenReturn(List.of(
+                Map.of("N_0", 3L, "P50_0", 0.4, "P90_0", 0.76, "P99_0", 0.796,
+                        "N_1", 3L, "P50_1", 1000L, "P90_1", 1800L, "P99_1", 1980L)
+        ));
+        UserStatsDashboardService service = new UserStatsDashboardService(
+                jdbcTemplate, mock(UserRepository.class), newDashboardCache());
+
+        UserSummaryResponseDTO summary = service.getUserSummary(1L, StatsRangeType.LAST_7_DAYS);
+
+        assertEquals(3L, summary.transactionCount());
+        assertEquals(new BigDecimal("400000"), summary.totalAmount());
+        assertEquals(3L, summary.detectedCount());
+        assertEquals(1L, summary.fraudCount());
+        assertEquals(0.5, summary.averageFraudProbability(), 1e-9);
+        assertEquals(LocalDateTime.of(2026, 1, 2, 9, 0), summary.latestTransactionAt());
+        assertEquals(LocalDateTime.of(2026, 1, 2, 9, 0, 1), summary.latestDetectionAt());
+        assertEquals(0.4, summary.medianFraudProbability(), 1e-9);
+        assertEquals(0.796, summary.fraudProbabilityPercentiles().p99(), 1e-9);
+        assertEquals(1800.0, summary.detectionLatencyMsPercentiles().p90(), 1e-9);
+        assertEquals(0L, summary.amountPercentiles().count());
+        assertNull(summary.amountPercentiles().p50());
+    }
+
+    @Test
+    @DisplayName("일별 롤업은 ID 위치가 아니라 대기 표시로 고른 행만 선점해 누적하고 같은 트랜잭션에서 반영 완료로 바꾼다")
+    void statsRollupAppliesClaimedPendingRows() {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        StatsRollupWatermarkRepository watermarkRepository = mock(StatsRollupWatermarkRepository.class);
+        when(watermarkRepository.lockByRollupName(any()))
+                .thenAnswer(invocation -> Optional.of(new StatsRollupWatermark(invocation.getArgument(0))));
+        when(jdbcTemplate.update(argThat((String sql) -> sql != null
+                        && sql.contains("UPDATE TRANSACTIONS SET ROLLUP_PENDING = 2")),
+                any(SqlParameterSource.class))).thenReturn(3);
+        StatsRollupService rollupService = new StatsRollupService(jdbcTemplate, watermarkRepository,
+                new StatsRollupProperties(), mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class));
+
+        assertEquals(3, rollupService.rollUpPending());
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("UPDATE TRANSACTIONS SET ROLLUP_PENDING = 2")),
+                any(SqlParameterSource.class));
+        order.verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("MERGE INTO STATS_DAILY_TX_ROLLUP")
+                && sql.contains("t.ROLLUP_PENDING = 2")), any(SqlParameterSource.class));
+        order.verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("MERGE INTO STATS_DAILY_USER_ROLLUP")
+                && sql.contains("t.ROLLUP_PENDING = 2")), any(SqlParameterSource.class));
+        order.verify(jdbcTemplate).update(argThat((String sql) -> sql.contains("SET ROLLUP_PENDING = NULL WHERE ROLLUP_PENDING = 2")
+                && sql.contains("TRANSACTIONS")), any(SqlParameterSource.class));
+        // 선점한 탐지 행이 없으면 누적/완료 표시를 하지 않는다.
+        verify(jdbcTemplate, never()).update(argThat((String sql) -> sql.contains("d.ROLLUP_PENDING = 2")),
+                any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("대시보드 캐시는 지난 기간을 보관하고 오늘 포함 기간은 TTL 이후 다시 계산하며 변경 이벤트로 비운다")
+    void dashboardCacheKeepsClosedRangesUntilInvalidated() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StatsDashboardProperties properties = new StatsDashboardProperties();
+        properties.setOpenRangeTtlMs(0);
+        StatsDashboardCache cache = new StatsDashboardCache(properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        StatsDateRange closed = new StatsDateRange(today.minusDays(10), today.minusDays(4));
+        StatsDateRange open = new StatsDateRange(today.minusDays(6), today);
+
+        cache.get("admin", closed, loads::incrementAndGet);
+        cache.get("admin", closed, loads::incrementAndGet);
+        cache.get("admin", open, loads::incrementAndGet);
+        cache.get("admin", open, loads::incrementAndGet);
+        assertEquals(3, loads.get());
+
+        cache.onStatsDataChanged(new StatsDataChangedEvent("codebook updated"));
+        cache.get("admin", closed, loads::incrementAndGet);
+
+        assertEquals(4, loads.get());
+        assertEquals(1.0, meterRegistry.get("fds.stats.dashboard.cache").tag("result", "hit").counter().count());
+        assertEquals(4.0, meterRegistry.get("fds.stats.dashboard.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("t-digest 분위수는 값이 적으면 PERCENTILE_CONT 와 같고, 10만 건 로그정규 분포에서도 정확한 분위수와 순위 오차 0.5% 이내다")
+    void percentileDigestMatchesExactQuantiles() {
+        PercentileDigest small = new PercentileDigest(200);
+        assertNull(small.quantile(0.5));
+        for (int i = 1; i <= 5; i++) {
+            small.add(i);
+        }
+        assertEquals(3.0, small.quantile(0.5), 1e-9);
+        assertEquals(4.6, small.quantile(0.9), 1e-9);
+        assertEquals(4.96, small.quantile(0.99), 1e-9);
+
+        int n = 100_000;
+        Random random = new Random(42);
+        double[] values = new double[n];
+        PercentileDigest digest = new PercentileDigest(200);
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.exp(random.nextGaussian()) * 10_000;
+            digest.add(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(n, digest.size());
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            // PERCENTILE_CONT 와 같은 선형 보간
+            double index = q * (n - 1);
+            int lower = (int) index;
+            double exact = values[lower] + (values[lower + 1] - values[lower]) * (index - lower);
+            double estimate = digest.quantile(q);
+            int rank = Arrays.binarySearch(values, estimate);
+            rank = rank < 0 ? -rank - 1 : rank;
+            assertTrue(Math.abs((double) rank / n - q) <= 0.005, "q=" + q + " 순위 오차");
+            assertTrue(Math.abs(estimate - exact) / exact <= 0.01, "q=" + q + " 상대 오차");
+        }
+    }
+
+    private static Set<String> transferViolations(Validator validator, String sourceValue, String targetAccountNumber,
+                                                  String txType, Long amount) {
+        TransferCommand command = new TransferCommand("alice", amount, sourceValue, targetAccountNumber, txType, null, null);
+        return validator.validate(command).stream()
+                .map(violation -> violation.getPropertyPath().toString())
+                .collect(Collectors.toSet());
+    }
+
+    private static BulkTransferService newBulkTransferService(AccountRepository accountRepository,
+                                                              AccountBalanceService balanceService, int chunkSize) {
+        DetectionService detectionService = mock(DetectionService.class);
+        // DECISION_APPROVE(0) 로 채운 판정
+        when(detectionService.detectBatchAndSave(any(), any()))
+                .thenAnswer(invocation -> new int[((List<?>) invocation.getArgument(0)).size()]);
+        FdsConfigCache configCache = mock(FdsConfigCache.class);
+        when(configCache.get()).thenReturn(new FdsConfigSnapshot(1L, 0.7, 100_000L, 1_000_000.0, Map.of(), LocalDateTime.now()));
+        BulkTransferProperties properties = new BulkTransferProperties();
+        properties.setChunkSize(chunkSize);
+        return new BulkTransferService(accountRepository, mock(TransactionRepository.class), balanceService,
+                detectionService, mock(BlacklistIndex.class), configCache, mock(VelocityStore.class),
+                mock(Validator.class), properties, mock(PlatformTransactionManager.class));
+    }
+
+    private static Account bulkAccount(String accountNumber, String ownerId, long balance) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .user(User.builder().userId(ownerId).build())
+                .balance(balance)
+                .build();
+    }
+
+    private static String bulkLine(String userId, String sourceValue, long amount) {
+        return "{\"userId\":\"" + userId + "\",\"amount\":" + amount + ",\"sourceValue\":\"" + sourceValue
+                + "\",\"targetAccountNumber\":\"220-2\"}";
+    }
+
+    private static List<String> runBulk(BulkTransferService service, String ownerId, String... lines) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.process(new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), out, ownerId);
+        return List.of(out.toString(StandardCharsets.UTF_8).split("\n"));
+    }
+
+    private static StatsDashboardCache newDashboardCache() {
+        return new StatsDashboardCache(new StatsDashboardProperties(), new SimpleMeterRegistry());
+    }
 }